@@ -0,0 +1,69 @@
+package com.athenhub.stockservice.global.infrastructure.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Logback 비동기 Appender({@link DropCountingAsyncAppender})의 상태를 메트릭으로 노출한다.
+ *
+ * <ul>
+ *   <li>{@code logging.async.dropped{appender}} — 큐가 가득 차거나 임계치 미만이어서 버린 로그 이벤트 수
+ *   <li>{@code logging.async.queue.remaining{appender}} — 큐의 남은 용량
+ * </ul>
+ *
+ * <p>Appender는 Spring 컨텍스트보다 먼저 {@code logback-spring.xml}로 구성되므로, 메트릭 등록 시점에 Logger에 연결된
+ * Appender를 찾아 등록한다. Logback이 아닌 로깅 구현을 사용하면 아무것도 등록하지 않는다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+public class AsyncAppenderMetrics implements MeterBinder {
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    findAppenders()
+        .forEach(
+            (name, appender) -> {
+              FunctionCounter.builder(
+                      "logging.async.dropped", appender, DropCountingAsyncAppender::getDroppedCount)
+                  .description("Log events dropped by the async appender")
+                  .tag("appender", name)
+                  .register(registry);
+              Gauge.builder(
+                      "logging.async.queue.remaining",
+                      appender,
+                      DropCountingAsyncAppender::getRemainingCapacity)
+                  .description("Remaining capacity of the async appender queue")
+                  .tag("appender", name)
+                  .register(registry);
+            });
+  }
+
+  private Map<String, DropCountingAsyncAppender> findAppenders() {
+    Map<String, DropCountingAsyncAppender> appenders = new LinkedHashMap<>();
+    if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+      return appenders;
+    }
+    for (Logger logger : context.getLoggerList()) {
+      Iterator<Appender<ILoggingEvent>> it = logger.iteratorForAppenders();
+      while (it.hasNext()) {
+        if (it.next() instanceof DropCountingAsyncAppender appender) {
+          appenders.putIfAbsent(appender.getName(), appender);
+        }
+      }
+    }
+    return appenders;
+  }
+}
@@ -0,0 +1,42 @@
+package com.athenhub.stockservice.global.infrastructure.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버린 로그 이벤트 수를 집계하는 Logback {@link AsyncAppender}이다.
+ *
+ * <p>{@code logback-spring.xml}에서 콘솔/Loki Appender를 감싸 로그 포맷팅과 전송을 별도 스레드로 넘긴다. 큐 크기는 제한되어 있고
+ * {@code neverBlock=true}로 설정하므로, 큐가 가득 차면 메시지 처리 스레드가 대기하지 않고 로그를 버린다. 남은 용량이 {@code
+ * discardingThreshold} 미만이면 INFO 이하 로그도 버린다. Logback은 버린 건수를 제공하지 않으므로 이 Appender가 두 경우를
+ * 직접 집계하며, {@link AsyncAppenderMetrics}가 이를 메트릭으로 노출한다.
+ *
+ * <p>남은 용량은 이벤트를 넣기 직전에 확인하므로 동시에 여러 스레드가 기록하는 경우 집계 값은 근사치이다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public class DropCountingAsyncAppender extends AsyncAppender {
+
+  private final LongAdder dropped = new LongAdder();
+
+  @Override
+  protected void append(ILoggingEvent event) {
+    int remaining = getRemainingCapacity();
+    if ((remaining < getDiscardingThreshold() && isDiscardable(event))
+        || (isNeverBlock() && remaining == 0)) {
+      dropped.increment();
+    }
+    super.append(event);
+  }
+
+  /**
+   * 지금까지 버린 로그 이벤트 수를 반환한다.
+   *
+   * @return 버린 로그 이벤트 수
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+}
@@ -0,0 +1,55 @@
+package com.athenhub.stockservice.global.infrastructure.logging;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 메시지 Listener 성공 경로(Hot Path) 로그 출력 방식을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>오류·경고 로그는 이 설정과 관계없이 항상 출력되며, 여기서는 {@code [RECEIVED]}, {@code [PROCESS]}, {@code
+ * [SUCCESS]}, {@code [ACK]}처럼 메시지마다 반복되는 INFO 로그만 제어한다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * hot-path-logging:
+ *   mode: sampled
+ *   sample-rate: 100
+ *   summary-interval: 30s
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "hot-path-logging")
+public class HotPathLogProperties {
+
+  /** 성공 경로 로그 출력 방식. */
+  private Mode mode = Mode.FULL;
+
+  /** {@link Mode#SAMPLED}에서 이벤트 종류별로 N건마다 1건을 출력한다. */
+  private int sampleRate = 100;
+
+  /** 생략한 로그 건수를 {@code [SUMMARY]} 로그로 출력하는 주기. */
+  private Duration summaryInterval = Duration.ofSeconds(30);
+
+  /**
+   * 성공 경로 로그 출력 방식.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public enum Mode {
+
+    /** 모든 성공 로그를 출력한다. */
+    FULL,
+
+    /** 이벤트 종류별로 {@code sample-rate}건마다 1건만 출력하고, 전체 건수는 주기적으로 요약한다. */
+    SAMPLED,
+
+    /** 성공 로그를 출력하지 않고 이벤트 종류별 건수만 주기적으로 요약한다. */
+    SUMMARY
+  }
+}
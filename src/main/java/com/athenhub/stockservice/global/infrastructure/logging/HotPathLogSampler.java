@@ -0,0 +1,93 @@
+package com.athenhub.stockservice.global.infrastructure.logging;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메시지 Listener 성공 경로 로그를 출력할지 결정하는 컴포넌트이다.
+ *
+ * <p>초당 수천 건의 메시지를 처리하면 메시지마다 남기는 INFO 로그의 포맷팅과 전송 비용이 CPU와 메모리 할당에서 무시할 수 없는 비중을 차지한다.
+ * 호출 측은 아래와 같이 로그 호출 전에 {@link #shouldLog(String)}로 확인하여, 출력하지 않는 경우 인자 배열 생성과 포맷팅 비용도 발생하지
+ * 않도록 한다. 오류 경로 로그에는 사용하지 않는다.
+ *
+ * <pre>
+ * if (hotPathLog.shouldLog("stock.decrease.ack")) {
+ *   log.info("[ACK] status={}, tag={}", status, tag);
+ * }
+ * </pre>
+ *
+ * <p>출력 방식은 {@link HotPathLogProperties.Mode}를 따른다. {@code SAMPLED}와 {@code SUMMARY} 모드에서는 이벤트
+ * 종류별 건수를 누적하여 {@code hot-path-logging.summary-interval} 주기로 {@code [SUMMARY]} 로그를 남긴다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(HotPathLogProperties.class)
+public class HotPathLogSampler {
+
+  private final HotPathLogProperties properties;
+  private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+
+  /**
+   * 성공 경로 로그 출력 결정기를 생성한다.
+   *
+   * @param properties 성공 경로 로그 설정
+   */
+  public HotPathLogSampler(HotPathLogProperties properties) {
+    this.properties = properties;
+  }
+
+  /**
+   * 성공 경로 로그를 출력할지 결정한다.
+   *
+   * @param event 로그 이벤트 종류 (예: {@code stock.decrease.ack})
+   * @return 로그를 출력해야 하면 {@code true}
+   */
+  public boolean shouldLog(String event) {
+    HotPathLogProperties.Mode mode = properties.getMode();
+    if (mode == HotPathLogProperties.Mode.FULL) {
+      return true;
+    }
+    long count = counts.computeIfAbsent(event, key -> new AtomicLong()).incrementAndGet();
+    return mode == HotPathLogProperties.Mode.SAMPLED
+        && (count - 1) % Math.max(1, properties.getSampleRate()) == 0;
+  }
+
+  /** 지난 주기 동안 누적한 이벤트 종류별 건수를 {@code [SUMMARY]} 로그로 출력한다. */
+  @Scheduled(fixedDelayString = "${hot-path-logging.summary-interval:30s}")
+  public void logSummary() {
+    Map<String, Long> summary = drain();
+    if (!summary.isEmpty()) {
+      log.info(
+          "[SUMMARY] mode={}, interval={}, counts={}",
+          properties.getMode(),
+          properties.getSummaryInterval(),
+          summary);
+    }
+  }
+
+  /**
+   * 누적한 이벤트 종류별 건수를 꺼내고 0으로 초기화한다.
+   *
+   * @return 건수가 1 이상인 이벤트 종류별 건수 (이벤트 이름순)
+   */
+  Map<String, Long> drain() {
+    Map<String, Long> summary = new TreeMap<>();
+    counts.forEach(
+        (event, count) -> {
+          long value = count.getAndSet(0);
+          if (value > 0) {
+            summary.put(event, value);
+          }
+        });
+    return summary;
+  }
+}
@@ -1,11 +1,14 @@
 package com.athenhub.stockservice.global.infrastructure.springevent;
 
+import java.util.concurrent.Executor;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 /**
@@ -15,14 +18,18 @@ import org.springframework.scheduling.annotation.EnableAsync;
  * Events#setPublisher(ApplicationEventPublisher)}에 주입하여 도메인 / 애플리케이션 계층에서 정적 메서드로 Spring Event를 발행할
  * 수 있도록 한다.
  *
- * <p>또한 {@link EnableAsync}를 통해 비동기 이벤트 리스너 구성을 허용한다.
+ * <p>또한 {@link EnableAsync}를 통해 비동기 이벤트 리스너 구성을 허용한다. {@code @Async} 메서드와 비동기
+ * {@code @TransactionalEventListener}는 Spring Boot가 관리하는 {@code applicationTaskExecutor}에서
+ * 실행된다. {@code spring.threads.virtual.enabled=true}이면 이 실행기는 작업마다 새 가상 스레드를 사용해 JDBC/HTTP 블로킹 동안
+ * 플랫폼 스레드를 점유하지 않으며, 종료 시에는 {@code spring.task.execution.shutdown.*} 설정에 따라 실행 중인 작업이 끝나기를
+ * 기다린다.
  *
  * @author 김지원
  * @since 1.0.0
  */
 @EnableAsync
 @Configuration
-public class EventConfig {
+public class EventConfig implements AsyncConfigurer {
 
   /**
    * Spring ApplicationContext.
@@ -45,4 +52,18 @@ public class EventConfig {
   public InitializingBean eventsInitializer() {
     return () -> Events.setPublisher(ctx);
   }
+
+  /**
+   * {@code @Async} 작업에 사용할 실행기를 반환한다.
+   *
+   * <p>직접 실행기를 생성하면 컨테이너 종료 시 실행 중인 작업을 기다리지 않으므로, 생명주기와 종료 대기가 관리되는 Spring Boot의 {@code
+   * applicationTaskExecutor}를 사용한다.
+   *
+   * @return Spring Boot가 관리하는 애플리케이션 작업 실행기
+   */
+  @Override
+  public Executor getAsyncExecutor() {
+    return ctx.getBean(
+        TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME, Executor.class);
+  }
 }
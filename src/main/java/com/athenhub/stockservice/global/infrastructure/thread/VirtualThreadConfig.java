@@ -0,0 +1,40 @@
+package com.athenhub.stockservice.global.infrastructure.thread;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 가상 스레드 진단 구성을 위한 설정 클래스이다.
+ *
+ * <p>{@code spring.threads.virtual.enabled=true}이면 Tomcat 요청 스레드와 Spring Boot 기본 실행기가 가상 스레드를
+ * 사용하고, 재고 서비스가 직접 구성하는 RabbitMQ Listener 컨테이너와 {@code @Async} 실행기도 가상 스레드로 전환된다. 이 설정은
+ * 전환 이후 synchronized 블록 등으로 인해 가상 스레드가 Carrier 스레드를 점유하는 상황을 감지할 수 있도록 {@link
+ * VirtualThreadPinningMonitor}를 등록한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(VirtualThreadProperties.class)
+public class VirtualThreadConfig {
+
+  /**
+   * JFR 기반 가상 스레드 Pinning 감시기를 등록한다.
+   *
+   * @param properties 가상 스레드 진단 설정
+   * @param meterRegistry 메트릭 레지스트리
+   * @return Pinning 감시기
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "virtual-threads.pinning",
+      name = "enabled",
+      havingValue = "true")
+  public VirtualThreadPinningMonitor virtualThreadPinningMonitor(
+      VirtualThreadProperties properties, MeterRegistry meterRegistry) {
+    return new VirtualThreadPinningMonitor(properties.getPinning(), meterRegistry);
+  }
+}
@@ -0,0 +1,123 @@
+package com.athenhub.stockservice.global.infrastructure.thread;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.List;
+import java.util.stream.Collectors;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+/**
+ * JFR {@code jdk.VirtualThreadPinned} 이벤트를 구독하여 가상 스레드 Pinning을 감지하는 컴포넌트이다.
+ *
+ * <p>가상 스레드가 synchronized 블록(예: JDBC 드라이버 내부)이나 네이티브 호출 안에서 블로킹되면 Carrier 스레드에서 분리되지 못하고
+ * 고정된다. Carrier 스레드 수는 CPU 코어 수 정도로 제한되므로, Pinning이 잦으면 가상 스레드 전환의 효과가 사라진다.
+ *
+ * <p>애플리케이션 내부에서 {@link RecordingStream}으로 이벤트를 직접 받아 다음을 기록한다. 별도의 JFR 파일 덤프 없이 운영 중에도
+ * 확인할 수 있다.
+ *
+ * <ul>
+ *   <li>{@code jvm.threads.virtual.pinned} — Pinning 발생 횟수
+ *   <li>{@code jvm.threads.virtual.pinned.duration} — Pinning 지속 시간
+ *   <li>{@code [VT_PINNED]} 로그 — 지속 시간과 고정 지점의 스택 프레임
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+  /** 구독하는 JFR 이벤트 이름. */
+  static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+  private final VirtualThreadProperties.Pinning properties;
+  private final Counter pinnedCounter;
+  private final Timer pinnedTimer;
+
+  private volatile RecordingStream stream;
+
+  /**
+   * Pinning 감시기를 생성한다.
+   *
+   * @param properties Pinning 진단 설정
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public VirtualThreadPinningMonitor(
+      VirtualThreadProperties.Pinning properties, MeterRegistry meterRegistry) {
+    this.properties = properties;
+    this.pinnedCounter =
+        Counter.builder("jvm.threads.virtual.pinned")
+            .description("Virtual thread pinned events")
+            .register(meterRegistry);
+    this.pinnedTimer =
+        Timer.builder("jvm.threads.virtual.pinned.duration")
+            .description("Time a virtual thread stayed pinned to its carrier")
+            .register(meterRegistry);
+  }
+
+  @Override
+  public synchronized void start() {
+    if (stream != null) {
+      return;
+    }
+    RecordingStream recording = new RecordingStream();
+    recording.enable(PINNED_EVENT).withThreshold(properties.getThreshold()).withStackTrace();
+    recording.onEvent(PINNED_EVENT, this::onPinned);
+    recording.startAsync();
+    stream = recording;
+    log.info("[VT_PINNING_MONITOR_STARTED] threshold={}", properties.getThreshold());
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (stream == null) {
+      return;
+    }
+    stream.close();
+    stream = null;
+  }
+
+  @Override
+  public boolean isRunning() {
+    return stream != null;
+  }
+
+  /**
+   * Pinning 이벤트를 메트릭과 로그로 기록한다.
+   *
+   * @param event JFR Pinning 이벤트
+   */
+  void onPinned(RecordedEvent event) {
+    pinnedCounter.increment();
+    pinnedTimer.record(event.getDuration());
+    log.warn(
+        "[VT_PINNED] durationMs={} thread={} frames={}",
+        event.getDuration().toMillis(),
+        event.getThread() != null ? event.getThread().getJavaName() : null,
+        formatFrames(event.getStackTrace()));
+  }
+
+  private String formatFrames(RecordedStackTrace stackTrace) {
+    if (stackTrace == null) {
+      return "[]";
+    }
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    return frames.stream()
+        .filter(RecordedFrame::isJavaFrame)
+        .limit(properties.getStackDepth())
+        .map(
+            frame ->
+                frame.getMethod().getType().getName()
+                    + "."
+                    + frame.getMethod().getName()
+                    + ":"
+                    + frame.getLineNumber())
+        .collect(Collectors.joining(" <- ", "[", "]"));
+  }
+}
@@ -0,0 +1,51 @@
+package com.athenhub.stockservice.global.infrastructure.thread;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 가상 스레드(Virtual Thread) 진단 설정 값을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>가상 스레드 사용 여부 자체는 Spring Boot 표준 설정인 {@code spring.threads.virtual.enabled}로 결정하며, 이 클래스는
+ * {@code virtual-threads.*} 아래의 Pinning 진단 설정만 로딩한다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * virtual-threads:
+ *   pinning:
+ *     enabled: true
+ *     threshold: 20ms
+ *     stack-depth: 8
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "virtual-threads")
+public class VirtualThreadProperties {
+
+  /** Pinning 진단 설정. */
+  private Pinning pinning = new Pinning();
+
+  /**
+   * 가상 스레드가 Carrier 스레드에 고정(Pinned)되는 상황을 JFR로 감지하기 위한 설정이다.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @Data
+  public static class Pinning {
+
+    /** JFR {@code jdk.VirtualThreadPinned} 이벤트 구독 여부. */
+    private boolean enabled = false;
+
+    /** 이 시간 이상 고정된 경우에만 이벤트를 기록한다. */
+    private Duration threshold = Duration.ofMillis(20);
+
+    /** 로그에 남길 스택 프레임 수. */
+    private int stackDepth = 8;
+  }
+}
@@ -0,0 +1,133 @@
+package com.athenhub.stockservice.global.infrastructure.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.util.StringUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 다른 서비스 호출 시 전달할 인증 및 사용자 헤더를 보관한다.
+ *
+ * <p>Feign 요청 인터셉터는 현재 HTTP 요청({@link RequestContextHolder})에서 헤더를 복사하지만, 비동기 작업 스레드나 CLI 실행처럼
+ * 요청 스레드가 아닌 곳에서는 복사할 요청이 없다. 이 경우 요청 스레드에서 {@link #capture()}로 헤더를 캡처하거나 {@link #of(Map)}로 명시적
+ * 자격 증명을 만든 뒤, {@link #run(Runnable)}으로 작업을 실행하면 작업 스레드의 Feign 요청에 같은 헤더가 전달된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public final class ForwardedHeaders {
+
+  /** 인증 토큰(JWT) 전달용 헤더 명. */
+  public static final String AUTHORIZATION = "Authorization";
+
+  /** 사용자 ID 전달용 헤더 명. */
+  public static final String USER_ID = "X-User-Id";
+
+  /** 사용자 로그인 아이디 전달용 헤더 명. */
+  public static final String USERNAME = "X-Username";
+
+  /** 사용자 이름 전달용 헤더 명. */
+  public static final String USER_NAME = "X-User-Name";
+
+  /** 사용자 slackId 전달용 헤더 명. */
+  public static final String SLACK_ID = "X-Slack-Id";
+
+  /** 사용자 역할 정보 전달용 헤더 명. */
+  public static final String ROLES = "X-User-Roles";
+
+  /** 다른 서비스 호출 시 전달하는 헤더 목록. */
+  public static final List<String> NAMES =
+      List.of(AUTHORIZATION, USER_ID, USERNAME, USER_NAME, SLACK_ID, ROLES);
+
+  private static final ThreadLocal<ForwardedHeaders> CURRENT = new ThreadLocal<>();
+
+  private static final ForwardedHeaders EMPTY = new ForwardedHeaders(Map.of());
+
+  private final Map<String, String> values;
+
+  private ForwardedHeaders(Map<String, String> values) {
+    this.values = values;
+  }
+
+  /**
+   * 현재 HTTP 요청에서 전달 대상 헤더를 캡처한다.
+   *
+   * @return 캡처한 헤더, 요청 스레드가 아니면 빈 헤더
+   */
+  public static ForwardedHeaders capture() {
+    ServletRequestAttributes attributes =
+        (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return EMPTY;
+    }
+
+    HttpServletRequest request = attributes.getRequest();
+    Map<String, String> values = new LinkedHashMap<>();
+    for (String name : NAMES) {
+      String value = request.getHeader(name);
+      if (StringUtils.hasText(value)) {
+        values.put(name, value);
+      }
+    }
+    return new ForwardedHeaders(Collections.unmodifiableMap(values));
+  }
+
+  /**
+   * 명시적으로 지정한 헤더로 생성한다. CLI 실행처럼 HTTP 요청이 없는 경우 서비스 자격 증명을 전달할 때 사용한다.
+   *
+   * @param headers 헤더 이름과 값 (값이 비어 있는 헤더는 제외된다)
+   * @return 지정한 헤더
+   */
+  public static ForwardedHeaders of(Map<String, String> headers) {
+    Map<String, String> values = new LinkedHashMap<>();
+    headers.forEach(
+        (name, value) -> {
+          if (StringUtils.hasText(value)) {
+            values.put(name, value);
+          }
+        });
+    return new ForwardedHeaders(Collections.unmodifiableMap(values));
+  }
+
+  /**
+   * 현재 스레드에 바인딩된 헤더를 반환한다.
+   *
+   * @return {@link #run(Runnable)} 실행 중이면 바인딩된 헤더, 아니면 빈 헤더
+   */
+  public static ForwardedHeaders current() {
+    ForwardedHeaders headers = CURRENT.get();
+    return headers != null ? headers : EMPTY;
+  }
+
+  /**
+   * 이 헤더를 현재 스레드에 바인딩한 채로 작업을 실행한다. 작업이 끝나면 이전 바인딩을 복원한다.
+   *
+   * @param task 실행할 작업
+   */
+  public void run(Runnable task) {
+    ForwardedHeaders previous = CURRENT.get();
+    CURRENT.set(this);
+    try {
+      task.run();
+    } finally {
+      if (previous != null) {
+        CURRENT.set(previous);
+      } else {
+        CURRENT.remove();
+      }
+    }
+  }
+
+  /**
+   * 헤더 이름과 값을 반환한다.
+   *
+   * @return 읽기 전용 헤더 맵
+   */
+  public Map<String, String> values() {
+    return values;
+  }
+}
@@ -0,0 +1,72 @@
+package com.athenhub.stockservice.stock.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 대량 재고 등록 결과를 반환하기 위한 응답 DTO이다.
+ *
+ * <p>대량 등록은 상품 단위로 성공/실패가 결정되며, 일부 상품이 실패하더라도 나머지 상품의 등록은 계속 진행된다. 따라서 전체 집계와 함께 상품별 처리
+ * 결과를 요청 순서대로 전달한다.
+ *
+ * @param requestedCount 요청된 상품 수
+ * @param succeededCount 재고 등록에 성공한 상품 수
+ * @param failedCount 재고 등록에 실패한 상품 수
+ * @param results 상품별 처리 결과 (요청 순서 유지)
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record BulkRegisterResponse(
+    int requestedCount, int succeededCount, int failedCount, List<ProductResult> results) {
+
+  /**
+   * 상품별 처리 결과 목록으로부터 응답을 생성한다.
+   *
+   * @param results 상품별 처리 결과 (요청 순서 유지)
+   * @return 대량 재고 등록 응답
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static BulkRegisterResponse of(List<ProductResult> results) {
+    int succeeded = (int) results.stream().filter(ProductResult::success).count();
+    return new BulkRegisterResponse(
+        results.size(), succeeded, results.size() - succeeded, List.copyOf(results));
+  }
+
+  /**
+   * 개별 상품의 재고 등록 결과를 나타낸다.
+   *
+   * @param productId 상품 ID
+   * @param success 재고 등록 성공 여부
+   * @param reason 실패 사유 (성공 시 {@code null})
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public record ProductResult(UUID productId, boolean success, String reason) {
+
+    /**
+     * 성공 결과를 생성한다.
+     *
+     * @param productId 상품 ID
+     * @return 성공 결과
+     * @author 김지원
+     * @since 1.0.0
+     */
+    public static ProductResult succeeded(UUID productId) {
+      return new ProductResult(productId, true, null);
+    }
+
+    /**
+     * 실패 결과를 생성한다.
+     *
+     * @param productId 상품 ID
+     * @param reason 실패 사유
+     * @return 실패 결과
+     * @author 김지원
+     * @since 1.0.0
+     */
+    public static ProductResult failed(UUID productId, String reason) {
+      return new ProductResult(productId, false, reason);
+    }
+  }
+}
@@ -0,0 +1,58 @@
+package com.athenhub.stockservice.stock.application.dto;
+
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterResponse.ProductResult;
+import com.athenhub.stockservice.stock.domain.dto.ProductValidationResult;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 대량 재고 등록 요청에 대한 상품 검증 결과이다.
+ *
+ * <p>상품 접근 권한과 옵션 일관성 검증은 외부 서비스 호출을 동반하므로, 검증 결과를 먼저 만들어 두고 DB 트랜잭션 안에서는 검증을 통과한 커맨드만
+ * 등록한다.
+ *
+ * @param commands 재고 초기화 요청 정보 목록 (요청 순서 유지)
+ * @param validations 상품 ID별 검증 결과
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record BulkRegisterValidation(
+    List<StockInitializeCommand> commands, Map<UUID, ProductValidationResult> validations) {
+
+  /**
+   * 검증을 통과한 커맨드만 요청 순서대로 반환한다.
+   *
+   * @return 검증을 통과한 재고 초기화 요청 정보 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public List<StockInitializeCommand> validCommands() {
+    return commands.stream()
+        .filter(command -> validations.get(command.productId()).isValid())
+        .toList();
+  }
+
+  /**
+   * 검증을 통과한 커맨드의 등록 결과와 검증 실패 결과를 요청 순서대로 합친다.
+   *
+   * @param registered {@link #validCommands()} 순서의 등록 결과
+   * @return 상품별 처리 결과를 포함한 대량 등록 응답
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public BulkRegisterResponse merge(List<ProductResult> registered) {
+    Iterator<ProductResult> iterator = registered.iterator();
+    List<ProductResult> results = new ArrayList<>(commands.size());
+    for (StockInitializeCommand command : commands) {
+      ProductValidationResult validation = validations.get(command.productId());
+      results.add(
+          validation.isValid()
+              ? iterator.next()
+              : ProductResult.failed(command.productId(), validation.getReason()));
+    }
+    return BulkRegisterResponse.of(results);
+  }
+}
@@ -0,0 +1,39 @@
+package com.athenhub.stockservice.stock.application.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 입고 전표(Receipt) 기반 재입고를 위한 커맨드 객체이다.
+ *
+ * <p>하나의 전표에는 수백 개의 라인이 포함될 수 있으며, 같은 상품 옵션(Variant)이 여러 라인에 나뉘어 있을 수 있다.
+ *
+ * @param receiptId 입고 전표 ID (멱등성 키)
+ * @param lines 입고 라인 목록
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record RestockCommand(
+
+    // 입고 전표 ID.
+    UUID receiptId,
+
+    // 입고 라인 목록.
+    List<Line> lines) {
+
+  /**
+   * 입고 전표의 개별 라인을 나타낸다.
+   *
+   * @param variantId 상품 옵션(Variant) ID
+   * @param quantity 입고 수량
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public record Line(
+
+      // 상품 옵션(Variant) ID.
+      UUID variantId,
+
+      // 입고 수량.
+      int quantity) {}
+}
@@ -0,0 +1,31 @@
+package com.athenhub.stockservice.stock.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 재입고 처리 결과를 반환하기 위한 응답 DTO이다.
+ *
+ * <p>이미 처리된 전표가 다시 요청된 경우 {@code applied}가 {@code false}이며 재고는 변경되지 않는다.
+ *
+ * @param receiptId 입고 전표 ID
+ * @param applied 이번 요청으로 재고가 반영되었는지 여부
+ * @param variantCount 병합 후 반영된 상품 옵션 수
+ * @param totalQuantity 반영된 총 입고 수량
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record RestockResponse(
+    UUID receiptId, boolean applied, int variantCount, long totalQuantity) {
+
+  /**
+   * 이미 처리된 전표에 대한 응답을 생성한다.
+   *
+   * @param receiptId 입고 전표 ID
+   * @return 재고 변경 없음 응답
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static RestockResponse alreadyApplied(UUID receiptId) {
+    return new RestockResponse(receiptId, false, 0, 0);
+  }
+}
@@ -0,0 +1,12 @@
+package com.athenhub.stockservice.stock.application.dto;
+
+/**
+ * 재고 파일 가져오기 요청이 접수되었음을 알리는 응답 DTO이다.
+ *
+ * <p>가져오기는 비동기로 진행되며, 진행 상황은 actuator {@code stockimport} 엔드포인트에서 작업 식별자로 조회할 수 있다.
+ *
+ * @param jobId 작업 식별자
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record StockImportAcceptedResponse(String jobId) {}
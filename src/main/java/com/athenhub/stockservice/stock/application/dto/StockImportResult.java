@@ -0,0 +1,46 @@
+package com.athenhub.stockservice.stock.application.dto;
+
+import com.athenhub.stockservice.stock.domain.StockImportCheckpoint;
+import com.athenhub.stockservice.stock.domain.StockImportStatus;
+
+/**
+ * 재고 파일 가져오기(Import) 작업의 누적 결과를 나타내는 DTO이다.
+ *
+ * @param jobId 작업 식별자
+ * @param status 작업 상태
+ * @param byteOffset 마지막으로 커밋된 파일 위치
+ * @param processedLines 누적 처리 라인 수
+ * @param malformedLines 누적 파싱 실패 라인 수
+ * @param succeededProducts 누적 등록 성공 상품 수
+ * @param failedProducts 누적 등록 실패 상품 수
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record StockImportResult(
+    String jobId,
+    StockImportStatus status,
+    long byteOffset,
+    long processedLines,
+    long malformedLines,
+    long succeededProducts,
+    long failedProducts) {
+
+  /**
+   * 체크포인트로부터 결과를 생성한다.
+   *
+   * @param checkpoint 가져오기 체크포인트
+   * @return 가져오기 결과
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static StockImportResult from(StockImportCheckpoint checkpoint) {
+    return new StockImportResult(
+        checkpoint.getJobId(),
+        checkpoint.getStatus(),
+        checkpoint.getByteOffset(),
+        checkpoint.getProcessedLines(),
+        checkpoint.getMalformedLines(),
+        checkpoint.getSucceededProducts(),
+        checkpoint.getFailedProducts());
+  }
+}
@@ -0,0 +1,90 @@
+package com.athenhub.stockservice.stock.application.dto;
+
+import java.util.UUID;
+
+/**
+ * 동기 재고 예약 요청의 처리 결과를 반환하기 위한 응답 DTO이다.
+ *
+ * <p>{@link Status#RESERVED}와 {@link Status#ALREADY_RESERVED}는 모두 해당 주문의 재고가 차감된 상태임을 의미한다. 호출자는
+ * 응답을 받지 못한 경우 같은 주문 ID로 다시 요청하면 되며, 이미 처리된 주문은 재고를 다시 차감하지 않고 {@link Status#ALREADY_RESERVED}를
+ * 반환한다.
+ *
+ * @param orderId 주문 ID
+ * @param status 처리 결과
+ * @param reason 실패 사유, 성공한 경우 {@code null}
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record StockReservationResult(UUID orderId, Status status, String reason) {
+
+  /**
+   * 재고 예약 처리 결과 유형이다.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public enum Status {
+
+    /** 이번 요청으로 재고가 차감되었다. */
+    RESERVED,
+
+    /** 같은 주문 ID로 이미 재고가 차감되어 있다. */
+    ALREADY_RESERVED,
+
+    /** 재고가 부족하다. */
+    INSUFFICIENT_STOCK,
+
+    /** 재고가 존재하지 않는 상품 옵션이 포함되어 있다. */
+    STOCK_NOT_FOUND,
+
+    /** 요청 값이 올바르지 않다. */
+    INVALID_REQUEST,
+
+    /** 동시 수정과 충돌했다. 같은 주문 ID로 다시 요청할 수 있다. */
+    CONFLICT,
+
+    /** 처리를 시작하기 전에 응답 기한이 지나 처리하지 않았다. */
+    EXPIRED,
+
+    /** 그 외 오류로 처리하지 못했다. */
+    FAILED
+  }
+
+  /**
+   * 주문의 재고가 차감된 상태인지 여부를 반환한다.
+   *
+   * @return 재고가 차감되었으면 {@code true}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public boolean isReserved() {
+    return status == Status.RESERVED || status == Status.ALREADY_RESERVED;
+  }
+
+  /**
+   * 성공 결과를 생성한다.
+   *
+   * @param orderId 주문 ID
+   * @param status 성공 유형
+   * @return 처리 결과
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static StockReservationResult of(UUID orderId, Status status) {
+    return new StockReservationResult(orderId, status, null);
+  }
+
+  /**
+   * 실패 결과를 생성한다.
+   *
+   * @param orderId 주문 ID
+   * @param status 실패 유형
+   * @param reason 실패 사유
+   * @return 처리 결과
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static StockReservationResult failed(UUID orderId, Status status, String reason) {
+    return new StockReservationResult(orderId, status, reason);
+  }
+}
@@ -18,7 +18,22 @@ public enum ApplicationErrorCode implements ErrorCode {
   /** 재고 등록 권한이 없는 경우 발생하는 에러. */
   REGISTER_NOT_ALLOWED(HttpStatus.FORBIDDEN.value(), "REGISTER_NOT_ALLOWED"),
   DUPLICATED_VARIANT(HttpStatus.BAD_REQUEST.value(), "DUPLICATED_VARIANT"),
-  STOCK_DECREASE_CONFLICT(HttpStatus.CONFLICT.value(), "STOCK_DECREASE_CONFLICT");
+  STOCK_DECREASE_CONFLICT(HttpStatus.CONFLICT.value(), "STOCK_DECREASE_CONFLICT"),
+
+  /** 재입고 권한이 없는 경우 발생하는 에러. */
+  RESTOCK_NOT_ALLOWED(HttpStatus.FORBIDDEN.value(), "RESTOCK_NOT_ALLOWED"),
+
+  /** 요청한 상품 옵션(Variant)의 재고가 존재하지 않는 경우 발생하는 에러. */
+  STOCK_NOT_FOUND(HttpStatus.NOT_FOUND.value(), "STOCK_NOT_FOUND"),
+
+  /** 같은 작업 식별자로 이전과 다른 파일을 가져오려는 경우 발생하는 에러. */
+  IMPORT_SOURCE_MISMATCH(HttpStatus.CONFLICT.value(), "IMPORT_SOURCE_MISMATCH"),
+
+  /** 다른 사용자가 시작한 가져오기 작업을 재개하려는 경우 발생하는 에러. */
+  IMPORT_NOT_OWNER(HttpStatus.FORBIDDEN.value(), "IMPORT_NOT_OWNER"),
+
+  /** 실행 중인 가져오기 작업을 다시 시작하려는 경우 발생하는 에러. */
+  IMPORT_ALREADY_RUNNING(HttpStatus.CONFLICT.value(), "IMPORT_ALREADY_RUNNING");
   private final int status;
   private final String code;
 
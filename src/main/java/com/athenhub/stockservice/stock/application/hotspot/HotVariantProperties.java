@@ -0,0 +1,40 @@
+package com.athenhub.stockservice.stock.application.hotspot;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 인기 상품 옵션(Hot SKU) 추적 설정 값을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>{@code application.yml}의 {@code stock.hotspot.*} 아래에 정의된 값을 로딩한다. 사용하는 메모리는 {@code buckets
+ * × capacity × 신호 수}개의 카운터로 고정된다.
+ *
+ * <pre>
+ * stock:
+ *   hotspot:
+ *     enabled: true
+ *     capacity: 64
+ *     bucket: 1m
+ *     buckets: 60
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "stock.hotspot")
+public class HotVariantProperties {
+
+  /** 추적 사용 여부. */
+  private boolean enabled = true;
+
+  /** 시간 버킷 하나가 추적하는 최대 상품 옵션 수. */
+  private int capacity = 64;
+
+  /** 시간 버킷 하나의 길이. 조회 구간은 이 단위로 올림된다. */
+  private Duration bucket = Duration.ofMinutes(1);
+
+  /** 유지할 시간 버킷 수. {@code bucket × buckets}가 조회할 수 있는 최대 구간이다. */
+  private int buckets = 60;
+}
@@ -0,0 +1,16 @@
+package com.athenhub.stockservice.stock.application.hotspot;
+
+/**
+ * {@link HotVariantTracker}가 상품 옵션(Variant)별로 집계하는 신호 종류이다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public enum HotVariantSignal {
+
+  /** 재고 감소 횟수. */
+  DECREMENT,
+
+  /** 낙관적 락 충돌 횟수. */
+  CONFLICT
+}
@@ -0,0 +1,204 @@
+package com.athenhub.stockservice.stock.application.hotspot;
+
+import com.athenhub.stockservice.stock.application.hotspot.SpaceSavingSketch.Estimate;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 감소와 락 충돌이 집중되는 상품 옵션(Hot SKU)을 고정 메모리로 추적한다.
+ *
+ * <p>시간을 {@code bucket} 길이로 나누고, 버킷마다 신호별 {@link SpaceSavingSketch}를 하나씩 둔다. 버킷은 {@code buckets}개의
+ * 링으로 재사용되므로 사용하는 메모리가 트래픽이나 상품 수와 관계없이 일정하다. 조회 시에는 요청한 구간에 속하는 버킷의 추정 값을 합산하여
+ * 슬라이딩 윈도우의 상위 K개를 계산한다.
+ *
+ * <p>합산한 추정 값은 실제 값 이상이다. 어떤 버킷에서 추적되지 않은 키는 그 버킷에서 최대 버킷 최소 카운터만큼 등장했을 수 있으므로, 그
+ * 값을 {@code error}에 더해 실제 값의 하한({@code count - error})을 함께 제공한다.
+ *
+ * <p>감소 횟수는 {@code StockDecreaseHandler}가, 락 충돌은 커밋 시점에 발생하므로 재고 감소 메시지 처리기가 기록한다. 다른 처리
+ * 전략은 {@link #estimate(HotVariantSignal, UUID, Duration)}로 특정 상품 옵션의 최근 부하를 확인할 수 있다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(HotVariantProperties.class)
+public class HotVariantTracker {
+
+  private final HotVariantProperties props;
+  private final Clock clock;
+  private final long bucketMillis;
+  private final Bucket[] ring;
+
+  /**
+   * Hot SKU 추적기를 생성한다.
+   *
+   * @param props Hot SKU 추적 설정
+   */
+  @Autowired
+  public HotVariantTracker(HotVariantProperties props) {
+    this(props, Clock.systemUTC());
+  }
+
+  HotVariantTracker(HotVariantProperties props, Clock clock) {
+    this.props = props;
+    this.clock = clock;
+    this.bucketMillis = Math.max(props.getBucket().toMillis(), 1);
+    this.ring = new Bucket[Math.max(props.getBuckets(), 1)];
+    for (int i = 0; i < ring.length; i++) {
+      ring[i] = new Bucket(Math.max(props.getCapacity(), 1));
+    }
+  }
+
+  /**
+   * 상품 옵션의 신호를 기록한다.
+   *
+   * @param signal 신호 종류
+   * @param variantId 상품 옵션 ID
+   */
+  public void record(HotVariantSignal signal, UUID variantId) {
+    if (!props.isEnabled() || variantId == null) {
+      return;
+    }
+    long index = currentIndex();
+    Bucket bucket = ring[slot(index)];
+    synchronized (bucket) {
+      bucket.rollTo(index);
+      bucket.sketches.get(signal).offer(variantId, 1);
+    }
+  }
+
+  /**
+   * 최근 구간에서 신호가 많은 상품 옵션을 추정 값이 큰 순서대로 반환한다.
+   *
+   * @param signal 신호 종류
+   * @param window 조회 구간 (버킷 길이 단위로 올림되며 최대 보관 구간으로 제한)
+   * @param limit 반환할 최대 상품 옵션 수
+   * @return 상위 상품 옵션 목록
+   */
+  public List<HotVariant> top(HotVariantSignal signal, Duration window, int limit) {
+    Map<UUID, long[]> merged = new HashMap<>();
+    long floorSum = 0;
+
+    long current = currentIndex();
+    for (long index = current - windowBuckets(window) + 1; index <= current; index++) {
+      Bucket bucket = ring[slot(index)];
+      List<Estimate<UUID>> entries;
+      long floor;
+      synchronized (bucket) {
+        if (bucket.index != index) {
+          continue;
+        }
+        SpaceSavingSketch<UUID> sketch = bucket.sketches.get(signal);
+        entries = sketch.entries();
+        floor = sketch.floor();
+      }
+      for (Estimate<UUID> entry : entries) {
+        long[] sum = merged.computeIfAbsent(entry.key(), key -> new long[3]);
+        sum[0] += entry.count();
+        sum[1] += entry.error();
+        sum[2] += floor;
+      }
+      floorSum += floor;
+    }
+
+    long totalFloor = floorSum;
+    return merged.entrySet().stream()
+        .map(
+            entry -> {
+              long[] sum = entry.getValue();
+              // 추적되지 않은 버킷에서는 해당 버킷의 최소 카운터만큼 등장했을 수 있다
+              long missing = totalFloor - sum[2];
+              return new HotVariant(entry.getKey(), sum[0] + missing, sum[1] + missing);
+            })
+        .sorted(Comparator.comparingLong(HotVariant::count).reversed())
+        .limit(Math.max(limit, 0))
+        .toList();
+  }
+
+  /**
+   * 최근 구간에서 상품 옵션의 신호 추정 값을 반환한다.
+   *
+   * @param signal 신호 종류
+   * @param variantId 상품 옵션 ID
+   * @param window 조회 구간
+   * @return 추정 값 (실제 값 이상)
+   */
+  public long estimate(HotVariantSignal signal, UUID variantId, Duration window) {
+    long total = 0;
+    long current = currentIndex();
+    for (long index = current - windowBuckets(window) + 1; index <= current; index++) {
+      Bucket bucket = ring[slot(index)];
+      synchronized (bucket) {
+        if (bucket.index != index) {
+          continue;
+        }
+        SpaceSavingSketch<UUID> sketch = bucket.sketches.get(signal);
+        long count = sketch.estimate(variantId);
+        total += count > 0 ? count : sketch.floor();
+      }
+    }
+    return total;
+  }
+
+  /**
+   * 조회할 수 있는 최대 구간을 반환한다.
+   *
+   * @return 최대 구간
+   */
+  public Duration maxWindow() {
+    return Duration.ofMillis(bucketMillis * ring.length);
+  }
+
+  private long windowBuckets(Duration window) {
+    long buckets = (window.toMillis() + bucketMillis - 1) / bucketMillis;
+    return Math.min(Math.max(buckets, 1), ring.length);
+  }
+
+  private long currentIndex() {
+    return clock.millis() / bucketMillis;
+  }
+
+  private int slot(long index) {
+    return (int) Math.floorMod(index, (long) ring.length);
+  }
+
+  /**
+   * 상품 옵션의 신호 추정 결과.
+   *
+   * @param variantId 상품 옵션 ID
+   * @param count 추정 값 (실제 값 이상)
+   * @param error 최대 과대 추정 폭
+   */
+  public record HotVariant(UUID variantId, long count, long error) {}
+
+  /** 시간 버킷 하나의 신호별 스케치. */
+  private static final class Bucket {
+
+    private final Map<HotVariantSignal, SpaceSavingSketch<UUID>> sketches =
+        new EnumMap<>(HotVariantSignal.class);
+    private long index = Long.MIN_VALUE;
+
+    private Bucket(int capacity) {
+      for (HotVariantSignal signal : HotVariantSignal.values()) {
+        sketches.put(signal, new SpaceSavingSketch<>(capacity));
+      }
+    }
+
+    /** 버킷이 다른 시간 구간의 값을 갖고 있으면 비우고 새 구간으로 전환한다. */
+    private void rollTo(long newIndex) {
+      if (index != newIndex) {
+        sketches.values().forEach(SpaceSavingSketch::clear);
+        index = newIndex;
+      }
+    }
+  }
+}
@@ -0,0 +1,156 @@
+package com.athenhub.stockservice.stock.application.hotspot;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 고정된 수의 카운터로 스트림에서 자주 등장하는 키(Heavy Hitter)를 추정하는 Space-Saving 스케치이다.
+ *
+ * <p>최대 {@code capacity}개의 키만 추적한다. 추적 중이 아닌 키가 들어왔는데 카운터가 가득 차 있으면, 가장 작은 카운터를 가진 키를
+ * 내보내고 그 카운터 값을 이어받는다. 따라서 추정 값은 실제 등장 횟수보다 작지 않으며, 과대 추정 폭은 키마다 {@code error}로 함께
+ * 기록된다. 실제 등장 횟수가 전체의 {@code 1/capacity}를 넘는 키는 반드시 추적된다.
+ *
+ * <p>추적 중인 키는 O(1), 새 키는 카운터가 가득 찬 경우 최소값을 찾기 위해 O(capacity)로 처리된다. 스레드 안전하지 않으므로 호출자가
+ * 동기화해야 한다.
+ *
+ * @param <K> 키 타입
+ * @author 김지원
+ * @since 1.0.0
+ */
+public class SpaceSavingSketch<K> {
+
+  private final int capacity;
+  private final Map<K, Counter> counters;
+
+  /**
+   * 스케치를 생성한다.
+   *
+   * @param capacity 추적할 최대 키 수 (1 이상)
+   */
+  public SpaceSavingSketch(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive: " + capacity);
+    }
+    this.capacity = capacity;
+    this.counters = new HashMap<>(capacity * 2);
+  }
+
+  /**
+   * 키의 등장을 기록한다.
+   *
+   * @param key 키
+   * @param weight 가중치 (1 이상)
+   */
+  public void offer(K key, long weight) {
+    Counter counter = counters.get(key);
+    if (counter != null) {
+      counter.count += weight;
+      return;
+    }
+    if (counters.size() < capacity) {
+      counters.put(key, new Counter(weight, 0));
+      return;
+    }
+
+    Map.Entry<K, Counter> min = minEntry();
+    counters.remove(min.getKey());
+    long floor = min.getValue().count;
+    counters.put(key, new Counter(floor + weight, floor));
+  }
+
+  /**
+   * 키의 추정 등장 횟수를 반환한다.
+   *
+   * @param key 키
+   * @return 추적 중이면 추정 값, 아니면 0
+   */
+  public long estimate(K key) {
+    Counter counter = counters.get(key);
+    return counter == null ? 0 : counter.count;
+  }
+
+  /**
+   * 추적 중이 아닌 키의 최대 등장 횟수를 반환한다.
+   *
+   * @return 카운터가 가득 찼으면 가장 작은 카운터 값, 아니면 0
+   */
+  public long floor() {
+    return counters.size() < capacity ? 0 : minEntry().getValue().count;
+  }
+
+  /**
+   * 추정 값이 큰 순서대로 키를 반환한다.
+   *
+   * @param limit 반환할 최대 키 수
+   * @return 추정 결과 목록
+   */
+  public List<Estimate<K>> top(int limit) {
+    return counters.entrySet().stream()
+        .map(
+            entry ->
+                new Estimate<>(entry.getKey(), entry.getValue().count, entry.getValue().error))
+        .sorted(Comparator.comparingLong(Estimate<K>::count).reversed())
+        .limit(limit)
+        .toList();
+  }
+
+  /**
+   * 추적 중인 모든 키의 추정 결과를 반환한다.
+   *
+   * @return 추정 결과 목록 (순서 없음)
+   */
+  public List<Estimate<K>> entries() {
+    List<Estimate<K>> entries = new ArrayList<>(counters.size());
+    counters.forEach(
+        (key, counter) -> entries.add(new Estimate<>(key, counter.count, counter.error)));
+    return entries;
+  }
+
+  /**
+   * 추적 중인 키 수를 반환한다.
+   *
+   * @return 키 수
+   */
+  public int size() {
+    return counters.size();
+  }
+
+  /** 모든 카운터를 비운다. */
+  public void clear() {
+    counters.clear();
+  }
+
+  private Map.Entry<K, Counter> minEntry() {
+    Map.Entry<K, Counter> min = null;
+    for (Map.Entry<K, Counter> entry : counters.entrySet()) {
+      if (min == null || entry.getValue().count < min.getValue().count) {
+        min = entry;
+      }
+    }
+    return min;
+  }
+
+  /**
+   * 키의 추정 결과.
+   *
+   * @param key 키
+   * @param count 추정 등장 횟수 (실제 값 이상)
+   * @param error 최대 과대 추정 폭 ({@code count - error}가 실제 값의 하한)
+   * @param <K> 키 타입
+   */
+  public record Estimate<K>(K key, long count, long error) {}
+
+  private static final class Counter {
+
+    private long count;
+    private final long error;
+
+    private Counter(long count, long error) {
+      this.count = count;
+      this.error = error;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * {@link FileChannel} 위에서 UTF-8 텍스트를 한 줄씩 읽는 리더이다.
+ *
+ * <p>고정 크기 버퍼만 사용하므로 파일 크기와 관계없이 메모리 사용량이 일정하며, 지금까지 반환한 라인 직후의 파일 위치(byte offset)를 추적한다. 이
+ * 위치를 체크포인트로 저장해 두면 {@link #open(Path, long)}으로 해당 지점부터 다시 읽을 수 있다.
+ *
+ * <p>줄 구분자는 {@code \n}이며, 줄 끝의 {@code \r}은 제거된다. 스레드 안전하지 않다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public final class ChannelLineReader implements AutoCloseable {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final FileChannel channel;
+  private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+  private byte[] line = new byte[256];
+  private int lineLength;
+  private long position;
+
+  private ChannelLineReader(FileChannel channel, long offset) throws IOException {
+    this.channel = channel;
+    this.position = offset;
+    channel.position(offset);
+    buffer.flip();
+  }
+
+  /**
+   * 파일을 열고 지정한 위치부터 읽을 준비를 한다.
+   *
+   * @param path 읽을 파일 경로
+   * @param offset 읽기 시작 위치 (라인 시작 위치여야 한다)
+   * @return 라인 리더
+   * @throws IOException 파일을 열 수 없는 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static ChannelLineReader open(Path path, long offset) throws IOException {
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      return new ChannelLineReader(channel, offset);
+    } catch (IOException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * 다음 한 줄을 읽는다.
+   *
+   * @return 줄 구분자를 제외한 라인 문자열, 파일 끝이면 {@code null}
+   * @throws IOException 파일 읽기에 실패한 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public String readLine() throws IOException {
+    lineLength = 0;
+    long consumed = 0;
+
+    while (true) {
+      if (!buffer.hasRemaining() && !fill()) {
+        if (consumed == 0) {
+          return null;
+        }
+        position += consumed;
+        return decodeLine();
+      }
+
+      byte b = buffer.get();
+      consumed++;
+      if (b == '\n') {
+        position += consumed;
+        return decodeLine();
+      }
+      append(b);
+    }
+  }
+
+  /**
+   * 지금까지 반환한 마지막 라인 직후의 파일 위치를 반환한다.
+   *
+   * @return 다음에 읽을 라인의 시작 위치(byte offset)
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public long position() {
+    return position;
+  }
+
+  /**
+   * 파일 전체 크기를 반환한다.
+   *
+   * @return 파일 크기(byte)
+   * @throws IOException 파일 크기를 조회할 수 없는 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public long size() throws IOException {
+    return channel.size();
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private boolean fill() throws IOException {
+    buffer.clear();
+    int read = channel.read(buffer);
+    buffer.flip();
+    return read > 0;
+  }
+
+  private void append(byte b) {
+    if (lineLength == line.length) {
+      line = Arrays.copyOf(line, line.length * 2);
+    }
+    line[lineLength++] = b;
+  }
+
+  private String decodeLine() {
+    int length = lineLength;
+    if (length > 0 && line[length - 1] == '\r') {
+      length--;
+    }
+    return new String(line, 0, length, StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,57 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 재고 파일의 내용 지문(SHA-256)을 계산한다.
+ *
+ * <p>체크포인트의 파일 위치(byte offset)는 특정 파일 내용에서만 의미가 있으므로, 같은 작업 식별자로 다른 파일을 가져오려는 경우를 감지하기 위해
+ * 체크포인트에 지문을 함께 저장한다. {@link ChannelLineReader}와 같은 크기의 고정 버퍼로 읽으므로 파일 크기와 관계없이 메모리 사용량이
+ * 일정하다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public final class StockImportFingerprint {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private StockImportFingerprint() {}
+
+  /**
+   * 파일 전체 내용의 SHA-256 지문을 계산한다.
+   *
+   * @param path 파일 경로
+   * @return 16진수 소문자 SHA-256 값
+   * @throws IOException 파일 읽기에 실패한 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static String of(Path path) throws IOException {
+    MessageDigest digest = sha256();
+    ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      while (channel.read(buffer) != -1) {
+        buffer.flip();
+        digest.update(buffer);
+        buffer.clear();
+      }
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static MessageDigest sha256() {
+    try {
+      return MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+/**
+ * 재고 가져오기(Import) 파일 형식을 나타낸다.
+ *
+ * <p>두 형식 모두 한 줄에 하나의 상품 옵션(Variant) 재고를 기술한다.
+ *
+ * <ul>
+ *   <li>{@link #CSV} : {@code productId,variantId,quantity} (첫 줄 헤더는 선택)
+ *   <li>{@link #NDJSON} : {@code {"productId":"...","variantId":"...","quantity":10}}
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public enum StockImportFormat {
+
+  /** 쉼표로 구분된 값 형식. */
+  CSV,
+
+  /** 줄 단위 JSON(Newline Delimited JSON) 형식. */
+  NDJSON
+}
@@ -0,0 +1,112 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+import com.athenhub.stockservice.stock.domain.StockImportStatus;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실행 중인 재고 가져오기 작업의 진행 상황을 메모리에 보관한다.
+ *
+ * <p>청크가 커밋될 때마다 갱신되며, actuator 엔드포인트에서 {@link #snapshot()}으로 조회한다. 값은 이번 실행(재개 포함) 기준이며, 누적
+ * 값은 체크포인트에 저장된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public class StockImportProgress {
+
+  private final String jobId;
+  private final long totalBytes;
+  private final long startOffset;
+  private final Instant startedAt = Instant.now();
+  private final AtomicLong byteOffset;
+  private final AtomicLong lines = new AtomicLong();
+  private final AtomicLong malformedLines = new AtomicLong();
+  private final AtomicLong succeededProducts = new AtomicLong();
+  private final AtomicLong failedProducts = new AtomicLong();
+  private volatile StockImportStatus status = StockImportStatus.RUNNING;
+  private volatile Instant finishedAt;
+
+  StockImportProgress(String jobId, long totalBytes, long startOffset) {
+    this.jobId = jobId;
+    this.totalBytes = totalBytes;
+    this.startOffset = startOffset;
+    this.byteOffset = new AtomicLong(startOffset);
+  }
+
+  void chunkCommitted(long nextOffset, long lines, long malformed, long succeeded, long failed) {
+    this.byteOffset.set(nextOffset);
+    this.lines.addAndGet(lines);
+    this.malformedLines.addAndGet(malformed);
+    this.succeededProducts.addAndGet(succeeded);
+    this.failedProducts.addAndGet(failed);
+  }
+
+  void finish(StockImportStatus status) {
+    this.status = status;
+    this.finishedAt = Instant.now();
+  }
+
+  /**
+   * 현재 진행 상황의 스냅샷을 생성한다.
+   *
+   * @return 진행 상황 스냅샷
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public Snapshot snapshot() {
+    Instant end = finishedAt != null ? finishedAt : Instant.now();
+    double seconds = Math.max(Duration.between(startedAt, end).toMillis(), 1) / 1000.0;
+    long offset = byteOffset.get();
+
+    return new Snapshot(
+        jobId,
+        status,
+        offset,
+        totalBytes,
+        totalBytes == 0 ? 100.0 : offset * 100.0 / totalBytes,
+        lines.get(),
+        malformedLines.get(),
+        succeededProducts.get(),
+        failedProducts.get(),
+        lines.get() / seconds,
+        (offset - startOffset) / seconds,
+        startedAt,
+        finishedAt);
+  }
+
+  /**
+   * 재고 가져오기 진행 상황 스냅샷.
+   *
+   * @param jobId 작업 식별자
+   * @param status 작업 상태
+   * @param byteOffset 마지막으로 커밋된 파일 위치
+   * @param totalBytes 파일 전체 크기
+   * @param percent 진행률(%)
+   * @param lines 이번 실행에서 처리한 라인 수
+   * @param malformedLines 이번 실행에서 파싱에 실패한 라인 수
+   * @param succeededProducts 이번 실행에서 등록에 성공한 상품 수
+   * @param failedProducts 이번 실행에서 등록에 실패한 상품 수
+   * @param linesPerSecond 초당 처리 라인 수
+   * @param bytesPerSecond 초당 처리 바이트 수
+   * @param startedAt 시작 시각
+   * @param finishedAt 종료 시각 (진행 중이면 {@code null})
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public record Snapshot(
+      String jobId,
+      StockImportStatus status,
+      long byteOffset,
+      long totalBytes,
+      double percent,
+      long lines,
+      long malformedLines,
+      long succeededProducts,
+      long failedProducts,
+      double linesPerSecond,
+      double bytesPerSecond,
+      Instant startedAt,
+      Instant finishedAt) {}
+}
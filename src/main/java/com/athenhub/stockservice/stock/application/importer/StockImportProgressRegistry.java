@@ -0,0 +1,149 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+import com.athenhub.stockservice.stock.domain.StockImportStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 가져오기 작업들의 진행 상황을 관리하고 Micrometer 지표로 내보낸다.
+ *
+ * <p>내보내는 지표:
+ *
+ * <ul>
+ *   <li>{@code stock.import.lines} (result=parsed|malformed) — 처리한 라인 수
+ *   <li>{@code stock.import.products} (result=succeeded|failed) — 등록 결과별 상품 수
+ *   <li>{@code stock.import.bytes} — 커밋된 파일 바이트 수
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+public class StockImportProgressRegistry {
+
+  private final Map<String, StockImportProgress> progresses = new ConcurrentHashMap<>();
+  private final Counter parsedLines;
+  private final Counter malformedLines;
+  private final Counter succeededProducts;
+  private final Counter failedProducts;
+  private final Counter bytes;
+
+  /**
+   * 진행 상황 레지스트리를 생성한다.
+   *
+   * @param meterRegistry 지표 등록에 사용할 MeterRegistry
+   */
+  public StockImportProgressRegistry(MeterRegistry meterRegistry) {
+    this.parsedLines = lineCounter(meterRegistry, "parsed");
+    this.malformedLines = lineCounter(meterRegistry, "malformed");
+    this.succeededProducts = productCounter(meterRegistry, "succeeded");
+    this.failedProducts = productCounter(meterRegistry, "failed");
+    this.bytes =
+        Counter.builder("stock.import.bytes")
+            .description("재고 가져오기에서 커밋된 파일 바이트 수")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+  }
+
+  /**
+   * 작업의 진행 상황 추적을 시작한다.
+   *
+   * @param jobId 작업 식별자
+   * @param totalBytes 파일 전체 크기
+   * @param startOffset 읽기 시작 위치
+   * @return 진행 상황
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public StockImportProgress start(String jobId, long totalBytes, long startOffset) {
+    StockImportProgress progress = new StockImportProgress(jobId, totalBytes, startOffset);
+    progresses.put(jobId, progress);
+    return progress;
+  }
+
+  /**
+   * 커밋된 청크의 처리 결과를 반영한다.
+   *
+   * @param progress 진행 상황
+   * @param previousOffset 청크 시작 위치
+   * @param nextOffset 청크 이후 다음에 읽을 위치
+   * @param lines 청크에서 읽은 라인 수
+   * @param malformed 청크에서 파싱에 실패한 라인 수
+   * @param succeeded 청크에서 등록에 성공한 상품 수
+   * @param failed 청크에서 등록에 실패한 상품 수
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void chunkCommitted(
+      StockImportProgress progress,
+      long previousOffset,
+      long nextOffset,
+      long lines,
+      long malformed,
+      long succeeded,
+      long failed) {
+
+    progress.chunkCommitted(nextOffset, lines, malformed, succeeded, failed);
+    parsedLines.increment(lines - malformed);
+    malformedLines.increment(malformed);
+    succeededProducts.increment(succeeded);
+    failedProducts.increment(failed);
+    bytes.increment(nextOffset - previousOffset);
+  }
+
+  /**
+   * 작업을 종료 상태로 기록한다.
+   *
+   * @param progress 진행 상황
+   * @param status 종료 상태
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void finish(StockImportProgress progress, StockImportStatus status) {
+    progress.finish(status);
+  }
+
+  /**
+   * 작업의 진행 상황 스냅샷을 조회한다.
+   *
+   * @param jobId 작업 식별자
+   * @return 진행 상황 스냅샷
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public Optional<StockImportProgress.Snapshot> find(String jobId) {
+    return Optional.ofNullable(progresses.get(jobId)).map(StockImportProgress::snapshot);
+  }
+
+  /**
+   * 이번 애플리케이션 기동 이후 실행된 모든 작업의 진행 상황 스냅샷을 조회한다.
+   *
+   * @return 진행 상황 스냅샷 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public List<StockImportProgress.Snapshot> findAll() {
+    Collection<StockImportProgress> values = progresses.values();
+    return values.stream().map(StockImportProgress::snapshot).toList();
+  }
+
+  private static Counter lineCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("stock.import.lines")
+        .description("재고 가져오기에서 처리한 라인 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static Counter productCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("stock.import.products")
+        .description("재고 가져오기의 상품별 등록 결과 수")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
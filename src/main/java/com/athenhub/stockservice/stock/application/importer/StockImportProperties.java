@@ -0,0 +1,81 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.UUID;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 재고 파일 가져오기(Import) 설정 값을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>{@code application.yml}의 {@code stock.import.*} 아래에 정의된 값을 로딩한다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * stock:
+ *   import:
+ *     chunk-size: 1000
+ *     upload-dir: /var/tmp/stock-import
+ *     running-lease: 10m
+ *     cli:
+ *       file: /data/initial-stock.csv
+ *       format: CSV
+ *       job-id: initial-load-2025
+ *       exit-on-complete: true
+ *       member-id: 6f1c...
+ *       authorization: Bearer eyJ...
+ *       vendor-id: 2a9d...
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "stock.import")
+public class StockImportProperties {
+
+  /** 한 트랜잭션(청크)에서 처리할 최대 라인 수. */
+  private int chunkSize = 1000;
+
+  /** 업로드된 파일을 임시 저장할 디렉터리. */
+  private Path uploadDir = Path.of(System.getProperty("java.io.tmpdir"), "stock-import");
+
+  /**
+   * 실행 중인 작업의 임대 시간. 체크포인트가 이 시간 동안 갱신되지 않은 실행 중 작업은 중단된 것으로 보고 같은 작업 식별자로 재개할 수 있다.
+   */
+  private Duration runningLease = Duration.ofMinutes(10);
+
+  /** CLI 실행 설정. */
+  private Cli cli = new Cli();
+
+  /** CLI(애플리케이션 기동 인자) 기반 가져오기 설정. */
+  @Data
+  public static class Cli {
+
+    /** 가져올 파일 경로. 지정된 경우에만 CLI 가져오기가 실행된다. */
+    private Path file;
+
+    /** 파일 형식. */
+    private StockImportFormat format = StockImportFormat.CSV;
+
+    /** 작업 식별자. 동일한 값으로 다시 실행하면 마지막 체크포인트부터 재개한다. 미지정 시 파일명을 사용한다. */
+    private String jobId;
+
+    /** 가져오기 완료 후 애플리케이션을 종료할지 여부. */
+    private boolean exitOnComplete = false;
+
+    /** 가져오기를 수행하는 사용자 ID. 소속 및 상품 접근 권한 검증에 사용된다. */
+    private UUID memberId;
+
+    /** 회원/상품 서비스 호출 시 전달할 Authorization 헤더 값. CLI 실행에는 HTTP 요청이 없으므로 서비스 자격 증명을 명시한다. */
+    private String authorization;
+
+    /** 재고를 등록할 허브 ID. */
+    private UUID hubId;
+
+    /** 재고를 등록할 벤더 ID. */
+    private UUID vendorId;
+  }
+}
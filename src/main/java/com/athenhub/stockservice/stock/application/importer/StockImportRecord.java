@@ -0,0 +1,14 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+import java.util.UUID;
+
+/**
+ * 재고 가져오기 파일의 한 줄을 나타내는 레코드이다.
+ *
+ * @param productId 상품 ID
+ * @param variantId 상품 옵션(Variant) ID
+ * @param quantity 초기 재고 수량
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record StockImportRecord(UUID productId, UUID variantId, int quantity) {}
@@ -0,0 +1,82 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 가져오기 파일의 한 줄을 {@link StockImportRecord}로 변환한다.
+ *
+ * <p>빈 줄과 CSV 헤더 줄은 건너뛰며({@code null} 반환), 형식이 올바르지 않은 줄은 {@link IllegalArgumentException}을
+ * 발생시킨다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StockImportRecordParser {
+
+  private static final char BYTE_ORDER_MARK = '\uFEFF';
+  private static final String CSV_HEADER_PREFIX = "productid";
+
+  private final ObjectMapper objectMapper;
+
+  /**
+   * 한 줄을 파싱한다.
+   *
+   * @param format 파일 형식
+   * @param line 파싱할 라인
+   * @return 파싱된 레코드, 건너뛸 줄이면 {@code null}
+   * @throws IllegalArgumentException 라인 형식이 올바르지 않은 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public StockImportRecord parse(StockImportFormat format, String line) {
+    String trimmed = stripByteOrderMark(line).strip();
+    if (trimmed.isEmpty()) {
+      return null;
+    }
+
+    StockImportRecord record =
+        switch (format) {
+          case CSV -> parseCsv(trimmed);
+          case NDJSON -> parseJson(trimmed);
+        };
+
+    if (record != null && (record.productId() == null || record.variantId() == null)) {
+      throw new IllegalArgumentException("productId, variantId는 필수입니다.");
+    }
+    return record;
+  }
+
+  private static StockImportRecord parseCsv(String line) {
+    if (line.regionMatches(true, 0, CSV_HEADER_PREFIX, 0, CSV_HEADER_PREFIX.length())) {
+      return null;
+    }
+
+    String[] columns = line.split(",", -1);
+    if (columns.length != 3) {
+      throw new IllegalArgumentException("CSV 컬럼 수가 올바르지 않습니다: " + columns.length);
+    }
+
+    return new StockImportRecord(
+        UUID.fromString(columns[0].strip()),
+        UUID.fromString(columns[1].strip()),
+        Integer.parseInt(columns[2].strip()));
+  }
+
+  private StockImportRecord parseJson(String line) {
+    try {
+      return objectMapper.readValue(line, StockImportRecord.class);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("JSON 형식이 올바르지 않습니다.", e);
+    }
+  }
+
+  private static String stripByteOrderMark(String line) {
+    return !line.isEmpty() && line.charAt(0) == BYTE_ORDER_MARK ? line.substring(1) : line;
+  }
+}
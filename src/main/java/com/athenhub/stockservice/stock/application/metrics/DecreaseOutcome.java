@@ -0,0 +1,41 @@
+package com.athenhub.stockservice.stock.application.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 감소 메시지 한 건의 최종 처리 결과이다.
+ *
+ * <p>{@link StockDecreaseStageMetrics}가 단계별 소요 시간을 {@code outcome} 태그로 구분할 때 사용한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DecreaseOutcome {
+
+  /** 재고 감소 성공. */
+  SUCCESS("success"),
+
+  /** 재고 부족으로 DLQ 전달. */
+  OUT_OF_STOCK("out_of_stock"),
+
+  /** 락 충돌로 재시도. */
+  CONFLICT("conflict"),
+
+  /** 락 충돌 외의 재시도 가능 오류로 재시도. */
+  RETRY("retry"),
+
+  /** 재시도 초과로 DLQ 전달. */
+  DLQ("dlq"),
+
+  /** 재시도 불가 오류로 Quarantine Queue 전달. */
+  QUARANTINED("quarantined"),
+
+  /** 이미 처리한 메시지의 재전달. */
+  DUPLICATE("duplicate");
+
+  /** 메트릭 태그 값. */
+  private final String tag;
+}
@@ -0,0 +1,45 @@
+package com.athenhub.stockservice.stock.application.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재고 감소 파이프라인의 처리 단계이다.
+ *
+ * <p>메시지 수신부터 ACK까지 처리 순서대로 정의되어 있으며, {@link StockDecreaseStageMetrics}가 단계별 소요 시간을 {@code
+ * stage} 태그로 기록한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum DecreaseStage {
+
+  /** 메시지 수신 후 역직렬화. */
+  RECEIVE("receive"),
+
+  /** 중복 메시지 확인 및 주문 ID 기준 처리 여부 조회. */
+  IDEMPOTENCY_CHECK("idempotency_check"),
+
+  /** 재고 엔티티 조회. */
+  STOCK_LOOKUP("stock_lookup"),
+
+  /** {@code Stock.decrease} 도메인 로직. */
+  STOCK_DECREASE("stock_decrease"),
+
+  /** 재고 감소 이력 저장. */
+  HISTORY_SAVE("history_save"),
+
+  /** 재고 감소 성공 이벤트 발행(Outbox 저장). */
+  SUCCESS_PUBLISH("success_publish"),
+
+  /** 트랜잭션 커밋 (변경 내용 flush 포함). */
+  COMMIT("commit"),
+
+  /** 메시지 ACK. */
+  ACK("ack");
+
+  /** 메트릭 태그 값. */
+  private final String tag;
+}
@@ -0,0 +1,50 @@
+package com.athenhub.stockservice.stock.application.metrics;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 재고 감소 파이프라인 단계별 지표 설정 값을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>{@code application.yml}의 {@code stock.decrease.metrics.*} 아래에 정의된 값을 로딩한다.
+ *
+ * <pre>
+ * stock:
+ *   decrease:
+ *     metrics:
+ *       enabled: true
+ *       slo: 5ms, 10ms, 25ms, 50ms, 100ms, 250ms, 500ms, 1s
+ *       minimum-expected: 1ms
+ *       maximum-expected: 10s
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "stock.decrease.metrics")
+public class StockDecreaseMetricsProperties {
+
+  /** 단계별 지표 기록 여부. */
+  private boolean enabled = true;
+
+  /** SLO 버킷 경계. Prometheus 히스토그램에 항상 포함된다. */
+  private List<Duration> slo =
+      List.of(
+          Duration.ofMillis(5),
+          Duration.ofMillis(10),
+          Duration.ofMillis(25),
+          Duration.ofMillis(50),
+          Duration.ofMillis(100),
+          Duration.ofMillis(250),
+          Duration.ofMillis(500),
+          Duration.ofSeconds(1));
+
+  /** 퍼센타일 히스토그램 버킷의 하한. 버킷 수를 제한하기 위해 사용한다. */
+  private Duration minimumExpected = Duration.ofMillis(1);
+
+  /** 퍼센타일 히스토그램 버킷의 상한. 버킷 수를 제한하기 위해 사용한다. */
+  private Duration maximumExpected = Duration.ofSeconds(10);
+}
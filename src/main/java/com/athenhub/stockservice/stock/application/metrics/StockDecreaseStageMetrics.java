@@ -0,0 +1,235 @@
+package com.athenhub.stockservice.stock.application.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 재고 감소 파이프라인의 단계별 소요 시간을 Micrometer 타이머로 기록한다.
+ *
+ * <p>메시지 한 건의 처리는 하나의 추적(trace)으로 묶인다. Listener 또는 처리기가 {@link #begin(int)}으로 추적을 시작하면 같은
+ * 스레드에서 실행되는 각 단계가 {@link #time(DecreaseStage, Supplier)}로 소요 시간을 누적하고, 처리 결과가 정해진 뒤
+ * {@link #finish()}에서 한 번에 기록한다. 단계별 시간을 결과가 정해진 뒤에 기록하므로 모든 단계 타이머에 {@code outcome}
+ * 태그를 붙일 수 있다. 추적이 시작되지 않은 호출(예: 동기 재고 예약)은 시간을 재지 않고 그대로 실행한다.
+ *
+ * <p>내보내는 지표:
+ *
+ * <ul>
+ *   <li>{@code stock.decrease.stage} (stage, outcome, order_size) — 단계별 소요 시간
+ *   <li>{@code stock.decrease.pipeline} (outcome, order_size) — 추적 시작부터 종료까지 전체 소요 시간
+ * </ul>
+ *
+ * <p>두 타이머 모두 퍼센타일 히스토그램과 SLO 버킷을 내보낸다. 태그 값은 {@link DecreaseStage}, {@link DecreaseOutcome},
+ * 주문 항목 수 구간({@code 1}, {@code 2-5}, {@code 6-20}, {@code 21+})으로 한정되며 주문 ID나 상품 옵션 ID는 태그로
+ * 사용하지 않는다. 결과가 정해지지 않은 채 종료된 추적(Retry/DLQ 발행 실패 등)은 기록하지 않는다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(StockDecreaseMetricsProperties.class)
+public class StockDecreaseStageMetrics {
+
+  /** 단계별 소요 시간 타이머 이름. */
+  public static final String STAGE_METRIC = "stock.decrease.stage";
+
+  /** 전체 소요 시간 타이머 이름. */
+  public static final String PIPELINE_METRIC = "stock.decrease.pipeline";
+
+  private static final ThreadLocal<Trace> CURRENT = new ThreadLocal<>();
+
+  private final MeterRegistry meterRegistry;
+  private final StockDecreaseMetricsProperties props;
+  private final Duration[] slo;
+
+  /**
+   * 단계별 지표 기록기를 생성한다.
+   *
+   * @param meterRegistry 지표 등록에 사용할 MeterRegistry
+   * @param props 단계별 지표 설정
+   */
+  public StockDecreaseStageMetrics(
+      MeterRegistry meterRegistry, StockDecreaseMetricsProperties props) {
+    this.meterRegistry = meterRegistry;
+    this.props = props;
+    this.slo = props.getSlo().toArray(Duration[]::new);
+  }
+
+  /**
+   * 현재 스레드에서 메시지 한 건의 추적을 시작한다. 종료되지 않은 이전 추적은 버린다.
+   *
+   * @param orderSize 주문 항목 수
+   */
+  public void begin(int orderSize) {
+    if (!props.isEnabled()) {
+      return;
+    }
+    CURRENT.set(new Trace(sizeBucket(orderSize), System.nanoTime()));
+  }
+
+  /**
+   * 단계를 실행하고 소요 시간을 현재 추적에 누적한다. 예외가 발생해도 소요 시간은 누적된다.
+   *
+   * @param stage 처리 단계
+   * @param action 실행할 작업
+   * @param <T> 작업 결과 타입
+   * @return 작업 결과
+   */
+  public <T> T time(DecreaseStage stage, Supplier<T> action) {
+    Trace trace = CURRENT.get();
+    if (trace == null) {
+      return action.get();
+    }
+    long start = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      trace.add(stage, System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * 결과가 없는 단계를 실행하고 소요 시간을 현재 추적에 누적한다.
+   *
+   * @param stage 처리 단계
+   * @param action 실행할 작업
+   */
+  public void run(DecreaseStage stage, Runnable action) {
+    time(
+        stage,
+        () -> {
+          action.run();
+          return null;
+        });
+  }
+
+  /**
+   * 이미 측정한 단계 소요 시간을 현재 추적에 누적한다.
+   *
+   * @param stage 처리 단계
+   * @param nanos 소요 시간(나노초)
+   */
+  public void record(DecreaseStage stage, long nanos) {
+    Trace trace = CURRENT.get();
+    if (trace != null && nanos > 0) {
+      trace.add(stage, nanos);
+    }
+  }
+
+  /**
+   * 진행 중인 트랜잭션의 커밋 소요 시간을 {@link DecreaseStage#COMMIT} 단계로 누적하도록 등록한다.
+   *
+   * <p>JPA는 커밋 시점에 변경 내용을 flush하므로, 재고 UPDATE와 이력 INSERT 쿼리 실행 시간도 이 단계에 포함된다.
+   */
+  public void timeCommit() {
+    Trace trace = CURRENT.get();
+    if (trace == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+
+          private long start;
+
+          @Override
+          public void beforeCommit(boolean readOnly) {
+            start = System.nanoTime();
+          }
+
+          @Override
+          public void afterCompletion(int status) {
+            if (start > 0) {
+              trace.add(DecreaseStage.COMMIT, System.nanoTime() - start);
+            }
+          }
+        });
+  }
+
+  /**
+   * 현재 추적의 처리 결과를 지정한다.
+   *
+   * @param outcome 처리 결과
+   */
+  public void outcome(DecreaseOutcome outcome) {
+    Trace trace = CURRENT.get();
+    if (trace != null) {
+      trace.outcome = outcome;
+    }
+  }
+
+  /** 현재 추적을 종료하고 단계별 소요 시간을 기록한다. 결과가 정해지지 않은 추적은 기록하지 않는다. */
+  public void finish() {
+    Trace trace = CURRENT.get();
+    CURRENT.remove();
+    if (trace == null || trace.outcome == null) {
+      return;
+    }
+
+    Tags tags = Tags.of("outcome", trace.outcome.getTag(), "order_size", trace.sizeBucket);
+    trace.stages.forEach(
+        (stage, nanos) ->
+            timer(STAGE_METRIC, tags.and("stage", stage.getTag()))
+                .record(nanos, TimeUnit.NANOSECONDS));
+    long total =
+        System.nanoTime()
+            - trace.startedAt
+            + trace.stages.getOrDefault(DecreaseStage.RECEIVE, 0L);
+    timer(PIPELINE_METRIC, tags).record(total, TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * 주문 항목 수를 태그 값 구간으로 변환한다.
+   *
+   * @param orderSize 주문 항목 수
+   * @return 구간 태그 값
+   */
+  static String sizeBucket(int orderSize) {
+    if (orderSize <= 1) {
+      return "1";
+    }
+    if (orderSize <= 5) {
+      return "2-5";
+    }
+    if (orderSize <= 20) {
+      return "6-20";
+    }
+    return "21+";
+  }
+
+  private Timer timer(String name, Tags tags) {
+    return Timer.builder(name)
+        .tags(tags)
+        .publishPercentileHistogram()
+        .serviceLevelObjectives(slo)
+        .minimumExpectedValue(props.getMinimumExpected())
+        .maximumExpectedValue(props.getMaximumExpected())
+        .register(meterRegistry);
+  }
+
+  /** 메시지 한 건의 단계별 누적 소요 시간. */
+  private static final class Trace {
+
+    private final String sizeBucket;
+    private final long startedAt;
+    private final Map<DecreaseStage, Long> stages = new EnumMap<>(DecreaseStage.class);
+    private DecreaseOutcome outcome;
+
+    private Trace(String sizeBucket, long startedAt) {
+      this.sizeBucket = sizeBucket;
+      this.startedAt = startedAt;
+    }
+
+    private void add(DecreaseStage stage, long nanos) {
+      stages.merge(stage, nanos, Long::sum);
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package com.athenhub.stockservice.stock.application.service;
 
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterResponse.ProductResult;
 import com.athenhub.stockservice.stock.application.dto.RegisterResponse;
 import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
 import com.athenhub.stockservice.stock.application.event.external.StockRegisteredEvent;
@@ -8,9 +9,13 @@ import com.athenhub.stockservice.stock.application.exception.StockApplicationExc
 import com.athenhub.stockservice.stock.domain.Stock;
 import com.athenhub.stockservice.stock.domain.StockHistory;
 import com.athenhub.stockservice.stock.domain.dto.InitialStock;
+import com.athenhub.stockservice.stock.domain.repository.StockBulkRepository;
 import com.athenhub.stockservice.stock.domain.repository.StockHistoryRepository;
 import com.athenhub.stockservice.stock.domain.repository.StockRepository;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -38,8 +43,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RegisterStockService {
 
+  /** 기존 재고 존재 여부 확인 시 한 번의 IN 쿼리에 포함할 최대 옵션 ID 수. */
+  private static final int VARIANT_LOOKUP_CHUNK_SIZE = 1000;
+
   private final StockRepository stockRepository;
   private final StockHistoryRepository stockHistoryRepository;
+  private final StockBulkRepository stockBulkRepository;
   private final StockRegisteredEventPublisher stockRegisteredEventPublisher;
 
   /**
@@ -64,6 +73,171 @@ public class RegisterStockService {
     return new RegisterResponse(command.productId());
   }
 
+  /**
+   * 여러 상품의 재고를 한 번에 초기 등록한다.
+   *
+   * <p>단건 등록과 달리 상품 단위로 성공/실패를 판단하며, 실패한 상품은 건너뛰고 나머지 상품만 등록한다. 다음 조건 중 하나라도 해당하는 상품은
+   * 실패로 처리된다.
+   *
+   * <ul>
+   *   <li>상품 ID, 옵션 목록 또는 옵션 ID 누락
+   *   <li>상품 내 옵션(Variant) ID 중복
+   *   <li>요청 내 다른 상품과 상품 ID 또는 옵션 ID 중복
+   *   <li>이미 재고가 등록된 옵션 포함
+   *   <li>재고 생성 규칙 위반 (예: 초기 수량 0 이하)
+   * </ul>
+   *
+   * <p>통과한 상품의 재고와 입고 이력은 {@link StockBulkRepository}를 통해 배치 INSERT로 저장되며, 재고 등록 이벤트도 묶음으로 발행된다.
+   *
+   * @param commands 재고 초기화를 위한 커맨드 목록
+   * @return 상품별 처리 결과 (요청 순서 유지)
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public List<ProductResult> registerAll(List<StockInitializeCommand> commands) {
+    Set<UUID> existingVariantIds = findExistingVariantIds(commands);
+    Set<UUID> seenProductIds = new HashSet<>();
+    Set<UUID> seenVariantIds = new HashSet<>();
+
+    List<ProductResult> results = new ArrayList<>(commands.size());
+    List<Stock> stocks = new ArrayList<>();
+    List<StockRegisteredEvent> events = new ArrayList<>();
+
+    for (StockInitializeCommand command : commands) {
+      String failureReason =
+          checkRegistrable(command, existingVariantIds, seenProductIds, seenVariantIds);
+      if (failureReason != null) {
+        results.add(ProductResult.failed(command.productId(), failureReason));
+        continue;
+      }
+
+      try {
+        stocks.addAll(convertToStocks(command));
+      } catch (IllegalArgumentException e) {
+        results.add(ProductResult.failed(command.productId(), e.getMessage()));
+        continue;
+      }
+
+      events.add(StockRegisteredEvent.from(command.productId()));
+      results.add(ProductResult.succeeded(command.productId()));
+    }
+
+    if (!stocks.isEmpty()) {
+      stockBulkRepository.insertAll(stocks);
+      stockBulkRepository.insertHistories(
+          stocks.stream().map(stock -> StockHistory.inbound(stock, stock.getQuantity())).toList());
+      stockRegisteredEventPublisher.publishAll(events);
+    }
+
+    return results;
+  }
+
+  /**
+   * 대량 등록 대상 상품이 등록 가능한지 검사한다.
+   *
+   * <p>검사를 통과한 상품의 상품 ID와 옵션 ID는 이후 상품과의 중복 검사를 위해 {@code seenProductIds}, {@code
+   * seenVariantIds}에 기록된다.
+   *
+   * @param command 재고 초기화를 위한 커맨드
+   * @param existingVariantIds 이미 재고가 등록된 옵션 ID 집합
+   * @param seenProductIds 앞서 등록 대상으로 확정된 상품 ID 집합
+   * @param seenVariantIds 앞서 등록 대상으로 확정된 옵션 ID 집합
+   * @return 등록 불가 사유, 등록 가능한 경우 {@code null}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  private static String checkRegistrable(
+      StockInitializeCommand command,
+      Set<UUID> existingVariantIds,
+      Set<UUID> seenProductIds,
+      Set<UUID> seenVariantIds) {
+
+    if (hasMissingIds(command)) {
+      return "상품 ID, 옵션 목록 또는 옵션 ID가 누락되었습니다.";
+    }
+
+    List<UUID> variantIds = toVariantIds(command);
+    Set<UUID> uniqueVariantIds = Set.copyOf(variantIds);
+
+    if (uniqueVariantIds.size() != variantIds.size()) {
+      return "상품 내 옵션 ID가 중복되었습니다.";
+    }
+    if (seenProductIds.contains(command.productId())) {
+      return "요청 내 동일한 상품이 중복되었습니다.";
+    }
+    if (uniqueVariantIds.stream().anyMatch(seenVariantIds::contains)) {
+      return "요청 내 다른 상품과 옵션 ID가 중복되었습니다.";
+    }
+    if (uniqueVariantIds.stream().anyMatch(existingVariantIds::contains)) {
+      return "이미 재고가 등록된 옵션이 포함되어 있습니다.";
+    }
+
+    seenProductIds.add(command.productId());
+    seenVariantIds.addAll(uniqueVariantIds);
+    return null;
+  }
+
+  /**
+   * 커맨드에 상품 ID, 옵션 목록 또는 옵션 ID가 누락되었는지 확인한다.
+   *
+   * <p>누락된 값은 재고 생성 중 {@link NullPointerException}으로 드러나기 전에 상품 단위 실패로 처리한다.
+   *
+   * @param command 재고 초기화를 위한 커맨드
+   * @return 누락된 값이 있으면 {@code true}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  private static boolean hasMissingIds(StockInitializeCommand command) {
+    return command.productId() == null
+        || command.productVariants() == null
+        || command.productVariants().isEmpty()
+        || command.productVariants().stream()
+            .anyMatch(variant -> variant == null || variant.id() == null);
+  }
+
+  /**
+   * 요청된 옵션 중 이미 재고가 등록된 옵션 ID를 조회한다.
+   *
+   * <p>IN 절 파라미터 수를 제한하기 위해 {@value #VARIANT_LOOKUP_CHUNK_SIZE}개 단위로 나누어 조회한다.
+   *
+   * @param commands 재고 초기화를 위한 커맨드 목록
+   * @return 이미 재고가 등록된 옵션 ID 집합
+   * @author 김지원
+   * @since 1.0.0
+   */
+  private Set<UUID> findExistingVariantIds(List<StockInitializeCommand> commands) {
+    List<UUID> variantIds =
+        commands.stream()
+            .filter(command -> !hasMissingIds(command))
+            .flatMap(command -> toVariantIds(command).stream())
+            .distinct()
+            .toList();
+
+    Set<UUID> existing = new HashSet<>();
+    for (int from = 0; from < variantIds.size(); from += VARIANT_LOOKUP_CHUNK_SIZE) {
+      List<UUID> chunk =
+          variantIds.subList(from, Math.min(from + VARIANT_LOOKUP_CHUNK_SIZE, variantIds.size()));
+      stockRepository.findAllByVariantIds(chunk).stream()
+          .map(stock -> stock.getVariantId().toUuid())
+          .forEach(existing::add);
+    }
+    return existing;
+  }
+
+  /**
+   * 커맨드에 포함된 옵션(Variant) ID 목록을 추출한다.
+   *
+   * @param command 재고 초기화를 위한 커맨드
+   * @return 옵션 ID 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  private static List<UUID> toVariantIds(StockInitializeCommand command) {
+    return command.productVariants().stream()
+        .map(StockInitializeCommand.ProductVariant::id)
+        .toList();
+  }
+
   /**
    * 옵션(Variant)의 중복 여부를 검증한다.
    *
@@ -1,16 +1,31 @@
 package com.athenhub.stockservice.stock.application.service;
 
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
 import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
 import com.athenhub.stockservice.stock.application.event.external.StockDecreaseSuccessEvent;
+import com.athenhub.stockservice.stock.application.hotspot.HotVariantSignal;
+import com.athenhub.stockservice.stock.application.hotspot.HotVariantTracker;
+import com.athenhub.stockservice.stock.application.metrics.DecreaseStage;
+import com.athenhub.stockservice.stock.application.metrics.StockDecreaseStageMetrics;
 import com.athenhub.stockservice.stock.domain.Stock;
 import com.athenhub.stockservice.stock.domain.StockHistory;
+import com.athenhub.stockservice.stock.domain.exception.InsufficientStockException;
 import com.athenhub.stockservice.stock.domain.repository.StockHistoryRepository;
 import com.athenhub.stockservice.stock.domain.repository.StockRepository;
 import com.athenhub.stockservice.stock.domain.vo.OrderId;
 import com.athenhub.stockservice.stock.domain.vo.ProductVariantId;
 import jakarta.validation.Valid;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -32,6 +47,9 @@ import org.springframework.validation.annotation.Validated;
  *
  * <p>특히 멱등성을 보장하기 위해 동일한 주문 ID에 대해 이미 처리된 기록이 존재한다면 재고 감소 로직을 다시 수행하지 않는다.
  *
+ * <p>각 처리 단계의 소요 시간은 {@link StockDecreaseStageMetrics}에 누적되고, 상품 옵션별 감소 횟수는 {@link
+ * HotVariantTracker}에 기록된다.
+ *
  * @author 김지원
  * @since 1.0.0
  */
@@ -44,6 +62,8 @@ public class StockDecreaseHandler {
   private final StockRepository stockRepository;
   private final StockHistoryRepository stockHistoryRepository;
   private final StockDecreaseSuccessEventPublisher decreaseSuccessEventPublisher;
+  private final StockDecreaseStageMetrics stageMetrics;
+  private final HotVariantTracker hotVariantTracker;
 
   /**
    * 여러 상품의 재고 감소 요청을 하나의 주문 단위로 처리한다.
@@ -67,7 +87,8 @@ public class StockDecreaseHandler {
     OrderId order = OrderId.of(orderId);
 
     // 멱등성 보장: 이미 동일 주문 ID로 감소가 처리되었다면 아무 작업도 수행하지 않음
-    if (stockHistoryRepository.existsByOrderId(order)) {
+    if (stageMetrics.time(
+        DecreaseStage.IDEMPOTENCY_CHECK, () -> stockHistoryRepository.existsByOrderId(order))) {
       return;
     }
 
@@ -76,10 +97,99 @@ public class StockDecreaseHandler {
         requests.stream().map(request -> decreaseSingleStock(order, request)).toList();
 
     // 재고 감소 이력 저장
-    stockHistoryRepository.saveAll(histories);
+    stageMetrics.run(DecreaseStage.HISTORY_SAVE, () -> stockHistoryRepository.saveAll(histories));
 
     // 성공 이벤트 발행 (주문 서비스 등 외부 도메인으로 전달)
-    decreaseSuccessEventPublisher.publish(StockDecreaseSuccessEvent.of(orderId));
+    stageMetrics.run(
+        DecreaseStage.SUCCESS_PUBLISH,
+        () -> decreaseSuccessEventPublisher.publish(StockDecreaseSuccessEvent.of(orderId)));
+
+    stageMetrics.timeCommit();
+  }
+
+  /**
+   * 여러 주문의 재고 감소 요청을 하나의 트랜잭션으로 처리한다.
+   *
+   * <p>메시지를 묶어서 소비하는 Consumer가 주문마다 트랜잭션과 쿼리를 반복하지 않도록 다음과 같이 처리한다:
+   *
+   * <ol>
+   *   <li>같은 주문 ID의 이벤트는 첫 번째만 처리한다
+   *   <li>이미 처리된 주문을 한 번의 IN 쿼리로 걸러낸다 (멱등성)
+   *   <li>대상 재고를 한 번의 IN 쿼리로 조회한 후 주문 순서대로 감소시킨다
+   *   <li>재고 감소 이력을 한 번에 저장하고 주문별 성공 이벤트를 발행한다
+   * </ol>
+   *
+   * <p>하나의 주문이라도 실패하면 전체가 롤백되고 예외가 전파된다. 호출자는 이 경우 주문별로 {@link #decreaseAll(UUID, List)}를 호출하여
+   * 실패한 주문만 재시도/DLQ로 분리해야 한다.
+   *
+   * @param events 재고 감소 요청 이벤트 목록
+   * @return 이번 호출에서 실제로 재고를 감소시킨 주문 ID 목록 (이미 처리된 주문 제외)
+   * @throws InsufficientStockException 재고가 부족한 주문이 포함된 경우
+   * @throws NoSuchElementException 재고가 존재하지 않는 상품 옵션이 포함된 경우
+   */
+  @Transactional
+  public List<UUID> decreaseAllInBatch(List<StockDecreaseBatchEvent> events) {
+
+    Map<UUID, StockDecreaseBatchEvent> byOrder = new LinkedHashMap<>();
+    events.forEach(event -> byOrder.putIfAbsent(event.orderId(), event));
+
+    // 멱등성 보장: 이미 처리된 주문 제외
+    byOrder.keySet().removeAll(
+        stageMetrics.time(
+            DecreaseStage.IDEMPOTENCY_CHECK,
+            () -> new HashSet<>(stockHistoryRepository.findProcessedOrderIds(byOrder.keySet()))));
+    if (byOrder.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, Stock> stocks =
+        stageMetrics.time(DecreaseStage.STOCK_LOOKUP, () -> findStocks(byOrder.values()));
+
+    List<StockHistory> histories = new ArrayList<>();
+    for (StockDecreaseBatchEvent event : byOrder.values()) {
+      OrderId order = OrderId.of(event.orderId());
+      for (StockDecreaseRequest request : event.stockDecreaseRequests()) {
+        Stock stock = stocks.get(request.variantId());
+        if (stock == null) {
+          throw new NoSuchElementException("재고가 존재하지 않습니다: " + request.variantId());
+        }
+        stageMetrics.run(DecreaseStage.STOCK_DECREASE, () -> stock.decrease(request.quantity()));
+        hotVariantTracker.record(HotVariantSignal.DECREMENT, request.variantId());
+        histories.add(StockHistory.outbound(stock, order, request.quantity()));
+      }
+    }
+
+    stageMetrics.run(DecreaseStage.HISTORY_SAVE, () -> stockHistoryRepository.saveAll(histories));
+
+    stageMetrics.run(
+        DecreaseStage.SUCCESS_PUBLISH,
+        () ->
+            byOrder
+                .keySet()
+                .forEach(
+                    orderId ->
+                        decreaseSuccessEventPublisher.publish(
+                            StockDecreaseSuccessEvent.of(orderId))));
+
+    stageMetrics.timeCommit();
+    return List.copyOf(byOrder.keySet());
+  }
+
+  /**
+   * 여러 주문이 요청한 상품 옵션의 재고를 한 번에 조회한다.
+   *
+   * @param events 재고 감소 요청 이벤트 목록
+   * @return 상품 옵션 ID별 재고
+   */
+  private Map<UUID, Stock> findStocks(Collection<StockDecreaseBatchEvent> events) {
+    Set<UUID> variantIds =
+        events.stream()
+            .flatMap(event -> event.stockDecreaseRequests().stream())
+            .map(StockDecreaseRequest::variantId)
+            .collect(Collectors.toSet());
+
+    return stockRepository.findAllByVariantIds(variantIds).stream()
+        .collect(Collectors.toMap(stock -> stock.getVariantId().toUuid(), Function.identity()));
   }
 
   /**
@@ -101,10 +211,16 @@ public class StockDecreaseHandler {
 
     // 재고 엔티티 조회
     Stock stock =
-        stockRepository.findByVariantId(ProductVariantId.of(request.variantId())).orElseThrow();
+        stageMetrics.time(
+            DecreaseStage.STOCK_LOOKUP,
+            () ->
+                stockRepository
+                    .findByVariantId(ProductVariantId.of(request.variantId()))
+                    .orElseThrow());
 
     // 재고 감소 수행 (도메인 규칙에 따라 수량 검증 포함)
-    stock.decrease(request.quantity());
+    stageMetrics.run(DecreaseStage.STOCK_DECREASE, () -> stock.decrease(request.quantity()));
+    hotVariantTracker.record(HotVariantSignal.DECREMENT, request.variantId());
 
     // 재고 감소 이력 생성
     return StockHistory.outbound(stock, orderId, request.quantity());
@@ -0,0 +1,115 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import com.athenhub.stockservice.global.infrastructure.web.ForwardedHeaders;
+import com.athenhub.stockservice.stock.application.importer.StockImportFormat;
+import com.athenhub.stockservice.stock.domain.StockImportCheckpoint;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 파일 가져오기를 백그라운드에서 실행한다.
+ *
+ * <p>업로드 요청 스레드가 대용량 파일 처리가 끝날 때까지 점유되지 않도록, 작업 선점까지만 요청 스레드에서 수행하고 {@link StockImportService}
+ * 실행은 Spring Boot가 관리하는 {@code applicationTaskExecutor}에 위임한다. 실패 시 체크포인트는 실패 상태로 남으며 같은 작업 식별자로
+ * 다시 실행하면 재개된다.
+ *
+ * <p>작업 스레드에는 HTTP 요청이 없으므로, 요청 헤더를 {@link ForwardedHeaders}로 캡처해 작업 스레드의 회원/상품 서비스 호출에 전달한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class StockImportLauncher {
+
+  private final StockImportService stockImportService;
+  private final TaskExecutor taskExecutor;
+
+  /**
+   * 재고 가져오기 실행기를 생성한다.
+   *
+   * @param stockImportService 재고 가져오기 서비스
+   * @param taskExecutor Spring Boot가 관리하는 애플리케이션 작업 실행기
+   */
+  public StockImportLauncher(
+      StockImportService stockImportService,
+      @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+          TaskExecutor taskExecutor) {
+    this.stockImportService = stockImportService;
+    this.taskExecutor = taskExecutor;
+  }
+
+  /**
+   * 업로드된 파일로 가져오기 작업을 선점한 뒤 백그라운드에서 실행한다.
+   *
+   * <p>요청 스레드에서 소속 검증과 작업 선점(소유자, 파일 지문, 실행 중 여부 확인)을 마친 뒤에만 업로드 파일을 작업 파일 위치로 원자적으로
+   * 이동한다. 따라서 거부된 업로드가 실행 중인 작업의 파일을 덮어쓰지 않는다. 거부되거나 이미 완료된 작업이면 업로드 파일을 삭제한다.
+   *
+   * @param accessContext 가져오기를 요청한 사용자의 접근 주체 및 소속 정보
+   * @param jobId 작업 식별자
+   * @param upload 업로드된 임시 파일 경로
+   * @param target 작업 파일 경로
+   * @param format 파일 형식
+   * @throws com.athenhub.stockservice.stock.application.exception.StockApplicationException 작업 선점이
+   *     거부된 경우
+   * @throws UncheckedIOException 업로드 파일 이동에 실패한 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void launch(
+      AccessContext accessContext,
+      String jobId,
+      Path upload,
+      Path target,
+      StockImportFormat format) {
+    StockImportCheckpoint checkpoint;
+    try {
+      checkpoint = stockImportService.claim(accessContext, jobId, upload, target, format);
+    } catch (RuntimeException e) {
+      deleteQuietly(upload);
+      throw e;
+    }
+
+    if (checkpoint.isCompleted()) {
+      log.info("[STOCK_IMPORT_SKIPPED] jobId={} reason=already-completed", jobId);
+      deleteQuietly(upload);
+      return;
+    }
+
+    ForwardedHeaders headers = ForwardedHeaders.capture();
+    try {
+      Files.move(
+          upload, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      taskExecutor.execute(() -> headers.run(() -> run(accessContext, jobId, target, format)));
+    } catch (IOException | RuntimeException e) {
+      deleteQuietly(upload);
+      stockImportService.markFailed(jobId);
+      throw e instanceof IOException io ? new UncheckedIOException(io) : (RuntimeException) e;
+    }
+  }
+
+  private void run(AccessContext accessContext, String jobId, Path file, StockImportFormat format) {
+    try {
+      stockImportService.importFile(accessContext, jobId, file, format);
+    } catch (RuntimeException e) {
+      log.error("[STOCK_IMPORT_ABORTED] jobId={} file={}", jobId, file, e);
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("[STOCK_IMPORT_UPLOAD_CLEANUP_FAILED] file={}", file, e);
+    }
+  }
+}
@@ -0,0 +1,432 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterResponse.ProductResult;
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterValidation;
+import com.athenhub.stockservice.stock.application.dto.StockImportResult;
+import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
+import com.athenhub.stockservice.stock.application.exception.ApplicationErrorCode;
+import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
+import com.athenhub.stockservice.stock.application.importer.ChannelLineReader;
+import com.athenhub.stockservice.stock.application.importer.StockImportFingerprint;
+import com.athenhub.stockservice.stock.application.importer.StockImportFormat;
+import com.athenhub.stockservice.stock.application.importer.StockImportProgress;
+import com.athenhub.stockservice.stock.application.importer.StockImportProgressRegistry;
+import com.athenhub.stockservice.stock.application.importer.StockImportProperties;
+import com.athenhub.stockservice.stock.application.importer.StockImportRecord;
+import com.athenhub.stockservice.stock.application.importer.StockImportRecordParser;
+import com.athenhub.stockservice.stock.domain.StockImportCheckpoint;
+import com.athenhub.stockservice.stock.domain.StockImportStatus;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.domain.repository.StockImportCheckpointRepository;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 대용량 재고 파일(CSV / NDJSON)을 스트리밍 방식으로 읽어 초기 재고를 등록하는 애플리케이션 서비스이다.
+ *
+ * <p>파일은 {@link ChannelLineReader}로 한 줄씩 읽으며, {@link StockImportProperties#getChunkSize()} 라인 이상 모인
+ * 뒤 상품 ID가 바뀌는 지점마다 청크를 커밋한다. 소속 검증은 작업 선점 시 한 번 수행하고, 청크마다 다음을 수행한다.
+ *
+ * <ul>
+ *   <li>트랜잭션 밖에서 청크에 포함된 라인을 상품 단위로 묶어 {@link
+ *       StockRegistrationFacade#validateProducts(AccessContext, List)}로 상품 접근 권한·옵션 일관성 검증
+ *   <li>하나의 트랜잭션에서 검증을 통과한 상품을 등록하고, 다음에 읽을 파일 위치와 누적 건수를 {@link StockImportCheckpoint}에 저장
+ * </ul>
+ *
+ * <p>한 상품의 라인은 파일에서 연속되어야 한다. 연속된 라인은 항상 같은 청크에 포함되어 하나의 {@link StockInitializeCommand}가 되지만,
+ * 떨어져 있는 라인은 별도의 커맨드가 되어 옵션 일관성 검증에서 실패한다.
+ *
+ * <p>재고 등록과 체크포인트 갱신이 같은 트랜잭션에서 커밋되므로, 작업이 중단된 뒤 같은 작업 식별자로 다시 실행하면 마지막으로 커밋된 청크 이후부터
+ * 중복 없이 재개된다. 작업은 요청 스레드에서 {@link #claim(AccessContext, String, Path, Path, StockImportFormat)}으로
+ * 선점한 뒤 {@link #importFile(AccessContext, String, Path, StockImportFormat)}으로 실행한다. 선점 시 체크포인트의
+ * 소유자와 파일 지문({@link StockImportFingerprint}), 실행 중 여부를 확인하므로 다른 사용자의 작업이나 다른 파일, 실행 중인 작업은
+ * 거부된다. 메모리에는 한 청크 분량의 레코드만 유지된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(StockImportProperties.class)
+public class StockImportService {
+
+  private final StockRegistrationFacade stockRegistrationFacade;
+  private final StockImportCheckpointRepository checkpointRepository;
+  private final StockImportRecordParser recordParser;
+  private final StockImportProgressRegistry progressRegistry;
+  private final StockImportProperties importProperties;
+  private final TransactionTemplate transactionTemplate;
+
+  /**
+   * 재고 가져오기 서비스를 생성한다.
+   *
+   * @param stockRegistrationFacade 재고 등록 퍼사드
+   * @param checkpointRepository 체크포인트 Repository
+   * @param recordParser 라인 파서
+   * @param progressRegistry 진행 상황 레지스트리
+   * @param importProperties 가져오기 설정
+   * @param transactionManager 청크 단위 트랜잭션에 사용할 트랜잭션 매니저
+   */
+  public StockImportService(
+      StockRegistrationFacade stockRegistrationFacade,
+      StockImportCheckpointRepository checkpointRepository,
+      StockImportRecordParser recordParser,
+      StockImportProgressRegistry progressRegistry,
+      StockImportProperties importProperties,
+      PlatformTransactionManager transactionManager) {
+    this.stockRegistrationFacade = stockRegistrationFacade;
+    this.checkpointRepository = checkpointRepository;
+    this.recordParser = recordParser;
+    this.progressRegistry = progressRegistry;
+    this.importProperties = importProperties;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+  }
+
+  /**
+   * 가져오기 작업을 선점한다.
+   *
+   * <p>요청 스레드에서 호출해야 한다. 사용자의 소속을 검증한 뒤, 체크포인트가 없으면 새로 만들고 있으면 다음을 확인한 뒤 재개 상태로 변경한다.
+   *
+   * <ul>
+   *   <li>작업을 시작한 사용자인지
+   *   <li>같은 파일 내용인지 ({@link StockImportFingerprint})
+   *   <li>다른 실행이 {@link StockImportProperties#getRunningLease()} 이내에 체크포인트를 갱신하지 않았는지
+   * </ul>
+   *
+   * <p>이미 완료된 작업이면 상태를 바꾸지 않고 그대로 반환한다.
+   *
+   * @param accessContext 가져오기를 요청한 사용자의 접근 주체 및 소속 정보
+   * @param jobId 작업 식별자
+   * @param file 지문을 계산할 파일 경로
+   * @param source 체크포인트에 기록할 가져오기 대상 파일 경로
+   * @param format 파일 형식
+   * @return 선점한 체크포인트
+   * @throws StockApplicationException 사용자가 허브/벤더에 소속되어 있지 않은 경우, 다른 사용자가 시작한 작업인 경우, 다른 파일로
+   *     시작된 작업인 경우, 또는 작업이 실행 중인 경우
+   * @throws UncheckedIOException 파일 읽기에 실패한 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public StockImportCheckpoint claim(
+      AccessContext accessContext,
+      String jobId,
+      Path file,
+      Path source,
+      StockImportFormat format) {
+    stockRegistrationFacade.verifyMembership(accessContext);
+    String fingerprint = fingerprintOf(file);
+    LocalDateTime leaseStart = LocalDateTime.now().minus(importProperties.getRunningLease());
+
+    try {
+      return transactionTemplate.execute(
+          status -> {
+            Optional<StockImportCheckpoint> existing = checkpointRepository.findById(jobId);
+            if (existing.isEmpty()) {
+              return checkpointRepository.saveAndFlush(
+                  StockImportCheckpoint.start(
+                      jobId,
+                      accessContext.memberId(),
+                      source.toString(),
+                      format.name(),
+                      fingerprint));
+            }
+
+            StockImportCheckpoint checkpoint = existing.get();
+            verifyClaimable(checkpoint, accessContext, fingerprint, leaseStart);
+            if (!checkpoint.isCompleted()) {
+              checkpoint.resume();
+              checkpointRepository.flush();
+            }
+            return checkpoint;
+          });
+    } catch (DataIntegrityViolationException | OptimisticLockingFailureException e) {
+      log.warn("[STOCK_IMPORT_REJECTED] jobId={} reason=concurrent-start", jobId);
+      throw new StockApplicationException(ApplicationErrorCode.IMPORT_ALREADY_RUNNING, jobId);
+    }
+  }
+
+  /**
+   * {@link #claim(AccessContext, String, Path, Path, StockImportFormat)}로 선점한 재고 파일 가져오기를 실행한다.
+   *
+   * <p>체크포인트 위치부터 재개하며, 이미 완료된 작업이면 아무것도 하지 않고 기존 결과를 반환한다. 소속 검증은 선점 시 요청 스레드에서 끝났으므로
+   * 다시 수행하지 않으며, 비동기 작업 스레드에서도 실행할 수 있다.
+   *
+   * @param accessContext 가져오기를 요청한 사용자의 접근 주체 및 소속 정보
+   * @param jobId 작업 식별자
+   * @param file 가져올 파일 경로
+   * @param format 파일 형식
+   * @return 누적 가져오기 결과
+   * @throws IllegalStateException 선점되지 않은 작업인 경우
+   * @throws UncheckedIOException 파일 읽기에 실패한 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public StockImportResult importFile(
+      AccessContext accessContext, String jobId, Path file, StockImportFormat format) {
+    StockImportCheckpoint checkpoint =
+        transactionTemplate.execute(
+            status ->
+                checkpointRepository
+                    .findById(jobId)
+                    .orElseThrow(() -> new IllegalStateException("선점되지 않은 작업입니다: " + jobId)));
+
+    if (checkpoint.isCompleted()) {
+      log.info("[STOCK_IMPORT_SKIPPED] jobId={} reason=already-completed", jobId);
+      return StockImportResult.from(checkpoint);
+    }
+
+    try (ChannelLineReader reader = ChannelLineReader.open(file, checkpoint.getByteOffset())) {
+      StockImportProgress progress =
+          progressRegistry.start(jobId, reader.size(), checkpoint.getByteOffset());
+      log.info(
+          "[STOCK_IMPORT_STARTED] jobId={} file={} format={} offset={} size={}",
+          jobId,
+          file,
+          format,
+          checkpoint.getByteOffset(),
+          reader.size());
+
+      try {
+        StockImportCheckpoint result = readChunks(accessContext, jobId, reader, format, progress);
+        progressRegistry.finish(progress, StockImportStatus.COMPLETED);
+        log.info(
+            "[STOCK_IMPORT_COMPLETED] jobId={} lines={} malformed={} succeeded={} failed={}",
+            jobId,
+            result.getProcessedLines(),
+            result.getMalformedLines(),
+            result.getSucceededProducts(),
+            result.getFailedProducts());
+        return StockImportResult.from(result);
+      } catch (RuntimeException | IOException e) {
+        log.error(
+            "[STOCK_IMPORT_FAILED] jobId={} offset={}", jobId, progress.snapshot().byteOffset(), e);
+        progressRegistry.finish(progress, StockImportStatus.FAILED);
+        markFailed(jobId);
+        throw e;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 파일 끝까지 청크 단위로 읽고 커밋한다.
+   *
+   * <p>청크가 {@link StockImportProperties#getChunkSize()} 라인 이상 모이면, 상품 ID가 바뀌는 라인 직전에서 청크를 커밋한다.
+   * 따라서 한 상품의 연속된 라인이 두 청크로 나뉘지 않으며, 체크포인트는 항상 상품이 시작되는 라인을 가리킨다.
+   *
+   * @return 마지막 체크포인트
+   */
+  private StockImportCheckpoint readChunks(
+      AccessContext accessContext,
+      String jobId,
+      ChannelLineReader reader,
+      StockImportFormat format,
+      StockImportProgress progress)
+      throws IOException {
+
+    int chunkSize = importProperties.getChunkSize();
+    List<StockImportRecord> records = new ArrayList<>(chunkSize);
+    long chunkStart = reader.position();
+    long lines = 0;
+    long malformed = 0;
+    UUID lastProductId = null;
+
+    long lineStart = chunkStart;
+    String line;
+    while ((line = reader.readLine()) != null) {
+      StockImportRecord record = null;
+      boolean malformedLine = false;
+      try {
+        record = recordParser.parse(format, line);
+      } catch (IllegalArgumentException e) {
+        malformedLine = true;
+        log.warn(
+            "[STOCK_IMPORT_MALFORMED_LINE] jobId={} offset={} reason={}",
+            jobId,
+            lineStart,
+            e.getMessage());
+      }
+
+      if (record != null
+          && lines >= chunkSize
+          && !Objects.equals(record.productId(), lastProductId)) {
+        commitChunk(
+            accessContext, jobId, records, chunkStart, lineStart, lines, malformed, progress);
+        records.clear();
+        chunkStart = lineStart;
+        lines = 0;
+        malformed = 0;
+      }
+
+      lines++;
+      if (malformedLine) {
+        malformed++;
+      }
+      if (record != null) {
+        records.add(record);
+        lastProductId = record.productId();
+      }
+      lineStart = reader.position();
+    }
+
+    commitChunk(
+        accessContext, jobId, records, chunkStart, reader.position(), lines, malformed, progress);
+    return transactionTemplate.execute(
+        status -> {
+          StockImportCheckpoint checkpoint = checkpointRepository.findById(jobId).orElseThrow();
+          checkpoint.complete();
+          return checkpoint;
+        });
+  }
+
+  /**
+   * 한 청크의 상품을 검증한 뒤, 재고 등록과 체크포인트 갱신을 하나의 트랜잭션으로 커밋한다.
+   *
+   * <p>같은 청크 안에서 같은 상품의 라인은 하나의 {@link StockInitializeCommand}로 묶인다. 상품 서비스 호출이 DB 커넥션과 행 잠금을
+   * 붙잡지 않도록, 상품 검증은 트랜잭션을 열기 전에 수행하고 트랜잭션에서는 배치 INSERT와 체크포인트 갱신만 수행한다.
+   */
+  private void commitChunk(
+      AccessContext accessContext,
+      String jobId,
+      List<StockImportRecord> records,
+      long chunkStart,
+      long nextOffset,
+      long lines,
+      long malformed,
+      StockImportProgress progress) {
+
+    List<StockInitializeCommand> commands = toCommands(records);
+    BulkRegisterValidation validation =
+        commands.isEmpty()
+            ? null
+            : stockRegistrationFacade.validateProducts(accessContext, commands);
+
+    List<ProductResult> results;
+    try {
+      results = registerAndAdvance(jobId, validation, nextOffset, lines, malformed);
+    } catch (DataIntegrityViolationException e) {
+      log.info(
+          "[STOCK_IMPORT_CHUNK_RETRY] jobId={} offset={} reason=concurrent", jobId, chunkStart);
+      results = registerAndAdvance(jobId, validation, nextOffset, lines, malformed);
+    }
+
+    long succeeded = results.stream().filter(ProductResult::success).count();
+    progressRegistry.chunkCommitted(
+        progress, chunkStart, nextOffset, lines, malformed, succeeded, results.size() - succeeded);
+
+    results.stream()
+        .filter(result -> !result.success())
+        .forEach(
+            result ->
+                log.warn(
+                    "[STOCK_IMPORT_PRODUCT_FAILED] jobId={} productId={} reason={}",
+                    jobId,
+                    result.productId(),
+                    result.reason()));
+  }
+
+  /**
+   * 검증을 통과한 상품을 등록하고 체크포인트를 갱신하는 하나의 트랜잭션을 실행한다.
+   *
+   * <p>다른 요청이 같은 옵션을 동시에 등록해 재고 유니크 제약을 위반하면 트랜잭션 전체가 롤백되고 {@link
+   * DataIntegrityViolationException}이 전파된다. 호출 측이 다시 실행하면 먼저 등록된 옵션의 상품은 실패 결과로 기록된다.
+   */
+  private List<ProductResult> registerAndAdvance(
+      String jobId,
+      BulkRegisterValidation validation,
+      long nextOffset,
+      long lines,
+      long malformed) {
+    return transactionTemplate.execute(
+        status -> {
+          List<ProductResult> registered =
+              validation == null
+                  ? List.<ProductResult>of()
+                  : stockRegistrationFacade.registerValidated(validation).results();
+          long succeeded = registered.stream().filter(ProductResult::success).count();
+
+          StockImportCheckpoint checkpoint = checkpointRepository.findById(jobId).orElseThrow();
+          checkpoint.advance(
+              nextOffset, lines, malformed, succeeded, registered.size() - succeeded);
+          return registered;
+        });
+  }
+
+  private static void verifyClaimable(
+      StockImportCheckpoint checkpoint,
+      AccessContext accessContext,
+      String fingerprint,
+      LocalDateTime leaseStart) {
+    String jobId = checkpoint.getJobId();
+    if (!checkpoint.isOwnedBy(accessContext.memberId())) {
+      log.warn(
+          "[STOCK_IMPORT_REJECTED] jobId={} memberId={} reason=not-owner",
+          jobId,
+          accessContext.memberId());
+      throw new StockApplicationException(ApplicationErrorCode.IMPORT_NOT_OWNER, jobId);
+    }
+    if (!checkpoint.matches(fingerprint)) {
+      log.warn("[STOCK_IMPORT_REJECTED] jobId={} reason=source-mismatch", jobId);
+      throw new StockApplicationException(ApplicationErrorCode.IMPORT_SOURCE_MISMATCH, jobId);
+    }
+    if (checkpoint.isRunningSince(leaseStart)) {
+      log.warn("[STOCK_IMPORT_REJECTED] jobId={} reason=running", jobId);
+      throw new StockApplicationException(ApplicationErrorCode.IMPORT_ALREADY_RUNNING, jobId);
+    }
+  }
+
+  private static String fingerprintOf(Path file) {
+    try {
+      return StockImportFingerprint.of(file);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * 작업을 실패 상태로 변경한다. 선점한 작업을 실행하지 못한 경우 임대 시간을 기다리지 않고 재개할 수 있도록 호출한다.
+   *
+   * @param jobId 작업 식별자
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void markFailed(String jobId) {
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> checkpointRepository.findById(jobId).ifPresent(StockImportCheckpoint::fail));
+    } catch (RuntimeException e) {
+      log.warn("[STOCK_IMPORT_MARK_FAILED_ERROR] jobId={}", jobId, e);
+    }
+  }
+
+  private static List<StockInitializeCommand> toCommands(List<StockImportRecord> records) {
+    Map<UUID, List<StockInitializeCommand.ProductVariant>> variantsByProduct =
+        new LinkedHashMap<>();
+    for (StockImportRecord record : records) {
+      variantsByProduct
+          .computeIfAbsent(record.productId(), key -> new ArrayList<>())
+          .add(new StockInitializeCommand.ProductVariant(record.variantId(), record.quantity()));
+    }
+
+    return variantsByProduct.entrySet().stream()
+        .map(entry -> new StockInitializeCommand(entry.getKey(), entry.getValue()))
+        .toList();
+  }
+}
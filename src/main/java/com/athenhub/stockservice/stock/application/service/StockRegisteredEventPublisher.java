@@ -1,6 +1,7 @@
 package com.athenhub.stockservice.stock.application.service;
 
 import com.athenhub.stockservice.stock.application.event.external.StockRegisteredEvent;
+import java.util.List;
 
 /**
  * 재고 등록 완료 이벤트를 발행하는 Publisher 인터페이스이다.
@@ -22,4 +23,18 @@ public interface StockRegisteredEventPublisher {
    * @since 1.0.0
    */
   void publish(StockRegisteredEvent event);
+
+  /**
+   * 여러 재고 등록 완료 이벤트를 한 번에 발행한다.
+   *
+   * <p>기본 구현은 이벤트마다 {@link #publish(StockRegisteredEvent)}를 호출하며, 구현체는 채널 재사용 등 묶음 발행에 유리한
+   * 방식으로 재정의할 수 있다.
+   *
+   * @param events 재고 등록 완료 이벤트 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  default void publishAll(List<StockRegisteredEvent> events) {
+    events.forEach(this::publish);
+  }
 }
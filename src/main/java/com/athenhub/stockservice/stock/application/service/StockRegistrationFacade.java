@@ -2,17 +2,24 @@ package com.athenhub.stockservice.stock.application.service;
 
 import static com.athenhub.stockservice.stock.application.exception.ApplicationErrorCode.REGISTER_NOT_ALLOWED;
 
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterResponse;
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterValidation;
 import com.athenhub.stockservice.stock.application.dto.RegisterResponse;
 import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
 import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
 import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.domain.dto.ProductValidationResult;
 import com.athenhub.stockservice.stock.domain.dto.ProductVariantMatchCommand;
 import com.athenhub.stockservice.stock.domain.service.BelongsToValidator;
+import com.athenhub.stockservice.stock.domain.service.ProductBatchValidator;
 import com.athenhub.stockservice.stock.domain.service.ProductAccessPermissionValidator;
 import com.athenhub.stockservice.stock.domain.service.ProductVariantConsistencyValidator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 
 /**
@@ -26,6 +33,7 @@ import org.springframework.stereotype.Service;
  * @author 김지원
  * @since 1.0.0
  */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class StockRegistrationFacade {
@@ -33,6 +41,7 @@ public class StockRegistrationFacade {
   private final ProductAccessPermissionValidator permissionValidator;
   private final BelongsToValidator belongsToValidator;
   private final ProductVariantConsistencyValidator productVariantConsistencyValidator;
+  private final ProductBatchValidator productBatchValidator;
   private final RegisterStockService registerStockService;
 
   /**
@@ -61,6 +70,87 @@ public class StockRegistrationFacade {
     return registerStockService.register(command);
   }
 
+  /**
+   * 여러 상품의 재고를 한 번에 등록한다.
+   *
+   * <p>소속 검증은 요청 전체에 대해 한 번 수행하며, 실패 시 전체 요청이 거부된다. 상품 접근 권한과 옵션 일관성은 {@link
+   * ProductBatchValidator}를 통해 묶음 단위로 검증하고, 검증에 실패한 상품은 실패 결과로 기록한 뒤 나머지 상품만 {@link
+   * RegisterStockService#registerAll(List)}에 위임한다.
+   *
+   * <p>기존 재고 조회와 배치 INSERT 사이에 다른 요청이 같은 옵션을 먼저 등록하면 재고 유니크 제약 위반으로 등록 트랜잭션 전체가 롤백된다. 이
+   * 경우 한 번 더 등록을 시도하며, 재시도에서는 먼저 등록된 옵션이 기존 재고로 조회되므로 해당 상품만 실패 결과로 기록된다.
+   *
+   * @param accessContext 접근 주체 및 소속 정보
+   * @param commands 재고 초기화 요청 정보 목록
+   * @return 상품별 처리 결과를 포함한 대량 등록 응답
+   * @throws StockApplicationException 사용자가 허브/벤더에 소속되어 있지 않은 경우 발생
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public BulkRegisterResponse registerAll(
+      AccessContext accessContext, List<StockInitializeCommand> commands) {
+    validateBelongToOrganization(accessContext);
+    BulkRegisterValidation validation = validateProducts(accessContext, commands);
+    try {
+      return registerValidated(validation);
+    } catch (DataIntegrityViolationException e) {
+      log.info("[BULK_REGISTER_RETRY] products={} reason=concurrent", commands.size());
+      return registerValidated(validation);
+    }
+  }
+
+  /**
+   * 여러 상품의 접근 권한과 옵션 일관성을 {@link ProductBatchValidator}로 묶음 검증한다.
+   *
+   * <p>상품 서비스 호출을 동반하므로 DB 트랜잭션 밖에서 호출해야 한다. 소속 검증은 수행하지 않으며, 호출 측에서 {@link
+   * #verifyMembership(AccessContext)}로 먼저 확인해야 한다.
+   *
+   * @param accessContext 접근 주체 및 소속 정보
+   * @param commands 재고 초기화 요청 정보 목록
+   * @return 상품별 검증 결과
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public BulkRegisterValidation validateProducts(
+      AccessContext accessContext, List<StockInitializeCommand> commands) {
+    List<ProductVariantMatchCommand> matchCommands =
+        commands.stream()
+            .map(StockRegistrationFacade::convertToProductVariantMatchCommand)
+            .toList();
+    Map<UUID, ProductValidationResult> validations =
+        productBatchValidator.validateAll(accessContext, matchCommands);
+    return new BulkRegisterValidation(commands, validations);
+  }
+
+  /**
+   * 검증을 통과한 상품만 {@link RegisterStockService#registerAll(List)}에 위임해 등록하고, 검증 실패 결과와 합쳐 반환한다.
+   *
+   * <p>외부 서비스를 호출하지 않으므로 호출 측 트랜잭션 안에서 실행해도 된다. 동시에 같은 옵션이 등록되면 {@link
+   * DataIntegrityViolationException}이 전파되므로, 호출 측은 트랜잭션을 새로 열어 다시 호출해야 한다.
+   *
+   * @param validation {@link #validateProducts(AccessContext, List)}의 검증 결과
+   * @return 상품별 처리 결과를 포함한 대량 등록 응답
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public BulkRegisterResponse registerValidated(BulkRegisterValidation validation) {
+    return validation.merge(registerStockService.registerAll(validation.validCommands()));
+  }
+
+  /**
+   * 사용자가 요청한 조직(Hub/Vendor)에 소속되어 있는지 검증한다.
+   *
+   * <p>회원 서비스 호출에 요청 헤더가 필요하므로 요청 스레드에서 호출해야 한다.
+   *
+   * @param accessContext 접근 주체 및 소속 정보
+   * @throws StockApplicationException 소속되지 않은 경우 발생
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void verifyMembership(AccessContext accessContext) {
+    validateBelongToOrganization(accessContext);
+  }
+
   /**
    * 사용자가 해당 조직(Hub/Vendor)에 소속되어 있는지 검증한다.
    *
@@ -0,0 +1,144 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import com.athenhub.stockservice.stock.application.dto.StockReservationResult;
+import com.athenhub.stockservice.stock.application.dto.StockReservationResult.Status;
+import com.athenhub.stockservice.stock.domain.exception.InsufficientStockException;
+import com.athenhub.stockservice.stock.domain.repository.StockHistoryRepository;
+import com.athenhub.stockservice.stock.domain.vo.OrderId;
+import jakarta.validation.ConstraintViolationException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 주문의 재고를 동기적으로 예약(차감)하고 결과를 즉시 반환하는 애플리케이션 서비스이다.
+ *
+ * <p>비동기 재고 감소 흐름은 주문 서비스가 {@code StockDecreaseSuccessEvent}를 받을 때까지 기다리는 시간에 상한이 없다. 결제 화면처럼
+ * 즉시 결과가 필요한 경우 이 서비스를 통해 같은 도메인 로직({@link StockDecreaseHandler#decreaseAll(UUID, List)})을
+ * 실행하고 결과를 돌려준다.
+ *
+ * <p>멱등성은 비동기 흐름과 동일하게 주문 ID 기준으로 보장된다. 동기 예약 후 같은 주문의 {@code order.created} 이벤트가 도착하더라도
+ * 재고는 다시 차감되지 않는다.
+ *
+ * <p>응답 기한(deadline) 처리:
+ *
+ * <ul>
+ *   <li>처리 시작 시점에 기한이 지났으면 재고를 건드리지 않고 {@link Status#EXPIRED}를 반환한다. 호출자는 이미 응답 대기를 포기했기 때문이다.
+ *   <li>중복 확인 후 트랜잭션을 시작하기 전, 그리고 재고 차감 후 커밋하기 전에 밀리초 단위로 기한을 다시 확인한다. 커밋 전에 기한이 지났으면
+ *       롤백하고 {@link Status#EXPIRED}를 반환하므로, 기한이 지난 뒤에 예약이 확정되지 않는다.
+ *   <li>트랜잭션 타임아웃은 초 단위이므로 남은 시간을 올림하여 설정한다. 밀리초 단위 확인 사이의 락 대기 등이 끝없이 길어지지 않도록 하는 상한으로만
+ *       사용한다.
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+public class StockReservationService {
+
+  private final StockDecreaseHandler stockDecreaseHandler;
+  private final StockHistoryRepository stockHistoryRepository;
+  private final PlatformTransactionManager transactionManager;
+
+  /**
+   * 재고 예약 서비스를 생성한다.
+   *
+   * @param stockDecreaseHandler 재고 감소 핸들러
+   * @param stockHistoryRepository 재고 이력 Repository
+   * @param transactionManager 기한 기반 트랜잭션에 사용할 트랜잭션 매니저
+   */
+  public StockReservationService(
+      StockDecreaseHandler stockDecreaseHandler,
+      StockHistoryRepository stockHistoryRepository,
+      PlatformTransactionManager transactionManager) {
+    this.stockDecreaseHandler = stockDecreaseHandler;
+    this.stockHistoryRepository = stockHistoryRepository;
+    this.transactionManager = transactionManager;
+  }
+
+  /**
+   * 주문의 재고를 예약한다.
+   *
+   * @param orderId 주문 ID
+   * @param requests 재고 감소 요청 목록
+   * @param deadline 응답 기한
+   * @return 예약 결과
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public StockReservationResult reserve(
+      UUID orderId, List<StockDecreaseRequest> requests, Instant deadline) {
+    Duration remaining = Duration.between(Instant.now(), deadline);
+    if (remaining.isNegative() || remaining.isZero()) {
+      return StockReservationResult.failed(orderId, Status.EXPIRED, "deadline exceeded");
+    }
+
+    if (stockHistoryRepository.existsByOrderId(OrderId.of(orderId))) {
+      return StockReservationResult.of(orderId, Status.ALREADY_RESERVED);
+    }
+
+    remaining = Duration.between(Instant.now(), deadline);
+    if (remaining.isNegative() || remaining.isZero()) {
+      return StockReservationResult.failed(orderId, Status.EXPIRED, "deadline exceeded");
+    }
+
+    TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+    transactionTemplate.setTimeout(timeoutSeconds(remaining));
+
+    try {
+      transactionTemplate.executeWithoutResult(
+          status -> {
+            stockDecreaseHandler.decreaseAll(orderId, requests);
+            checkDeadline(deadline);
+          });
+      return StockReservationResult.of(orderId, Status.RESERVED);
+
+    } catch (InsufficientStockException e) {
+      return StockReservationResult.failed(orderId, Status.INSUFFICIENT_STOCK, e.getMessage());
+    } catch (NoSuchElementException e) {
+      return StockReservationResult.failed(orderId, Status.STOCK_NOT_FOUND, e.getMessage());
+    } catch (ConstraintViolationException | IllegalArgumentException e) {
+      return StockReservationResult.failed(orderId, Status.INVALID_REQUEST, e.getMessage());
+    } catch (OptimisticLockingFailureException e) {
+      return StockReservationResult.failed(orderId, Status.CONFLICT, e.getMessage());
+    } catch (TransactionTimedOutException | QueryTimeoutException e) {
+      log.warn("[RESERVE_TIMED_OUT] orderId={} remaining={}", orderId, remaining);
+      return StockReservationResult.failed(orderId, Status.EXPIRED, e.getMessage());
+    }
+  }
+
+  /**
+   * 커밋 전에 기한이 지났는지 확인한다.
+   *
+   * @param deadline 응답 기한
+   * @throws TransactionTimedOutException 기한이 지난 경우 (트랜잭션은 롤백된다)
+   */
+  private static void checkDeadline(Instant deadline) {
+    Instant now = Instant.now();
+    if (!now.isBefore(deadline)) {
+      throw new TransactionTimedOutException(
+          "reservation deadline exceeded by " + Duration.between(deadline, now).toMillis() + "ms");
+    }
+  }
+
+  /**
+   * 남은 시간을 트랜잭션 타임아웃(초)으로 변환한다. 트랜잭션 타임아웃은 초 단위이므로 올림하며, 최소 1초이다.
+   *
+   * @param remaining 기한까지 남은 시간
+   * @return 트랜잭션 타임아웃(초)
+   */
+  private static int timeoutSeconds(Duration remaining) {
+    return (int) Math.max(1, (remaining.toMillis() + 999) / 1000);
+  }
+}
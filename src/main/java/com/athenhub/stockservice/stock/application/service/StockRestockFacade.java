@@ -0,0 +1,100 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import static com.athenhub.stockservice.stock.application.exception.ApplicationErrorCode.RESTOCK_NOT_ALLOWED;
+
+import com.athenhub.stockservice.stock.application.dto.RestockCommand;
+import com.athenhub.stockservice.stock.application.dto.RestockResponse;
+import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.domain.repository.StockReceiptRepository;
+import com.athenhub.stockservice.stock.domain.repository.StockRepository;
+import com.athenhub.stockservice.stock.domain.service.BelongsToValidator;
+import com.athenhub.stockservice.stock.domain.service.ProductAccessPermissionValidator;
+import com.athenhub.stockservice.stock.domain.vo.ReceiptId;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+/**
+ * HTTP 재입고 요청을 위한 퍼사드(Facade) 서비스이다.
+ *
+ * <p>요청자의 소속(Hub/Vendor)과 재입고 대상 상품에 대한 접근 권한을 검증한 뒤 실제 재입고 처리를 {@link StockRestockService}에
+ * 위임한다. 메시지 기반 입고 전표는 신뢰된 창고 시스템에서 발행되므로 이 퍼사드를 거치지 않는다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockRestockFacade {
+
+  private final BelongsToValidator belongsToValidator;
+  private final ProductAccessPermissionValidator permissionValidator;
+  private final StockRepository stockRepository;
+  private final StockReceiptRepository stockReceiptRepository;
+  private final StockRestockService stockRestockService;
+
+  /**
+   * 재입고를 수행한다.
+   *
+   * <p>같은 전표가 동시에 요청되어 전표 저장이 충돌한 경우, 먼저 커밋된 요청이 재고를 반영한 것이므로 이미 처리된 전표와 같은 응답({@code
+   * applied=false})을 반환한다.
+   *
+   * @param accessContext 접근 주체 및 소속 정보
+   * @param command 재입고 커맨드
+   * @return 재입고 처리 결과
+   * @throws StockApplicationException 소속 또는 상품 접근 권한 검증에 실패한 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public RestockResponse restock(AccessContext accessContext, RestockCommand command) {
+    if (!belongsToValidator.belongsTo(accessContext)) {
+      throw new StockApplicationException(
+          RESTOCK_NOT_ALLOWED, "현재 사용자는 해당 허브/벤더에 소속되어 있지 않습니다.");
+    }
+    validateProductAccessPermission(accessContext, command);
+
+    try {
+      return stockRestockService.restock(command);
+    } catch (DataIntegrityViolationException e) {
+      if (!stockReceiptRepository.existsById(ReceiptId.of(command.receiptId()))) {
+        throw e;
+      }
+      log.info("[RESTOCK_DUPLICATED] receiptId={} reason=concurrent", command.receiptId());
+      return RestockResponse.alreadyApplied(command.receiptId());
+    }
+  }
+
+  /**
+   * 재입고 대상 옵션이 속한 모든 상품에 대해 접근 권한이 있는지 검증한다.
+   *
+   * <p>재고가 존재하지 않는 옵션은 {@link StockRestockService}에서 거부되므로 여기서는 확인하지 않는다.
+   *
+   * @param accessContext 접근 주체 및 소속 정보
+   * @param command 재입고 커맨드
+   * @throws StockApplicationException 접근 권한이 없는 상품이 포함된 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  private void validateProductAccessPermission(
+      AccessContext accessContext, RestockCommand command) {
+    List<UUID> variantIds =
+        command.lines().stream().map(RestockCommand.Line::variantId).distinct().toList();
+    Set<UUID> productIds =
+        stockRepository.findAllByVariantIds(variantIds).stream()
+            .map(stock -> stock.getProductId().toUuid())
+            .collect(Collectors.toSet());
+
+    for (UUID productId : productIds) {
+      if (!permissionValidator.canAccess(accessContext, productId)) {
+        throw new StockApplicationException(RESTOCK_NOT_ALLOWED, "해당 상품에 대한 재입고 권한이 없습니다.");
+      }
+    }
+  }
+}
@@ -0,0 +1,145 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import com.athenhub.stockservice.stock.application.dto.RestockCommand;
+import com.athenhub.stockservice.stock.application.dto.RestockResponse;
+import com.athenhub.stockservice.stock.application.exception.ApplicationErrorCode;
+import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
+import com.athenhub.stockservice.stock.domain.Stock;
+import com.athenhub.stockservice.stock.domain.StockHistory;
+import com.athenhub.stockservice.stock.domain.StockReceipt;
+import com.athenhub.stockservice.stock.domain.repository.StockBulkRepository;
+import com.athenhub.stockservice.stock.domain.repository.StockReceiptRepository;
+import com.athenhub.stockservice.stock.domain.repository.StockRepository;
+import com.athenhub.stockservice.stock.domain.vo.ReceiptId;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 입고 전표(Receipt) 단위로 기존 재고를 증가시키는 애플리케이션 서비스이다.
+ *
+ * <p>HTTP API와 RabbitMQ 입고 전표 소비자가 공통으로 사용하며, 하나의 전표를 하나의 트랜잭션에서 다음 순서로 처리한다.
+ *
+ * <ol>
+ *   <li>전표 ID로 처리 이력을 확인하여 이미 처리된 전표면 아무것도 하지 않는다 (멱등성)
+ *   <li>같은 상품 옵션(Variant)의 라인을 하나로 병합한다
+ *   <li>병합된 옵션의 재고가 모두 존재하는지 한 번의 IN 쿼리로 확인한다
+ *   <li>{@code quantity = quantity + ?} 배치 UPDATE로 재고를 증가시킨다
+ *   <li>입고(INBOUND) 이력을 배치 INSERT로 저장하고 전표를 처리 완료로 기록한다
+ * </ol>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class StockRestockService {
+
+  private final StockRepository stockRepository;
+  private final StockBulkRepository stockBulkRepository;
+  private final StockReceiptRepository stockReceiptRepository;
+
+  /**
+   * 입고 전표를 재고에 반영한다.
+   *
+   * @param command 재입고 커맨드
+   * @return 재입고 처리 결과
+   * @throws StockApplicationException 재고가 존재하지 않는 상품 옵션이 포함된 경우
+   * @throws IllegalArgumentException 입고 수량이 1 미만인 라인이 포함된 경우
+   * @throws org.springframework.dao.DataIntegrityViolationException 같은 전표가 동시에 처리되어 전표 저장이 충돌한 경우
+   *     (트랜잭션은 롤백된다)
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public RestockResponse restock(RestockCommand command) {
+    if (stockReceiptRepository.existsById(ReceiptId.of(command.receiptId()))) {
+      log.info("[RESTOCK_DUPLICATED] receiptId={}", command.receiptId());
+      return RestockResponse.alreadyApplied(command.receiptId());
+    }
+
+    Map<UUID, Integer> quantities = coalesce(command.lines());
+    Map<UUID, Stock> stocks = findStocks(quantities.keySet());
+
+    Map<UUID, Integer> updated = stockBulkRepository.increaseAll(quantities);
+    if (updated.values().stream().anyMatch(count -> count == 0)) {
+      throw new StockApplicationException(
+          ApplicationErrorCode.STOCK_NOT_FOUND, missingVariantIds(updated));
+    }
+
+    stockBulkRepository.insertHistories(
+        quantities.entrySet().stream()
+            .map(entry -> StockHistory.inbound(stocks.get(entry.getKey()), entry.getValue()))
+            .toList());
+
+    long totalQuantity = quantities.values().stream().mapToLong(Integer::longValue).sum();
+    stockReceiptRepository.saveAndFlush(
+        StockReceipt.of(command.receiptId(), quantities.size(), totalQuantity));
+
+    log.info(
+        "[RESTOCK_APPLIED] receiptId={} lines={} variants={} quantity={}",
+        command.receiptId(),
+        command.lines().size(),
+        quantities.size(),
+        totalQuantity);
+
+    return new RestockResponse(command.receiptId(), true, quantities.size(), totalQuantity);
+  }
+
+  /**
+   * 같은 상품 옵션(Variant)의 라인을 하나로 병합한다.
+   *
+   * @param lines 입고 라인 목록
+   * @return 상품 옵션 ID별 병합된 입고 수량 (요청 순서 유지)
+   * @throws IllegalArgumentException 입고 수량이 1 미만인 라인이 포함된 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  private static Map<UUID, Integer> coalesce(List<RestockCommand.Line> lines) {
+    Map<UUID, Integer> quantities = new LinkedHashMap<>();
+    for (RestockCommand.Line line : lines) {
+      if (line.quantity() < 1) {
+        throw new IllegalArgumentException("입고 수량은 1 이상이어야 합니다.");
+      }
+      quantities.merge(line.variantId(), line.quantity(), Math::addExact);
+    }
+    return quantities;
+  }
+
+  /**
+   * 상품 옵션 ID에 해당하는 재고를 한 번에 조회하고, 모두 존재하는지 검증한다.
+   *
+   * @param variantIds 상품 옵션 ID 집합
+   * @return 상품 옵션 ID별 재고
+   * @throws StockApplicationException 재고가 존재하지 않는 상품 옵션이 포함된 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  private Map<UUID, Stock> findStocks(Set<UUID> variantIds) {
+    Map<UUID, Stock> stocks =
+        stockRepository.findAllByVariantIds(variantIds).stream()
+            .collect(Collectors.toMap(stock -> stock.getVariantId().toUuid(), Function.identity()));
+
+    if (stocks.size() != variantIds.size()) {
+      List<UUID> missing = variantIds.stream().filter(id -> !stocks.containsKey(id)).toList();
+      throw new StockApplicationException(ApplicationErrorCode.STOCK_NOT_FOUND, missing);
+    }
+    return stocks;
+  }
+
+  private static List<UUID> missingVariantIds(Map<UUID, Integer> updated) {
+    return updated.entrySet().stream()
+        .filter(entry -> entry.getValue() == 0)
+        .map(Map.Entry::getKey)
+        .toList();
+  }
+}
@@ -11,6 +11,7 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.EmbeddedId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import java.util.Objects;
 import lombok.AccessLevel;
@@ -24,13 +25,20 @@ import lombok.NoArgsConstructor;
  *
  * <p>재고의 모든 변경은 {@link #increase(int)}, {@link #decrease(int)} 메서드를 통해서만 이루어지며, 외부에서 직접 set 할 수 없다.
  *
- * <p>{@link Version}을 통해 낙관적 락(Optimistic Lock)을 적용하여 동시 수정 상황에서도 데이터 정합성을 보장한다.
+ * <p>{@link Version}을 통해 낙관적 락(Optimistic Lock)을 적용하여 동시 수정 상황에서도 데이터 정합성을 보장한다. 옵션 하나에는 재고가
+ * 하나만 존재하며, 같은 옵션이 동시에 등록되는 경우 {@code uk_stock_variant} 제약으로 중복 등록을 막는다.
  *
  * @author 김지원
  * @since 1.0.0
  */
 @Entity
-@Table(name = "p_stock")
+@Table(
+    name = "p_stock",
+    uniqueConstraints = {
+      @UniqueConstraint(
+          name = "uk_stock_variant",
+          columnNames = {"product_variant_id"})
+    })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Stock extends AbstractTimeEntity {
@@ -0,0 +1,219 @@
+package com.athenhub.stockservice.stock.domain;
+
+import com.athenhub.stockservice.global.domain.AbstractTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 파일 가져오기(Import) 작업의 체크포인트를 나타내는 엔티티.
+ *
+ * <p>청크(Chunk) 단위로 재고가 등록될 때마다 같은 트랜잭션 안에서 다음에 읽을 파일 위치(byte offset)와 누적 처리 건수를 갱신한다. 따라서
+ * 작업이 중단되더라도 마지막으로 커밋된 청크 이후부터 중복 없이 재개할 수 있다.
+ *
+ * <p>파일 위치는 특정 파일 내용에서만 의미가 있으므로 작업 시작 시 파일 지문(SHA-256)을 함께 저장하고, 재개할 때 지문이 다르면 거부한다.
+ *
+ * <p>작업을 시작한 사용자만 같은 작업 식별자로 재개할 수 있다. 실행 중({@link StockImportStatus#RUNNING})인 작업은 마지막 갱신 이후
+ * 임대 시간이 지나기 전까지 다시 시작할 수 없으며, {@link Version}을 통해 동일한 작업이 동시에 두 번 시작되거나 실행되는 경우 한쪽의 체크포인트
+ * 갱신이 실패하도록 한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "p_stock_import_checkpoint")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StockImportCheckpoint extends AbstractTimeEntity {
+
+  /** 가져오기 작업 식별자. */
+  @Id
+  @Column(name = "job_id")
+  private String jobId;
+
+  /** 작업을 시작한 사용자 ID. */
+  @Column(name = "member_id", nullable = false)
+  private UUID memberId;
+
+  /** 작업 시작(재개 포함) 횟수. */
+  private int attempts;
+
+  /** 가져오기 대상 파일 경로. */
+  private String source;
+
+  /** 파일 형식 (예: CSV, NDJSON). */
+  private String format;
+
+  /** 가져오기 대상 파일 내용의 SHA-256 지문. */
+  private String fingerprint;
+
+  /** 다음에 읽을 파일 위치(byte offset). */
+  private long byteOffset;
+
+  /** 누적 처리 라인 수. */
+  private long processedLines;
+
+  /** 누적 파싱 실패 라인 수. */
+  private long malformedLines;
+
+  /** 누적 등록 성공 상품 수. */
+  private long succeededProducts;
+
+  /** 누적 등록 실패 상품 수. */
+  private long failedProducts;
+
+  /** 작업 상태. */
+  @Enumerated(EnumType.STRING)
+  private StockImportStatus status;
+
+  /** 낙관적 락을 위한 버전 값. */
+  @Version private Long version;
+
+  private StockImportCheckpoint(
+      String jobId, UUID memberId, String source, String format, String fingerprint) {
+    this.jobId = Objects.requireNonNull(jobId, "jobId는 null이 될 수 없습니다.");
+    this.memberId = Objects.requireNonNull(memberId, "memberId는 null이 될 수 없습니다.");
+    this.source = Objects.requireNonNull(source, "source는 null이 될 수 없습니다.");
+    this.format = Objects.requireNonNull(format, "format은 null이 될 수 없습니다.");
+    this.fingerprint = Objects.requireNonNull(fingerprint, "fingerprint는 null이 될 수 없습니다.");
+    this.status = StockImportStatus.RUNNING;
+    this.attempts = 1;
+  }
+
+  /**
+   * 새로운 가져오기 작업의 체크포인트를 생성한다.
+   *
+   * @param jobId 가져오기 작업 식별자
+   * @param memberId 작업을 시작한 사용자 ID
+   * @param source 가져오기 대상 파일 경로
+   * @param format 파일 형식
+   * @param fingerprint 가져오기 대상 파일 내용의 SHA-256 지문
+   * @return 파일 처음(offset 0)을 가리키는 체크포인트
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static StockImportCheckpoint start(
+      String jobId, UUID memberId, String source, String format, String fingerprint) {
+    return new StockImportCheckpoint(jobId, memberId, source, format, fingerprint);
+  }
+
+  /**
+   * 작업을 시작한 사용자인지 확인한다.
+   *
+   * @param memberId 확인할 사용자 ID
+   * @return 작업을 시작한 사용자이면 {@code true}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public boolean isOwnedBy(UUID memberId) {
+    return Objects.equals(this.memberId, memberId);
+  }
+
+  /**
+   * 작업이 실행 중이고, 주어진 시각 이후에 체크포인트가 갱신되었는지 확인한다.
+   *
+   * <p>실행 중인 작업은 청크를 커밋할 때마다 체크포인트를 갱신하므로, 오래 갱신되지 않은 {@link StockImportStatus#RUNNING} 상태는
+   * 프로세스가 중단된 작업으로 간주해 재개할 수 있다.
+   *
+   * @param leaseStart 임대 기준 시각 (현재 시각 - 임대 시간)
+   * @return 기준 시각 이후 갱신된 실행 중인 작업이면 {@code true}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public boolean isRunningSince(LocalDateTime leaseStart) {
+    return status == StockImportStatus.RUNNING
+        && getUpdatedAt() != null
+        && getUpdatedAt().isAfter(leaseStart);
+  }
+
+  /**
+   * 중단되었거나 실패한 작업을 다시 실행 중 상태로 변경한다.
+   *
+   * <p>시작 횟수를 증가시켜 항상 버전이 갱신되도록 하므로, 같은 작업을 동시에 재개하면 한쪽만 성공한다.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void resume() {
+    this.status = StockImportStatus.RUNNING;
+    this.attempts++;
+  }
+
+  /**
+   * 체크포인트가 주어진 파일 내용으로 시작된 작업인지 확인한다.
+   *
+   * @param fingerprint 가져오려는 파일 내용의 SHA-256 지문
+   * @return 작업 시작 시 저장한 지문과 같으면 {@code true}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public boolean matches(String fingerprint) {
+    return Objects.equals(this.fingerprint, fingerprint);
+  }
+
+  /**
+   * 커밋된 청크의 처리 결과를 체크포인트에 반영한다.
+   *
+   * @param nextOffset 청크 이후 다음에 읽을 파일 위치
+   * @param lines 청크에서 읽은 라인 수
+   * @param malformed 청크에서 파싱에 실패한 라인 수
+   * @param succeeded 청크에서 등록에 성공한 상품 수
+   * @param failed 청크에서 등록에 실패한 상품 수
+   * @throws IllegalArgumentException 파일 위치가 뒤로 이동하는 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void advance(long nextOffset, long lines, long malformed, long succeeded, long failed) {
+    if (nextOffset < byteOffset) {
+      throw new IllegalArgumentException("체크포인트 위치는 뒤로 이동할 수 없습니다.");
+    }
+
+    this.byteOffset = nextOffset;
+    this.processedLines += lines;
+    this.malformedLines += malformed;
+    this.succeededProducts += succeeded;
+    this.failedProducts += failed;
+    this.status = StockImportStatus.RUNNING;
+  }
+
+  /**
+   * 작업을 완료 상태로 변경한다.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void complete() {
+    this.status = StockImportStatus.COMPLETED;
+  }
+
+  /**
+   * 작업을 실패 상태로 변경한다.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public void fail() {
+    this.status = StockImportStatus.FAILED;
+  }
+
+  /**
+   * 작업이 완료되었는지 여부를 반환한다.
+   *
+   * @return 완료되었으면 {@code true}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public boolean isCompleted() {
+    return status == StockImportStatus.COMPLETED;
+  }
+}
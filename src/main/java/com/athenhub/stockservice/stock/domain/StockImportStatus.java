@@ -0,0 +1,19 @@
+package com.athenhub.stockservice.stock.domain;
+
+/**
+ * 재고 파일 가져오기(Import) 작업의 진행 상태를 나타낸다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public enum StockImportStatus {
+
+  /** 가져오기가 진행 중이거나, 중단된 뒤 재개를 기다리는 상태. */
+  RUNNING,
+
+  /** 파일 끝까지 모두 처리된 상태. */
+  COMPLETED,
+
+  /** 처리 도중 오류로 중단된 상태. 마지막 체크포인트부터 재개할 수 있다. */
+  FAILED
+}
@@ -0,0 +1,57 @@
+package com.athenhub.stockservice.stock.domain;
+
+import com.athenhub.stockservice.global.domain.AbstractTimeEntity;
+import com.athenhub.stockservice.stock.domain.vo.ReceiptId;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 처리 완료된 입고 전표(Receipt)를 나타내는 도메인 엔티티.
+ *
+ * <p>입고(재입고) 처리와 같은 트랜잭션에서 저장되며, 동일한 전표가 HTTP 재시도나 메시지 재전달로 다시 들어오더라도 재고가 두 번 증가하지 않도록 멱등성
+ * 키 역할을 한다. 전표 ID가 기본 키이므로 동시에 같은 전표가 처리되더라도 한쪽 트랜잭션만 커밋된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "p_stock_receipt")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StockReceipt extends AbstractTimeEntity {
+
+  /** 입고 전표 식별자. */
+  @EmbeddedId private ReceiptId id;
+
+  /** 병합 후 실제 반영된 상품 옵션(Variant) 수. */
+  private int variantCount;
+
+  /** 반영된 총 입고 수량. */
+  private long totalQuantity;
+
+  private StockReceipt(ReceiptId id, int variantCount, long totalQuantity) {
+    this.id = Objects.requireNonNull(id, "receiptId는 null이 될 수 없습니다.");
+    this.variantCount = variantCount;
+    this.totalQuantity = totalQuantity;
+  }
+
+  /**
+   * 처리 완료된 입고 전표를 생성한다.
+   *
+   * @param receiptId 입고 전표 ID
+   * @param variantCount 반영된 상품 옵션 수
+   * @param totalQuantity 반영된 총 입고 수량
+   * @return 생성된 StockReceipt
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public static StockReceipt of(UUID receiptId, int variantCount, long totalQuantity) {
+    return new StockReceipt(ReceiptId.of(receiptId), variantCount, totalQuantity);
+  }
+}
@@ -0,0 +1,52 @@
+package com.athenhub.stockservice.stock.domain.dto;
+
+/**
+ * 대량 재고 등록 시 상품 단위 사전 검증 결과를 나타낸다.
+ *
+ * <p>대량 등록에서는 하나의 상품 검증 실패가 전체 요청을 실패시키지 않도록, 예외 대신 상품별 결과를 반환한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public enum ProductValidationResult {
+
+  /** 모든 검증을 통과하였다. */
+  VALID("검증을 통과하였습니다."),
+
+  /** 상품이 요청자의 허브/업체에 속하지 않는다. */
+  ACCESS_DENIED("해당 상품에 대한 재고 등록 권한이 없습니다."),
+
+  /** 상품에 등록된 옵션 목록과 요청 옵션 목록이 일치하지 않는다. */
+  VARIANT_MISMATCH("상품에 등록된 옵션 목록과 재고 등록 요청 옵션 목록이 일치하지 않습니다."),
+
+  /** 상품이 존재하지 않는다. */
+  NOT_FOUND("존재하지 않는 상품입니다.");
+
+  private final String reason;
+
+  ProductValidationResult(String reason) {
+    this.reason = reason;
+  }
+
+  /**
+   * 검증 결과에 대한 설명을 반환한다.
+   *
+   * @return 검증 결과 설명
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public String getReason() {
+    return reason;
+  }
+
+  /**
+   * 검증을 통과했는지 여부를 반환한다.
+   *
+   * @return 검증을 통과했으면 {@code true}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public boolean isValid() {
+    return this == VALID;
+  }
+}
@@ -0,0 +1,52 @@
+package com.athenhub.stockservice.stock.domain.repository;
+
+import com.athenhub.stockservice.stock.domain.Stock;
+import com.athenhub.stockservice.stock.domain.StockHistory;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 재고(Stock) 및 재고 이력(StockHistory)을 대량으로 저장하는 Repository이다.
+ *
+ * <p>JPA의 엔티티 단위 저장은 수천 건 이상의 대량 등록 시 영속성 컨텍스트 비용이 크므로, 구현체는 JDBC 배치 INSERT 등 묶음 단위 저장 방식을
+ * 사용한다.
+ *
+ * <p>저장된 엔티티는 영속성 컨텍스트에 등록되지 않으므로, 저장 직후 동일 트랜잭션에서 수정하는 용도로 사용해서는 안 된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public interface StockBulkRepository {
+
+  /**
+   * 재고 목록을 배치 INSERT로 저장한다.
+   *
+   * @param stocks 저장할 재고 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  void insertAll(List<Stock> stocks);
+
+  /**
+   * 재고 이력 목록을 배치 INSERT로 저장한다.
+   *
+   * @param histories 저장할 재고 이력 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  void insertHistories(List<StockHistory> histories);
+
+  /**
+   * 상품 옵션(Variant)별 재고 수량을 배치 UPDATE로 증가시킨다.
+   *
+   * <p>재고를 조회-수정하지 않고 {@code quantity = quantity + ?} 형태의 집합 연산으로 반영하며, 낙관적 락 버전도 함께 증가시켜 동시에 진행
+   * 중인 JPA 기반 재고 변경이 충돌을 감지할 수 있도록 한다.
+   *
+   * @param quantitiesByVariantId 상품 옵션 ID별 증가 수량
+   * @return 상품 옵션 ID별 갱신된 행 수 (재고가 없으면 0)
+   * @author 김지원
+   * @since 1.0.0
+   */
+  Map<UUID, Integer> increaseAll(Map<UUID, Integer> quantitiesByVariantId);
+}
@@ -3,7 +3,12 @@ package com.athenhub.stockservice.stock.domain.repository;
 import com.athenhub.stockservice.stock.domain.StockHistory;
 import com.athenhub.stockservice.stock.domain.vo.OrderId;
 import com.athenhub.stockservice.stock.domain.vo.StockHistoryId;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * 재고 이력(StockHistory)에 대한 영속성 처리를 담당하는 Repository이다.
@@ -28,4 +33,18 @@ public interface StockHistoryRepository extends JpaRepository<StockHistory, Stoc
    * @since 1.0.0
    */
   boolean existsByOrderId(OrderId orderId);
+
+  /**
+   * 주어진 주문 중 이미 재고 이력이 존재하는(처리된) 주문 ID를 한 번에 조회한다.
+   *
+   * <p>여러 주문을 묶어서 처리할 때 {@link #existsByOrderId(OrderId)}를 주문마다 호출하지 않고 한 번의 IN 쿼리로 멱등성을 확인하기 위해
+   * 사용된다.
+   *
+   * @param orderIds 확인할 주문 ID 목록
+   * @return 이미 처리된 주문 ID 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @Query("select distinct h.orderId.id from StockHistory h where h.orderId.id in :orderIds")
+  List<UUID> findProcessedOrderIds(@Param("orderIds") Collection<UUID> orderIds);
 }
@@ -0,0 +1,15 @@
+package com.athenhub.stockservice.stock.domain.repository;
+
+import com.athenhub.stockservice.stock.domain.StockImportCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재고 파일 가져오기 체크포인트({@link StockImportCheckpoint})의 영속성 처리를 담당하는 Repository이다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Repository
+public interface StockImportCheckpointRepository
+    extends JpaRepository<StockImportCheckpoint, String> {}
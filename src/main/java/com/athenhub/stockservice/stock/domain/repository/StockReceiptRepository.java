@@ -0,0 +1,15 @@
+package com.athenhub.stockservice.stock.domain.repository;
+
+import com.athenhub.stockservice.stock.domain.StockReceipt;
+import com.athenhub.stockservice.stock.domain.vo.ReceiptId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 처리 완료된 입고 전표({@link StockReceipt})의 영속성 처리를 담당하는 Repository이다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Repository
+public interface StockReceiptRepository extends JpaRepository<StockReceipt, ReceiptId> {}
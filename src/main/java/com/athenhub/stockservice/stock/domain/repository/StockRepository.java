@@ -3,8 +3,13 @@ package com.athenhub.stockservice.stock.domain.repository;
 import com.athenhub.stockservice.stock.domain.Stock;
 import com.athenhub.stockservice.stock.domain.vo.ProductVariantId;
 import com.athenhub.stockservice.stock.domain.vo.StockId;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -31,4 +36,18 @@ public interface StockRepository extends JpaRepository<Stock, StockId> {
    * @since 1.0.0
    */
   Optional<Stock> findByVariantId(ProductVariantId variantId);
+
+  /**
+   * 여러 상품 옵션(Variant) ID에 해당하는 재고를 한 번에 조회한다.
+   *
+   * <p>대량 재고 등록 시 이미 재고가 존재하는 옵션을 한 번의 IN 쿼리로 확인하기 위해 사용된다. 호출 측은 IN 절 파라미터 수가 과도하게 커지지 않도록
+   * 적절한 크기로 나누어 호출해야 한다.
+   *
+   * @param variantIds 상품 옵션(Variant) ID 목록
+   * @return 해당 옵션들의 재고 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @Query("select s from Stock s where s.variantId.id in :variantIds")
+  List<Stock> findAllByVariantIds(@Param("variantIds") Collection<UUID> variantIds);
 }
@@ -0,0 +1,32 @@
+package com.athenhub.stockservice.stock.domain.service;
+
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.domain.dto.ProductValidationResult;
+import com.athenhub.stockservice.stock.domain.dto.ProductVariantMatchCommand;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 여러 상품에 대한 접근 권한 및 옵션(Variant) 일관성을 한 번에 검증하는 도메인 서비스이다.
+ *
+ * <p>{@link ProductAccessPermissionValidator}, {@link ProductVariantConsistencyValidator}의 대량
+ * 버전으로, 상품마다 외부 서비스를 개별 호출하지 않고 묶음 단위로 조회하여 검증한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public interface ProductBatchValidator {
+
+  /**
+   * 여러 상품의 접근 권한과 옵션 일관성을 검증한다.
+   *
+   * @param accessContext 접근 주체 및 소속 정보
+   * @param commands 상품별 옵션 검증 요청 목록
+   * @return 상품 ID별 검증 결과 (요청된 모든 상품 ID를 포함한다)
+   * @author 김지원
+   * @since 1.0.0
+   */
+  Map<UUID, ProductValidationResult> validateAll(
+      AccessContext accessContext, List<ProductVariantMatchCommand> commands);
+}
@@ -0,0 +1,48 @@
+package com.athenhub.stockservice.stock.domain.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입고 전표(Receipt)의 식별자를 나타내는 값 객체이다.
+ *
+ * <p>창고 시스템이 발급한 UUID 기반 식별자이며, 입고 처리의 멱등성 키로 사용된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EqualsAndHashCode
+public class ReceiptId {
+
+  /** 입고 전표 ID 값. */
+  @Column(name = "receipt_id")
+  private UUID id;
+
+  /** 내부 UUID 값을 반환한다. */
+  public UUID toUuid() {
+    return id;
+  }
+
+  /** UUID를 기반으로 ReceiptId를 생성한다. */
+  private ReceiptId(UUID id) {
+    this.id = Objects.requireNonNull(id);
+  }
+
+  /** 기존 UUID를 감싸 ReceiptId를 생성한다. */
+  public static ReceiptId of(UUID uuid) {
+    return new ReceiptId(Objects.requireNonNull(uuid));
+  }
+
+  /** UUID 값을 문자열로 반환한다. */
+  @Override
+  public String toString() {
+    return id.toString();
+  }
+}
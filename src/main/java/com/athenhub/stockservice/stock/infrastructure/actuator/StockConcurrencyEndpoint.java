@@ -0,0 +1,43 @@
+package com.athenhub.stockservice.stock.infrastructure.actuator;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive.AdaptiveConcurrencyController;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive.AdaptiveConcurrencyController.AdaptiveState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 감소 Listener의 적응형 동시성 조정 상태를 조회하는 관리용 actuator 엔드포인트이다.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/stockconcurrency} — 현재 Consumer 수와 Prefetch, 조정 범위, 최근 결정 이력
+ * </ul>
+ *
+ * <p>{@code rabbit.stock.decrease.adaptive.enabled=true}인 경우에만 등록된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "stockconcurrency")
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.stock.decrease.adaptive",
+    name = "enabled",
+    havingValue = "true")
+public class StockConcurrencyEndpoint {
+
+  private final AdaptiveConcurrencyController controller;
+
+  /**
+   * 적응형 동시성 조정 상태를 조회한다.
+   *
+   * @return 조정 상태
+   */
+  @ReadOperation
+  public AdaptiveState state() {
+    return controller.state();
+  }
+}
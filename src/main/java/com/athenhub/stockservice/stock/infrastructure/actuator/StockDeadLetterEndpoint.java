@@ -0,0 +1,65 @@
+package com.athenhub.stockservice.stock.infrastructure.actuator;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq.DeadLetterFilter;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq.DeadLetterMessageRepository;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq.DeadLetterSummary;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관된 재고 감소 DLQ 메시지를 조회하는 관리용 actuator 엔드포인트이다.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/stockdlq?errorType=&from=&to=&page=&size=} — 오류 유형과 적재 시각 범위로
+ *       조회
+ * </ul>
+ *
+ * <p>시각은 ISO-8601 형식({@code 2025-01-01T00:00:00})이다. 다시 발행은 조회와 분리된 {@link
+ * StockDeadLetterReplayEndpoint}에서 수행한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "stockdlq")
+@RequiredArgsConstructor
+public class StockDeadLetterEndpoint {
+
+  /** 한 페이지에 조회할 수 있는 최대 메시지 수. */
+  private static final int MAX_PAGE_SIZE = 200;
+
+  private final DeadLetterMessageRepository repository;
+
+  /**
+   * 보관된 DLQ 메시지를 최신순으로 조회한다.
+   *
+   * @param errorType 오류 유형, 생략하면 모든 유형
+   * @param from 적재 시각 시작 (포함)
+   * @param to 적재 시각 종료 (미포함), 생략하면 현재 시각
+   * @param page 페이지 번호 (0부터), 기본값 0
+   * @param size 페이지 크기, 기본값 50
+   * @return 조회 결과 목록
+   */
+  @ReadOperation
+  public List<DeadLetterSummary> deadLetters(
+      @Nullable String errorType,
+      @Nullable String from,
+      @Nullable String to,
+      @Nullable Integer page,
+      @Nullable Integer size) {
+    DeadLetterFilter filter = DeadLetterFilter.of(errorType, from, to);
+    PageRequest pageable =
+        PageRequest.of(
+            page == null ? 0 : Math.max(page, 0),
+            size == null ? 50 : Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+    return repository
+        .search(filter.errorType(), filter.from(), filter.to(), pageable)
+        .map(DeadLetterSummary::from)
+        .getContent();
+  }
+}
@@ -0,0 +1,64 @@
+package com.athenhub.stockservice.stock.infrastructure.actuator;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq.DeadLetterFilter;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq.DeadLetterReplayer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관된 재고 감소 DLQ 메시지를 다시 발행하는 관리용 actuator 엔드포인트이다.
+ *
+ * <ul>
+ *   <li>{@code POST /actuator/stockdlqreplay} ({@code errorType}, {@code from}, {@code to},
+ *       {@code limit}, {@code includeFailureReported}) — 조건에 맞는 메시지를 속도 제한을 두고 {@code
+ *       stock.decrease}로 다시 발행
+ * </ul>
+ *
+ * <p>주문 서비스에 처리 실패를 이미 보고한 메시지는 주문이 취소되었을 수 있으므로 기본적으로 다시 발행하지 않는다. 주문 측 상태를 확인한 뒤
+ * {@code includeFailureReported=true}를 명시한 경우에만 함께 다시 발행한다.
+ *
+ * <p>다시 발행은 재고를 변경하는 쓰기 작업이므로 조회 엔드포인트({@link StockDeadLetterEndpoint})와 분리하였다. {@code
+ * rabbit.stock.decrease-dead.replay.enabled=true}인 경우에만 등록되며, 기본 노출 목록에 포함하지 않으므로 사용하려면 {@code
+ * management.endpoints.web.exposure.include}에 명시적으로 추가하고 관리망에서만 접근할 수 있도록 해야 한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "stockdlqreplay")
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.stock.decrease-dead.replay",
+    name = "enabled",
+    havingValue = "true")
+public class StockDeadLetterReplayEndpoint {
+
+  private final DeadLetterReplayer replayer;
+
+  /**
+   * 조건에 맞는 보관 메시지 중 아직 다시 발행하지 않은 메시지를 다시 발행한다.
+   *
+   * @param errorType 오류 유형, 생략하면 모든 유형
+   * @param from 적재 시각 시작 (포함)
+   * @param to 적재 시각 종료 (미포함), 생략하면 현재 시각
+   * @param limit 최대 재발행 건수, 생략하면 {@code max-per-request}
+   * @param includeFailureReported 처리 실패를 보고한 메시지도 다시 발행할지 여부, 생략하면 {@code false}
+   * @return 재발행 결과
+   */
+  @WriteOperation
+  public DeadLetterReplayer.ReplayResult replay(
+      @Nullable String errorType,
+      @Nullable String from,
+      @Nullable String to,
+      @Nullable Integer limit,
+      @Nullable Boolean includeFailureReported) {
+    return replayer.replay(
+        DeadLetterFilter.of(errorType, from, to),
+        limit == null ? Integer.MAX_VALUE : limit,
+        Boolean.TRUE.equals(includeFailureReported));
+  }
+}
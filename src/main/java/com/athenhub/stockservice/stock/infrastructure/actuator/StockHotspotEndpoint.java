@@ -0,0 +1,74 @@
+package com.athenhub.stockservice.stock.infrastructure.actuator;
+
+import com.athenhub.stockservice.stock.application.hotspot.HotVariantSignal;
+import com.athenhub.stockservice.stock.application.hotspot.HotVariantTracker;
+import com.athenhub.stockservice.stock.application.hotspot.HotVariantTracker.HotVariant;
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 감소와 락 충돌이 집중되는 상품 옵션(Hot SKU)을 조회하는 관리용 actuator 엔드포인트이다.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/stockhotspot?window=&limit=} — 최근 {@code window}(기본 5m) 동안 감소 횟수와 락 충돌
+ *       횟수가 많은 상품 옵션 상위 {@code limit}(기본 10)개
+ * </ul>
+ *
+ * <p>{@code window}는 {@code 30s}, {@code 5m}, {@code 1h} 또는 ISO-8601({@code PT5M}) 형식이며, 보관 구간을 넘으면
+ * 보관 구간으로 제한된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "stockhotspot")
+@RequiredArgsConstructor
+public class StockHotspotEndpoint {
+
+  /** 기본 조회 구간. */
+  private static final Duration DEFAULT_WINDOW = Duration.ofMinutes(5);
+
+  /** 기본 조회 개수. */
+  private static final int DEFAULT_LIMIT = 10;
+
+  /** 최대 조회 개수. */
+  private static final int MAX_LIMIT = 100;
+
+  private final HotVariantTracker tracker;
+
+  /**
+   * 최근 구간의 Hot SKU를 조회한다.
+   *
+   * @param window 조회 구간, 기본값 5m
+   * @param limit 신호별 조회 개수, 기본값 10
+   * @return 신호별 상위 상품 옵션
+   */
+  @ReadOperation
+  public HotspotReport hotspots(@Nullable String window, @Nullable Integer limit) {
+    Duration requested = window == null ? DEFAULT_WINDOW : DurationStyle.detectAndParse(window);
+    Duration effective =
+        requested.compareTo(tracker.maxWindow()) > 0 ? tracker.maxWindow() : requested;
+    int size = Math.min(Math.max(limit == null ? DEFAULT_LIMIT : limit, 1), MAX_LIMIT);
+
+    return new HotspotReport(
+        effective.toString(),
+        tracker.top(HotVariantSignal.DECREMENT, effective, size),
+        tracker.top(HotVariantSignal.CONFLICT, effective, size));
+  }
+
+  /**
+   * 신호별 Hot SKU 조회 결과.
+   *
+   * @param window 실제 조회 구간 (ISO-8601)
+   * @param decrements 감소 횟수 상위 상품 옵션
+   * @param conflicts 락 충돌 횟수 상위 상품 옵션
+   */
+  public record HotspotReport(
+      String window, List<HotVariant> decrements, List<HotVariant> conflicts) {}
+}
@@ -0,0 +1,50 @@
+package com.athenhub.stockservice.stock.infrastructure.actuator;
+
+import com.athenhub.stockservice.stock.application.importer.StockImportProgress;
+import com.athenhub.stockservice.stock.application.importer.StockImportProgressRegistry;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 파일 가져오기 작업의 진행 상황과 처리량을 노출하는 actuator 엔드포인트이다.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/stockimport} — 이번 기동 이후 실행된 모든 작업
+ *   <li>{@code GET /actuator/stockimport/{jobId}} — 특정 작업
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "stockimport")
+@RequiredArgsConstructor
+public class StockImportEndpoint {
+
+  private final StockImportProgressRegistry progressRegistry;
+
+  /**
+   * 모든 가져오기 작업의 진행 상황을 조회한다.
+   *
+   * @return 진행 상황 스냅샷 목록
+   */
+  @ReadOperation
+  public List<StockImportProgress.Snapshot> imports() {
+    return progressRegistry.findAll();
+  }
+
+  /**
+   * 특정 가져오기 작업의 진행 상황을 조회한다.
+   *
+   * @param jobId 작업 식별자
+   * @return 진행 상황 스냅샷, 없으면 {@code null} (404 응답)
+   */
+  @ReadOperation
+  public StockImportProgress.Snapshot importJob(@Selector String jobId) {
+    return progressRegistry.find(jobId).orElse(null);
+  }
+}
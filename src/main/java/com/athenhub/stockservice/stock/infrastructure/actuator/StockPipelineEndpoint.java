@@ -0,0 +1,51 @@
+package com.athenhub.stockservice.stock.infrastructure.actuator;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.QueueDepthProbe;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.QueueDepthProbe.QueueDepth;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 처리 파이프라인의 현재 상태를 한 번에 조회하는 관리용 actuator 엔드포인트이다.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/stockpipeline} — Listener별 처리 중인 메시지 수와 마지막 성공 시각, 정체된 Listener,
+ *       retryCount 분포, 오류 유형별 DLQ/Quarantine 전달 수, 선언된 모든 Queue의 적체량
+ * </ul>
+ *
+ * <p>Queue 적체량은 passive declare 결과를 {@code rabbit.stock.monitor.queue-depth-ttl} 동안 캐시한 값이다. 나머지 값은
+ * 이 인스턴스가 기동한 이후의 집계이다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "stockpipeline")
+@RequiredArgsConstructor
+public class StockPipelineEndpoint {
+
+  private final StockPipelineMonitor monitor;
+  private final QueueDepthProbe queueDepthProbe;
+
+  /**
+   * 파이프라인 상태를 조회한다.
+   *
+   * @return 파이프라인 상태
+   */
+  @ReadOperation
+  public PipelineState state() {
+    return new PipelineState(monitor.snapshot(), queueDepthProbe.depths());
+  }
+
+  /**
+   * 재고 처리 파이프라인 상태.
+   *
+   * @param listeners Listener 처리 현황과 Retry/DLQ 집계
+   * @param queues Queue별 적체량
+   */
+  public record PipelineState(StockPipelineMonitor.Snapshot listeners, List<QueueDepth> queues) {}
+}
@@ -0,0 +1,116 @@
+package com.athenhub.stockservice.stock.infrastructure.actuator;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order.RabbitOrderProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream.StreamConsumerStatus;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream.StreamOffsetStore;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.order.OrderCreatedStreamListener;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.rabbit.listener.MessageListenerContainer;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성 이벤트 Stream Consumer의 Offset을 조회하고 되감는 관리용 actuator 엔드포인트이다.
+ *
+ * <ul>
+ *   <li>{@code GET /actuator/stockstream} — DB에 기록된 Offset과 이번 기동 이후 마지막으로 처리한 Offset
+ *   <li>{@code POST /actuator/stockstream} ({@code offset}) — Listener를 정지하고 {@code offset}부터 다시
+ *       읽도록 Offset을 되감은 뒤 재시작
+ * </ul>
+ *
+ * <p>되감기는 이 인스턴스가 활성 Consumer일 때만 허용한다. Offset을 DB에 먼저 되감은 뒤 Listener를 정지하므로, 정지하는 동안 다른 인스턴스가
+ * 활성 Consumer가 되더라도 되감은 위치부터 읽는다.
+ *
+ * <p>{@code rabbit.order.created.stream.enabled=true}인 경우에만 등록된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@Endpoint(id = "stockstream")
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.order.created.stream",
+    name = "enabled",
+    havingValue = "true")
+public class StockStreamEndpoint {
+
+  private final RabbitOrderProperties orderProperties;
+  private final StreamOffsetStore offsetStore;
+  private final OrderCreatedStreamListener listener;
+  private final StreamConsumerStatus consumerStatus;
+  private final RabbitListenerEndpointRegistry listenerRegistry;
+
+  /**
+   * Stream Consumer의 Offset 상태를 조회한다.
+   *
+   * @return Offset 상태
+   */
+  @ReadOperation
+  public StreamState state() {
+    RabbitOrderProperties.Stream stream = orderProperties.getCreated().getStream();
+    OptionalLong stored = offsetStore.find(stream.getName(), stream.getConsumerName());
+    return new StreamState(
+        stream.getName(),
+        stream.getConsumerName(),
+        stored.isPresent() ? stored.getAsLong() : null,
+        listener.lastProcessedOffset(),
+        container().isRunning(),
+        consumerStatus.isActive());
+  }
+
+  /**
+   * 주어진 Offset부터 다시 읽도록 Stream Consumer를 되감는다.
+   *
+   * @param offset 다시 읽기 시작할 Offset (0 이상)
+   * @return 되감은 후의 Offset 상태
+   * @throws IllegalStateException 이 인스턴스가 활성 Consumer가 아닌 경우
+   */
+  @WriteOperation
+  public StreamState replay(long offset) {
+    if (offset < 0) {
+      throw new IllegalArgumentException("offset must not be negative: " + offset);
+    }
+    if (!consumerStatus.isActive()) {
+      throw new IllegalStateException("this instance is not the active stream consumer");
+    }
+    MessageListenerContainer container = container();
+    listener.rewindTo(offset - 1);
+    container.stop();
+    try {
+      // 정지한 Consumer에는 Broker가 비활성 알림을 보내지 않는다.
+      consumerStatus.update(false);
+      listener.resumeFrom(offset - 1);
+    } finally {
+      container.start();
+    }
+    return state();
+  }
+
+  private MessageListenerContainer container() {
+    return listenerRegistry.getListenerContainer(OrderCreatedStreamListener.LISTENER_ID);
+  }
+
+  /**
+   * Stream Consumer의 Offset 상태.
+   *
+   * @param stream Stream 이름
+   * @param consumer Consumer 이름
+   * @param storedOffset DB에 기록된 마지막 처리 Offset
+   * @param lastProcessedOffset 이번 기동 이후 마지막으로 처리한 Offset (-1이면 없음)
+   * @param running Listener 실행 여부
+   * @param active 이 인스턴스가 활성 Consumer인지 여부
+   */
+  public record StreamState(
+      String stream,
+      String consumer,
+      Long storedOffset,
+      long lastProcessedOffset,
+      boolean running,
+      boolean active) {}
+}
@@ -0,0 +1,22 @@
+package com.athenhub.stockservice.stock.infrastructure.client;
+
+/**
+ * 외부 서비스 호출 실패를 나타내는 예외가 구현하는 인터페이스이다.
+ *
+ * <p>서킷 브레이커와 Stale 캐시 Fallback은 외부 서비스 자체의 장애(5xx, 타임아웃 등)에만 반응해야 하며, 존재하지 않는 상품 조회(404)와 같은
+ * 정상적인 비즈니스 응답에는 반응하지 않아야 한다. 이를 구분하기 위해 사용된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public interface RemoteServiceException {
+
+  /**
+   * 외부 서비스의 서버 측 오류(5xx)인지 여부를 반환한다.
+   *
+   * @return 서버 측 오류이면 {@code true}, 요청 자체의 문제(4xx)이면 {@code false}
+   * @author 김지원
+   * @since 1.0.0
+   */
+  boolean isServerError();
+}
@@ -1,5 +1,6 @@
 package com.athenhub.stockservice.stock.infrastructure.client.config;
 
+import com.athenhub.stockservice.global.infrastructure.web.ForwardedHeaders;
 import feign.RequestInterceptor;
 import feign.RequestTemplate;
 import jakarta.servlet.http.HttpServletRequest;
@@ -16,7 +17,8 @@ import org.springframework.web.context.request.ServletRequestAttributes;
  *
  * <p>현재 요청(HttpServletRequest)에 포함된 인증 및 사용자 정보를 Feign 요청 헤더에 그대로 전달하기 위한 역할을 수행한다.
  *
- * <p>이를 통해 마이크로서비스 간 호출에서도 원 요청자의 인증 / 권한 / 사용자 컨텍스트를 유지할 수 있다.
+ * <p>이를 통해 마이크로서비스 간 호출에서도 원 요청자의 인증 / 권한 / 사용자 컨텍스트를 유지할 수 있다. 요청 스레드 밖에서 실행되는 작업은
+ * {@link ForwardedHeaders}에 바인딩된 헤더를 사용한다.
  *
  * @author 김지원
  * @since 1.0.0
@@ -60,6 +62,8 @@ public class FeignClientConfig {
    *
    * <p>이를 통해 다른 서비스에서도 현재 사용자의 컨텍스트 정보를 동일하게 사용할 수 있도록 한다.
    *
+   * <p>현재 스레드에 HTTP 요청이 없으면 {@link ForwardedHeaders#run(Runnable)}으로 바인딩된 헤더를 대신 전달한다.
+   *
    * @return RequestInterceptor Feign 요청 인터셉터
    */
   @Bean
@@ -70,7 +74,9 @@ public class FeignClientConfig {
       ServletRequestAttributes attributes =
           (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
 
+      // 요청 스레드가 아니면(비동기 작업, CLI) 작업에 바인딩된 헤더 전달
       if (attributes == null) {
+        ForwardedHeaders.current().values().forEach(template::header);
         return;
       }
 
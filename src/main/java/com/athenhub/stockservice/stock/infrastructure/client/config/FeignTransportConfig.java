@@ -0,0 +1,144 @@
+package com.athenhub.stockservice.stock.infrastructure.client.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Feign Client의 HTTP 전송 계층을 Apache HttpClient 5 커넥션 풀로 구성하는 설정 클래스이다.
+ *
+ * <p>Spring Cloud OpenFeign은 {@link CloseableHttpClient} Bean이 있으면 이를 사용해 Feign 요청을 전송하며, 로드밸런서를
+ * 거치는 호출에도 동일하게 적용된다. 기본 {@code HttpURLConnection} 대신 커넥션 풀을 사용하므로, 호출량이 많아도 TCP 연결을 매번 새로 맺지
+ * 않고 재사용한다.
+ *
+ * <p>노출 메트릭:
+ *
+ * <ul>
+ *   <li>{@code httpcomponents.httpclient.pool.*} — 최대/대여 중/유휴 커넥션 수, 대기 중인 요청 수
+ *   <li>{@code feign.client.pool.lease} — 커넥션 대여 대기 시간
+ * </ul>
+ *
+ * <p>{@code spring.cloud.openfeign.http2client.enabled=true}인 경우 JDK HttpClient(HTTP/2) 전송 계층을
+ * 사용하도록 이 설정은 적용되지 않는다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(FeignTransportProperties.class)
+@ConditionalOnProperty(
+    name = "spring.cloud.openfeign.http2client.enabled",
+    havingValue = "false",
+    matchIfMissing = true)
+public class FeignTransportConfig {
+
+  /** 커넥션 풀 메트릭에 사용하는 HttpClient 이름 태그. */
+  private static final String POOL_NAME = "feign";
+
+  /**
+   * 대여 시간을 측정하는 커넥션 풀 매니저를 생성하고 풀 메트릭을 등록한다.
+   *
+   * @param properties 전송 계층 설정
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 커넥션 풀 매니저
+   */
+  @Bean
+  public TimedHttpClientConnectionManager feignConnectionManager(
+      FeignTransportProperties properties, MeterRegistry meterRegistry) {
+    PoolingHttpClientConnectionManager pool = connectionPool(properties);
+    new PoolingHttpClientConnectionManagerMetricsBinder(pool, POOL_NAME).bindTo(meterRegistry);
+    return new TimedHttpClientConnectionManager(
+        pool, properties.getConnectionRequestTimeout(), meterRegistry);
+  }
+
+  /**
+   * Feign 요청 전송에 사용할 HttpClient를 생성한다.
+   *
+   * @param connectionManager 커넥션 풀 매니저
+   * @param properties 전송 계층 설정
+   * @return HttpClient
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient feignHttpClient(
+      TimedHttpClientConnectionManager connectionManager, FeignTransportProperties properties) {
+    return httpClient(connectionManager, properties);
+  }
+
+  /**
+   * 설정 값으로 커넥션 풀을 생성한다.
+   *
+   * <p>LIFO 재사용 정책으로 최근에 사용한 커넥션을 우선 재사용하여, 부하가 줄었을 때 나머지 커넥션이 유휴 상태로 정리되도록 한다.
+   *
+   * @param properties 전송 계층 설정
+   * @return 커넥션 풀
+   */
+  static PoolingHttpClientConnectionManager connectionPool(FeignTransportProperties properties) {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(properties.getMaxConnections())
+        .setMaxConnPerRoute(properties.getMaxConnectionsPerRoute())
+        .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+        .setConnPoolPolicy(PoolReusePolicy.LIFO)
+        .setDefaultConnectionConfig(
+            ConnectionConfig.custom()
+                .setTimeToLive(toTimeValue(properties.getTimeToLive().toMillis()))
+                .setValidateAfterInactivity(
+                    toTimeValue(properties.getValidateAfterInactivity().toMillis()))
+                .build())
+        .build();
+  }
+
+  /**
+   * 커넥션 풀 매니저로 HttpClient를 생성한다.
+   *
+   * @param connectionManager 커넥션 풀 매니저
+   * @param properties 전송 계층 설정
+   * @return HttpClient
+   */
+  static CloseableHttpClient httpClient(
+      TimedHttpClientConnectionManager connectionManager, FeignTransportProperties properties) {
+    return HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setKeepAliveStrategy(keepAliveStrategy(properties))
+        .disableCookieManagement()
+        .disableAutomaticRetries()
+        .evictExpiredConnections()
+        .evictIdleConnections(toTimeValue(properties.getIdleEviction().toMillis()))
+        .build();
+  }
+
+  /**
+   * 서버가 알려준 Keep-Alive 시간과 설정된 최대 시간 중 짧은 값만큼 커넥션을 유지하는 전략을 생성한다.
+   *
+   * @param properties 전송 계층 설정
+   * @return Keep-Alive 전략
+   */
+  private static ConnectionKeepAliveStrategy keepAliveStrategy(
+      FeignTransportProperties properties) {
+    TimeValue maxKeepAlive = toTimeValue(properties.getKeepAlive().toMillis());
+    return (response, context) -> {
+      TimeValue advertised =
+          DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+      return TimeValue.isPositive(advertised) && advertised.compareTo(maxKeepAlive) < 0
+          ? advertised
+          : maxKeepAlive;
+    };
+  }
+
+  private static TimeValue toTimeValue(long millis) {
+    return TimeValue.of(millis, TimeUnit.MILLISECONDS);
+  }
+}
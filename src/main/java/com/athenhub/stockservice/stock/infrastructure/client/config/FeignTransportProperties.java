@@ -0,0 +1,56 @@
+package com.athenhub.stockservice.stock.infrastructure.client.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Feign Client가 사용하는 HTTP 전송 계층(Apache HttpClient 5 커넥션 풀) 설정 값을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>{@code application.yml}의 {@code client.transport.*} 아래에 정의된 값을 로딩한다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * client:
+ *   transport:
+ *     max-connections: 200
+ *     max-connections-per-route: 50
+ *     connection-request-timeout: 500ms
+ *     keep-alive: 30s
+ *     time-to-live: 5m
+ *     idle-eviction: 30s
+ *     validate-after-inactivity: 2s
+ * </pre>
+ *
+ * <p>HTTP/2가 필요한 경우 {@code spring.cloud.openfeign.http2client.enabled=true}로 JDK HttpClient 전송 계층을
+ * 사용할 수 있다. 이 경우 본 설정과 커넥션 풀 메트릭은 적용되지 않는다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "client.transport")
+public class FeignTransportProperties {
+
+  /** 커넥션 풀 전체의 최대 커넥션 수. */
+  private int maxConnections = 200;
+
+  /** 대상 서버(Route)별 최대 커넥션 수. */
+  private int maxConnectionsPerRoute = 50;
+
+  /** 풀에서 커넥션을 얻기 위해 기다리는 최대 시간. */
+  private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+  /** 서버가 Keep-Alive 시간을 알려주지 않을 때 커넥션을 유지하는 최대 시간. */
+  private Duration keepAlive = Duration.ofSeconds(30);
+
+  /** 커넥션의 최대 수명. 이 시간이 지나면 재사용하지 않고 닫는다. */
+  private Duration timeToLive = Duration.ofMinutes(5);
+
+  /** 이 시간 이상 사용되지 않은 유휴 커넥션을 백그라운드에서 정리한다. */
+  private Duration idleEviction = Duration.ofSeconds(30);
+
+  /** 이 시간 이상 유휴 상태였던 커넥션은 재사용 전에 유효성을 검사한다. */
+  private Duration validateAfterInactivity = Duration.ofSeconds(2);
+}
@@ -0,0 +1,191 @@
+package com.athenhub.stockservice.stock.infrastructure.client.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.ConnPoolControl;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * 커넥션 풀에서 커넥션을 얻기까지 기다린 시간을 측정하는 {@link HttpClientConnectionManager} 데코레이터이다.
+ *
+ * <p>실제 커넥션 관리는 {@link PoolingHttpClientConnectionManager}에 위임하며, 커넥션 대여(lease)에 걸린 시간을 {@code
+ * feign.client.pool.lease} 타이머로 기록한다. 풀이 가득 차 대기가 발생하면 이 타이머의 상위 백분위 값이 증가한다.
+ *
+ * <p>대기 시간은 Feign 요청 설정과 관계없이 {@code maxLeaseTimeout}을 넘지 않도록 제한하여, 풀 고갈 시 요청 스레드가 오래 붙잡히지 않게
+ * 한다.
+ *
+ * <p>{@link ConnPoolControl}도 함께 구현하여 HttpClient의 유휴/만료 커넥션 정리 기능이 그대로 동작하도록 한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public class TimedHttpClientConnectionManager
+    implements HttpClientConnectionManager, ConnPoolControl<HttpRoute> {
+
+  private final PoolingHttpClientConnectionManager delegate;
+  private final Timeout maxLeaseTimeout;
+  private final Timer acquired;
+  private final Timer timedOut;
+
+  /**
+   * 대여 시간 측정 커넥션 매니저를 생성한다.
+   *
+   * @param delegate 실제 커넥션 풀
+   * @param maxLeaseTimeout 커넥션 대여 최대 대기 시간
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public TimedHttpClientConnectionManager(
+      PoolingHttpClientConnectionManager delegate,
+      Duration maxLeaseTimeout,
+      MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.maxLeaseTimeout = Timeout.ofMilliseconds(maxLeaseTimeout.toMillis());
+    this.acquired = leaseTimer(meterRegistry, "acquired");
+    this.timedOut = leaseTimer(meterRegistry, "timeout");
+  }
+
+  private static Timer leaseTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder("feign.client.pool.lease")
+        .description("Feign 커넥션 풀에서 커넥션을 얻기까지 기다린 시간")
+        .tag("outcome", outcome)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  /**
+   * 커넥션 대여를 요청한다. 실제 대기는 반환된 {@link LeaseRequest#get(Timeout)} 호출 시 발생한다.
+   *
+   * @param id 요청 식별자
+   * @param route 대상 Route
+   * @param requestTimeout 요청 측 대기 제한 시간
+   * @param state 커넥션 상태 객체
+   * @return 대여 요청
+   */
+  @Override
+  public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+    LeaseRequest leaseRequest = delegate.lease(id, route, cap(requestTimeout), state);
+    return new LeaseRequest() {
+
+      @Override
+      public ConnectionEndpoint get(Timeout timeout)
+          throws InterruptedException, ExecutionException, TimeoutException {
+        long startedAt = System.nanoTime();
+        try {
+          ConnectionEndpoint endpoint = leaseRequest.get(cap(timeout));
+          acquired.record(Duration.ofNanos(System.nanoTime() - startedAt));
+          return endpoint;
+        } catch (TimeoutException e) {
+          timedOut.record(Duration.ofNanos(System.nanoTime() - startedAt));
+          throw e;
+        }
+      }
+
+      @Override
+      public boolean cancel() {
+        return leaseRequest.cancel();
+      }
+    };
+  }
+
+  private Timeout cap(Timeout timeout) {
+    if (timeout == null || timeout.isDisabled() || timeout.compareTo(maxLeaseTimeout) > 0) {
+      return maxLeaseTimeout;
+    }
+    return timeout;
+  }
+
+  @Override
+  public void release(ConnectionEndpoint endpoint, Object newState, TimeValue validDuration) {
+    delegate.release(endpoint, newState, validDuration);
+  }
+
+  @Override
+  public void connect(ConnectionEndpoint endpoint, TimeValue connectTimeout, HttpContext context)
+      throws IOException {
+    delegate.connect(endpoint, connectTimeout, context);
+  }
+
+  @Override
+  public void upgrade(ConnectionEndpoint endpoint, HttpContext context) throws IOException {
+    delegate.upgrade(endpoint, context);
+  }
+
+  @Override
+  public void close(CloseMode closeMode) {
+    delegate.close(closeMode);
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public void setMaxTotal(int max) {
+    delegate.setMaxTotal(max);
+  }
+
+  @Override
+  public int getMaxTotal() {
+    return delegate.getMaxTotal();
+  }
+
+  @Override
+  public void setDefaultMaxPerRoute(int max) {
+    delegate.setDefaultMaxPerRoute(max);
+  }
+
+  @Override
+  public int getDefaultMaxPerRoute() {
+    return delegate.getDefaultMaxPerRoute();
+  }
+
+  @Override
+  public void setMaxPerRoute(HttpRoute route, int max) {
+    delegate.setMaxPerRoute(route, max);
+  }
+
+  @Override
+  public int getMaxPerRoute(HttpRoute route) {
+    return delegate.getMaxPerRoute(route);
+  }
+
+  @Override
+  public void closeIdle(TimeValue idleTime) {
+    delegate.closeIdle(idleTime);
+  }
+
+  @Override
+  public void closeExpired() {
+    delegate.closeExpired();
+  }
+
+  @Override
+  public Set<HttpRoute> getRoutes() {
+    return delegate.getRoutes();
+  }
+
+  @Override
+  public PoolStats getTotalStats() {
+    return delegate.getTotalStats();
+  }
+
+  @Override
+  public PoolStats getStats(HttpRoute route) {
+    return delegate.getStats(route);
+  }
+}
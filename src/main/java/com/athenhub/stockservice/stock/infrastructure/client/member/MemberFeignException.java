@@ -2,6 +2,7 @@ package com.athenhub.stockservice.stock.infrastructure.client.member;
 
 import com.athenhub.commoncore.error.AbstractServiceException;
 import com.athenhub.commoncore.error.ErrorCode;
+import com.athenhub.stockservice.stock.infrastructure.client.RemoteServiceException;
 
 /**
  * Member 서비스 연동 과정에서 발생하는 예외를 나타낸다.
@@ -13,7 +14,11 @@ import com.athenhub.commoncore.error.ErrorCode;
  * @author 김지원
  * @since 1.0.0
  */
-public class MemberFeignException extends AbstractServiceException {
+public class MemberFeignException extends AbstractServiceException
+    implements RemoteServiceException {
+
+  /** 외부 서비스의 서버 측 오류(5xx) 여부. */
+  private final boolean serverError;
 
   /**
    * Member 서비스 호출 중 발생한 예외를 생성한다.
@@ -25,5 +30,16 @@ public class MemberFeignException extends AbstractServiceException {
    */
   public MemberFeignException(ErrorCode errorCode, Object... errorArgs) {
     super(errorCode, errorArgs);
+    this.serverError = errorCode.getStatus() >= 500;
+  }
+
+  /**
+   * 외부 서비스의 서버 측 오류(5xx)인지 여부를 반환한다.
+   *
+   * @return 서버 측 오류이면 {@code true}
+   */
+  @Override
+  public boolean isServerError() {
+    return serverError;
   }
 }
@@ -0,0 +1,57 @@
+package com.athenhub.stockservice.stock.infrastructure.client.member;
+
+import com.athenhub.stockservice.stock.infrastructure.client.member.dto.MemberInfo;
+import com.athenhub.stockservice.stock.infrastructure.client.resilience.ClientResilienceProperties;
+import com.athenhub.stockservice.stock.infrastructure.client.resilience.ResilientClientExecutor;
+import com.athenhub.stockservice.stock.infrastructure.client.resilience.StaleCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link MemberClient} 호출에 서킷 브레이커, Bulkhead, Stale 캐시 Fallback을 적용하여 회원 정보를 조회하는 컴포넌트이다.
+ *
+ * <p>{@code /me} API는 요청 헤더의 인증 정보로 사용자를 식별하므로, Stale 캐시는 요청 컨텍스트의 회원 ID를 키로 사용한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+public class MemberReader {
+
+  /** Feign Client 이름이자 보호 설정 키. */
+  public static final String CLIENT_NAME = "member-service";
+
+  private final MemberClient memberClient;
+  private final ResilientClientExecutor executor;
+  private final StaleCache<UUID, MemberInfo> staleCache;
+
+  /**
+   * 회원 조회 컴포넌트를 생성한다.
+   *
+   * @param memberClient Member 서비스 Feign Client
+   * @param executor 외부 호출 실행기
+   * @param properties Client 보호 설정
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public MemberReader(
+      MemberClient memberClient,
+      ResilientClientExecutor executor,
+      ClientResilienceProperties properties,
+      MeterRegistry meterRegistry) {
+    this.memberClient = memberClient;
+    this.executor = executor;
+    this.staleCache = StaleCache.of(CLIENT_NAME, properties, meterRegistry);
+  }
+
+  /**
+   * 현재 로그인한 사용자의 정보를 조회한다.
+   *
+   * @param memberId 요청 컨텍스트의 회원 ID (Stale 캐시 키)
+   * @return 사용자 및 소속 정보
+   */
+  public MemberInfo getMyInfo(UUID memberId) {
+    return staleCache.load(
+        memberId, () -> executor.execute(CLIENT_NAME, memberClient::getMyInfo));
+  }
+}
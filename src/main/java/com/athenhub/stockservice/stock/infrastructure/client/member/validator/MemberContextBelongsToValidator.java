@@ -2,7 +2,7 @@ package com.athenhub.stockservice.stock.infrastructure.client.member.validator;
 
 import com.athenhub.stockservice.stock.domain.dto.AccessContext;
 import com.athenhub.stockservice.stock.domain.service.BelongsToValidator;
-import com.athenhub.stockservice.stock.infrastructure.client.member.MemberClient;
+import com.athenhub.stockservice.stock.infrastructure.client.member.MemberReader;
 import com.athenhub.stockservice.stock.infrastructure.client.member.dto.MemberInfo;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -27,8 +27,8 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class MemberContextBelongsToValidator implements BelongsToValidator {
 
-  /** 외부 Member 서비스 호출을 위한 Feign Client. */
-  private final MemberClient memberClient;
+  /** 외부 Member 서비스 조회 컴포넌트. */
+  private final MemberReader memberReader;
 
   /**
    * 사용자가 요청한 컨텍스트(허브/업체)에 소속되어 있는지 검증한다.
@@ -38,7 +38,7 @@ public class MemberContextBelongsToValidator implements BelongsToValidator {
    */
   @Override
   public boolean belongsTo(AccessContext context) {
-    MemberInfo myInfo = memberClient.getMyInfo();
+    MemberInfo myInfo = memberReader.getMyInfo(context.memberId());
     return belongsToOrganization(context, myInfo);
   }
 
@@ -3,17 +3,19 @@ package com.athenhub.stockservice.stock.infrastructure.client.product;
 import com.athenhub.stockservice.stock.infrastructure.client.config.FeignClientConfig;
 import com.athenhub.stockservice.stock.infrastructure.client.product.config.ProductFeignConfig;
 import com.athenhub.stockservice.stock.infrastructure.client.product.dto.ProductDetail;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 
 /**
  * 외부 Product 서비스와 통신하기 위한 Feign Client이다.
  *
  * <p>상품 정보를 조회하여 재고 서비스의 권한 검증 및 비즈니스 로직에서 활용한다. (예: 상품이 요청자의 허브/업체에 속하는지 확인)
  *
- * <p>기본 경로는 {@code /api/v1/products} 이며, 단건 상품 조회 API를 제공한다.
+ * <p>기본 경로는 {@code /api/v1/products} 이며, 단건 상품 조회 API와 대량 재고 등록을 위한 다건 상품 조회 API를 제공한다.
  *
  * @author 김지원
  * @since 1.0.0
@@ -32,4 +34,18 @@ public interface ProductClient {
    */
   @GetMapping("/{productId}")
   ProductDetail getProduct(@PathVariable UUID productId);
+
+  /**
+   * 여러 상품 ID로 상품 상세 정보를 한 번에 조회한다.
+   *
+   * <p>존재하지 않는 상품은 응답 목록에서 제외된다. 호출 측은 URL 길이가 과도하게 길어지지 않도록 적절한 크기로 나누어 호출해야 한다.
+   *
+   * <p>Product 서비스에 아직 배포되지 않았을 수 있으므로 {@link ProductReader}는 {@code
+   * client.product.batch-lookup.enabled}가 활성화된 경우에만 이 API를 호출한다.
+   *
+   * @param productIds 조회할 상품 식별자 목록
+   * @return 존재하는 상품의 상세 정보 목록
+   */
+  @GetMapping
+  List<ProductDetail> getProducts(@RequestParam("ids") List<UUID> productIds);
 }
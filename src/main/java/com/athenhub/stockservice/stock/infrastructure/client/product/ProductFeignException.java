@@ -2,6 +2,7 @@ package com.athenhub.stockservice.stock.infrastructure.client.product;
 
 import com.athenhub.commoncore.error.AbstractServiceException;
 import com.athenhub.commoncore.error.ErrorCode;
+import com.athenhub.stockservice.stock.infrastructure.client.RemoteServiceException;
 
 /**
  * Product 서비스 연동 과정에서 발생하는 예외를 나타낸다.
@@ -13,7 +14,14 @@ import com.athenhub.commoncore.error.ErrorCode;
  * @author 김지원
  * @since 1.0.0
  */
-public class ProductFeignException extends AbstractServiceException {
+public class ProductFeignException extends AbstractServiceException
+    implements RemoteServiceException {
+
+  /** 외부 서비스의 서버 측 오류(5xx) 여부. */
+  private final boolean serverError;
+
+  /** 요청한 상품이 존재하지 않음(404) 여부. */
+  private final boolean notFound;
 
   /**
    * Product 서비스 호출 중 발생한 예외를 생성한다.
@@ -25,5 +33,26 @@ public class ProductFeignException extends AbstractServiceException {
    */
   public ProductFeignException(ErrorCode errorCode, Object... errorArgs) {
     super(errorCode, errorArgs);
+    this.serverError = errorCode.getStatus() >= 500;
+    this.notFound = errorCode.getStatus() == 404;
+  }
+
+  /**
+   * 외부 서비스의 서버 측 오류(5xx)인지 여부를 반환한다.
+   *
+   * @return 서버 측 오류이면 {@code true}
+   */
+  @Override
+  public boolean isServerError() {
+    return serverError;
+  }
+
+  /**
+   * 요청한 상품이 존재하지 않아 발생한 예외인지 여부를 반환한다.
+   *
+   * @return 상품이 존재하지 않으면 {@code true}
+   */
+  public boolean isNotFound() {
+    return notFound;
   }
 }
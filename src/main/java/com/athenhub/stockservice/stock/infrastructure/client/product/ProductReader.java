@@ -0,0 +1,108 @@
+package com.athenhub.stockservice.stock.infrastructure.client.product;
+
+import com.athenhub.stockservice.stock.infrastructure.client.product.config.ProductLookupProperties;
+import com.athenhub.stockservice.stock.infrastructure.client.product.dto.ProductDetail;
+import com.athenhub.stockservice.stock.infrastructure.client.resilience.ClientResilienceProperties;
+import com.athenhub.stockservice.stock.infrastructure.client.resilience.ResilientClientExecutor;
+import com.athenhub.stockservice.stock.infrastructure.client.resilience.StaleCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@link ProductClient} 호출에 서킷 브레이커, Bulkhead, Stale 캐시 Fallback을 적용하여 상품 정보를 조회하는 컴포넌트이다.
+ *
+ * <p>상품 검증기들은 {@link ProductClient}를 직접 호출하지 않고 이 컴포넌트를 통해 조회한다. Product 서비스가 느려지거나 장애가 발생하면
+ * 서킷이 열려 요청 스레드가 외부 응답을 기다리며 쌓이지 않고 즉시 실패하며, Stale 캐시가 활성화된 경우 최근에 조회한 상품 정보로 대체한다.
+ *
+ * <p>다건 조회 API는 {@code client.product.batch-lookup.enabled}가 활성화된 경우에만 호출하며, 비활성화 상태에서는 단건 조회 API를
+ * 상품마다 호출해 같은 결과를 만든다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@EnableConfigurationProperties(ProductLookupProperties.class)
+public class ProductReader {
+
+  /** Feign Client 이름이자 보호 설정 키. */
+  public static final String CLIENT_NAME = "product-service";
+
+  private final ProductClient productClient;
+  private final ResilientClientExecutor executor;
+  private final StaleCache<UUID, ProductDetail> staleCache;
+  private final boolean batchLookupEnabled;
+
+  /**
+   * 상품 조회 컴포넌트를 생성한다.
+   *
+   * @param productClient Product 서비스 Feign Client
+   * @param executor 외부 호출 실행기
+   * @param properties Client 보호 설정
+   * @param lookupProperties 상품 조회 방식 설정
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public ProductReader(
+      ProductClient productClient,
+      ResilientClientExecutor executor,
+      ClientResilienceProperties properties,
+      ProductLookupProperties lookupProperties,
+      MeterRegistry meterRegistry) {
+    this.productClient = productClient;
+    this.executor = executor;
+    this.staleCache = StaleCache.of(CLIENT_NAME, properties, meterRegistry);
+    this.batchLookupEnabled = lookupProperties.getBatchLookup().isEnabled();
+  }
+
+  /**
+   * 단일 상품 정보를 조회한다.
+   *
+   * @param productId 상품 ID
+   * @return 상품 상세 정보
+   */
+  public ProductDetail getProduct(UUID productId) {
+    return staleCache.load(
+        productId, () -> executor.execute(CLIENT_NAME, () -> productClient.getProduct(productId)));
+  }
+
+  /**
+   * 여러 상품 정보를 한 번에 조회한다.
+   *
+   * <p>외부 서비스 장애 시에는 요청한 모든 상품이 Stale 캐시에 있을 때만 Fallback한다. 다건 조회 API가 비활성화된 경우 {@link
+   * #getProduct(UUID)}를 상품마다 호출하며, 존재하지 않는 상품은 다건 조회 API와 마찬가지로 결과에서 제외한다.
+   *
+   * @param productIds 상품 ID 목록
+   * @return 조회된 상품 상세 정보 목록
+   */
+  public List<ProductDetail> getProducts(List<UUID> productIds) {
+    if (!batchLookupEnabled) {
+      return getProductsOneByOne(productIds);
+    }
+
+    List<ProductDetail> products;
+    try {
+      products = executor.execute(CLIENT_NAME, () -> productClient.getProducts(productIds));
+    } catch (RuntimeException e) {
+      return staleCache.fallback(productIds, e);
+    }
+    products.forEach(product -> staleCache.put(product.productId(), product));
+    return products;
+  }
+
+  private List<ProductDetail> getProductsOneByOne(List<UUID> productIds) {
+    List<ProductDetail> products = new ArrayList<>(productIds.size());
+    for (UUID productId : productIds) {
+      try {
+        products.add(getProduct(productId));
+      } catch (ProductFeignException e) {
+        if (!e.isNotFound()) {
+          throw e;
+        }
+      }
+    }
+    return products;
+  }
+}
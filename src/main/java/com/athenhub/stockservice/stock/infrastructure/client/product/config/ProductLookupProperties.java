@@ -0,0 +1,38 @@
+package com.athenhub.stockservice.stock.infrastructure.client.product.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Product 서비스 상품 조회 방식 설정 값을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>{@code application.yml}의 {@code client.product.*} 아래에 정의된 값을 로딩한다. 다건 조회 API({@code GET
+ * /api/v1/products?ids=...})는 Product 서비스에 배포된 뒤에만 활성화해야 하며, 비활성화 상태에서는 단건 조회 API를 상품마다 호출한다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * client:
+ *   product:
+ *     batch-lookup:
+ *       enabled: false
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "client.product")
+public class ProductLookupProperties {
+
+  /** 다건 조회 API 사용 설정. */
+  private BatchLookup batchLookup = new BatchLookup();
+
+  /** 다건 조회 API 사용 설정. */
+  @Data
+  public static class BatchLookup {
+
+    /** 다건 조회 API 사용 여부. 비활성화 시 단건 조회 API로 대체한다. */
+    private boolean enabled = false;
+  }
+}
@@ -0,0 +1,99 @@
+package com.athenhub.stockservice.stock.infrastructure.client.product.validator;
+
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.domain.dto.ProductValidationResult;
+import com.athenhub.stockservice.stock.domain.dto.ProductVariantMatchCommand;
+import com.athenhub.stockservice.stock.domain.service.ProductBatchValidator;
+import com.athenhub.stockservice.stock.infrastructure.client.product.ProductReader;
+import com.athenhub.stockservice.stock.infrastructure.client.product.dto.ProductDetail;
+import com.athenhub.stockservice.stock.infrastructure.client.product.dto.ProductVariantDetails;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 서비스의 다건 조회 API를 이용해 여러 상품을 한 번에 검증하는 기본 구현체이다.
+ *
+ * <p>상품 ID를 {@value #LOOKUP_CHUNK_SIZE}개 단위로 나누어 조회하므로, 상품 수가 N개일 때 외부 호출 횟수는 N이 아닌 N /
+ * {@value #LOOKUP_CHUNK_SIZE}회로 줄어든다. 다건 조회 API가 비활성화된 경우 {@link ProductReader}가 단건 조회로 대체한다.
+ *
+ * <p>각 상품에 대한 판단 기준은 {@link DefaultProductAccessPermissionValidator}, {@link
+ * DefaultProductVariantConsistencyValidator}와 동일하다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DefaultProductBatchValidator implements ProductBatchValidator {
+
+  /** 한 번의 다건 조회 요청에 포함할 최대 상품 ID 수. */
+  private static final int LOOKUP_CHUNK_SIZE = 100;
+
+  private final ProductReader productReader;
+
+  /**
+   * 여러 상품의 접근 권한과 옵션 일관성을 검증한다.
+   *
+   * @param accessContext 접근 주체 및 소속 정보
+   * @param commands 상품별 옵션 검증 요청 목록
+   * @return 상품 ID별 검증 결과
+   */
+  @Override
+  public Map<UUID, ProductValidationResult> validateAll(
+      AccessContext accessContext, List<ProductVariantMatchCommand> commands) {
+
+    Map<UUID, ProductDetail> products =
+        fetchProducts(commands.stream().map(ProductVariantMatchCommand::productId).toList());
+
+    Map<UUID, ProductValidationResult> results = new HashMap<>();
+    for (ProductVariantMatchCommand command : commands) {
+      results.put(
+          command.productId(),
+          validate(accessContext, command, products.get(command.productId())));
+    }
+    return results;
+  }
+
+  private static ProductValidationResult validate(
+      AccessContext accessContext, ProductVariantMatchCommand command, ProductDetail product) {
+
+    if (product == null) {
+      return ProductValidationResult.NOT_FOUND;
+    }
+    if (!DefaultProductAccessPermissionValidator.isProductInSameContext(accessContext, product)) {
+      return ProductValidationResult.ACCESS_DENIED;
+    }
+
+    Set<UUID> existingVariantIds =
+        product.variants().stream()
+            .map(ProductVariantDetails::variantId)
+            .collect(Collectors.toSet());
+    if (!existingVariantIds.equals(Set.copyOf(command.productVariantIds()))) {
+      return ProductValidationResult.VARIANT_MISMATCH;
+    }
+    return ProductValidationResult.VALID;
+  }
+
+  private Map<UUID, ProductDetail> fetchProducts(List<UUID> productIds) {
+    List<UUID> distinctIds = productIds.stream().distinct().toList();
+
+    Map<UUID, ProductDetail> products = new HashMap<>();
+    for (int from = 0; from < distinctIds.size(); from += LOOKUP_CHUNK_SIZE) {
+      List<UUID> chunk =
+          distinctIds.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, distinctIds.size()));
+      products.putAll(
+          productReader.getProducts(chunk).stream()
+              .collect(
+                  Collectors.toMap(
+                      ProductDetail::productId, Function.identity(), (first, second) -> first)));
+    }
+    return products;
+  }
+}
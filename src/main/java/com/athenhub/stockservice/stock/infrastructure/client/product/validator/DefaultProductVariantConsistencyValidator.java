@@ -3,7 +3,7 @@ package com.athenhub.stockservice.stock.infrastructure.client.product.validator;
 import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
 import com.athenhub.stockservice.stock.domain.dto.ProductVariantMatchCommand;
 import com.athenhub.stockservice.stock.domain.service.ProductVariantConsistencyValidator;
-import com.athenhub.stockservice.stock.infrastructure.client.product.ProductClient;
+import com.athenhub.stockservice.stock.infrastructure.client.product.ProductReader;
 import com.athenhub.stockservice.stock.infrastructure.client.product.dto.ProductDetail;
 import com.athenhub.stockservice.stock.infrastructure.client.product.dto.ProductVariantDetails;
 import java.util.Set;
@@ -25,7 +25,7 @@ import org.springframework.stereotype.Component;
 public class DefaultProductVariantConsistencyValidator
     implements ProductVariantConsistencyValidator {
 
-  private final ProductClient productClient;
+  private final ProductReader productReader;
 
   /**
    * 상품 및 옵션이 모두 존재하는지 검증한다.
@@ -37,7 +37,7 @@ public class DefaultProductVariantConsistencyValidator
    */
   @Override
   public boolean matches(ProductVariantMatchCommand command) {
-    ProductDetail product = productClient.getProduct(command.productId());
+    ProductDetail product = productReader.getProduct(command.productId());
 
     Set<UUID> existingVariantIds = extractExistingVariantIds(product);
     Set<UUID> requestedVariantIds = toRequestedVariantIdSet(command);
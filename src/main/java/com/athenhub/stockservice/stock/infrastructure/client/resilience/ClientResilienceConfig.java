@@ -0,0 +1,119 @@
+package com.athenhub.stockservice.stock.infrastructure.client.resilience;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 외부 서비스 호출 보호(서킷 브레이커, Bulkhead) 구성을 담당하는 설정 클래스이다.
+ *
+ * <p>{@link ClientResilienceProperties}의 Client별 설정을 Resilience4j 레지스트리에 등록하고, 서킷 상태·실패율·Bulkhead
+ * 가용량 등을 {@code resilience4j.circuitbreaker.*}, {@code resilience4j.bulkhead.*} 메트릭으로 노출한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Configuration
+@EnableConfigurationProperties(ClientResilienceProperties.class)
+public class ClientResilienceConfig {
+
+  /**
+   * Client별 서킷 브레이커 설정이 등록된 레지스트리를 생성한다.
+   *
+   * @param properties Client 보호 설정
+   * @return 서킷 브레이커 레지스트리
+   */
+  @Bean
+  public CircuitBreakerRegistry clientCircuitBreakerRegistry(
+      ClientResilienceProperties properties) {
+    CircuitBreakerRegistry registry =
+        CircuitBreakerRegistry.of(toConfig(properties.getDefaults().getCircuitBreaker()));
+    properties
+        .getInstances()
+        .forEach(
+            (client, instance) ->
+                registry.addConfiguration(client, toConfig(instance.getCircuitBreaker())));
+    return registry;
+  }
+
+  /**
+   * Client별 Bulkhead 설정이 등록된 레지스트리를 생성한다.
+   *
+   * @param properties Client 보호 설정
+   * @return Bulkhead 레지스트리
+   */
+  @Bean
+  public BulkheadRegistry clientBulkheadRegistry(ClientResilienceProperties properties) {
+    BulkheadRegistry registry =
+        BulkheadRegistry.of(toConfig(properties.getDefaults().getBulkhead()));
+    properties
+        .getInstances()
+        .forEach(
+            (client, instance) ->
+                registry.addConfiguration(client, toConfig(instance.getBulkhead())));
+    return registry;
+  }
+
+  /**
+   * 외부 호출 실행기를 생성하고, 레지스트리 메트릭을 등록한다.
+   *
+   * @param circuitBreakerRegistry 서킷 브레이커 레지스트리
+   * @param bulkheadRegistry Bulkhead 레지스트리
+   * @param meterRegistry 메트릭 레지스트리
+   * @return 외부 호출 실행기
+   */
+  @Bean
+  public ResilientClientExecutor resilientClientExecutor(
+      CircuitBreakerRegistry circuitBreakerRegistry,
+      BulkheadRegistry bulkheadRegistry,
+      MeterRegistry meterRegistry) {
+    TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry)
+        .bindTo(meterRegistry);
+    TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+    return new ResilientClientExecutor(circuitBreakerRegistry, bulkheadRegistry);
+  }
+
+  /**
+   * 서킷 브레이커 설정 값을 Resilience4j 설정으로 변환한다.
+   *
+   * <p>{@link ResilientClientExecutor#isRemoteFailure(Throwable)}가 {@code true}인 예외만 실패로 기록하므로,
+   * 4xx 응답은 서킷을 열지 않는다.
+   *
+   * @param properties 서킷 브레이커 설정
+   * @return Resilience4j 서킷 브레이커 설정
+   */
+  static CircuitBreakerConfig toConfig(ClientResilienceProperties.CircuitBreaker properties) {
+    return CircuitBreakerConfig.custom()
+        .failureRateThreshold(properties.getFailureRateThreshold())
+        .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+        .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+        .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+        .slidingWindowSize(properties.getSlidingWindowSize())
+        .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+        .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+        .permittedNumberOfCallsInHalfOpenState(
+            properties.getPermittedNumberOfCallsInHalfOpenState())
+        .recordException(ResilientClientExecutor::isRemoteFailure)
+        .build();
+  }
+
+  /**
+   * Bulkhead 설정 값을 Resilience4j 설정으로 변환한다.
+   *
+   * @param properties Bulkhead 설정
+   * @return Resilience4j Bulkhead 설정
+   */
+  static BulkheadConfig toConfig(ClientResilienceProperties.Bulkhead properties) {
+    return BulkheadConfig.custom()
+        .maxConcurrentCalls(properties.getMaxConcurrentCalls())
+        .maxWaitDuration(properties.getMaxWaitDuration())
+        .build();
+  }
+}
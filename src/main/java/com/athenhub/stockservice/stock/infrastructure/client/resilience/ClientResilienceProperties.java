@@ -0,0 +1,122 @@
+package com.athenhub.stockservice.stock.infrastructure.client.resilience;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 외부 서비스(Feign Client) 호출 보호 설정 값을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>{@code application.yml}의 {@code client.resilience.*} 아래에 정의된 값을 로딩한다. {@code instances}에
+ * Feign Client 이름({@code product-service}, {@code member-service})으로 설정을 정의하면 해당 Client에 적용되고, 정의되지
+ * 않은 Client에는 {@code defaults}가 적용된다.
+ *
+ * <p>연결/읽기 타임아웃은 Feign 자체 설정({@code spring.cloud.openfeign.client.config.<name>.*})으로 지정한다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * client:
+ *   resilience:
+ *     instances:
+ *       product-service:
+ *         circuit-breaker:
+ *           failure-rate-threshold: 50
+ *           slow-call-duration-threshold: 2s
+ *         bulkhead:
+ *           max-concurrent-calls: 20
+ *         stale-cache:
+ *           enabled: true
+ *           ttl: 5m
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "client.resilience")
+public class ClientResilienceProperties {
+
+  /** 별도 설정이 없는 Client에 적용되는 기본 설정. */
+  private Instance defaults = new Instance();
+
+  /** Feign Client 이름별 설정. */
+  private Map<String, Instance> instances = new HashMap<>();
+
+  /**
+   * 주어진 Client에 적용할 설정을 반환한다.
+   *
+   * @param client Feign Client 이름
+   * @return Client별 설정, 없으면 기본 설정
+   */
+  public Instance forClient(String client) {
+    return instances.getOrDefault(client, defaults);
+  }
+
+  /** Client 하나에 적용되는 보호 설정. */
+  @Data
+  public static class Instance {
+
+    /** 서킷 브레이커 설정. */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /** 동시 호출 수 제한(Bulkhead) 설정. */
+    private Bulkhead bulkhead = new Bulkhead();
+
+    /** 장애 시 마지막 성공 응답을 사용하는 Stale 캐시 설정. */
+    private StaleCache staleCache = new StaleCache();
+  }
+
+  /** 서킷 브레이커 설정. */
+  @Data
+  public static class CircuitBreaker {
+
+    /** 서킷을 여는 실패율(%) 임계값. */
+    private float failureRateThreshold = 50;
+
+    /** 서킷을 여는 느린 호출 비율(%) 임계값. */
+    private float slowCallRateThreshold = 80;
+
+    /** 느린 호출로 판단하는 응답 시간. */
+    private Duration slowCallDurationThreshold = Duration.ofSeconds(2);
+
+    /** 실패율을 계산하는 최근 호출 수(슬라이딩 윈도우 크기). */
+    private int slidingWindowSize = 50;
+
+    /** 실패율을 계산하기 위한 최소 호출 수. */
+    private int minimumNumberOfCalls = 20;
+
+    /** 서킷이 열린 후 Half-Open으로 전환하기까지 대기 시간. */
+    private Duration waitDurationInOpenState = Duration.ofSeconds(10);
+
+    /** Half-Open 상태에서 허용하는 시험 호출 수. */
+    private int permittedNumberOfCallsInHalfOpenState = 5;
+  }
+
+  /** 동시 호출 수 제한(Bulkhead) 설정. */
+  @Data
+  public static class Bulkhead {
+
+    /** 동시에 진행할 수 있는 최대 호출 수. */
+    private int maxConcurrentCalls = 25;
+
+    /** 허용 수를 초과했을 때 빈자리를 기다리는 최대 시간. 0이면 즉시 거절한다. */
+    private Duration maxWaitDuration = Duration.ZERO;
+  }
+
+  /** Stale 캐시 설정. */
+  @Data
+  public static class StaleCache {
+
+    /** Stale 캐시 Fallback 사용 여부. */
+    private boolean enabled = false;
+
+    /** 캐시된 응답을 Fallback으로 사용할 수 있는 최대 경과 시간. */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /** 보관할 최대 항목 수. */
+    private int maxSize = 10_000;
+  }
+}
@@ -0,0 +1,77 @@
+package com.athenhub.stockservice.stock.infrastructure.client.resilience;
+
+import com.athenhub.stockservice.stock.infrastructure.client.RemoteServiceException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 외부 서비스 호출을 Bulkhead와 서킷 브레이커로 감싸 실행하는 실행기이다.
+ *
+ * <p>호출은 별도 스레드 풀로 넘기지 않고 호출한 스레드에서 그대로 실행된다. {@link
+ * com.athenhub.stockservice.stock.infrastructure.client.config.FeignClientConfig}가 요청 헤더를
+ * {@code RequestContextHolder}(ThreadLocal)에서 복사하므로, 스레드를 바꾸면 인증 정보가 전달되지 않기 때문이다.
+ *
+ * <p>{@code spring.threads.virtual.enabled=true}이면 요청 스레드 자체가 가상 스레드이므로, 재고 등록 중의 Feign 호출도 응답을
+ * 기다리는 동안 플랫폼 스레드를 점유하지 않는다. 이때 요청 스레드 수가 더 이상 동시 호출 수를 제한하지 않으므로, 외부 서비스로 향하는
+ * 동시 호출 상한은 Bulkhead와 커넥션 풀 크기가 결정한다.
+ *
+ * <p>실행 순서:
+ *
+ * <ol>
+ *   <li>Bulkhead — 동시 호출 수가 한도를 넘으면 {@code BulkheadFullException}으로 즉시 거절
+ *   <li>서킷 브레이커 — 서킷이 열려 있으면 {@code CallNotPermittedException}으로 즉시 거절
+ *   <li>실제 Feign 호출
+ * </ol>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@RequiredArgsConstructor
+public class ResilientClientExecutor {
+
+  private final CircuitBreakerRegistry circuitBreakerRegistry;
+  private final BulkheadRegistry bulkheadRegistry;
+
+  /**
+   * 주어진 Client 이름의 Bulkhead와 서킷 브레이커를 적용하여 호출을 실행한다.
+   *
+   * @param client Feign Client 이름
+   * @param call 실제 외부 호출
+   * @param <T> 응답 타입
+   * @return 호출 결과
+   */
+  public <T> T execute(String client, Supplier<T> call) {
+    CircuitBreaker circuitBreaker =
+        circuitBreakerRegistry.circuitBreaker(
+            client,
+            circuitBreakerRegistry
+                .getConfiguration(client)
+                .orElseGet(circuitBreakerRegistry::getDefaultConfig));
+    Bulkhead bulkhead =
+        bulkheadRegistry.bulkhead(
+            client,
+            bulkheadRegistry
+                .getConfiguration(client)
+                .orElseGet(bulkheadRegistry::getDefaultConfig));
+
+    Supplier<T> guarded = CircuitBreaker.decorateSupplier(circuitBreaker, call);
+    return Bulkhead.decorateSupplier(bulkhead, guarded).get();
+  }
+
+  /**
+   * 예외가 외부 서비스 자체의 장애인지 판단한다.
+   *
+   * <p>4xx 응답으로 변환된 {@link RemoteServiceException}은 정상적인 비즈니스 응답이므로 장애로 보지 않는다. 그 외 타임아웃, 연결
+   * 실패, 5xx 응답, 서킷/Bulkhead 거절은 모두 장애로 판단한다.
+   *
+   * @param throwable 호출 중 발생한 예외
+   * @return 외부 서비스 장애이면 {@code true}
+   */
+  public static boolean isRemoteFailure(Throwable throwable) {
+    return !(throwable instanceof RemoteServiceException remote) || remote.isServerError();
+  }
+}
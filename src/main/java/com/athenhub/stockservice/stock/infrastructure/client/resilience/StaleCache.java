@@ -0,0 +1,165 @@
+package com.athenhub.stockservice.stock.infrastructure.client.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 외부 서비스의 마지막 성공 응답을 보관하였다가, 장애 시 Fallback으로 반환하는 캐시이다.
+ *
+ * <p>정상 호출 시에는 항상 외부 서비스를 호출하고 그 결과를 저장만 한다. 외부 서비스 장애({@link
+ * ResilientClientExecutor#isRemoteFailure(Throwable)})로 호출이 실패한 경우에만, TTL 이내에 저장된 응답이 있으면 이를
+ * 대신 반환한다. 비활성화된 경우 저장도 Fallback도 하지 않는다.
+ *
+ * <p>Fallback이 발생할 때마다 {@code client.stale.fallbacks} 카운터가 증가한다.
+ *
+ * @param <K> 캐시 키 타입
+ * @param <V> 캐시 값 타입
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+public class StaleCache<K, V> {
+
+  private final String client;
+  private final boolean enabled;
+  private final Duration ttl;
+  private final int maxSize;
+  private final Clock clock;
+  private final Counter fallbacks;
+  private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+  StaleCache(
+      String client,
+      ClientResilienceProperties.StaleCache properties,
+      MeterRegistry meterRegistry,
+      Clock clock) {
+    this.client = client;
+    this.enabled = properties.isEnabled();
+    this.ttl = properties.getTtl();
+    this.maxSize = properties.getMaxSize();
+    this.clock = clock;
+    this.fallbacks =
+        Counter.builder("client.stale.fallbacks")
+            .description("외부 서비스 장애로 Stale 캐시 응답을 반환한 횟수")
+            .tag("client", client)
+            .register(meterRegistry);
+  }
+
+  /**
+   * 주어진 Client 설정으로 Stale 캐시를 생성한다.
+   *
+   * @param client Feign Client 이름
+   * @param properties Client 보호 설정
+   * @param meterRegistry 메트릭 레지스트리
+   * @param <K> 캐시 키 타입
+   * @param <V> 캐시 값 타입
+   * @return Stale 캐시
+   */
+  public static <K, V> StaleCache<K, V> of(
+      String client, ClientResilienceProperties properties, MeterRegistry meterRegistry) {
+    return new StaleCache<>(
+        client,
+        properties.forClient(client).getStaleCache(),
+        meterRegistry,
+        Clock.systemUTC());
+  }
+
+  /**
+   * 외부 호출 결과를 반환하고 저장한다. 외부 서비스 장애 시에는 저장된 응답으로 대체한다.
+   *
+   * @param key 캐시 키
+   * @param loader 외부 호출
+   * @return 외부 호출 결과 또는 Stale 응답
+   */
+  public V load(K key, Supplier<V> loader) {
+    V value;
+    try {
+      value = loader.get();
+    } catch (RuntimeException e) {
+      return fallback(List.of(key), e).get(0);
+    }
+    put(key, value);
+    return value;
+  }
+
+  /**
+   * 외부 호출 결과를 저장한다.
+   *
+   * @param key 캐시 키
+   * @param value 외부 호출 결과
+   */
+  public void put(K key, V value) {
+    if (!enabled || value == null) {
+      return;
+    }
+    if (entries.size() >= maxSize && !entries.containsKey(key)) {
+      evictOne();
+    }
+    entries.put(key, new Entry<>(value, clock.instant()));
+  }
+
+  /**
+   * 외부 호출 실패 시 여러 키에 대한 Stale 응답을 반환한다.
+   *
+   * <p>모든 키에 대해 TTL 이내의 응답이 있을 때만 Fallback하며, 하나라도 없으면 원래 예외를 다시 던진다. 일부만 반환하면 조회되지 않은 항목이
+   * "존재하지 않음"으로 잘못 해석될 수 있기 때문이다.
+   *
+   * @param keys 캐시 키 목록
+   * @param cause 외부 호출 중 발생한 예외
+   * @return 키 순서대로 정렬된 Stale 응답 목록
+   * @throws RuntimeException Fallback할 수 없는 경우 {@code cause}
+   */
+  public List<V> fallback(Collection<K> keys, RuntimeException cause) {
+    if (!enabled || !ResilientClientExecutor.isRemoteFailure(cause)) {
+      throw cause;
+    }
+
+    Instant now = clock.instant();
+    List<V> values = new ArrayList<>(keys.size());
+    Duration oldest = Duration.ZERO;
+    for (K key : keys) {
+      Entry<V> entry = entries.get(key);
+      if (entry == null || entry.isExpired(now, ttl)) {
+        throw cause;
+      }
+      values.add(entry.value());
+      Duration age = Duration.between(entry.storedAt(), now);
+      oldest = age.compareTo(oldest) > 0 ? age : oldest;
+    }
+
+    fallbacks.increment(values.size());
+    log.warn(
+        "[STALE_FALLBACK] client={} keys={} maxAgeMs={} cause={}",
+        client,
+        keys.size(),
+        oldest.toMillis(),
+        cause.toString());
+    return values;
+  }
+
+  private void evictOne() {
+    Iterator<K> iterator = entries.keySet().iterator();
+    if (iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private record Entry<V>(V value, Instant storedAt) {
+
+    boolean isExpired(Instant now, Duration ttl) {
+      return storedAt.plus(ttl).isBefore(now);
+    }
+  }
+}
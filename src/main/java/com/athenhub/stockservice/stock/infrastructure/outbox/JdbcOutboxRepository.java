@@ -0,0 +1,161 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@link JdbcTemplate}으로 Outbox 테이블({@code p_stock_outbox})을 다루는 저장소이다.
+ *
+ * <p>저장은 호출 측 트랜잭션에 참여하는 배치 INSERT로 수행된다. Relay는 {@code FOR UPDATE SKIP LOCKED}로 행을 잠근 뒤
+ * {@code claimed_until}을 기록하여 선점하고 바로 커밋하므로, 잠금을 발행 동안 유지하지 않으면서도 여러 인스턴스가 같은 메시지를 동시에
+ * 발행하지 않는다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcOutboxRepository {
+
+  /** 한 번의 JDBC 배치에 포함할 최대 행 수. */
+  private static final int BATCH_SIZE = 500;
+
+  private static final String INSERT_SQL =
+      "insert into p_stock_outbox (aggregate_type, aggregate_id, exchange, routing_key,"
+          + " payload_type, payload, created_at) values (?, ?, ?, ?, ?, ?, ?)";
+
+  /**
+   * 발행되지 않았고 다른 Relay가 선점하지 않은(또는 선점 기한이 지난) 메시지를 저장 순서대로 잠근다.
+   *
+   * <p>같은 Aggregate에 자신보다 먼저 저장된 미발행 메시지가 있는 행은 제외한다. 앞선 메시지가 다른 Relay에 선점되어 있어도 미발행 상태이므로,
+   * 뒤의 메시지가 먼저 발행되는 일이 없다.
+   */
+  private static final String LOCK_NEXT_BATCH_SQL =
+      "select o.outbox_id, o.aggregate_type, o.aggregate_id, o.exchange, o.routing_key,"
+          + " o.payload_type, o.payload from p_stock_outbox o"
+          + " where o.published_at is null"
+          + " and (o.claimed_until is null or o.claimed_until < ?)"
+          + " and not exists (select 1 from p_stock_outbox p"
+          + " where p.aggregate_id = o.aggregate_id and p.published_at is null"
+          + " and p.outbox_id < o.outbox_id)"
+          + " order by o.outbox_id limit ? for update skip locked";
+
+  private static final String CLAIM_SQL =
+      "update p_stock_outbox set claimed_until = ? where outbox_id = ?";
+
+  private static final String MARK_PUBLISHED_SQL =
+      "update p_stock_outbox set published_at = ?, claimed_until = null where outbox_id = ?";
+
+  private static final String RELEASE_CLAIM_SQL =
+      "update p_stock_outbox set claimed_until = null where outbox_id = ?";
+
+  private static final String DELETE_PUBLISHED_SQL =
+      "delete from p_stock_outbox where outbox_id in (select outbox_id from p_stock_outbox"
+          + " where published_at < ? order by outbox_id limit ?)";
+
+  private static final RowMapper<OutboxEntry> ROW_MAPPER =
+      (rs, rowNum) ->
+          new OutboxEntry(
+              rs.getLong("outbox_id"),
+              rs.getString("aggregate_type"),
+              rs.getObject("aggregate_id", UUID.class),
+              rs.getString("exchange"),
+              rs.getString("routing_key"),
+              rs.getString("payload_type"),
+              rs.getString("payload"));
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * Outbox 메시지를 배치 INSERT로 저장한다.
+   *
+   * @param entries 저장할 메시지 목록
+   */
+  public void insertAll(List<OutboxEntry> entries) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    jdbcTemplate.batchUpdate(
+        INSERT_SQL,
+        entries,
+        BATCH_SIZE,
+        (ps, entry) -> {
+          ps.setString(1, entry.aggregateType());
+          ps.setObject(2, entry.aggregateId());
+          ps.setString(3, entry.exchange());
+          ps.setString(4, entry.routingKey());
+          ps.setString(5, entry.payloadType());
+          ps.setString(6, entry.payload());
+          ps.setTimestamp(7, now);
+        });
+  }
+
+  /**
+   * 다음에 발행할 메시지를 최대 {@code limit}건 잠그고 {@code lease} 동안 선점한다.
+   *
+   * <p>호출 측 트랜잭션 안에서 호출해야 하며, 커밋하면 행 잠금은 풀리지만 선점 기한까지 다른 Relay가 조회하지 않는다. 선점한 Relay가 기한 안에
+   * {@link #markPublished(List)} 또는 {@link #releaseClaims(List)}를 호출하지 못하고 종료되면 기한이 지난 뒤 다시 발행된다.
+   *
+   * @param limit 최대 조회 건수
+   * @param lease 선점 유지 시간
+   * @return 저장 순서대로 정렬된 메시지 목록
+   */
+  public List<OutboxEntry> claimNextBatch(int limit, Duration lease) {
+    LocalDateTime now = LocalDateTime.now();
+    List<OutboxEntry> entries =
+        jdbcTemplate.query(LOCK_NEXT_BATCH_SQL, ROW_MAPPER, Timestamp.valueOf(now), limit);
+    if (!entries.isEmpty()) {
+      updateAll(
+          CLAIM_SQL,
+          Timestamp.valueOf(now.plus(lease)),
+          entries.stream().map(OutboxEntry::id).toList());
+    }
+    return entries;
+  }
+
+  /**
+   * 메시지를 발행 완료로 표시하고 선점을 해제한다.
+   *
+   * @param ids 발행된 메시지 식별자 목록
+   */
+  public void markPublished(List<Long> ids) {
+    updateAll(MARK_PUBLISHED_SQL, Timestamp.valueOf(LocalDateTime.now()), ids);
+  }
+
+  /**
+   * 발행이 확인되지 않은 메시지의 선점을 해제하여 다음 주기에 바로 다시 발행되도록 한다.
+   *
+   * @param ids 선점을 해제할 메시지 식별자 목록
+   */
+  public void releaseClaims(List<Long> ids) {
+    jdbcTemplate.batchUpdate(RELEASE_CLAIM_SQL, ids, BATCH_SIZE, (ps, id) -> ps.setLong(1, id));
+  }
+
+  /**
+   * 지정한 시각 이전에 발행된 메시지를 최대 {@code limit}건 삭제한다.
+   *
+   * @param cutoff 기준 시각
+   * @param limit 최대 삭제 건수
+   * @return 삭제된 행 수
+   */
+  public int deletePublishedBefore(LocalDateTime cutoff, int limit) {
+    return jdbcTemplate.update(DELETE_PUBLISHED_SQL, Timestamp.valueOf(cutoff), limit);
+  }
+
+  private void updateAll(String sql, Timestamp timestamp, List<Long> ids) {
+    jdbcTemplate.batchUpdate(
+        sql,
+        ids,
+        BATCH_SIZE,
+        (ps, id) -> {
+          ps.setTimestamp(1, timestamp);
+          ps.setLong(2, id);
+        });
+  }
+}
@@ -0,0 +1,111 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter.StockMessageConverter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 발행할 메시지를 호출 측 트랜잭션 안에서 Outbox 테이블에 저장한다.
+ *
+ * <p>비즈니스 데이터와 메시지가 같은 트랜잭션으로 커밋되므로, 롤백된 변경의 이벤트가 발행되거나 커밋된 변경의 이벤트가 유실되지 않는다. 실제 발행은
+ * {@link OutboxRelay}가 커밋 이후에 수행하므로 트랜잭션이 Broker 응답을 기다리지 않는다.
+ *
+ * <p>Payload는 RabbitMQ 발행에 사용하는 {@link Jackson2JsonMessageConverter}와 같은 ObjectMapper로 미리 직렬화하여,
+ * Relay가 발행하는 메시지가 직접 발행할 때와 같은 JSON 형식을 갖도록 한다. Outbox는 본문을 UTF-8 문자열로 저장하므로 압축이나 바이너리 포맷은
+ * 적용하지 않는다({@link StockMessageConverter#jsonOnly()}).
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+public class OutboxAppender {
+
+  private final JdbcOutboxRepository outboxRepository;
+  private final Jackson2JsonMessageConverter messageConverter;
+
+  /**
+   * Outbox 저장 컴포넌트를 생성한다.
+   *
+   * @param outboxRepository Outbox 저장소
+   * @param messageConverter RabbitMQ 발행에 사용하는 메시지 컨버터
+   */
+  public OutboxAppender(
+      JdbcOutboxRepository outboxRepository, Jackson2JsonMessageConverter messageConverter) {
+    this.outboxRepository = outboxRepository;
+    this.messageConverter =
+        messageConverter instanceof StockMessageConverter stockConverter
+            ? stockConverter.jsonOnly()
+            : messageConverter;
+  }
+
+  /**
+   * 메시지 하나를 Outbox에 저장한다.
+   *
+   * @param aggregateType 메시지가 속한 Aggregate 종류
+   * @param aggregateId 메시지가 속한 Aggregate 식별자
+   * @param exchange 발행할 Exchange
+   * @param routingKey 발행할 Routing Key
+   * @param payload 메시지 Payload
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public void append(
+      String aggregateType, UUID aggregateId, String exchange, String routingKey, Object payload) {
+    outboxRepository.insertAll(
+        List.of(toEntry(aggregateType, aggregateId, exchange, routingKey, payload)));
+  }
+
+  /**
+   * 여러 메시지를 Outbox에 한 번에 저장한다.
+   *
+   * @param aggregateType 메시지가 속한 Aggregate 종류
+   * @param aggregateIdOf Payload에서 Aggregate 식별자를 꺼내는 함수
+   * @param exchange 발행할 Exchange
+   * @param routingKey 발행할 Routing Key
+   * @param payloads 메시지 Payload 목록
+   * @param <T> Payload 타입
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public <T> void appendAll(
+      String aggregateType,
+      Function<T, UUID> aggregateIdOf,
+      String exchange,
+      String routingKey,
+      List<T> payloads) {
+    if (payloads.isEmpty()) {
+      return;
+    }
+
+    outboxRepository.insertAll(
+        payloads.stream()
+            .map(
+                payload ->
+                    toEntry(
+                        aggregateType, aggregateIdOf.apply(payload), exchange, routingKey, payload))
+            .toList());
+  }
+
+  private OutboxEntry toEntry(
+      String aggregateType, UUID aggregateId, String exchange, String routingKey, Object payload) {
+    Message message = messageConverter.toMessage(payload, new MessageProperties());
+    String payloadType =
+        message.getMessageProperties().getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+    return new OutboxEntry(
+        null,
+        aggregateType,
+        aggregateId,
+        exchange,
+        routingKey,
+        payloadType,
+        new String(message.getBody(), StandardCharsets.UTF_8));
+  }
+}
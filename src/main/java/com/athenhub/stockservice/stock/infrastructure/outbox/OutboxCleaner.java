@@ -0,0 +1,46 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기간이 지난 발행 완료 Outbox 메시지를 삭제한다.
+ *
+ * <p>한 번에 {@code outbox.cleanup.batch-size}건씩 나누어 삭제하여 긴 잠금과 큰 트랜잭션을 피한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "outbox.cleanup",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class OutboxCleaner {
+
+  private final JdbcOutboxRepository outboxRepository;
+  private final OutboxProperties props;
+
+  /** 보관 기간이 지난 발행 완료 메시지를 삭제한다. */
+  @Scheduled(cron = "${outbox.cleanup.cron:0 30 3 * * *}")
+  public void cleanup() {
+    OutboxProperties.Cleanup cleanup = props.getCleanup();
+    LocalDateTime cutoff = LocalDateTime.now().minus(cleanup.getRetention());
+
+    int total = 0;
+    int deleted;
+    do {
+      deleted = outboxRepository.deletePublishedBefore(cutoff, cleanup.getBatchSize());
+      total += deleted;
+    } while (deleted == cleanup.getBatchSize());
+
+    log.info("[OUTBOX] cleanup deleted={}, cutoff={}", total, cutoff);
+  }
+}
@@ -0,0 +1,18 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Transactional Outbox 구성을 위한 설정 클래스이다.
+ *
+ * <p>{@link OutboxProperties}를 등록하고, {@link OutboxRelay}와 {@link OutboxCleaner}가 사용하는 스케줄링을 활성화한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {}
@@ -0,0 +1,25 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import java.util.UUID;
+
+/**
+ * Outbox 테이블의 한 행을 나타낸다.
+ *
+ * @param id 저장 순서를 나타내는 식별자, 저장 전에는 {@code null}
+ * @param aggregateType 메시지가 속한 Aggregate 종류
+ * @param aggregateId 메시지가 속한 Aggregate 식별자
+ * @param exchange 발행할 Exchange
+ * @param routingKey 발행할 Routing Key
+ * @param payloadType Payload의 타입 식별자 ({@code __TypeId__} 헤더 값)
+ * @param payload JSON으로 직렬화된 Payload
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record OutboxEntry(
+    Long id,
+    String aggregateType,
+    UUID aggregateId,
+    String exchange,
+    String routingKey,
+    String payloadType,
+    String payload) {}
@@ -0,0 +1,75 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 비즈니스 트랜잭션과 함께 저장되어 이후 RabbitMQ로 발행될 메시지를 나타내는 엔티티.
+ *
+ * <p>테이블 스키마를 정의하는 용도로 사용되며, 저장과 조회는 배치 처리를 위해 {@link JdbcOutboxRepository}가 JDBC로 직접 수행한다.
+ * {@code outbox_id}는 저장 순서대로 증가하므로 같은 Aggregate의 메시지는 {@code outbox_id} 순서로 발행된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Entity
+@Table(
+    name = "p_stock_outbox",
+    indexes = {
+      @Index(name = "idx_stock_outbox_published", columnList = "published_at, outbox_id"),
+      @Index(name = "idx_stock_outbox_aggregate", columnList = "aggregate_id, outbox_id")
+    })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class OutboxMessage {
+
+  /** 저장 순서를 나타내는 식별자. */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "outbox_id")
+  private Long id;
+
+  /** 메시지가 속한 Aggregate 종류 (예: ORDER, PRODUCT). */
+  @Column(nullable = false, length = 50)
+  private String aggregateType;
+
+  /** 메시지가 속한 Aggregate 식별자. 같은 값을 가진 메시지끼리 발행 순서가 보장된다. */
+  @Column(nullable = false)
+  private UUID aggregateId;
+
+  /** 발행할 Exchange. */
+  @Column(nullable = false)
+  private String exchange;
+
+  /** 발행할 Routing Key. */
+  @Column(nullable = false)
+  private String routingKey;
+
+  /** Payload의 타입 식별자 ({@code __TypeId__} 헤더 값). */
+  @Column(nullable = false)
+  private String payloadType;
+
+  /** JSON으로 직렬화된 Payload. */
+  @Column(nullable = false, length = 4000)
+  private String payload;
+
+  /** 저장 시각. */
+  @Column(nullable = false)
+  private LocalDateTime createdAt;
+
+  /** 발행 시각. 아직 발행되지 않았으면 {@code null}. */
+  private LocalDateTime publishedAt;
+
+  /** Relay 선점 기한. 이 시각까지는 다른 Relay가 발행하지 않으며, 선점되지 않았으면 {@code null}. */
+  private LocalDateTime claimedUntil;
+}
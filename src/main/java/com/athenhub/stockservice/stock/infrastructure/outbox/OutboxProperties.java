@@ -0,0 +1,79 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Transactional Outbox의 Relay와 정리 작업 설정 값을 바인딩하는 Properties 클래스이다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * outbox:
+ *   relay:
+ *     enabled: true
+ *     batch-size: 100
+ *     poll-interval: 100ms
+ *     confirm-timeout: 5s
+ *     claim-lease: 30s
+ *   cleanup:
+ *     enabled: true
+ *     retention: 7d
+ *     batch-size: 1000
+ *     cron: "0 30 3 * * *"
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+  /** Outbox 메시지를 RabbitMQ로 발행하는 Relay 설정. */
+  private Relay relay = new Relay();
+
+  /** 발행이 끝난 Outbox 메시지 정리 설정. */
+  private Cleanup cleanup = new Cleanup();
+
+  /** Relay 설정. */
+  @Data
+  public static class Relay {
+
+    /** Relay 사용 여부. */
+    private boolean enabled = true;
+
+    /** 한 번에 선점하고 발행할 최대 메시지 수. */
+    private int batchSize = 100;
+
+    /** 발행할 메시지가 없을 때 다음 조회까지의 대기 시간. */
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    /** 배치의 Publisher Confirm을 기다리는 최대 시간. 시간 내에 ACK되지 않은 메시지는 다음 주기에 다시 발행한다. */
+    private Duration confirmTimeout = Duration.ofSeconds(5);
+
+    /**
+     * 선점한 배치를 다른 Relay가 가져가지 않는 시간. 발행과 Confirm 대기를 마칠 수 있도록 {@code confirm-timeout}보다 길어야
+     * 하며, Relay가 종료되어 선점이 남은 메시지는 이 시간이 지난 뒤 다시 발행된다.
+     */
+    private Duration claimLease = Duration.ofSeconds(30);
+  }
+
+  /** 정리 작업 설정. */
+  @Data
+  public static class Cleanup {
+
+    /** 정리 작업 사용 여부. */
+    private boolean enabled = true;
+
+    /** 발행된 메시지를 보관하는 기간. */
+    private Duration retention = Duration.ofDays(7);
+
+    /** 한 번의 DELETE로 삭제할 최대 행 수. */
+    private int batchSize = 1000;
+
+    /** 정리 작업 실행 주기 (cron). */
+    private String cron = "0 30 3 * * *";
+  }
+}
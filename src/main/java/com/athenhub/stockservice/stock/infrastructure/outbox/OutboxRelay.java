@@ -0,0 +1,232 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Outbox 테이블에 저장된 메시지를 RabbitMQ로 발행하는 Relay이다.
+ *
+ * <p>{@code outbox.relay.poll-interval}마다 다음을 반복하며, 조회된 메시지가 {@code batch-size}만큼 가득 차 있으면
+ * 기다리지 않고 바로 다음 배치를 처리한다.
+ *
+ * <ol>
+ *   <li>미발행 메시지를 {@code FOR UPDATE SKIP LOCKED}로 최대 {@code batch-size}건 잠가 {@code claim-lease} 동안
+ *       선점하고 바로 커밋한다
+ *   <li>트랜잭션 밖에서 저장 순서대로 Publisher Confirm용 {@link CorrelationData}와 함께 발행한다
+ *   <li>{@code confirm-timeout}까지 배치의 Confirm을 기다린다
+ *   <li>짧은 트랜잭션으로 Broker가 ACK했고 Return되지 않은 메시지는 발행 완료로 표시하고, 나머지는 선점을 해제한다
+ * </ol>
+ *
+ * <p>Confirm을 기다리는 동안 DB 커넥션과 행 잠금을 잡고 있지 않으므로, Broker가 느려져도 Outbox에 저장하는 비즈니스 트랜잭션이나
+ * 커넥션 풀이 영향을 받지 않는다.
+ *
+ * <p>Outbox 테이블이 재전송 버퍼 역할을 하므로 메모리에서 재전송하지 않는다. NACK, Return, Confirm 시간 초과 또는 발행 예외가
+ * 발생한 메시지는 선점이 해제되어 다음 주기에 다시 발행되며, 프로세스가 Confirm 전에 종료되어도 선점 기한이 지나면 다시 발행되므로 메시지가
+ * 유실되지 않는다. 선점 쿼리는 같은 Aggregate에서 가장 먼저 저장된 미발행 메시지만 조회하므로, 앞선 메시지의 ACK가 확인되기 전에는 뒤의
+ * 메시지가 발행되지 않는다.
+ *
+ * <p>ACK를 받았지만 발행 완료 표시 전에 종료되거나 Confirm이 늦게 도착한 경우 같은 메시지가 두 번 발행될 수 있으므로, 소비 측은
+ * {@code messageId}({@code outbox-<id>})로 중복을 걸러야 한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "outbox.relay",
+    name = "enabled",
+    havingValue = "true",
+    matchIfMissing = true)
+public class OutboxRelay {
+
+  /** Relay가 발행하는 메시지의 messageId 접두사. */
+  private static final String MESSAGE_ID_PREFIX = "outbox-";
+
+  private final JdbcOutboxRepository outboxRepository;
+  private final RabbitTemplate rabbitTemplate;
+  private final TransactionTemplate transactionTemplate;
+  private final OutboxProperties props;
+  private final Counter relayedCounter;
+  private final Counter unconfirmedCounter;
+
+  /**
+   * OutboxRelay를 생성한다.
+   *
+   * @param outboxRepository Outbox 저장소
+   * @param rabbitTemplate 메시지 발행에 사용할 RabbitTemplate
+   * @param transactionManager 선점과 발행 완료 표시 트랜잭션을 열기 위한 트랜잭션 매니저
+   * @param props Outbox 설정
+   * @param meterRegistry 메트릭 등록 대상
+   */
+  public OutboxRelay(
+      JdbcOutboxRepository outboxRepository,
+      RabbitTemplate rabbitTemplate,
+      PlatformTransactionManager transactionManager,
+      OutboxProperties props,
+      MeterRegistry meterRegistry) {
+    this.outboxRepository = outboxRepository;
+    this.rabbitTemplate = rabbitTemplate;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.props = props;
+    this.relayedCounter = meterRegistry.counter("outbox.relay.published");
+    this.unconfirmedCounter = meterRegistry.counter("outbox.relay.unconfirmed");
+  }
+
+  /** 발행할 메시지가 남아 있는 동안 배치 단위로 발행한다. */
+  @Scheduled(fixedDelayString = "${outbox.relay.poll-interval:100ms}")
+  public void relay() {
+    int batchSize = props.getRelay().getBatchSize();
+    int relayed;
+    do {
+      relayed = relayBatch(batchSize);
+    } while (relayed == batchSize);
+  }
+
+  /**
+   * 메시지 한 배치를 선점하여 발행한 뒤, Broker가 ACK한 메시지만 발행 완료로 표시한다.
+   *
+   * <p>선점과 발행 완료 표시는 각각 짧은 트랜잭션으로 수행하고, 발행과 Confirm 대기는 트랜잭션 밖에서 수행한다. 배치의 일부가 확인되지 않으면
+   * 이번 주기를 멈추도록 조회한 건수 대신 0을 반환한다.
+   *
+   * @param batchSize 최대 배치 크기
+   * @return 배치가 모두 확인되면 조회한 메시지 수, 확인되지 않은 메시지가 있으면 0
+   */
+  int relayBatch(int batchSize) {
+    Duration claimLease = props.getRelay().getClaimLease();
+    List<OutboxEntry> entries =
+        transactionTemplate.execute(
+            status -> outboxRepository.claimNextBatch(batchSize, claimLease));
+    if (entries == null || entries.isEmpty()) {
+      return 0;
+    }
+
+    List<Long> confirmed = awaitConfirms(send(entries));
+    Set<Long> confirmedIds = new HashSet<>(confirmed);
+    List<Long> unconfirmed =
+        entries.stream().map(OutboxEntry::id).filter(id -> !confirmedIds.contains(id)).toList();
+
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          if (!confirmed.isEmpty()) {
+            outboxRepository.markPublished(confirmed);
+          }
+          if (!unconfirmed.isEmpty()) {
+            outboxRepository.releaseClaims(unconfirmed);
+          }
+        });
+
+    if (!confirmed.isEmpty()) {
+      relayedCounter.increment(confirmed.size());
+      log.debug("[OUTBOX] relayed count={}", confirmed.size());
+    }
+    if (!unconfirmed.isEmpty()) {
+      unconfirmedCounter.increment(unconfirmed.size());
+      return 0;
+    }
+    return entries.size();
+  }
+
+  /**
+   * 메시지를 저장 순서대로 발행한다. 발행 예외가 발생하면 이후 메시지는 발행하지 않는다.
+   *
+   * @param entries 발행할 메시지 목록
+   * @return 발행 요청에 성공한 메시지와 Confirm 추적 정보
+   */
+  private List<Sent> send(List<OutboxEntry> entries) {
+    List<Sent> sent = new ArrayList<>(entries.size());
+    for (OutboxEntry entry : entries) {
+      CorrelationData correlation = new CorrelationData(UUID.randomUUID().toString());
+      try {
+        rabbitTemplate.send(entry.exchange(), entry.routingKey(), toMessage(entry), correlation);
+        sent.add(new Sent(entry, correlation));
+      } catch (AmqpException ex) {
+        log.warn(
+            "[OUTBOX] relay stopped id={}, aggregateId={}, cause={}",
+            entry.id(),
+            entry.aggregateId(),
+            ex.getMessage());
+        break;
+      }
+    }
+    return sent;
+  }
+
+  /**
+   * 발행한 메시지의 Confirm을 {@code confirm-timeout}까지 기다린다.
+   *
+   * @param sent 발행한 메시지와 Confirm 추적 정보
+   * @return Broker가 ACK했고 Return되지 않은 메시지의 식별자 목록
+   */
+  private List<Long> awaitConfirms(List<Sent> sent) {
+    long deadline = System.nanoTime() + props.getRelay().getConfirmTimeout().toNanos();
+    List<Long> confirmed = new ArrayList<>(sent.size());
+
+    for (Sent message : sent) {
+      CorrelationData correlation = message.correlation();
+      String failure = null;
+      try {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        CorrelationData.Confirm confirm =
+            correlation.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+        if (!confirm.isAck()) {
+          failure = "nack: " + confirm.getReason();
+        } else if (correlation.getReturned() != null) {
+          failure = "returned: " + correlation.getReturned().getReplyText();
+        }
+      } catch (TimeoutException ex) {
+        failure = "confirm timeout";
+      } catch (ExecutionException ex) {
+        failure = ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        failure = "interrupted";
+      }
+
+      if (failure == null) {
+        confirmed.add(message.entry().id());
+      } else {
+        log.warn(
+            "[OUTBOX] unconfirmed id={}, aggregateId={}, reason={}",
+            message.entry().id(),
+            message.entry().aggregateId(),
+            failure);
+      }
+    }
+    return confirmed;
+  }
+
+  private static Message toMessage(OutboxEntry entry) {
+    MessageProperties properties = new MessageProperties();
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+    properties.setContentEncoding(StandardCharsets.UTF_8.name());
+    properties.setMessageId(MESSAGE_ID_PREFIX + entry.id());
+    properties.setHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, entry.payloadType());
+    return new Message(entry.payload().getBytes(StandardCharsets.UTF_8), properties);
+  }
+
+  /** 발행 요청에 성공한 메시지와 Confirm 추적 정보. */
+  private record Sent(OutboxEntry entry, CorrelationData correlation) {}
+}
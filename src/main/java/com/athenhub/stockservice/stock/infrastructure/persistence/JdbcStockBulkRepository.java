@@ -0,0 +1,136 @@
+package com.athenhub.stockservice.stock.infrastructure.persistence;
+
+import com.athenhub.stockservice.stock.domain.Stock;
+import com.athenhub.stockservice.stock.domain.StockHistory;
+import com.athenhub.stockservice.stock.domain.repository.StockBulkRepository;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * {@link JdbcTemplate}의 배치 INSERT를 이용한 {@link StockBulkRepository} 구현체이다.
+ *
+ * <p>엔티티를 영속성 컨텍스트에 올리지 않고 {@value #BATCH_SIZE}건 단위로 나누어 INSERT 하므로, 수천~수만 건의 재고 등록 시에도 메모리 사용량과
+ * DB 왕복 횟수가 제한된다. 호출 측 트랜잭션에 참여하므로 실패 시 함께 롤백된다.
+ *
+ * <p>JPA 감사(Auditing)가 적용되지 않으므로 {@code created_at}, {@code updated_at}은 저장 시점의 시각으로 직접 채운다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcStockBulkRepository implements StockBulkRepository {
+
+  /** 한 번의 JDBC 배치에 포함할 최대 행 수. */
+  private static final int BATCH_SIZE = 500;
+
+  private static final String INSERT_STOCK_SQL =
+      "insert into p_stock (stock_id, product_id, product_variant_id, quantity, version,"
+          + " created_at, updated_at) values (?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INSERT_STOCK_HISTORY_SQL =
+      "insert into p_stock_history (stock_history_id, order_id, stock_id, product_id,"
+          + " product_variant_id, event_type, changed_quantity, created_at, updated_at)"
+          + " values (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+  private static final String INCREASE_STOCK_SQL =
+      "update p_stock set quantity = quantity + ?, version = version + 1, updated_at = ?"
+          + " where product_variant_id = ?";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  /**
+   * 재고 목록을 배치 INSERT로 저장한다.
+   *
+   * @param stocks 저장할 재고 목록
+   */
+  @Override
+  public void insertAll(List<Stock> stocks) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    jdbcTemplate.batchUpdate(
+        INSERT_STOCK_SQL,
+        stocks,
+        BATCH_SIZE,
+        (ps, stock) -> {
+          ps.setObject(1, stock.getId().toUuid());
+          ps.setObject(2, stock.getProductId().toUuid());
+          ps.setObject(3, stock.getVariantId().toUuid());
+          ps.setInt(4, stock.getQuantity());
+          ps.setLong(5, 0L);
+          ps.setTimestamp(6, now);
+          ps.setTimestamp(7, now);
+        });
+  }
+
+  /**
+   * 재고 이력 목록을 배치 INSERT로 저장한다.
+   *
+   * @param histories 저장할 재고 이력 목록
+   */
+  @Override
+  public void insertHistories(List<StockHistory> histories) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+    jdbcTemplate.batchUpdate(
+        INSERT_STOCK_HISTORY_SQL,
+        histories,
+        BATCH_SIZE,
+        (ps, history) -> {
+          ps.setObject(1, history.getId().toUuid());
+          if (history.getOrderId() == null) {
+            ps.setNull(2, Types.OTHER);
+          } else {
+            ps.setObject(2, history.getOrderId().toUuid());
+          }
+          ps.setObject(3, history.getStockId().toUuid());
+          ps.setObject(4, history.getProductId().toUuid());
+          ps.setObject(5, history.getVariantId().toUuid());
+          ps.setString(6, history.getEventType().name());
+          ps.setInt(7, history.getChangedQuantity());
+          ps.setTimestamp(8, now);
+          ps.setTimestamp(9, now);
+        });
+  }
+
+  /**
+   * 상품 옵션별 재고 수량을 배치 UPDATE로 증가시킨다.
+   *
+   * @param quantitiesByVariantId 상품 옵션 ID별 증가 수량
+   * @return 상품 옵션 ID별 갱신된 행 수
+   */
+  @Override
+  public Map<UUID, Integer> increaseAll(Map<UUID, Integer> quantitiesByVariantId) {
+    Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+    List<Map.Entry<UUID, Integer>> entries = new ArrayList<>(quantitiesByVariantId.entrySet());
+
+    int[][] counts =
+        jdbcTemplate.batchUpdate(
+            INCREASE_STOCK_SQL,
+            entries,
+            BATCH_SIZE,
+            (ps, entry) -> {
+              ps.setInt(1, entry.getValue());
+              ps.setTimestamp(2, now);
+              ps.setObject(3, entry.getKey());
+            });
+
+    Map<UUID, Integer> updated = new LinkedHashMap<>();
+    int index = 0;
+    for (int[] batch : counts) {
+      for (int count : batch) {
+        updated.put(entries.get(index++).getKey(), count);
+      }
+    }
+    return updated;
+  }
+}
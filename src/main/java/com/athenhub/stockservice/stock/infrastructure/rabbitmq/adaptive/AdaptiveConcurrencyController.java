@@ -0,0 +1,267 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive.ConcurrencyDecision.Action;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.QueueDepthProbe;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock.StockDecreaseMessageProcessor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistry;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 감소 Queue를 소비하는 Listener 컨테이너의 Consumer 수와 Prefetch를 실행 중에 조정하는 컨트롤러이다.
+ *
+ * <p>{@code rabbit.stock.decrease.adaptive.interval}마다 다음 값을 모아 {@link
+ * AimdConcurrencyPolicy}로 다음 값을 결정하고 컨테이너에 적용한다.
+ *
+ * <ul>
+ *   <li>Queue 적체 — {@link QueueDepthProbe}가 passive declare로 조회하여 캐시한 값
+ *   <li>Hikari 커넥션 획득 대기 — {@code hikaricp.connections.acquire} 타이머의 직전 구간 평균
+ *   <li>Hikari 대기 스레드 — {@code hikaricp.connections.pending} 게이지
+ *   <li>락 충돌 비율 — {@value StockDecreaseMessageProcessor#MESSAGES_METRIC} 카운터의 직전 구간 {@code
+ *       CONFLICT} 비율
+ * </ul>
+ *
+ * <p>컨테이너 자체의 Consumer 증설 로직과 충돌하지 않도록 최소/최대 Consumer 수를 같은 값으로 설정한다. Prefetch 변경은 이후에 시작되는
+ * Consumer부터 적용된다. 최근 결정 이력은 {@code /actuator/stockconcurrency}에서 확인할 수 있다.
+ *
+ * <p>파티션 라우팅이 활성화된 경우에는 메인 Queue를 소비하는 컨테이너가 없으므로 조정하지 않는다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(
+    prefix = "rabbit.stock.decrease.adaptive",
+    name = "enabled",
+    havingValue = "true")
+public class AdaptiveConcurrencyController {
+
+  /** 보관하는 최근 결정 수. */
+  static final int HISTORY_SIZE = 50;
+
+  private static final String CONFLICT_RESULT = "CONFLICT";
+
+  private final RabbitStockProperties props;
+  private final QueueDepthProbe queueDepthProbe;
+  private final RabbitListenerEndpointRegistry listenerRegistry;
+  private final MeterRegistry meterRegistry;
+  private final AimdConcurrencyPolicy policy;
+
+  private long queueDepth;
+  private final AtomicInteger consumers = new AtomicInteger();
+  private final AtomicInteger prefetch = new AtomicInteger();
+  private final Deque<ConcurrencyDecision> history = new ArrayDeque<>();
+
+  private long lastAcquireCount;
+  private double lastAcquireMillis;
+  private double lastMessages;
+  private double lastConflicts;
+
+  /**
+   * 적응형 동시성 컨트롤러를 생성한다.
+   *
+   * @param props 재고 RabbitMQ 설정
+   * @param queueDepthProbe Queue 적체량 조회기
+   * @param listenerRegistry Listener 컨테이너 레지스트리
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public AdaptiveConcurrencyController(
+      RabbitStockProperties props,
+      QueueDepthProbe queueDepthProbe,
+      RabbitListenerEndpointRegistry listenerRegistry,
+      MeterRegistry meterRegistry) {
+    this.props = props;
+    this.queueDepthProbe = queueDepthProbe;
+    this.listenerRegistry = listenerRegistry;
+    this.meterRegistry = meterRegistry;
+    this.policy = new AimdConcurrencyPolicy(props.getDecrease().getAdaptive());
+
+    RabbitStockProperties.Adaptive adaptive = props.getDecrease().getAdaptive();
+    consumers.set(
+        Math.clamp(
+            props.getDecrease().getListener().getConcurrentConsumers(),
+            adaptive.getMinConsumers(),
+            Math.max(adaptive.getMinConsumers(), adaptive.getMaxConsumers())));
+    prefetch.set(
+        Math.clamp(
+            props.getDecrease().getListener().getPrefetch(),
+            adaptive.getMinPrefetch(),
+            Math.max(adaptive.getMinPrefetch(), adaptive.getMaxPrefetch())));
+
+    Gauge.builder("rabbit.listener.adaptive.consumers", consumers, AtomicInteger::get)
+        .tag("queue", props.getDecrease().getQueue())
+        .register(meterRegistry);
+    Gauge.builder("rabbit.listener.adaptive.prefetch", prefetch, AtomicInteger::get)
+        .tag("queue", props.getDecrease().getQueue())
+        .register(meterRegistry);
+  }
+
+  /** 관측 값을 모아 Consumer 수와 Prefetch를 조정한다. */
+  @Scheduled(fixedDelayString = "${rabbit.stock.decrease.adaptive.interval:10s}")
+  public synchronized void adjust() {
+    List<SimpleMessageListenerContainer> containers = decreaseContainers();
+    ConcurrencySignals signals = collectSignals();
+    if (containers.isEmpty()) {
+      return;
+    }
+
+    ConcurrencyDecision decision = policy.decide(signals, consumers.get(), prefetch.get());
+    if (decision.action() != Action.HOLD) {
+      containers.forEach(container -> apply(container, decision));
+      consumers.set(decision.consumers());
+      prefetch.set(decision.prefetch());
+      meterRegistry
+          .counter("rabbit.listener.adaptive.decisions", "action", decision.action().name())
+          .increment();
+      log.info(
+          "[ADAPTIVE_CONCURRENCY] action={} reason={} consumers={} prefetch={} depth={}"
+              + " acquireWaitMs={} pending={} conflictRate={}",
+          decision.action(),
+          decision.reason(),
+          decision.consumers(),
+          decision.prefetch(),
+          signals.queueDepth(),
+          String.format("%.1f", signals.acquireWaitMillis()),
+          signals.pendingConnections(),
+          String.format("%.3f", signals.conflictRate()));
+    }
+
+    history.addFirst(decision);
+    while (history.size() > HISTORY_SIZE) {
+      history.removeLast();
+    }
+  }
+
+  /**
+   * 현재 조정 상태와 최근 결정 이력을 반환한다.
+   *
+   * @return 조정 상태
+   */
+  public synchronized AdaptiveState state() {
+    RabbitStockProperties.Adaptive adaptive = props.getDecrease().getAdaptive();
+    return new AdaptiveState(
+        props.getDecrease().getQueue(),
+        consumers.get(),
+        prefetch.get(),
+        adaptive.getMinConsumers(),
+        adaptive.getMaxConsumers(),
+        adaptive.getMinPrefetch(),
+        adaptive.getMaxPrefetch(),
+        decreaseContainers().size(),
+        List.copyOf(history));
+  }
+
+  private void apply(SimpleMessageListenerContainer container, ConcurrencyDecision decision) {
+    int next = decision.consumers();
+    if (next >= consumers.get()) {
+      container.setMaxConcurrentConsumers(next);
+      container.setConcurrentConsumers(next);
+    } else {
+      container.setConcurrentConsumers(next);
+      container.setMaxConcurrentConsumers(next);
+    }
+    int batchSize =
+        props.getDecrease().getBatch().isEnabled() ? props.getDecrease().getBatch().getSize() : 0;
+    container.setPrefetchCount(Math.max(decision.prefetch(), batchSize));
+  }
+
+  private List<SimpleMessageListenerContainer> decreaseContainers() {
+    String queue = props.getDecrease().getQueue();
+    return listenerRegistry.getListenerContainers().stream()
+        .filter(SimpleMessageListenerContainer.class::isInstance)
+        .map(SimpleMessageListenerContainer.class::cast)
+        .filter(container -> Arrays.asList(container.getQueueNames()).contains(queue))
+        .toList();
+  }
+
+  private ConcurrencySignals collectSignals() {
+    return new ConcurrencySignals(
+        readQueueDepth(), readAcquireWaitMillis(), readPendingConnections(), readConflictRate());
+  }
+
+  private long readQueueDepth() {
+    Long messages = queueDepthProbe.depth(props.getDecrease().getQueue()).messages();
+    if (messages != null) {
+      queueDepth = messages;
+    }
+    return queueDepth;
+  }
+
+  private double readAcquireWaitMillis() {
+    long count = 0;
+    double totalMillis = 0;
+    for (Timer timer : meterRegistry.find("hikaricp.connections.acquire").timers()) {
+      count += timer.count();
+      totalMillis += timer.totalTime(TimeUnit.MILLISECONDS);
+    }
+    long deltaCount = count - lastAcquireCount;
+    double deltaMillis = totalMillis - lastAcquireMillis;
+    lastAcquireCount = count;
+    lastAcquireMillis = totalMillis;
+    return deltaCount > 0 ? deltaMillis / deltaCount : 0;
+  }
+
+  private int readPendingConnections() {
+    return (int)
+        meterRegistry.find("hikaricp.connections.pending").gauges().stream()
+            .mapToDouble(Gauge::value)
+            .filter(value -> !Double.isNaN(value))
+            .sum();
+  }
+
+  private double readConflictRate() {
+    double messages = 0;
+    double conflicts = 0;
+    for (Counter counter :
+        meterRegistry.find(StockDecreaseMessageProcessor.MESSAGES_METRIC).counters()) {
+      messages += counter.count();
+      if (CONFLICT_RESULT.equals(counter.getId().getTag("result"))) {
+        conflicts += counter.count();
+      }
+    }
+    double deltaMessages = messages - lastMessages;
+    double deltaConflicts = conflicts - lastConflicts;
+    lastMessages = messages;
+    lastConflicts = conflicts;
+    return deltaMessages > 0 ? deltaConflicts / deltaMessages : 0;
+  }
+
+  /**
+   * 적응형 동시성 조정 상태.
+   *
+   * @param queue 대상 Queue
+   * @param consumers 현재 Consumer 수
+   * @param prefetch 현재 Prefetch
+   * @param minConsumers 최소 Consumer 수
+   * @param maxConsumers 최대 Consumer 수
+   * @param minPrefetch 최소 Prefetch
+   * @param maxPrefetch 최대 Prefetch
+   * @param containers 조정 대상 컨테이너 수
+   * @param recentDecisions 최근 결정 이력 (최신순)
+   */
+  public record AdaptiveState(
+      String queue,
+      int consumers,
+      int prefetch,
+      int minConsumers,
+      int maxConsumers,
+      int minPrefetch,
+      int maxPrefetch,
+      int containers,
+      List<ConcurrencyDecision> recentDecisions) {}
+}
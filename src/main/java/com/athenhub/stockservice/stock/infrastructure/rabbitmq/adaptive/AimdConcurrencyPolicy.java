@@ -0,0 +1,122 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive.ConcurrencyDecision.Action;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import java.time.Instant;
+
+/**
+ * 관측 값으로 다음 Consumer 수와 Prefetch를 결정하는 AIMD(Additive Increase, Multiplicative Decrease) 정책이다.
+ *
+ * <p>판단 순서는 다음과 같다. 앞의 조건이 우선한다.
+ *
+ * <ol>
+ *   <li>DB 포화 또는 락 충돌 → Consumer 수와 Prefetch를 {@code decrease-factor}배로 감소
+ *   <li>Queue 적체 → Consumer 1개, Prefetch {@code prefetch-step} 증가
+ *   <li>Queue가 거의 비어 있음 → Consumer 1개 감소
+ *   <li>그 밖에는 유지
+ * </ol>
+ *
+ * <p>결과는 항상 설정된 최소/최대 범위로 제한된다. 상태를 갖지 않으므로 같은 입력에는 같은 결과를 반환한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public class AimdConcurrencyPolicy {
+
+  private final RabbitStockProperties.Adaptive props;
+
+  /**
+   * AIMD 정책을 생성한다.
+   *
+   * @param props 적응형 동시성 설정
+   */
+  public AimdConcurrencyPolicy(RabbitStockProperties.Adaptive props) {
+    this.props = props;
+  }
+
+  /**
+   * 다음 Consumer 수와 Prefetch를 결정한다.
+   *
+   * @param signals 관측 값
+   * @param consumers 현재 Consumer 수
+   * @param prefetch 현재 Prefetch
+   * @return 조정 결과
+   */
+  public ConcurrencyDecision decide(ConcurrencySignals signals, int consumers, int prefetch) {
+    String pressure = pressureReason(signals);
+    if (pressure != null) {
+      return decision(
+          signals,
+          pressure,
+          (int) Math.floor(consumers * factor()),
+          (int) Math.floor(prefetch * factor()),
+          consumers,
+          prefetch);
+    }
+
+    if (signals.queueDepth() >= props.getQueueDepthHigh()) {
+      return decision(
+          signals,
+          "queue_depth",
+          consumers + 1,
+          prefetch + props.getPrefetchStep(),
+          consumers,
+          prefetch);
+    }
+
+    if (signals.queueDepth() <= props.getQueueDepthLow()) {
+      return decision(signals, "idle", consumers - 1, prefetch, consumers, prefetch);
+    }
+
+    return decision(signals, "steady", consumers, prefetch, consumers, prefetch);
+  }
+
+  /**
+   * 감소가 필요한 압력 신호를 찾는다.
+   *
+   * @param signals 관측 값
+   * @return 압력 사유, 없으면 {@code null}
+   */
+  private String pressureReason(ConcurrencySignals signals) {
+    if (signals.acquireWaitMillis() > props.getMaxAcquireWait().toMillis()) {
+      return "acquire_wait";
+    }
+    if (signals.pendingConnections() > props.getMaxPendingConnections()) {
+      return "pending_connections";
+    }
+    if (signals.conflictRate() > props.getMaxConflictRate()) {
+      return "conflict_rate";
+    }
+    return null;
+  }
+
+  private ConcurrencyDecision decision(
+      ConcurrencySignals signals,
+      String reason,
+      int targetConsumers,
+      int targetPrefetch,
+      int consumers,
+      int prefetch) {
+    int nextConsumers = clamp(targetConsumers, props.getMinConsumers(), props.getMaxConsumers());
+    int nextPrefetch = clamp(targetPrefetch, props.getMinPrefetch(), props.getMaxPrefetch());
+
+    Action action;
+    if (nextConsumers > consumers || nextPrefetch > prefetch) {
+      action = Action.INCREASE;
+    } else if (nextConsumers < consumers || nextPrefetch < prefetch) {
+      action = Action.DECREASE;
+    } else {
+      action = Action.HOLD;
+    }
+    return new ConcurrencyDecision(
+        Instant.now(), action, reason, nextConsumers, nextPrefetch, signals);
+  }
+
+  private double factor() {
+    return Math.min(Math.max(props.getDecreaseFactor(), 0.0), 1.0);
+  }
+
+  private static int clamp(int value, int min, int max) {
+    return Math.min(Math.max(value, min), Math.max(min, max));
+  }
+}
@@ -0,0 +1,42 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive;
+
+import java.time.Instant;
+
+/**
+ * 적응형 동시성 조정 결과이다.
+ *
+ * @param decidedAt 결정 시각
+ * @param action 조정 방향
+ * @param reason 결정 사유
+ * @param consumers 적용할 Consumer 수
+ * @param prefetch 적용할 Prefetch
+ * @param signals 결정에 사용한 관측 값
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record ConcurrencyDecision(
+    Instant decidedAt,
+    Action action,
+    String reason,
+    int consumers,
+    int prefetch,
+    ConcurrencySignals signals) {
+
+  /**
+   * 조정 방향이다.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public enum Action {
+
+    /** Consumer 또는 Prefetch를 늘린다. */
+    INCREASE,
+
+    /** Consumer 또는 Prefetch를 줄인다. */
+    DECREASE,
+
+    /** 현재 값을 유지한다. */
+    HOLD
+  }
+}
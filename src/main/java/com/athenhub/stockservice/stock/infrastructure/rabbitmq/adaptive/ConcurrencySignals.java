@@ -0,0 +1,14 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive;
+
+/**
+ * 재고 감소 Consumer의 동시성 조정에 사용하는 한 구간의 관측 값이다.
+ *
+ * @param queueDepth 메인 Queue의 대기 메시지 수
+ * @param acquireWaitMillis 직전 구간의 Hikari 커넥션 획득 평균 대기 시간(ms)
+ * @param pendingConnections 현재 커넥션을 기다리는 스레드 수
+ * @param conflictRate 직전 구간에 처리한 메시지 중 락 충돌 비율(0 ~ 1)
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record ConcurrencySignals(
+    long queueDepth, double acquireWaitMillis, int pendingConnections, double conflictRate) {}
@@ -0,0 +1,53 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config;
+
+import lombok.Data;
+
+/**
+ * Queue 하나를 소비하는 Listener Container의 동시성/Prefetch 설정 값이다.
+ *
+ * <p>{@code RabbitStockProperties}와 {@code RabbitOrderProperties}의 Queue별 {@code listener} 항목으로
+ * 바인딩되며, {@link RabbitListenerConfig}가 Listener마다 별도의 컨테이너 팩토리를 만들 때 사용한다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * rabbit:
+ *   stock:
+ *     decrease:
+ *       listener:
+ *         concurrent-consumers: 2
+ *         max-concurrent-consumers: 4
+ *         prefetch: 10
+ *         start-consumer-min-interval: 10000
+ *         consecutive-active-trigger: 10
+ * </pre>
+ *
+ * <p>기본값은 기존 동작과 동일한 단일 Consumer, Prefetch 1이다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+public class ListenerProperties {
+
+  /** 시작 시 생성하는 Consumer 수. */
+  private int concurrentConsumers = 1;
+
+  /** 부하에 따라 늘릴 수 있는 최대 Consumer 수. {@code concurrentConsumers}보다 작으면 증설하지 않는다. */
+  private int maxConcurrentConsumers = 1;
+
+  /** Consumer 하나가 ACK 전에 미리 받아둘 수 있는 최대 메시지 수. */
+  private int prefetch = 1;
+
+  /** Consumer를 추가로 시작하기 전 최소 간격(ms). */
+  private long startConsumerMinInterval = 10_000;
+
+  /** 유휴 Consumer를 중지하기 전 최소 간격(ms). */
+  private long stopConsumerMinInterval = 60_000;
+
+  /** 연속으로 메시지를 받은 횟수가 이 값 이상이면 Consumer 추가를 고려한다. */
+  private int consecutiveActiveTrigger = 10;
+
+  /** 연속으로 메시지를 받지 못한 횟수가 이 값 이상이면 Consumer 중지를 고려한다. */
+  private int consecutiveIdleTrigger = 10;
+}
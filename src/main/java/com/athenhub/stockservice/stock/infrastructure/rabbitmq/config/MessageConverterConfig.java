@@ -1,9 +1,13 @@
 package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config;
 
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter.PayloadCompressor;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter.StockMessageConverter;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -15,10 +19,16 @@ import org.springframework.context.annotation.Configuration;
  *
  * <p>또한 Java 8 날짜/시간(LocalDateTime 등)을 정상적으로 변환하기 위해 {@link JavaTimeModule} 을 등록한다.
  *
+ * <p>재고 감소 이벤트는 {@code rabbit.codec.stock-decrease=compact}로 설정하면 바이너리 포맷으로 발행하며, 수신 측은 설정과
+ * 관계없이 {@code content_type} 헤더로 JSON과 바이너리를 구분하여 읽는다. {@code
+ * rabbit.codec.compression.enabled=true}이면 큰 메시지를 압축하여 발행하며, 압축 해제는 {@code content_encoding} 헤더를 보고
+ * 항상 수행한다.
+ *
  * @author 김지원
  * @since 1.0.0
  */
 @Configuration
+@EnableConfigurationProperties(RabbitCodecProperties.class)
 public class MessageConverterConfig {
 
   /**
@@ -34,11 +44,31 @@ public class MessageConverterConfig {
    *   <li>알 수 없는 속성 무시 (서비스 간 확장성, 하위 호환성 보장)
    * </ul>
    *
+   * <p>{@link StockMessageConverter}는 {@link Jackson2JsonMessageConverter}를 상속하여 재고 감소 이벤트의 바이너리
+   * 포맷만 추가로 처리한다.
+   *
+   * @param codecProperties 메시지 인코딩 포맷/압축 설정
+   * @param meterRegistry 압축 메트릭을 기록할 레지스트리
    * @return JSON 직렬화를 위한 {@link Jackson2JsonMessageConverter}
    */
   @Bean
-  public Jackson2JsonMessageConverter jackson2JsonMessageConverter() {
-    return new Jackson2JsonMessageConverter(rabbitObjectMapper());
+  public Jackson2JsonMessageConverter jackson2JsonMessageConverter(
+      RabbitCodecProperties codecProperties, MeterRegistry meterRegistry) {
+    RabbitCodecProperties.Compression compression = codecProperties.getCompression();
+    int maxInflatedBytes = (int) compression.getMaxInflatedSize().toBytes();
+    PayloadCompressor compressor =
+        compression.isEnabled()
+            ? new PayloadCompressor(
+                compression.getAlgorithm(),
+                (int) compression.getThreshold().toBytes(),
+                maxInflatedBytes,
+                meterRegistry)
+            : null;
+    return new StockMessageConverter(
+        rabbitObjectMapper(),
+        codecProperties.getStockDecrease() == RabbitCodecProperties.Format.COMPACT,
+        compressor,
+        maxInflatedBytes);
   }
 
   /**
@@ -0,0 +1,71 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter.PayloadCompressor;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * RabbitMQ 메시지 인코딩 포맷을 설정하는 Properties 클래스이다.
+ *
+ * <p>{@code rabbit.codec.*} 아래 값을 바인딩한다. 수신 측은 설정과 관계없이 {@code content_type} 헤더를 보고 JSON과 바이너리를
+ * 모두 읽을 수 있으므로, 모든 Consumer가 배포된 뒤 발행 포맷을 {@code compact}로 바꾸면 된다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * rabbit:
+ *   codec:
+ *     stock-decrease: compact
+ *     compression:
+ *       enabled: true
+ *       algorithm: gzip
+ *       threshold: 4KB
+ *       max-inflated-size: 16MB
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "rabbit.codec")
+public class RabbitCodecProperties {
+
+  /** 재고 감소 이벤트(StockDecreaseBatchEvent)를 발행할 때 사용할 포맷. */
+  private Format stockDecrease = Format.JSON;
+
+  /** 큰 메시지의 압축 설정. */
+  private Compression compression = new Compression();
+
+  /** 메시지 인코딩 포맷. */
+  public enum Format {
+
+    /** Jackson JSON. */
+    JSON,
+
+    /** 고정 스키마 바이너리. */
+    COMPACT
+  }
+
+  /**
+   * 메시지 본문 압축 설정이다.
+   *
+   * <p>활성화하면 변환된 본문이 {@code threshold} 이상일 때 압축하고 {@code content_encoding} 헤더에 알고리즘을 기록한다. 압축
+   * 해제는 활성화 여부와 관계없이 수행하며, 해제한 본문이 {@code max-inflated-size}를 넘는 메시지는 변환 실패로 처리한다.
+   */
+  @Data
+  public static class Compression {
+
+    /** 압축 사용 여부. */
+    private boolean enabled = false;
+
+    /** 압축 알고리즘. */
+    private PayloadCompressor.Algorithm algorithm = PayloadCompressor.Algorithm.GZIP;
+
+    /** 압축을 시작할 최소 본문 크기. 이보다 작은 메시지는 압축 이득보다 CPU 비용이 크다. */
+    private DataSize threshold = DataSize.ofKilobytes(4);
+
+    /** 압축 해제한 본문의 최대 크기. 넘으면 더 읽지 않고 변환 실패로 처리한다. */
+    private DataSize maxInflatedSize = DataSize.ofMegabytes(16);
+  }
+}
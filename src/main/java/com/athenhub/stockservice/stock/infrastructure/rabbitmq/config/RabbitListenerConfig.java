@@ -1,11 +1,18 @@
 package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config;
 
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order.RabbitOrderProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
 /**
  * RabbitMQ Listener Container 설정 클래스.
@@ -15,43 +22,197 @@ import org.springframework.context.annotation.Configuration;
  * <p>그러나 재고 감소(StockDecrease)처럼 재시도/딜레이 큐/최종 DLQ 처리가 필요한 경우 메시지를 직접 ACK/NACK 해야 하므로 MANUAL ACK 모드가
  * 필요하다.
  *
- * <p>이 설정은 'manualAckFactory' 라는 컨테이너 팩토리를 생성하여 MANUAL ACK 환경을 제공하며, 특정 @RabbitListener 에서
- * containerFactory="manualAckFactory" 를 지정한 경우에만 사용된다.
+ * <p>이 설정은 Listener마다 MANUAL ACK 컨테이너 팩토리를 하나씩 생성한다. Queue마다 처리 비용과 순서 요구사항이 다르므로, 동시 Consumer
+ * 수와 Prefetch를 Queue별 {@link ListenerProperties}로 독립적으로 조정할 수 있다.
  *
- * <p>따라서 전체 앱이 MANUAL ACK로 바뀌는 것이 아니라, "재고 감소 리스너" 등 필요 큐에서만 수동 ACK 제어를 적용할 수 있도록 한다.
+ * <ul>
+ *   <li>{@code orderCreatedListenerFactory} — 주문 생성 이벤트 ({@code rabbit.order.created.listener})
+ *   <li>{@code stockDecreaseListenerFactory} — 재고 감소 ({@code rabbit.stock.decrease.listener})
+ *   <li>{@code stockDecreaseBatchListenerFactory} — 재고 감소 배치 소비 ({@code
+ *       rabbit.stock.decrease.batch})
+ *   <li>{@code stockDecreaseDeadListenerFactory} — 재고 감소 DLQ ({@code
+ *       rabbit.stock.decrease-dead.listener})
+ *   <li>{@code stockInboundListenerFactory} — 입고 전표 ({@code rabbit.stock.inbound.listener})
+ *   <li>{@code stockReserveListenerFactory} — 동기 재고 예약 ({@code rabbit.stock.reserve.listener})
+ * </ul>
  *
- * <p>주요 설정:
+ * <p>공통 설정:
  *
  * <ul>
  *   <li>AcknowledgeMode.MANUAL — 메시지 ACK/NACK 을 개발자가 직접 수행
- *   <li>PrefetchCount=1 — 메시지를 한 번에 하나씩 처리하여 중복처리/경쟁 조건 방지
  *   <li>defaultRequeueRejected=false — reject 시 큐로 되돌아가지 않고 DLX 로 이동
+ *   <li>{@code spring.threads.virtual.enabled=true}이면 Consumer 스레드를 가상 스레드로 실행
  * </ul>
  *
  * @author 김지원
  * @since 1.0.0
  */
 @Configuration
+@RequiredArgsConstructor
 public class RabbitListenerConfig {
 
+  private final RabbitStockProperties stockProperties;
+  private final RabbitOrderProperties orderProperties;
+  private final Environment environment;
+
+  /**
+   * 주문 생성 이벤트 Listener의 컨테이너 팩토리.
+   *
+   * @param connectionFactory RabbitMQ ConnectionFactory
+   * @param jacksonMessageConverter JSON 메시지 컨버터
+   * @return MANUAL ACK 컨테이너 팩토리
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory orderCreatedListenerFactory(
+      ConnectionFactory connectionFactory, Jackson2JsonMessageConverter jacksonMessageConverter) {
+    return withListenerExecutor(
+        manualAckFactory(
+            connectionFactory,
+            jacksonMessageConverter,
+            orderProperties.getCreated().getListener()),
+        "order-created-");
+  }
+
+  /**
+   * 재고 감소 Listener의 컨테이너 팩토리.
+   *
+   * @param connectionFactory RabbitMQ ConnectionFactory
+   * @param jacksonMessageConverter JSON 메시지 컨버터
+   * @return MANUAL ACK 컨테이너 팩토리
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory stockDecreaseListenerFactory(
+      ConnectionFactory connectionFactory, Jackson2JsonMessageConverter jacksonMessageConverter) {
+    return withListenerExecutor(
+        manualAckFactory(
+            connectionFactory,
+            jacksonMessageConverter,
+            stockProperties.getDecrease().getListener()),
+        "stock-decrease-");
+  }
+
+  /**
+   * 재고 감소 배치 Listener의 컨테이너 팩토리.
+   *
+   * <p>Consumer Batching을 사용하여 최대 {@code batch.size}건의 메시지를 모아 한 번에 Listener로 전달한다. 배치가 채워질 수
+   * 있도록 Prefetch는 배치 크기 이상으로 설정한다.
+   *
+   * @param connectionFactory RabbitMQ ConnectionFactory
+   * @param jacksonMessageConverter JSON 메시지 컨버터
+   * @return MANUAL ACK 배치 컨테이너 팩토리
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory stockDecreaseBatchListenerFactory(
+      ConnectionFactory connectionFactory, Jackson2JsonMessageConverter jacksonMessageConverter) {
+    RabbitStockProperties.Decrease decrease = stockProperties.getDecrease();
+    SimpleRabbitListenerContainerFactory factory =
+        manualAckFactory(connectionFactory, jacksonMessageConverter, decrease.getListener());
+    factory.setBatchListener(true);
+    factory.setConsumerBatchEnabled(true);
+    factory.setBatchSize(decrease.getBatch().getSize());
+    factory.setReceiveTimeout(decrease.getBatch().getReceiveTimeout());
+    factory.setPrefetchCount(
+        Math.max(decrease.getListener().getPrefetch(), decrease.getBatch().getSize()));
+    return withListenerExecutor(factory, "stock-decrease-batch-");
+  }
+
   /**
-   * MANUAL ACK 모드의 RabbitListenerContainerFactory.
+   * 재고 감소 DLQ Listener의 컨테이너 팩토리.
    *
-   * <p>수동 ACK 환경을 구성하기 위한 컨테이너 팩토리이며, @RabbitListener(containerFactory = "manualAckFactory") 에서만
-   * 적용된다.
+   * @param connectionFactory RabbitMQ ConnectionFactory
+   * @param jacksonMessageConverter JSON 메시지 컨버터
+   * @return MANUAL ACK 컨테이너 팩토리
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory stockDecreaseDeadListenerFactory(
+      ConnectionFactory connectionFactory, Jackson2JsonMessageConverter jacksonMessageConverter) {
+    return withListenerExecutor(
+        manualAckFactory(
+            connectionFactory,
+            jacksonMessageConverter,
+            stockProperties.getDecreaseDead().getListener()),
+        "stock-decrease-dead-");
+  }
+
+  /**
+   * 입고 전표 Listener의 컨테이너 팩토리.
+   *
+   * @param connectionFactory RabbitMQ ConnectionFactory
+   * @param jacksonMessageConverter JSON 메시지 컨버터
+   * @return MANUAL ACK 컨테이너 팩토리
+   */
+  @Bean
+  public SimpleRabbitListenerContainerFactory stockInboundListenerFactory(
+      ConnectionFactory connectionFactory, Jackson2JsonMessageConverter jacksonMessageConverter) {
+    return withListenerExecutor(
+        manualAckFactory(
+            connectionFactory,
+            jacksonMessageConverter,
+            stockProperties.getInbound().getListener()),
+        "stock-inbound-");
+  }
+
+  /**
+   * 동기 재고 예약 Listener의 컨테이너 팩토리.
    *
    * @param connectionFactory RabbitMQ ConnectionFactory
-   * @return MANUAL ACK 전용 컨테이너 팩토리
+   * @param jacksonMessageConverter JSON 메시지 컨버터
+   * @return MANUAL ACK 컨테이너 팩토리
    */
   @Bean
-  public SimpleRabbitListenerContainerFactory manualAckFactory(
+  public SimpleRabbitListenerContainerFactory stockReserveListenerFactory(
       ConnectionFactory connectionFactory, Jackson2JsonMessageConverter jacksonMessageConverter) {
+    return withListenerExecutor(
+        manualAckFactory(
+            connectionFactory,
+            jacksonMessageConverter,
+            stockProperties.getReserve().getListener()),
+        "stock-reserve-");
+  }
+
+  /**
+   * 가상 스레드가 활성화된 경우 컨테이너의 Consumer 스레드를 가상 스레드로 실행하도록 설정한다.
+   *
+   * <p>Spring Boot는 {@code spring.threads.virtual.enabled=true}일 때 자동 구성 컨테이너 팩토리에만 가상 스레드 실행기를
+   * 적용하므로, 직접 생성하는 팩토리에는 같은 설정을 명시적으로 적용한다. 비활성화된 경우 컨테이너 기본 실행기(플랫폼 스레드)를 그대로 사용한다.
+   *
+   * @param factory 컨테이너 팩토리
+   * @param threadNamePrefix Consumer 스레드 이름 접두사
+   * @return 실행기가 적용된 컨테이너 팩토리
+   */
+  private SimpleRabbitListenerContainerFactory withListenerExecutor(
+      SimpleRabbitListenerContainerFactory factory, String threadNamePrefix) {
+    if (Threading.VIRTUAL.isActive(environment)) {
+      factory.setTaskExecutor(new VirtualThreadTaskExecutor(threadNamePrefix));
+    }
+    return factory;
+  }
+
+  /**
+   * 주어진 동시성/Prefetch 설정으로 MANUAL ACK 모드의 컨테이너 팩토리를 생성한다.
+   *
+   * @param connectionFactory RabbitMQ ConnectionFactory
+   * @param messageConverter 메시지 컨버터
+   * @param listener Listener 동시성/Prefetch 설정
+   * @return MANUAL ACK 컨테이너 팩토리
+   */
+  public static SimpleRabbitListenerContainerFactory manualAckFactory(
+      ConnectionFactory connectionFactory,
+      MessageConverter messageConverter,
+      ListenerProperties listener) {
     SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
     factory.setConnectionFactory(connectionFactory);
-    factory.setMessageConverter(jacksonMessageConverter);
+    factory.setMessageConverter(messageConverter);
     factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
-    factory.setPrefetchCount(1);
     factory.setDefaultRequeueRejected(false);
+    factory.setConcurrentConsumers(listener.getConcurrentConsumers());
+    factory.setMaxConcurrentConsumers(
+        Math.max(listener.getConcurrentConsumers(), listener.getMaxConcurrentConsumers()));
+    factory.setPrefetchCount(listener.getPrefetch());
+    factory.setStartConsumerMinInterval(listener.getStartConsumerMinInterval());
+    factory.setStopConsumerMinInterval(listener.getStopConsumerMinInterval());
+    factory.setConsecutiveActiveTrigger(listener.getConsecutiveActiveTrigger());
+    factory.setConsecutiveIdleTrigger(listener.getConsecutiveIdleTrigger());
     return factory;
   }
 }
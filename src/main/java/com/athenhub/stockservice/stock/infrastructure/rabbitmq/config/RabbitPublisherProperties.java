@@ -0,0 +1,46 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config;
+
+import java.time.Duration;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * RabbitMQ 메시지 발행 시 Publisher Confirm 추적 방식을 설정하는 Properties 클래스이다.
+ *
+ * <p>{@code rabbit.publisher.*} 아래 값을 바인딩하며, {@code ReliableRabbitPublisher}가 Confirm 대기 중인 메시지
+ * 수를 제한하고 NACK/Return된 메시지를 재전송할 때 사용한다.
+ *
+ * <p>예시 YAML 구조:
+ *
+ * <pre>
+ * rabbit:
+ *   publisher:
+ *     max-in-flight: 1000
+ *     acquire-timeout: 5s
+ *     max-attempts: 5
+ *     resend-backoff: 200ms
+ *     shutdown-timeout: 5s
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Data
+@ConfigurationProperties(prefix = "rabbit.publisher")
+public class RabbitPublisherProperties {
+
+  /** Broker의 Confirm을 기다리는 중일 수 있는 최대 메시지 수. */
+  private int maxInFlight = 1000;
+
+  /** 대기 중인 메시지가 {@code maxInFlight}에 도달했을 때 발행 측이 자리가 나기를 기다리는 최대 시간. */
+  private Duration acquireTimeout = Duration.ofSeconds(5);
+
+  /** 최초 발행을 포함한 메시지 하나의 최대 발행 시도 횟수. */
+  private int maxAttempts = 5;
+
+  /** NACK/Return된 메시지를 다시 보내기 전 대기 시간. 시도 횟수에 비례하여 늘어난다. */
+  private Duration resendBackoff = Duration.ofMillis(200);
+
+  /** 종료 시 Confirm 대기 중인 메시지의 ACK 또는 재전송을 기다리는 최대 시간. */
+  private Duration shutdownTimeout = Duration.ofSeconds(5);
+}
@@ -6,6 +6,7 @@ import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -52,9 +53,16 @@ public class RabbitOrderConfig {
   /**
    * 주문 생성 이벤트 Queue와 Exchange를 Routing Key 기반으로 Binding한다.
    *
+   * <p>Stream 소비가 활성화된 경우에는 {@link RabbitOrderStreamConfig}가 Stream을 바인딩하므로 등록하지 않는다.
+   *
    * @return 주문 생성 이벤트용 Binding.
    */
   @Bean
+  @ConditionalOnProperty(
+      prefix = "rabbit.order.created.stream",
+      name = "enabled",
+      havingValue = "false",
+      matchIfMissing = true)
   public Binding orderCreateBinding() {
     return BindingBuilder.bind(orderCreatedQueue())
         .to(orderExchange())
@@ -1,7 +1,10 @@
 package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order;
 
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.ListenerProperties;
+import java.time.Duration;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
 
 /**
  * Order 서비스에서 사용되는 RabbitMQ 관련 설정을 바인딩하는 Properties 클래스이다.
@@ -25,6 +28,10 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     created:
  *       queue: order.created.queue
  *       routing-key: order.created
+ *       listener:
+ *         concurrent-consumers: 4
+ *         max-concurrent-consumers: 8
+ *         prefetch: 20
  *     process-failed:
  *       queue: order.process.failed.queue
  *       routing-key: order.process.failed
@@ -62,6 +69,55 @@ public class RabbitOrderProperties {
 
     /** 주문 생성 이벤트를 라우팅하는 Routing Key. */
     private String routingKey;
+
+    /** Listener Container 동시성/Prefetch 설정. */
+    private ListenerProperties listener = new ListenerProperties();
+
+    /**
+     * 주문 생성 이벤트를 stock.decrease Queue로 재발행하지 않고 수신한 Listener에서 바로 재고를 감소시킬지 여부.
+     *
+     * <p>재시도가 필요한 경우에만 Retry Queue를 거쳐 stock.decrease 흐름으로 넘어간다. 재고 감소 파티션 라우팅이 활성화된 경우에는 파티션별
+     * 순차 처리를 유지하기 위해 적용되지 않는다.
+     */
+    private boolean fastPath = false;
+
+    /** 주문 생성 이벤트를 Classic Queue 대신 RabbitMQ Stream에서 소비하기 위한 설정. */
+    private Stream stream = new Stream();
+  }
+
+  /**
+   * 주문 생성 이벤트 Stream 소비 설정이다.
+   *
+   * <p>활성화하면 주문 생성 Routing Key에 Stream(append-only log)을 바인딩하고, {@code order.created.queue} 대신
+   * Stream에서 이벤트를 순차적으로 소비한다. 소비한 위치(Offset)는 Broker가 아니라 재고 DB에 기록하므로, 장애 후에는 특정 Offset부터
+   * 다시 읽을 수 있다.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @Data
+  public static class Stream {
+
+    /** Stream 소비 사용 여부. */
+    private boolean enabled = false;
+
+    /** Stream 이름. */
+    private String name = "order.created.stream";
+
+    /** Offset을 기록할 Consumer 이름. 같은 이름의 인스턴스 중 하나만 활성 Consumer로 소비한다. */
+    private String consumerName = "stock-service";
+
+    /** Stream 보관 기간. 이보다 오래된 Segment는 삭제된다. */
+    private Duration maxAge = Duration.ofDays(7);
+
+    /** Stream 최대 크기. */
+    private DataSize maxLength = DataSize.ofGigabytes(5);
+
+    /** Offset을 DB에 기록하기 전에 처리할 최대 메시지 수. */
+    private int commitEvery = 100;
+
+    /** 처리량이 적을 때 Offset을 DB에 기록하는 주기. */
+    private Duration commitInterval = Duration.ofSeconds(1);
   }
 
   /**
@@ -0,0 +1,123 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream.StreamConsumerStatus;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream.StreamOffsetStore;
+import com.rabbitmq.stream.Environment;
+import com.rabbitmq.stream.OffsetSpecification;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.rabbit.stream.config.StreamRabbitListenerContainerFactory;
+
+/**
+ * 주문 생성 이벤트를 RabbitMQ Stream으로 소비하기 위한 Stream, Binding, Listener Container 설정이다.
+ *
+ * <p>{@code rabbit.order.created.stream.enabled=true}인 경우에만 등록된다. 주문 생성 Routing Key를 Classic Queue
+ * 대신 Stream에 바인딩하고, Stream Consumer는 다음과 같이 구성한다.
+ *
+ * <ul>
+ *   <li>Single Active Consumer — 같은 Consumer 이름의 인스턴스 중 하나만 소비하여 순서를 유지하고 중복 처리를 막는다.
+ *   <li>Broker Offset 추적 비활성화 — Offset은 {@link StreamOffsetStore}가 DB에 기록한다.
+ *   <li>활성 Consumer가 될 때 DB에 기록된 Offset 다음부터 읽고, 기록이 없으면 Stream의 처음부터 읽는다.
+ *   <li>활성 여부를 {@link StreamConsumerStatus}에 기록하여 Offset 되감기를 활성 Consumer에서만 허용한다.
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.order.created.stream",
+    name = "enabled",
+    havingValue = "true")
+public class RabbitOrderStreamConfig {
+
+  private final RabbitOrderProperties orderProperties;
+
+  /**
+   * 주문 생성 이벤트를 저장하는 Stream을 생성한다.
+   *
+   * @return 주문 생성 이벤트 Stream
+   */
+  @Bean
+  public Queue orderCreatedStream() {
+    RabbitOrderProperties.Stream stream = orderProperties.getCreated().getStream();
+    return QueueBuilder.durable(stream.getName())
+        .withArgument("x-queue-type", "stream")
+        .withArgument("x-max-age", stream.getMaxAge().toSeconds() + "s")
+        .withArgument("x-max-length-bytes", stream.getMaxLength().toBytes())
+        .build();
+  }
+
+  /**
+   * 주문 생성 이벤트 Stream과 Exchange를 Routing Key 기반으로 Binding한다.
+   *
+   * @param orderExchange 주문 이벤트 Exchange
+   * @return 주문 생성 이벤트 Stream Binding
+   */
+  @Bean
+  public Binding orderCreatedStreamBinding(
+      @Qualifier("orderExchange") TopicExchange orderExchange) {
+    return BindingBuilder.bind(orderCreatedStream())
+        .to(orderExchange)
+        .with(orderProperties.getCreated().getRoutingKey());
+  }
+
+  /**
+   * 주문 생성 이벤트 Stream Listener의 컨테이너 팩토리.
+   *
+   * @param rabbitStreamEnvironment RabbitMQ Stream Environment
+   * @param offsetStore Stream Offset 저장소
+   * @param consumerStatus 활성 Consumer 여부
+   * @return Stream Listener 컨테이너 팩토리
+   */
+  @Bean
+  public StreamRabbitListenerContainerFactory orderCreatedStreamListenerFactory(
+      Environment rabbitStreamEnvironment,
+      StreamOffsetStore offsetStore,
+      StreamConsumerStatus consumerStatus) {
+    RabbitOrderProperties.Stream stream = orderProperties.getCreated().getStream();
+    StreamRabbitListenerContainerFactory factory =
+        new StreamRabbitListenerContainerFactory(rabbitStreamEnvironment);
+    factory.setConsumerCustomizer(
+        (id, builder) ->
+            builder
+                .name(stream.getConsumerName())
+                .singleActiveConsumer()
+                .noTrackingStrategy()
+                .consumerUpdateListener(
+                    context -> {
+                      consumerStatus.update(context.isActive());
+                      // 비활성으로 바뀔 때의 반환 값은 사용되지 않는다.
+                      return context.isActive()
+                          ? startOffset(offsetStore, stream)
+                          : OffsetSpecification.next();
+                    }));
+    return factory;
+  }
+
+  /** DB에 기록된 마지막 Offset의 다음 위치를 반환한다. 기록이 없으면 Stream의 처음부터 읽는다. */
+  private static OffsetSpecification startOffset(
+      StreamOffsetStore offsetStore, RabbitOrderProperties.Stream stream) {
+    OptionalLong stored = offsetStore.find(stream.getName(), stream.getConsumerName());
+    log.info(
+        "[STREAM] stream={}, consumer={}, storedOffset={}",
+        stream.getName(),
+        stream.getConsumerName(),
+        stored.isPresent() ? stored.getAsLong() : "none");
+    return stored.isPresent()
+        ? OffsetSpecification.offset(stored.getAsLong() + 1)
+        : OffsetSpecification.first();
+  }
+}
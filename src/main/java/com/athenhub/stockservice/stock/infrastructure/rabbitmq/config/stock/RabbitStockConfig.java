@@ -1,11 +1,16 @@
 package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock;
 
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,7 +18,7 @@ import org.springframework.context.annotation.Configuration;
 /**
  * RabbitMQ 설정 클래스.
  *
- * <p>재고 감소 이벤트의 Main / Retry / DLQ 라우팅을 구성한다.
+ * <p>재고 감소 이벤트의 Main / Retry / DLQ 라우팅과 입고 전표 수신 Queue, 동기 재고 예약 요청 Queue를 구성한다.
  *
  * <p>DLQ는 별도 Exchange로 분리하여 장애 메시지를 격리한다.
  *
@@ -52,8 +57,18 @@ public class RabbitStockConfig {
         .build();
   }
 
-  /** 메인 Queue 바인딩. */
+  /**
+   * 메인 Queue 바인딩.
+   *
+   * <p>파티션 라우팅이 활성화된 경우에는 {@link RabbitStockPartitionConfig}가 재고 감소 메시지를 파티션 Queue로 보내므로 바인딩하지
+   * 않는다.
+   */
   @Bean
+  @ConditionalOnProperty(
+      prefix = "rabbit.stock.decrease.partition",
+      name = "enabled",
+      havingValue = "false",
+      matchIfMissing = true)
   public Binding stockDecreaseBinding() {
     return BindingBuilder.bind(stockDecreaseQueue())
         .to(stockExchange())
@@ -61,25 +76,33 @@ public class RabbitStockConfig {
   }
 
   /**
-   * 재시도 처리를 위한 Retry Queue.
+   * 재시도 처리를 위한 단계별 Retry Queue와 바인딩.
    *
-   * <p>TTL 후 메인 Queue로 재유입된다.
+   * <p>{@code rabbit.stock.decrease-retry.tiers}의 지연 시간마다 {@code x-message-ttl}이 다른 Queue를 하나씩
+   * 만들고, TTL 후 메인 Queue로 재유입되도록 DLX를 설정한다. Queue 이름에 지연 시간이 포함되므로 단계 구성을 바꿔도 기존 Queue의
+   * 인자와 충돌하지 않는다.
+   *
+   * <p>첫 번째 단계는 메인 Queue가 Reject한 메시지를 받기 위해 기본 Retry 라우팅키로도 바인딩된다.
    */
   @Bean
-  public Queue stockDecreaseRetryQueue() {
-    return QueueBuilder.durable(props.getDecreaseRetry().getQueue())
-        .withArgument("x-message-ttl", props.getDecreaseRetry().getTtl())
-        .withArgument("x-dead-letter-exchange", props.getExchange())
-        .withArgument("x-dead-letter-routing-key", props.getDecrease().getRoutingKey())
-        .build();
-  }
+  public Declarables stockDecreaseRetryQueues() {
+    RabbitStockProperties.DecreaseRetry retry = props.getDecreaseRetry();
+    List<Declarable> declarables = new ArrayList<>();
 
-  /** Retry Queue 바인딩. */
-  @Bean
-  public Binding stockDecreaseRetryBinding() {
-    return BindingBuilder.bind(stockDecreaseRetryQueue())
-        .to(stockExchange())
-        .with(props.getDecreaseRetry().getRoutingKey());
+    for (int i = 0; i < retry.getTiers().size(); i++) {
+      Queue queue =
+          QueueBuilder.durable(retry.tierQueue(i))
+              .ttl((int) retry.getTiers().get(i).toMillis())
+              .withArgument("x-dead-letter-exchange", props.getExchange())
+              .withArgument("x-dead-letter-routing-key", props.getDecrease().getRoutingKey())
+              .build();
+      declarables.add(queue);
+      declarables.add(BindingBuilder.bind(queue).to(stockExchange()).with(retry.tierRoutingKey(i)));
+      if (i == 0) {
+        declarables.add(BindingBuilder.bind(queue).to(stockExchange()).with(retry.getRoutingKey()));
+      }
+    }
+    return new Declarables(declarables);
   }
 
   /** 최종 실패 메시지를 격리하는 Dead Letter Queue. */
@@ -95,4 +118,74 @@ public class RabbitStockConfig {
         .to(stockDlqExchange())
         .with(props.getDecreaseDead().getRoutingKey());
   }
+
+  /** 재시도 없이 즉시 격리할 재고 감소 메시지를 보관하는 Quarantine Queue. */
+  @Bean
+  public Queue stockDecreaseQuarantineQueue() {
+    return QueueBuilder.durable(props.getDecreaseQuarantine().getQueue()).build();
+  }
+
+  /** Quarantine Queue 바인딩. */
+  @Bean
+  public Binding stockDecreaseQuarantineBinding() {
+    return BindingBuilder.bind(stockDecreaseQuarantineQueue())
+        .to(stockDlqExchange())
+        .with(props.getDecreaseQuarantine().getRoutingKey());
+  }
+
+  /**
+   * 입고 전표 수신 Queue.
+   *
+   * <p>NACK(requeue=false)된 메시지는 DLQ 전용 Exchange를 통해 입고 전표 Dead Letter Queue로 이동한다.
+   */
+  @Bean
+  public Queue stockInboundQueue() {
+    return QueueBuilder.durable(props.getInbound().getQueue())
+        .withArgument("x-dead-letter-exchange", props.getDlqExchange())
+        .withArgument("x-dead-letter-routing-key", props.getInboundDead().getRoutingKey())
+        .build();
+  }
+
+  /** 입고 전표 Queue 바인딩. */
+  @Bean
+  public Binding stockInboundBinding() {
+    return BindingBuilder.bind(stockInboundQueue())
+        .to(stockExchange())
+        .with(props.getInbound().getRoutingKey());
+  }
+
+  /** 처리할 수 없는 입고 전표를 격리하는 Dead Letter Queue. */
+  @Bean
+  public Queue stockInboundDeadLetterQueue() {
+    return QueueBuilder.durable(props.getInboundDead().getQueue()).build();
+  }
+
+  /** 입고 전표 Dead Letter Queue 바인딩. */
+  @Bean
+  public Binding stockInboundDeadLetterBinding() {
+    return BindingBuilder.bind(stockInboundDeadLetterQueue())
+        .to(stockDlqExchange())
+        .with(props.getInboundDead().getRoutingKey());
+  }
+
+  /**
+   * 동기 재고 예약 요청 Queue.
+   *
+   * <p>요청자가 응답을 기다리지 않게 된 오래된 요청이 쌓이지 않도록 최대 응답 기한을 메시지 TTL로 설정한다. 재시도와 DLQ는 두지 않으며,
+   * 응답을 받지 못한 요청자는 같은 주문 ID로 다시 요청한다.
+   */
+  @Bean
+  public Queue stockReserveQueue() {
+    return QueueBuilder.durable(props.getReserve().getQueue())
+        .ttl((int) props.getReserve().getMaxTimeout().toMillis())
+        .build();
+  }
+
+  /** 동기 재고 예약 요청 Queue 바인딩. */
+  @Bean
+  public Binding stockReserveBinding() {
+    return BindingBuilder.bind(stockReserveQueue())
+        .to(stockExchange())
+        .with(props.getReserve().getRoutingKey());
+  }
 }
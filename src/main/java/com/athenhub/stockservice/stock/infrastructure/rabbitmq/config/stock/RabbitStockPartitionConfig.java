@@ -0,0 +1,139 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.StockDecreasePartitionKey;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.amqp.core.AcknowledgeMode;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.DirectRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 재고 감소 메시지의 파티션 라우팅 토폴로지를 구성하는 설정 클래스이다.
+ *
+ * <p>{@code rabbit.stock.decrease.partition.enabled=true}인 경우에만 적용되며, 다음과 같이 구성된다:
+ *
+ * <pre>
+ * stock.exchange ──(stock.decrease)──▶ partition exchange (x-consistent-hash)
+ *                                       ├──▶ stock.decrease.partition.0 (single active consumer)
+ *                                       ├──▶ stock.decrease.partition.1
+ *                                       └──▶ ...
+ * </pre>
+ *
+ * <p>Publisher와 Retry Queue는 기존과 동일하게 {@code stock.exchange}에 재고 감소 Routing Key로 발행하므로, 파티션 사용 여부와
+ * 관계없이 발행 측 코드는 바뀌지 않는다. 파티션 Queue의 처리 실패 메시지는 메인 Queue와 동일하게 Retry Queue로 이동하고, TTL 후 파티션 키 헤더를
+ * 유지한 채 같은 파티션으로 재유입된다.
+ *
+ * <p>Consistent-Hash Exchange는 RabbitMQ의 {@code rabbitmq_consistent_hash_exchange} 플러그인이 필요하다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.stock.decrease.partition",
+    name = "enabled",
+    havingValue = "true")
+public class RabbitStockPartitionConfig {
+
+  /** Consistent-Hash Exchange 타입. */
+  private static final String CONSISTENT_HASH_EXCHANGE = "x-consistent-hash";
+
+  /** 파티션 Queue 바인딩 가중치. 모든 파티션이 같은 비율로 메시지를 받는다. */
+  private static final String PARTITION_WEIGHT = "1";
+
+  private final RabbitStockProperties props;
+
+  /** 파티션 키 헤더의 해시로 파티션 Queue를 선택하는 Exchange. */
+  @Bean
+  public CustomExchange stockDecreasePartitionExchange() {
+    return new CustomExchange(
+        props.getDecrease().getPartition().getExchange(),
+        CONSISTENT_HASH_EXCHANGE,
+        true,
+        false,
+        Map.of("hash-header", StockDecreasePartitionKey.HEADER));
+  }
+
+  /** 재고 감소 Routing Key로 발행된 메시지를 파티션 Exchange로 전달하는 Exchange 간 바인딩. */
+  @Bean
+  public Binding stockDecreasePartitionExchangeBinding(
+      @Qualifier("stockExchange") TopicExchange stockExchange) {
+    return BindingBuilder.bind(stockDecreasePartitionExchange())
+        .to(stockExchange)
+        .with(props.getDecrease().getRoutingKey());
+  }
+
+  /**
+   * 파티션 Queue 이름 목록을 반환한다. 파티션 Listener의 {@code queues} 속성에서 SpEL로 참조한다.
+   *
+   * @return 파티션 Queue 이름 목록
+   */
+  public String[] partitionQueueNames() {
+    return props.getDecrease().getPartition().queueNames();
+  }
+
+  /**
+   * 파티션 Queue와 바인딩.
+   *
+   * <p>각 Queue는 Single Active Consumer로 선언되어 파티션 내 메시지가 하나의 Consumer에서 순서대로 처리되며, 처리 실패 시 메인 Queue와
+   * 같은 Retry Queue로 이동한다.
+   */
+  @Bean
+  public Declarables stockDecreasePartitionQueues() {
+    List<Declarable> declarables = new ArrayList<>();
+    for (String name : partitionQueueNames()) {
+      Queue queue =
+          QueueBuilder.durable(name)
+              .singleActiveConsumer()
+              .withArgument("x-dead-letter-exchange", props.getExchange())
+              .withArgument("x-dead-letter-routing-key", props.getDecreaseRetry().getRoutingKey())
+              .build();
+      declarables.add(queue);
+      declarables.add(
+          BindingBuilder.bind(queue)
+              .to(stockDecreasePartitionExchange())
+              .with(PARTITION_WEIGHT)
+              .noargs());
+    }
+    return new Declarables(declarables);
+  }
+
+  /**
+   * 파티션 Queue Listener의 컨테이너 팩토리.
+   *
+   * <p>Queue마다 전용 Consumer(채널)를 하나씩 두는 Direct 컨테이너를 사용하여, 파티션 간에는 병렬로, 파티션 내에서는 순서대로 처리한다.
+   *
+   * @param connectionFactory RabbitMQ ConnectionFactory
+   * @param jackson2JsonMessageConverter JSON 메시지 컨버터
+   * @return MANUAL ACK 컨테이너 팩토리
+   */
+  @Bean
+  public DirectRabbitListenerContainerFactory stockDecreasePartitionListenerFactory(
+      ConnectionFactory connectionFactory,
+      Jackson2JsonMessageConverter jackson2JsonMessageConverter) {
+    DirectRabbitListenerContainerFactory factory = new DirectRabbitListenerContainerFactory();
+    factory.setConnectionFactory(connectionFactory);
+    factory.setMessageConverter(jackson2JsonMessageConverter);
+    factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+    factory.setDefaultRequeueRejected(false);
+    factory.setConsumersPerQueue(1);
+    factory.setPrefetchCount(props.getDecrease().getPartition().getPrefetch());
+    return factory;
+  }
+}
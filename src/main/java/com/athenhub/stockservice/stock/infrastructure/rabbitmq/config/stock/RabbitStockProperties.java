@@ -1,5 +1,11 @@
 package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock;
 
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.ListenerProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -17,7 +23,11 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *   <li>{@code stock.decrease.*} — 재고 감소(메인 큐) 이벤트 처리
  *   <li>{@code stock.decreased-retry.*} — 재고 감소 실패 시 재시도(Retry Queue) 처리
  *   <li>{@code stock.decreased-dead.*} — 재고 감소 5회 실패 시 최종 격리(DLQ)
+ *   <li>{@code stock.decrease-quarantine.*} — 재시도가 의미 없는 메시지 즉시 격리
  *   <li>{@code stock.decrease-success.*} — 재고 감소 성공 후 후처리 이벤트
+ *   <li>{@code stock.inbound.*} — 창고 입고 전표(재입고) 수신
+ *   <li>{@code stock.inbound-dead.*} — 처리할 수 없는 입고 전표 격리
+ *   <li>{@code stock.reserve.*} — 동기 재고 예약 요청/응답(Direct Reply-to)
  * </ul>
  *
  * <p>예시 YAML 구조:
@@ -34,11 +44,18 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  *     decrease:
  *       queue: stock.decreased.queue
  *       routing-key: stock.decreased
+ *       listener:
+ *         concurrent-consumers: 2
+ *         max-concurrent-consumers: 4
+ *         prefetch: 10
  *
  *     decreased-retry:
  *       queue: stock.decreased.retry.queue
  *       routing-key: stock.decreased.retry
- *       ttl: 5000
+ *       tiers: 50ms, 200ms, 1s, 5s, 30s
+ *       jitter: 0.2
+ *       max-retries:
+ *         CONFLICT: 10
  *
  *     decrease-dead:
  *       queue: stock.decreased.dead.queue
@@ -89,6 +106,21 @@ public class RabbitStockProperties {
    */
   private DecreaseDead decreaseDead;
 
+  /** 재시도 없이 즉시 격리할 메시지(역직렬화 실패, 검증 실패 등)를 보관하는 Quarantine Queue 설정. */
+  private DecreaseQuarantine decreaseQuarantine = new DecreaseQuarantine();
+
+  /** 입고 전표(InboundReceiptEvent) 수신 설정 그룹. */
+  private Inbound inbound;
+
+  /** 처리할 수 없는 입고 전표를 격리하는 Dead Letter Queue 설정 그룹. */
+  private InboundDead inboundDead;
+
+  /** 동기 재고 예약 요청 설정 그룹. */
+  private Reserve reserve = new Reserve();
+
+  /** 파이프라인 상태 조회 설정 그룹. */
+  private Monitor monitor = new Monitor();
+
   /**
    * 재고 등록 이벤트 관련 Queue / RoutingKey 설정이다.
    *
@@ -117,32 +149,245 @@ public class RabbitStockProperties {
 
     /** 재고 감소(Main) 이벤트를 라우팅하는 Routing Key. */
     private String routingKey;
+
+    /** Listener Container 동시성/Prefetch 설정. */
+    private ListenerProperties listener = new ListenerProperties();
+
+    /** 여러 메시지를 묶어서 처리하는 배치 소비 설정. */
+    private Batch batch = new Batch();
+
+    /** 상품 옵션(Variant) 기준 파티션 라우팅 설정. */
+    private Partition partition = new Partition();
+
+    /** Queue 적체와 DB 포화도에 따라 Consumer 수와 Prefetch를 조정하는 설정. */
+    private Adaptive adaptive = new Adaptive();
+
+    /** 재전달 메시지 중복 제거 설정. */
+    private Dedup dedup = new Dedup();
+  }
+
+  /**
+   * 재고 감소 Consumer의 messageId 기반 중복 제거 캐시 설정이다.
+   *
+   * <p>처리에 성공한 메시지의 messageId를 {@code ttl} 동안 최대 {@code max-size}개까지 기억하고, 같은 messageId로 다시
+   * 전달된 메시지는 DB를 조회하지 않고 ACK한다. 캐시는 인스턴스마다 따로 유지되므로 최종 멱등성은 여전히 주문 ID 기준 DB 확인이 보장한다.
+   */
+  @Data
+  public static class Dedup {
+
+    /** 중복 제거 사용 여부. */
+    private boolean enabled = true;
+
+    /** 기억할 최대 messageId 수. */
+    private int maxSize = 10_000;
+
+    /** messageId를 기억하는 시간. */
+    private Duration ttl = Duration.ofMinutes(10);
+  }
+
+  /**
+   * 재고 감소 Consumer의 동시성과 Prefetch를 실행 중에 조정하는 AIMD(Additive Increase, Multiplicative
+   * Decrease) 설정이다.
+   *
+   * <p>{@code interval}마다 다음 신호를 확인한다.
+   *
+   * <ul>
+   *   <li>DB 포화 — Hikari 커넥션 획득 평균 대기 시간이 {@code max-acquire-wait}를 넘거나, 커넥션을 기다리는 스레드 수가 {@code
+   *       max-pending-connections}를 넘음
+   *   <li>락 충돌 — 직전 구간에 처리한 메시지 중 충돌 비율이 {@code max-conflict-rate}를 넘음
+   *   <li>Queue 적체 — 메인 Queue의 대기 메시지 수가 {@code queue-depth-high} 이상
+   * </ul>
+   *
+   * <p>DB 포화나 락 충돌이 감지되면 Consumer 수와 Prefetch를 {@code decrease-factor}배로 줄이고, 그렇지 않으면서 Queue가
+   * 적체되어 있으면 Consumer를 1개, Prefetch를 {@code prefetch-step}만큼 늘린다. Queue가 {@code queue-depth-low}
+   * 이하로 비어 있으면 Consumer를 1개씩 줄인다. 값은 항상 {@code min-*} ~ {@code max-*} 범위로 제한된다.
+   */
+  @Data
+  public static class Adaptive {
+
+    /** 적응형 동시성 조정 사용 여부. */
+    private boolean enabled = false;
+
+    /** 조정 주기. */
+    private Duration interval = Duration.ofSeconds(10);
+
+    /** 최소 Consumer 수. */
+    private int minConsumers = 1;
+
+    /** 최대 Consumer 수. */
+    private int maxConsumers = 16;
+
+    /** 최소 Prefetch. */
+    private int minPrefetch = 1;
+
+    /** 최대 Prefetch. */
+    private int maxPrefetch = 50;
+
+    /** 증가 시 한 번에 늘리는 Prefetch. */
+    private int prefetchStep = 5;
+
+    /** 이 값 이상 적체되면 Consumer를 늘린다. */
+    private long queueDepthHigh = 500;
+
+    /** 이 값 이하로 비어 있으면 Consumer를 줄인다. */
+    private long queueDepthLow = 10;
+
+    /** 허용하는 Hikari 커넥션 획득 평균 대기 시간. */
+    private Duration maxAcquireWait = Duration.ofMillis(20);
+
+    /** 허용하는 Hikari 커넥션 대기 스레드 수. */
+    private int maxPendingConnections = 2;
+
+    /** 허용하는 락 충돌 비율(0 ~ 1). */
+    private double maxConflictRate = 0.05;
+
+    /** 감소 시 곱하는 비율(0 ~ 1). */
+    private double decreaseFactor = 0.5;
+  }
+
+  /**
+   * 재고 감소 이벤트를 상품 옵션 기준으로 여러 파티션 Queue에 나누어 라우팅하는 설정이다.
+   *
+   * <p>활성화하면 {@code stock.exchange}에 재고 감소 Routing Key로 발행된 메시지가 Consistent-Hash Exchange를 거쳐 파티션 키
+   * 헤더의 해시에 따라 {@code <queue-prefix><번호>} Queue 중 하나로 전달된다. 각 파티션 Queue는 Single Active Consumer로
+   * 선언되어 여러 인스턴스가 떠 있어도 파티션마다 하나의 Consumer만 메시지를 처리한다.
+   */
+  @Data
+  public static class Partition {
+
+    /** 파티션 라우팅 사용 여부. */
+    private boolean enabled = false;
+
+    /** 파티션 Queue로 메시지를 분배하는 Consistent-Hash Exchange 이름. */
+    private String exchange = "stock.decrease.partition.exchange";
+
+    /** 파티션 Queue 이름 접두사. 실제 이름은 접두사 뒤에 0부터 시작하는 번호가 붙는다. */
+    private String queuePrefix = "stock.decrease.partition.";
+
+    /** 파티션 수. */
+    private int count = 4;
+
+    /** 파티션 Consumer 하나가 ACK 전에 미리 받아둘 수 있는 최대 메시지 수. */
+    private int prefetch = 10;
+
+    /**
+     * 파티션 Queue 이름 목록을 반환한다.
+     *
+     * @return 파티션 Queue 이름 목록
+     */
+    public String[] queueNames() {
+      String[] names = new String[count];
+      for (int i = 0; i < count; i++) {
+        names[i] = queuePrefix + i;
+      }
+      return names;
+    }
+  }
+
+  /**
+   * 재고 감소 이벤트 배치 소비 설정이다.
+   *
+   * <p>활성화하면 메시지마다 트랜잭션과 ACK를 반복하지 않고, 여러 메시지를 한 트랜잭션으로 처리한 뒤 multiple=true로 한 번에 ACK한다.
+   */
+  @Data
+  public static class Batch {
+
+    /** 배치 소비 사용 여부. */
+    private boolean enabled = false;
+
+    /** 한 번에 처리할 최대 메시지 수. */
+    private int size = 50;
+
+    /** 배치를 채우기 위해 다음 메시지를 기다리는 최대 시간(ms). */
+    private long receiveTimeout = 200;
   }
 
   /**
    * 재고 감소 실패 시 지연 재시도를 위한 Retry Queue 설정이다.
    *
-   * <p>Retry Queue는 다음과 같은 구조로 동작한다:
+   * <p>대기 시간이 서로 다른 여러 단계(Tier)의 Retry Queue로 구성되며, 다음과 같은 구조로 동작한다:
    *
    * <ol>
-   *   <li>Main Queue 처리 실패 → Reject → DLX로 이동
-   *   <li>Retry Queue에서 TTL 동안 대기
+   *   <li>처리 실패 → retryCount에 해당하는 단계의 Retry Queue로 재발행 ({@code <routing-key>.<지연>ms})
+   *   <li>해당 단계의 지연 시간(jitter 적용) 동안 대기
    *   <li>TTL 만료 후 DLX 재작동 → Main Queue 재유입
    * </ol>
    *
+   * <p>retryCount가 단계 수보다 크면 마지막 단계를 계속 사용한다. Main Queue에서 Reject된 메시지({@code <routing-key>})는 첫 번째
+   * 단계로 들어간다.
+   *
    * <p>RoutingKey는 반드시 `<domain>.<action>.retry` 형식을 따른다.
    */
   @Data
   public static class DecreaseRetry {
 
-    /** 재고 감소 Retry Queue 이름. */
+    /** 재고 감소 Retry Queue 이름 접두사. 실제 이름은 {@code <queue>.<지연>ms} 이다. */
     private String queue;
 
-    /** Retry Queue 라우팅키. */
+    /** Retry Queue 라우팅키 접두사. 실제 라우팅키는 {@code <routing-key>.<지연>ms} 이다. */
     private String routingKey;
 
-    /** 메시지가 재시도 전 대기할 TTL(ms). */
-    private int ttl;
+    /** 단계별 재시도 대기 시간. retryCount 1회차가 첫 번째 단계를 사용한다. */
+    private List<Duration> tiers =
+        List.of(
+            Duration.ofMillis(50),
+            Duration.ofMillis(200),
+            Duration.ofSeconds(1),
+            Duration.ofSeconds(5),
+            Duration.ofSeconds(30));
+
+    /**
+     * 대기 시간에 적용할 jitter 비율(0 ~ 1). 메시지마다 {@code [지연 × (1 - jitter), 지연]} 범위에서 무작위로 정해진다.
+     *
+     * <p>Queue TTL보다 짧은 쪽으로만 흔들어 Queue 앞쪽 메시지가 뒤쪽 메시지의 만료를 오래 막지 않도록 한다.
+     */
+    private double jitter = 0.2;
+
+    /** 오류 유형별 최대 재시도 횟수가 지정되지 않았을 때 사용하는 최대 재시도 횟수. */
+    private int defaultMaxRetries = 5;
+
+    /** 오류 유형별 최대 재시도 횟수. */
+    private Map<StockErrorType, Integer> maxRetries = new EnumMap<>(StockErrorType.class);
+
+    /**
+     * 오류 유형의 최대 재시도 횟수를 반환한다.
+     *
+     * @param errorType 오류 유형
+     * @return 최대 재시도 횟수
+     */
+    public int maxRetriesFor(StockErrorType errorType) {
+      return maxRetries.getOrDefault(errorType, defaultMaxRetries);
+    }
+
+    /**
+     * retryCount에 해당하는 단계의 위치를 반환한다.
+     *
+     * @param retryCount 1부터 시작하는 재시도 횟수
+     * @return 단계 위치
+     */
+    public int tierIndex(int retryCount) {
+      return Math.min(Math.max(retryCount, 1), tiers.size()) - 1;
+    }
+
+    /**
+     * 단계의 Retry Queue 이름을 반환한다.
+     *
+     * @param index 단계 위치
+     * @return Retry Queue 이름
+     */
+    public String tierQueue(int index) {
+      return queue + "." + tiers.get(index).toMillis() + "ms";
+    }
+
+    /**
+     * 단계의 Retry Queue 라우팅키를 반환한다.
+     *
+     * @param index 단계 위치
+     * @return Retry Queue 라우팅키
+     */
+    public String tierRoutingKey(int index) {
+      return routingKey + "." + tiers.get(index).toMillis() + "ms";
+    }
   }
 
   /**
@@ -158,6 +403,53 @@ public class RabbitStockProperties {
 
     /** Dead Letter Queue 라우팅키. */
     private String routingKey;
+
+    /** Listener Container 동시성/Prefetch 설정. */
+    private ListenerProperties listener = new ListenerProperties();
+
+    /** 보관된 DLQ 메시지를 다시 발행할 때의 속도 제한 설정. */
+    private Replay replay = new Replay();
+  }
+
+  /**
+   * 재시도해도 결과가 바뀌지 않는 재고 감소 메시지를 격리하는 Quarantine Queue 설정이다.
+   *
+   * <p>DLQ 전용 Exchange에 바인딩되며, DLQ와 같은 Listener가 소비하여 보관하고 주문 서비스에 실패 이벤트를 전달한다. Retry Queue를
+   * 거치지 않으므로 잘못된 메시지가 트랜잭션과 Broker 왕복을 반복해서 낭비하지 않는다.
+   */
+  @Data
+  public static class DecreaseQuarantine {
+
+    /** Quarantine Queue 이름. */
+    private String queue = "stock.decrease.quarantine.queue";
+
+    /** Quarantine Queue 라우팅키. */
+    private String routingKey = "stock.decrease.quarantine";
+  }
+
+  /**
+   * 보관된 재고 감소 DLQ 메시지의 재발행(Replay) 설정이다.
+   *
+   * <p>대량의 실패 메시지를 한꺼번에 재고 감소 Queue로 되돌리면 정상 트래픽과 경합하므로, {@code batch-size}건씩 나누어 발행하고 배치
+   * 사이에 {@code interval}만큼 쉰다.
+   */
+  @Data
+  public static class Replay {
+
+    /** 재발행 actuator 엔드포인트({@code /actuator/stockdlqreplay}) 등록 여부. */
+    private boolean enabled = false;
+
+    /** 한 번에 발행할 메시지 수. */
+    private int batchSize = 50;
+
+    /** 배치 사이의 대기 시간. */
+    private Duration interval = Duration.ofMillis(500);
+
+    /** 한 번의 요청으로 다시 발행할 수 있는 최대 메시지 수. */
+    private int maxPerRequest = 1000;
+
+    /** 배치의 Publisher Confirm을 기다리는 최대 시간. 확인되지 않은 메시지는 재발행하지 않은 상태로 남는다. */
+    private Duration confirmTimeout = Duration.ofSeconds(5);
   }
 
   /**
@@ -174,4 +466,78 @@ public class RabbitStockProperties {
     /** 재고 감소 성공 이벤트 Routing Key. */
     private String routingKey;
   }
+
+  /**
+   * 창고 시스템이 발행하는 입고 전표 수신 Queue 설정이다.
+   *
+   * <p>처리에 실패한 메시지는 DLX를 통해 {@link InboundDead} Queue로 이동한다.
+   */
+  @Data
+  public static class Inbound {
+
+    /** 입고 전표 Queue 이름. */
+    private String queue;
+
+    /** 입고 전표 Routing Key. */
+    private String routingKey;
+
+    /** Listener Container 동시성/Prefetch 설정. */
+    private ListenerProperties listener = new ListenerProperties();
+  }
+
+  /**
+   * 처리할 수 없는 입고 전표(존재하지 않는 재고, 잘못된 수량 등)를 격리하는 Dead Letter Queue 설정이다.
+   *
+   * <p>DLQ 전용 Exchange에 바인딩된다.
+   */
+  @Data
+  public static class InboundDead {
+
+    /** 입고 전표 Dead Letter Queue 이름. */
+    private String queue;
+
+    /** 입고 전표 Dead Letter Queue 라우팅키. */
+    private String routingKey;
+  }
+
+  /**
+   * 동기 재고 예약 요청(RPC) Queue 설정이다.
+   *
+   * <p>요청자는 {@code replyTo}를 Direct Reply-to로 지정하여 발행하고, 재고 서비스는 처리 결과를 즉시 응답한다. 기한이 지난 요청은
+   * 처리하지 않으며, Queue에 {@code max-timeout}보다 오래 머문 요청은 Broker가 폐기한다.
+   */
+  @Data
+  public static class Reserve {
+
+    /** 재고 예약 요청 Queue 이름. */
+    private String queue = "stock.reserve.queue";
+
+    /** 재고 예약 요청 Routing Key. */
+    private String routingKey = "stock.reserve";
+
+    /** 요청에 {@code x-deadline} 헤더가 없을 때 적용하는 응답 기한. */
+    private Duration defaultTimeout = Duration.ofMillis(300);
+
+    /** 요청이 지정할 수 있는 최대 응답 기한. Queue 메시지 TTL로도 사용된다. */
+    private Duration maxTimeout = Duration.ofSeconds(5);
+
+    /** Listener Container 동시성/Prefetch 설정. */
+    private ListenerProperties listener = new ListenerProperties();
+  }
+
+  /**
+   * 재고 처리 파이프라인 상태 조회({@code /actuator/stockpipeline}) 설정이다.
+   *
+   * <p>Queue 적체량은 passive declare로 조회하며, 조회가 몰려도 Broker에 부담을 주지 않도록 {@code queue-depth-ttl} 동안
+   * 캐시한다. 처리 중인 메시지가 있는데 {@code stall-threshold} 동안 처리 시작/완료/성공이 없는 Listener는 정체(stalled)로 표시한다.
+   */
+  @Data
+  public static class Monitor {
+
+    /** Queue 적체량 캐시 시간. */
+    private Duration queueDepthTtl = Duration.ofSeconds(5);
+
+    /** Listener 정체 판단 시간. */
+    private Duration stallThreshold = Duration.ofMinutes(1);
+  }
 }
@@ -0,0 +1,244 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+/**
+ * 일정 크기 이상의 메시지 본문을 압축하고, 수신한 압축 메시지를 해제하는 컴포넌트이다.
+ *
+ * <p>압축 여부는 {@code content_encoding} 헤더로 표시한다. Spring AMQP의 {@code GZipPostProcessor}와 같은 규칙으로
+ * 원래 Content-Encoding(문자셋)은 {@code gzip:UTF-8}처럼 알고리즘 뒤에 이어 붙이고, 해제할 때 되돌린다. {@code
+ * content_encoding}이 압축 알고리즘이 아닌 메시지는 그대로 통과하므로 압축하지 않는 Producer와 함께 사용할 수 있다.
+ *
+ * <p>해제한 본문이 최대 크기를 넘으면 더 읽지 않고 {@link MessageConversionException}을 던진다. 작은 압축 본문이 매우 큰 본문으로
+ * 풀리는 메시지(압축 폭탄)가 Consumer의 메모리를 소진하지 않도록 하기 위함이다.
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code rabbit.message.compression.ratio} — 압축 후 크기 / 원본 크기 (algorithm 태그)
+ *   <li>{@code rabbit.message.compression.time} — 압축/해제 CPU 시간 (algorithm, operation 태그)
+ *   <li>{@code rabbit.message.compression.saved.bytes} — 압축으로 줄어든 바이트 수
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public class PayloadCompressor {
+
+  /** 해제한 본문의 기본 최대 크기(바이트). */
+  public static final int DEFAULT_MAX_INFLATED_BYTES = 16 * 1024 * 1024;
+
+  private static final char ENCODING_DELIMITER = ':';
+
+  /** 해제 시 한 번에 읽는 크기(바이트). */
+  private static final int INFLATE_BUFFER_BYTES = 8 * 1024;
+
+  private final Algorithm algorithm;
+  private final int thresholdBytes;
+  private final int maxInflatedBytes;
+  private final MeterRegistry meterRegistry;
+  private final DistributionSummary ratio;
+  private final DistributionSummary savedBytes;
+  private final Timer compressTime;
+
+  /**
+   * 해제한 본문의 최대 크기로 {@link #DEFAULT_MAX_INFLATED_BYTES}를 사용하는 압축 컴포넌트를 생성한다.
+   *
+   * @param algorithm 압축 알고리즘
+   * @param thresholdBytes 압축을 시작할 최소 본문 크기(바이트)
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public PayloadCompressor(Algorithm algorithm, int thresholdBytes, MeterRegistry meterRegistry) {
+    this(algorithm, thresholdBytes, DEFAULT_MAX_INFLATED_BYTES, meterRegistry);
+  }
+
+  /**
+   * 압축 컴포넌트를 생성한다.
+   *
+   * @param algorithm 압축 알고리즘
+   * @param thresholdBytes 압축을 시작할 최소 본문 크기(바이트)
+   * @param maxInflatedBytes 해제한 본문의 최대 크기(바이트)
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public PayloadCompressor(
+      Algorithm algorithm, int thresholdBytes, int maxInflatedBytes, MeterRegistry meterRegistry) {
+    this.algorithm = algorithm;
+    this.thresholdBytes = thresholdBytes;
+    this.maxInflatedBytes = maxInflatedBytes;
+    this.meterRegistry = meterRegistry;
+    this.ratio =
+        DistributionSummary.builder("rabbit.message.compression.ratio")
+            .tag("algorithm", algorithm.encoding)
+            .register(meterRegistry);
+    this.savedBytes =
+        DistributionSummary.builder("rabbit.message.compression.saved.bytes")
+            .baseUnit("bytes")
+            .tag("algorithm", algorithm.encoding)
+            .register(meterRegistry);
+    this.compressTime = timer(meterRegistry, algorithm, "compress");
+  }
+
+  /**
+   * 본문이 임계값 이상이면 압축한다. 이미 압축된 메시지나 작은 메시지는 그대로 반환한다.
+   *
+   * @param message 발행할 메시지
+   * @return 압축된 메시지 또는 원본 메시지
+   */
+  public Message compress(Message message) {
+    MessageProperties properties = message.getMessageProperties();
+    byte[] body = message.getBody();
+    if (body.length < thresholdBytes || Algorithm.of(properties.getContentEncoding()) != null) {
+      return message;
+    }
+
+    long startedAt = System.nanoTime();
+    byte[] compressed = algorithm.compress(body);
+    compressTime.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    ratio.record((double) compressed.length / body.length);
+    savedBytes.record(body.length - compressed.length);
+
+    String original = properties.getContentEncoding();
+    properties.setContentEncoding(
+        original == null ? algorithm.encoding : algorithm.encoding + ENCODING_DELIMITER + original);
+    properties.setContentLength(compressed.length);
+    return new Message(compressed, properties);
+  }
+
+  /**
+   * 압축된 메시지를 해제하고 해제 시간을 기록한다. 압축되지 않은 메시지는 그대로 반환한다.
+   *
+   * @param message 수신한 메시지
+   * @return 압축이 해제된 메시지
+   * @throws MessageConversionException 해제할 수 없거나 해제한 본문이 최대 크기를 넘는 경우
+   */
+  public Message decompress(Message message) {
+    Algorithm used = Algorithm.of(message.getMessageProperties().getContentEncoding());
+    if (used == null) {
+      return message;
+    }
+    long startedAt = System.nanoTime();
+    Message decompressed = inflate(message, used, maxInflatedBytes);
+    timer(meterRegistry, used, "decompress")
+        .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    return decompressed;
+  }
+
+  /**
+   * 메트릭 없이 압축된 메시지를 해제한다. 압축되지 않은 메시지는 그대로 반환한다.
+   *
+   * @param message 수신한 메시지
+   * @param maxInflatedBytes 해제한 본문의 최대 크기(바이트)
+   * @return 압축이 해제된 메시지
+   * @throws MessageConversionException 해제할 수 없거나 해제한 본문이 최대 크기를 넘는 경우
+   */
+  public static Message decompressIfNeeded(Message message, int maxInflatedBytes) {
+    Algorithm used = Algorithm.of(message.getMessageProperties().getContentEncoding());
+    return used == null ? message : inflate(message, used, maxInflatedBytes);
+  }
+
+  /** 원본 메시지는 그대로 두고, 속성을 복사한 새 메시지에 해제한 본문을 담는다. */
+  private static Message inflate(Message message, Algorithm used, int maxInflatedBytes) {
+    byte[] body = used.decompress(message.getBody(), maxInflatedBytes);
+    String encoding = message.getMessageProperties().getContentEncoding();
+    int delimiter = encoding.indexOf(ENCODING_DELIMITER);
+    return MessageBuilder.withBody(body)
+        .copyProperties(message.getMessageProperties())
+        .setContentEncoding(delimiter < 0 ? null : encoding.substring(delimiter + 1))
+        .setContentLength(body.length)
+        .build();
+  }
+
+  private static Timer timer(MeterRegistry meterRegistry, Algorithm algorithm, String operation) {
+    return Timer.builder("rabbit.message.compression.time")
+        .tag("algorithm", algorithm.encoding)
+        .tag("operation", operation)
+        .register(meterRegistry);
+  }
+
+  /** 지원하는 압축 알고리즘. */
+  public enum Algorithm {
+
+    /** GZIP (RFC 1952). */
+    GZIP("gzip"),
+
+    /** Deflate (zlib, RFC 1950). */
+    DEFLATE("deflate");
+
+    private final String encoding;
+
+    Algorithm(String encoding) {
+      this.encoding = encoding;
+    }
+
+    /**
+     * {@code content_encoding} 값에 해당하는 압축 알고리즘을 찾는다.
+     *
+     * @param contentEncoding {@code content_encoding} 헤더 값
+     * @return 압축 알고리즘, 압축이 아니면 {@code null}
+     */
+    public static Algorithm of(String contentEncoding) {
+      if (contentEncoding == null) {
+        return null;
+      }
+      int delimiter = contentEncoding.indexOf(ENCODING_DELIMITER);
+      String name = delimiter < 0 ? contentEncoding : contentEncoding.substring(0, delimiter);
+      for (Algorithm algorithm : values()) {
+        if (algorithm.encoding.equalsIgnoreCase(name)) {
+          return algorithm;
+        }
+      }
+      return null;
+    }
+
+    byte[] compress(byte[] body) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2 + 16);
+      try (OutputStream zip =
+          this == GZIP ? new GZIPOutputStream(out) : new DeflaterOutputStream(out)) {
+        zip.write(body);
+      } catch (IOException ex) {
+        throw new MessageConversionException("Failed to compress payload", ex);
+      }
+      return out.toByteArray();
+    }
+
+    byte[] decompress(byte[] body, int maxBytes) {
+      try (InputStream zip =
+          this == GZIP
+              ? new GZIPInputStream(new ByteArrayInputStream(body))
+              : new InflaterInputStream(new ByteArrayInputStream(body))) {
+        ByteArrayOutputStream out =
+            new ByteArrayOutputStream((int) Math.min(maxBytes, Math.max(32L, body.length * 4L)));
+        byte[] buffer = new byte[INFLATE_BUFFER_BYTES];
+        long total = 0;
+        int read;
+        while ((read = zip.read(buffer)) != -1) {
+          total += read;
+          if (total > maxBytes) {
+            throw new MessageConversionException(
+                "Decompressed payload exceeds " + maxBytes + " bytes");
+          }
+          out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+      } catch (IOException ex) {
+        throw new MessageConversionException("Failed to decompress payload", ex);
+      }
+    }
+  }
+}
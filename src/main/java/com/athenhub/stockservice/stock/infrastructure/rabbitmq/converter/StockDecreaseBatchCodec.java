@@ -0,0 +1,218 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+/**
+ * {@link StockDecreaseBatchEvent}를 고정 스키마의 바이너리 포맷으로 인코딩/디코딩하는 코덱이다.
+ *
+ * <p>JSON은 UUID를 36자 문자열로, 시각을 ISO 문자열로 표현하고 모든 요청 항목마다 필드 이름과 {@code requestAt}을 반복한다. 이
+ * 코덱은 UUID를 16바이트로, 시각을 초(8바이트) + 나노초(varint)로 기록하고, 직전 항목과 같은 {@code requestAt}은 플래그 비트 하나로
+ * 대신한다.
+ *
+ * <pre>
+ * version(1) flags(1) [orderId(16)] [orderedAt] count(varint)
+ * line: flags(1) [productId(16)] [variantId(16)] quantity(zigzag varint) [requestAt]
+ * 시각: epochSecond(8, UTC 기준 LocalDateTime) nanos(varint)
+ * </pre>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public final class StockDecreaseBatchCodec {
+
+  /** 현재 포맷 버전. */
+  static final byte VERSION = 1;
+
+  private static final int HAS_ORDER_ID = 1;
+  private static final int HAS_ORDERED_AT = 1 << 1;
+
+  private static final int HAS_PRODUCT_ID = 1;
+  private static final int HAS_VARIANT_ID = 1 << 1;
+  private static final int REQUEST_AT_EXPLICIT = 1 << 2;
+  private static final int REQUEST_AT_SAME_AS_PREVIOUS = 1 << 3;
+
+  private StockDecreaseBatchCodec() {}
+
+  /**
+   * 재고 감소 이벤트를 바이너리로 인코딩한다.
+   *
+   * @param event 재고 감소 이벤트
+   * @return 인코딩된 바이트 배열
+   */
+  public static byte[] encode(StockDecreaseBatchEvent event) {
+    List<StockDecreaseRequest> requests =
+        event.stockDecreaseRequests() == null ? List.of() : event.stockDecreaseRequests();
+    Writer out = new Writer(32 + requests.size() * 40);
+
+    int flags = 0;
+    flags |= event.orderId() != null ? HAS_ORDER_ID : 0;
+    flags |= event.orderedAt() != null ? HAS_ORDERED_AT : 0;
+    out.writeByte(VERSION);
+    out.writeByte(flags);
+    if (event.orderId() != null) {
+      out.writeUuid(event.orderId());
+    }
+    if (event.orderedAt() != null) {
+      out.writeTime(event.orderedAt());
+    }
+
+    out.writeVarInt(requests.size());
+    LocalDateTime previous = null;
+    for (StockDecreaseRequest request : requests) {
+      LocalDateTime requestAt = request.requestAt();
+      int lineFlags = 0;
+      lineFlags |= request.productId() != null ? HAS_PRODUCT_ID : 0;
+      lineFlags |= request.variantId() != null ? HAS_VARIANT_ID : 0;
+      if (requestAt != null) {
+        lineFlags |= requestAt.equals(previous) ? REQUEST_AT_SAME_AS_PREVIOUS : REQUEST_AT_EXPLICIT;
+      }
+
+      out.writeByte(lineFlags);
+      if (request.productId() != null) {
+        out.writeUuid(request.productId());
+      }
+      if (request.variantId() != null) {
+        out.writeUuid(request.variantId());
+      }
+      out.writeVarInt((request.quantity() << 1) ^ (request.quantity() >> 31));
+      if ((lineFlags & REQUEST_AT_EXPLICIT) != 0) {
+        out.writeTime(requestAt);
+      }
+      previous = requestAt;
+    }
+    return out.toByteArray();
+  }
+
+  /**
+   * 바이너리를 재고 감소 이벤트로 디코딩한다.
+   *
+   * @param body 인코딩된 바이트 배열
+   * @return 재고 감소 이벤트
+   * @throws MessageConversionException 버전이 다르거나 형식이 잘못된 경우 (잘린 본문, 범위를 벗어난 시각 포함)
+   */
+  public static StockDecreaseBatchEvent decode(byte[] body) {
+    try {
+      ByteBuffer in = ByteBuffer.wrap(body);
+      byte version = in.get();
+      if (version != VERSION) {
+        throw new MessageConversionException("Unsupported stock decrease codec: v" + version);
+      }
+      int flags = in.get();
+      UUID orderId = (flags & HAS_ORDER_ID) != 0 ? readUuid(in) : null;
+      LocalDateTime orderedAt = (flags & HAS_ORDERED_AT) != 0 ? readTime(in) : null;
+
+      int count = readVarInt(in);
+      if (count < 0 || count > in.remaining()) {
+        throw new MessageConversionException("Invalid stock decrease line count: " + count);
+      }
+      List<StockDecreaseRequest> requests = new ArrayList<>(count);
+      LocalDateTime previous = null;
+      for (int i = 0; i < count; i++) {
+        int lineFlags = in.get();
+        UUID productId = (lineFlags & HAS_PRODUCT_ID) != 0 ? readUuid(in) : null;
+        UUID variantId = (lineFlags & HAS_VARIANT_ID) != 0 ? readUuid(in) : null;
+        int zigzag = readVarInt(in);
+        int quantity = (zigzag >>> 1) ^ -(zigzag & 1);
+        LocalDateTime requestAt = null;
+        if ((lineFlags & REQUEST_AT_EXPLICIT) != 0) {
+          requestAt = readTime(in);
+        } else if ((lineFlags & REQUEST_AT_SAME_AS_PREVIOUS) != 0) {
+          requestAt = previous;
+        }
+        requests.add(new StockDecreaseRequest(productId, variantId, quantity, requestAt));
+        previous = requestAt;
+      }
+      return new StockDecreaseBatchEvent(orderId, orderedAt, requests);
+    } catch (BufferUnderflowException | BufferOverflowException ex) {
+      throw new MessageConversionException("Truncated stock decrease payload", ex);
+    } catch (DateTimeException ex) {
+      throw new MessageConversionException("Invalid time in stock decrease payload", ex);
+    }
+  }
+
+  private static UUID readUuid(ByteBuffer in) {
+    return new UUID(in.getLong(), in.getLong());
+  }
+
+  private static LocalDateTime readTime(ByteBuffer in) {
+    long seconds = in.getLong();
+    int nanos = readVarInt(in);
+    return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+  }
+
+  private static int readVarInt(ByteBuffer in) {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      byte b = in.get();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new MessageConversionException("Malformed varint in stock decrease payload");
+  }
+
+  /** 크기가 자동으로 늘어나는 바이트 배열 Writer. */
+  private static final class Writer {
+
+    private byte[] buffer;
+    private int position;
+
+    Writer(int initialCapacity) {
+      this.buffer = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+      ensureCapacity(1);
+      buffer[position++] = (byte) value;
+    }
+
+    void writeLong(long value) {
+      ensureCapacity(Long.BYTES);
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        buffer[position++] = (byte) (value >>> shift);
+      }
+    }
+
+    void writeUuid(UUID value) {
+      writeLong(value.getMostSignificantBits());
+      writeLong(value.getLeastSignificantBits());
+    }
+
+    void writeTime(LocalDateTime value) {
+      writeLong(value.toEpochSecond(ZoneOffset.UTC));
+      writeVarInt(value.getNano());
+    }
+
+    void writeVarInt(int value) {
+      ensureCapacity(5);
+      while ((value & ~0x7F) != 0) {
+        buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      buffer[position++] = (byte) value;
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buffer, position);
+    }
+
+    private void ensureCapacity(int additional) {
+      if (position + additional > buffer.length) {
+        buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+      }
+    }
+  }
+}
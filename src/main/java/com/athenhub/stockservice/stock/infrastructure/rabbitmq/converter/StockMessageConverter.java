@@ -0,0 +1,132 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.reflect.Type;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.lang.Nullable;
+
+/**
+ * JSON 메시지 컨버터에 재고 감소 이벤트 전용 바이너리 포맷을 더한 메시지 컨버터이다.
+ *
+ * <p>수신한 메시지는 {@code content_type} 헤더로 포맷을 판단한다. {@value #CONTENT_TYPE}이면 {@link
+ * StockDecreaseBatchCodec}으로 디코딩하고, 그 밖의 메시지(기존 Producer의 JSON 포함)는 {@link
+ * Jackson2JsonMessageConverter}가 그대로 처리한다.
+ *
+ * <p>발행 시에는 {@code compact}가 활성화된 경우에만 {@link StockDecreaseBatchEvent}를 바이너리로 인코딩하며, 다른 이벤트는 항상
+ * JSON으로 발행한다. {@code Jackson2JsonMessageConverter}를 상속하므로 기존에 JSON 컨버터를 주입받던 Listener와
+ * Publisher는 그대로 두 포맷을 모두 다룬다.
+ *
+ * <p>{@link PayloadCompressor}가 설정되면 변환 결과가 임계값 이상일 때 압축하여 발행한다. 압축 해제는 설정과 관계없이 {@code
+ * content_encoding} 헤더를 보고 항상 수행하므로, 압축을 켠 인스턴스와 끈 인스턴스가 섞여 있어도 메시지를 읽을 수 있다. 해제한 본문이
+ * 최대 크기를 넘으면 {@link MessageConversionException}으로 처리한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public class StockMessageConverter extends Jackson2JsonMessageConverter {
+
+  /** 바이너리 재고 감소 이벤트의 Content-Type. */
+  public static final String CONTENT_TYPE = "application/x-stock-decrease-batch";
+
+  private final boolean compact;
+
+  @Nullable private final PayloadCompressor compressor;
+
+  private final int maxInflatedBytes;
+
+  /**
+   * 압축하지 않는 메시지 컨버터를 생성한다.
+   *
+   * @param objectMapper JSON 직렬화에 사용할 ObjectMapper
+   * @param compact 재고 감소 이벤트를 바이너리로 발행할지 여부
+   */
+  public StockMessageConverter(ObjectMapper objectMapper, boolean compact) {
+    this(objectMapper, compact, null);
+  }
+
+  /**
+   * 메시지 컨버터를 생성한다.
+   *
+   * @param objectMapper JSON 직렬화에 사용할 ObjectMapper
+   * @param compact 재고 감소 이벤트를 바이너리로 발행할지 여부
+   * @param compressor 큰 메시지를 압축할 컴포넌트, {@code null}이면 발행 시 압축하지 않는다
+   */
+  public StockMessageConverter(
+      ObjectMapper objectMapper, boolean compact, @Nullable PayloadCompressor compressor) {
+    this(objectMapper, compact, compressor, PayloadCompressor.DEFAULT_MAX_INFLATED_BYTES);
+  }
+
+  /**
+   * 메시지 컨버터를 생성한다.
+   *
+   * @param objectMapper JSON 직렬화에 사용할 ObjectMapper
+   * @param compact 재고 감소 이벤트를 바이너리로 발행할지 여부
+   * @param compressor 큰 메시지를 압축할 컴포넌트, {@code null}이면 발행 시 압축하지 않는다
+   * @param maxInflatedBytes {@code compressor}가 없을 때 해제한 본문의 최대 크기(바이트)
+   */
+  public StockMessageConverter(
+      ObjectMapper objectMapper,
+      boolean compact,
+      @Nullable PayloadCompressor compressor,
+      int maxInflatedBytes) {
+    super(objectMapper);
+    this.compact = compact;
+    this.compressor = compressor;
+    this.maxInflatedBytes = maxInflatedBytes;
+  }
+
+  /**
+   * 같은 ObjectMapper를 사용하되 바이너리 포맷과 압축을 적용하지 않는 JSON 컨버터를 반환한다.
+   *
+   * <p>본문을 문자열로 저장하는 Outbox처럼 항상 UTF-8 JSON이 필요한 곳에서 사용한다.
+   *
+   * @return JSON으로만 변환하는 메시지 컨버터
+   */
+  public StockMessageConverter jsonOnly() {
+    return new StockMessageConverter(objectMapper, false, null, maxInflatedBytes);
+  }
+
+  @Override
+  protected Message createMessage(
+      Object objectToConvert, MessageProperties messageProperties, @Nullable Type genericType) {
+    Message message;
+    if (compact && objectToConvert instanceof StockDecreaseBatchEvent event) {
+      byte[] body = StockDecreaseBatchCodec.encode(event);
+      messageProperties.setContentType(CONTENT_TYPE);
+      messageProperties.setContentLength(body.length);
+      getJavaTypeMapper().fromClass(StockDecreaseBatchEvent.class, messageProperties);
+      message = new Message(body, messageProperties);
+    } else {
+      message = super.createMessage(objectToConvert, messageProperties, genericType);
+    }
+    return compressor == null ? message : compressor.compress(message);
+  }
+
+  @Override
+  public Object fromMessage(Message received, @Nullable Object conversionHint)
+      throws MessageConversionException {
+    Message message =
+        compressor == null
+            ? PayloadCompressor.decompressIfNeeded(received, maxInflatedBytes)
+            : compressor.decompress(received);
+    if (isCompact(message.getMessageProperties())) {
+      return StockDecreaseBatchCodec.decode(message.getBody());
+    }
+    return super.fromMessage(message, conversionHint);
+  }
+
+  /**
+   * 메시지가 바이너리 재고 감소 포맷인지 확인한다.
+   *
+   * @param properties 메시지 속성
+   * @return {@code content_type}이 {@value #CONTENT_TYPE}이면 {@code true}
+   */
+  public static boolean isCompact(MessageProperties properties) {
+    String contentType = properties.getContentType();
+    return contentType != null && contentType.startsWith(CONTENT_TYPE);
+  }
+}
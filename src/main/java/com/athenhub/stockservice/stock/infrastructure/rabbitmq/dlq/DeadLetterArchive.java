@@ -0,0 +1,156 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.RabbitCodecProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter.PayloadCompressor;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.StockDecreaseMessageId;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재고 감소 DLQ 메시지를 {@link DeadLetterMessage} 테이블에 보관하는 컴포넌트이다.
+ *
+ * <p>Payload는 텍스트(JSON)면 그대로, 바이너리면 Base64 문자열로 저장하고, 헤더는 값을 문자열로 바꾼 JSON 객체로 저장한다. 헤더는
+ * 조사용이며, 다시 발행할 때는 저장된 Payload와 Content-Type, 타입 식별자만으로 원본과 같은 메시지를 만든다.
+ *
+ * <p>보관 후 실패 이벤트 발행에 실패하면 메시지가 NACK(requeue)되어 다시 수신되므로, 메시지 ID(없으면 주문 ID로 만든 재고 감소
+ * messageId)가 같고 아직 다시 발행하지 않은 보관 메시지가 있으면 새로 저장하지 않고 그 메시지를 반환한다. 다시 발행한 뒤 또 DLQ에 적재된
+ * 메시지는 새로 보관된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterArchive {
+
+  /** 실패 유형 헤더 이름. */
+  public static final String ERROR_TYPE_HEADER = "x-error-type";
+
+  /** 재시도 횟수 헤더 이름. */
+  public static final String RETRY_COUNT_HEADER = "x-retry-count";
+
+  /** 보관할 수 있는 헤더 JSON의 최대 길이. 넘으면 헤더를 보관하지 않는다. */
+  private static final int MAX_HEADERS_LENGTH = 4000;
+
+  private final DeadLetterMessageRepository repository;
+  private final ObjectMapper objectMapper;
+  private final RabbitCodecProperties codecProperties;
+
+  /**
+   * DLQ 메시지를 보관한다.
+   *
+   * <p>압축된 메시지는 압축을 해제하여 보관한다. 같은 메시지가 이미 보관되어 있으면 새로 저장하지 않는다.
+   *
+   * @param received DLQ에서 수신한 원본 메시지
+   * @param orderId 주문 ID, 역직렬화할 수 없는 메시지는 {@code null}
+   * @return 보관된 메시지 (이미 보관된 경우 기존 메시지)
+   */
+  @Transactional
+  public DeadLetterMessage archive(Message received, UUID orderId) {
+    String messageId = messageIdOf(received.getMessageProperties(), orderId);
+    if (messageId != null) {
+      Optional<DeadLetterMessage> archived =
+          repository.findFirstByMessageIdAndReplayedAtIsNullOrderByIdDesc(messageId);
+      if (archived.isPresent()) {
+        log.info("[DLQ_ARCHIVE] status=already_archived, messageId={}", messageId);
+        return archived.get();
+      }
+    }
+
+    Message message =
+        PayloadCompressor.decompressIfNeeded(
+            received, (int) codecProperties.getCompression().getMaxInflatedSize().toBytes());
+    MessageProperties properties = message.getMessageProperties();
+    Object errorType = properties.getHeader(ERROR_TYPE_HEADER);
+    Object retryCount = properties.getHeader(RETRY_COUNT_HEADER);
+    Object payloadType = properties.getHeader(AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME);
+
+    DeadLetterMessage deadLetter =
+        DeadLetterMessage.of(
+            messageId,
+            orderId,
+            errorType == null ? null : errorType.toString(),
+            retryCount instanceof Number number ? number.intValue() : 0,
+            properties.getContentType(),
+            payloadType == null ? null : payloadType.toString(),
+            encodeBody(properties.getContentType(), message.getBody()),
+            toJson(properties.getHeaders()));
+    return repository.save(deadLetter);
+  }
+
+  /**
+   * 보관된 메시지의 주문에 처리 실패 이벤트를 발행했음을 기록한다.
+   *
+   * <p>기록된 메시지는 주문 서비스가 보상을 진행했을 수 있으므로 재발행 시 기본적으로 제외된다.
+   *
+   * @param deadLetter 처리 실패 이벤트를 발행한 보관 메시지
+   */
+  public void markFailureReported(DeadLetterMessage deadLetter) {
+    repository.markFailureReported(deadLetter.getId(), LocalDateTime.now());
+  }
+
+  /**
+   * 메시지 본문을 보관용 문자열로 변환한다. 텍스트(JSON 등)는 그대로, 바이너리는 Base64로 저장한다.
+   *
+   * @param contentType 메시지 Content-Type
+   * @param body 메시지 본문
+   * @return 보관용 문자열
+   */
+  public static String encodeBody(String contentType, byte[] body) {
+    return isText(contentType)
+        ? new String(body, StandardCharsets.UTF_8)
+        : Base64.getEncoder().encodeToString(body);
+  }
+
+  /**
+   * 보관된 문자열을 메시지 본문으로 되돌린다.
+   *
+   * @param contentType 메시지 Content-Type
+   * @param payload 보관된 문자열
+   * @return 메시지 본문
+   */
+  public static byte[] decodeBody(String contentType, String payload) {
+    return isText(contentType)
+        ? payload.getBytes(StandardCharsets.UTF_8)
+        : Base64.getDecoder().decode(payload);
+  }
+
+  /** 메시지 ID를 구한다. 메시지 ID가 없으면 주문 ID로 재고 감소 messageId를 만든다. */
+  private static String messageIdOf(MessageProperties properties, UUID orderId) {
+    if (properties.getMessageId() != null) {
+      return properties.getMessageId();
+    }
+    return orderId == null ? null : StockDecreaseMessageId.of(orderId);
+  }
+
+  private static boolean isText(String contentType) {
+    return contentType == null || contentType.contains("json") || contentType.startsWith("text/");
+  }
+
+  private String toJson(Map<String, Object> headers) {
+    Map<String, String> values = new LinkedHashMap<>();
+    headers.forEach((key, value) -> values.put(key, String.valueOf(value)));
+    try {
+      String json = objectMapper.writeValueAsString(values);
+      return json.length() > MAX_HEADERS_LENGTH ? null : json;
+    } catch (JsonProcessingException ex) {
+      log.warn("[DLQ_ARCHIVE] status=headers_unwritable, cause={}", ex.getMessage());
+      return null;
+    }
+  }
+}
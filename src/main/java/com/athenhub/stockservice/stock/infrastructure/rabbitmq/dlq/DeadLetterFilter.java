@@ -0,0 +1,36 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 DLQ 메시지를 조회하거나 다시 발행할 때 사용하는 조건이다.
+ *
+ * @param errorType 오류 유형, {@code null}이면 모든 유형
+ * @param from 적재 시각 시작 (포함)
+ * @param to 적재 시각 종료 (미포함)
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record DeadLetterFilter(String errorType, LocalDateTime from, LocalDateTime to) {
+
+  /** 시작 시각을 지정하지 않았을 때 사용하는 하한. */
+  private static final LocalDateTime EPOCH = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+  /**
+   * 문자열 조건으로 필터를 생성한다.
+   *
+   * <p>시각은 ISO-8601 형식({@code 2025-01-01T00:00:00})이며, 생략하면 시작은 제한이 없고 종료는 현재 시각이다.
+   *
+   * @param errorType 오류 유형, 비어 있으면 모든 유형
+   * @param from 적재 시각 시작
+   * @param to 적재 시각 종료
+   * @return 조회 조건
+   * @throws java.time.format.DateTimeParseException 시각 형식이 잘못된 경우
+   */
+  public static DeadLetterFilter of(String errorType, String from, String to) {
+    return new DeadLetterFilter(
+        errorType == null || errorType.isBlank() ? null : errorType,
+        from == null || from.isBlank() ? EPOCH : LocalDateTime.parse(from),
+        to == null || to.isBlank() ? LocalDateTime.now() : LocalDateTime.parse(to));
+  }
+}
@@ -0,0 +1,145 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재고 감소 DLQ에서 수신하여 보관한 메시지를 나타내는 엔티티.
+ *
+ * <p>DLQ 메시지를 Broker에 쌓아두지 않고 이 테이블로 옮긴 뒤 ACK하므로, DLQ가 Broker 메모리에서 무한히 커지지 않는다. 보관된 메시지는 오류
+ * 유형과 적재 시각으로 조회하여 stock.decrease로 다시 발행(Replay)할 수 있다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Entity
+@Table(
+    name = "p_stock_dead_letter",
+    indexes = {
+      @Index(
+          name = "idx_stock_dead_letter_error_type",
+          columnList = "error_type, dead_lettered_at"),
+      @Index(name = "idx_stock_dead_letter_dead_lettered_at", columnList = "dead_lettered_at"),
+      @Index(name = "idx_stock_dead_letter_order_id", columnList = "order_id"),
+      @Index(name = "idx_stock_dead_letter_message_id", columnList = "message_id")
+    })
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class DeadLetterMessage {
+
+  /** 보관 순서를 나타내는 식별자. */
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @Column(name = "dead_letter_id")
+  private Long id;
+
+  /** 원본 메시지 ID. 같은 메시지가 재전달되었을 때 중복 보관하지 않기 위해 사용한다. */
+  @Column(length = 100)
+  private String messageId;
+
+  /** 주문 ID. 역직렬화할 수 없는 메시지는 {@code null}. */
+  private UUID orderId;
+
+  /** 실패 유형 ({@code x-error-type} 헤더 값). */
+  @Column(length = 50)
+  private String errorType;
+
+  /** DLQ로 이동하기 전까지의 재시도 횟수 ({@code x-retry-count} 헤더 값). */
+  private int retryCount;
+
+  /** 원본 메시지 Content-Type. */
+  private String contentType;
+
+  /** 원본 메시지 Payload 타입 식별자 ({@code __TypeId__} 헤더 값). */
+  private String payloadType;
+
+  /** 원본 메시지 Payload. */
+  @Column(nullable = false, length = 65535)
+  private String payload;
+
+  /** 원본 메시지 헤더 (JSON). */
+  @Column(length = 4000)
+  private String headers;
+
+  /** DLQ에서 수신하여 보관한 시각. */
+  @Column(nullable = false)
+  private LocalDateTime deadLetteredAt;
+
+  /** 마지막으로 다시 발행한 시각. 다시 발행하지 않았으면 {@code null}. */
+  private LocalDateTime replayedAt;
+
+  /** 다시 발행한 횟수. */
+  private int replayCount;
+
+  /**
+   * 주문 서비스에 처리 실패 이벤트({@code OrderProcessFailedEvent})를 발행한 시각. 발행하지 않았으면 {@code null}.
+   *
+   * <p>실패가 보고된 주문은 주문 서비스가 보상(주문 취소 등)을 진행했을 수 있으므로, 재발행 시 명시적으로 요청하지 않으면 제외한다.
+   */
+  private LocalDateTime failureReportedAt;
+
+  private DeadLetterMessage(
+      String messageId,
+      UUID orderId,
+      String errorType,
+      int retryCount,
+      String contentType,
+      String payloadType,
+      String payload,
+      String headers,
+      LocalDateTime deadLetteredAt) {
+    this.messageId = messageId;
+    this.orderId = orderId;
+    this.errorType = errorType;
+    this.retryCount = retryCount;
+    this.contentType = contentType;
+    this.payloadType = payloadType;
+    this.payload = payload;
+    this.headers = headers;
+    this.deadLetteredAt = deadLetteredAt;
+  }
+
+  /**
+   * DLQ에서 수신한 메시지로 보관 엔티티를 생성한다.
+   *
+   * @param messageId 원본 메시지 ID, 알 수 없으면 {@code null}
+   * @param orderId 주문 ID, 역직렬화할 수 없는 메시지는 {@code null}
+   * @param errorType 실패 유형
+   * @param retryCount 재시도 횟수
+   * @param contentType 원본 메시지 Content-Type
+   * @param payloadType 원본 메시지 Payload 타입 식별자
+   * @param payload 원본 메시지 Payload
+   * @param headers 원본 메시지 헤더 (JSON)
+   * @return 현재 시각에 보관된 DLQ 메시지
+   */
+  public static DeadLetterMessage of(
+      String messageId,
+      UUID orderId,
+      String errorType,
+      int retryCount,
+      String contentType,
+      String payloadType,
+      String payload,
+      String headers) {
+    return new DeadLetterMessage(
+        messageId,
+        orderId,
+        errorType,
+        retryCount,
+        contentType,
+        payloadType,
+        payload,
+        headers,
+        LocalDateTime.now());
+  }
+}
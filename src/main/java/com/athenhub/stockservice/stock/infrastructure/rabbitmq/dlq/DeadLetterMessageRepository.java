@@ -0,0 +1,110 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보관된 재고 감소 DLQ 메시지({@link DeadLetterMessage})에 대한 영속성 처리를 담당하는 Repository이다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public interface DeadLetterMessageRepository extends JpaRepository<DeadLetterMessage, Long> {
+
+  /**
+   * 같은 메시지 ID로 보관된 메시지 중 아직 다시 발행하지 않은 메시지를 조회한다.
+   *
+   * @param messageId 원본 메시지 ID
+   * @return 아직 다시 발행하지 않은 보관 메시지
+   */
+  Optional<DeadLetterMessage> findFirstByMessageIdAndReplayedAtIsNullOrderByIdDesc(
+      String messageId);
+
+  /**
+   * 오류 유형과 적재 시각 범위로 보관된 메시지를 최신순으로 조회한다.
+   *
+   * @param errorType 오류 유형, {@code null}이면 모든 유형
+   * @param from 조회 시작 시각 (포함)
+   * @param to 조회 종료 시각 (미포함)
+   * @param pageable 페이지 정보
+   * @return 조건에 맞는 보관 메시지 페이지
+   */
+  @Query(
+      "select d from DeadLetterMessage d"
+          + " where (:errorType is null or d.errorType = :errorType)"
+          + " and d.deadLetteredAt >= :from and d.deadLetteredAt < :to"
+          + " order by d.id desc")
+  Page<DeadLetterMessage> search(
+      @Param("errorType") String errorType,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
+      Pageable pageable);
+
+  /**
+   * 아직 다시 발행하지 않은 메시지 중 조건에 맞는 메시지를 ID 순으로 조회한다.
+   *
+   * <p>{@code afterId}보다 큰 ID만 조회하므로, 배치마다 마지막 ID를 넘겨 OFFSET 없이 다음 배치를 이어서 읽을 수 있다. 주문 서비스에
+   * 처리 실패를 보고한 메시지는 {@code includeFailureReported}가 {@code true}인 경우에만 조회한다.
+   *
+   * @param errorType 오류 유형, {@code null}이면 모든 유형
+   * @param from 조회 시작 시각 (포함)
+   * @param to 조회 종료 시각 (미포함)
+   * @param includeFailureReported 처리 실패를 보고한 메시지 포함 여부
+   * @param afterId 이전 배치의 마지막 ID
+   * @param pageable 배치 크기
+   * @return 다시 발행할 메시지 목록
+   */
+  @Query(
+      "select d from DeadLetterMessage d"
+          + " where d.replayedAt is null and d.id > :afterId"
+          + " and (:errorType is null or d.errorType = :errorType)"
+          + " and d.deadLetteredAt >= :from and d.deadLetteredAt < :to"
+          + " and (:includeFailureReported = true or d.failureReportedAt is null)"
+          + " order by d.id")
+  List<DeadLetterMessage> findReplayable(
+      @Param("errorType") String errorType,
+      @Param("from") LocalDateTime from,
+      @Param("to") LocalDateTime to,
+      @Param("includeFailureReported") boolean includeFailureReported,
+      @Param("afterId") long afterId,
+      Pageable pageable);
+
+  /**
+   * 주어진 메시지들을 다시 발행한 것으로 표시한다.
+   *
+   * @param ids 다시 발행한 메시지 ID 목록
+   * @param replayedAt 다시 발행한 시각
+   * @return 갱신된 행 수
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update DeadLetterMessage d"
+          + " set d.replayedAt = :replayedAt, d.replayCount = d.replayCount + 1"
+          + " where d.id in :ids")
+  int markReplayed(
+      @Param("ids") Collection<Long> ids, @Param("replayedAt") LocalDateTime replayedAt);
+
+  /**
+   * 보관된 메시지의 주문에 처리 실패 이벤트를 발행했음을 기록한다.
+   *
+   * @param id 보관 메시지 ID
+   * @param reportedAt 처리 실패 이벤트를 발행한 시각
+   * @return 갱신된 행 수 (이미 기록된 경우 0)
+   */
+  @Transactional
+  @Modifying(clearAutomatically = true)
+  @Query(
+      "update DeadLetterMessage d set d.failureReportedAt = :reportedAt"
+          + " where d.id = :id and d.failureReportedAt is null")
+  int markFailureReported(@Param("id") Long id, @Param("reportedAt") LocalDateTime reportedAt);
+}
@@ -0,0 +1,237 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.StockDecreasePartitionKey;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관된 재고 감소 DLQ 메시지를 재고 감소 Routing Key로 다시 발행하는 컴포넌트이다.
+ *
+ * <p>조건에 맞는 메시지를 {@code rabbit.stock.decrease-dead.replay.batch-size}건씩 ID 순으로 읽어 Publisher
+ * Confirm용 {@link CorrelationData}와 함께 발행하고, {@code confirm-timeout}까지 Confirm을 기다린다. Broker가 ACK했고
+ * Return되지 않은 메시지만 재발행 시각을 기록하며, NACK, Return, Confirm 시간 초과 또는 발행 예외가 발생한 메시지는 재발행하지 않은 상태로 남기고
+ * 이번 요청을 멈춘다. 배치 사이에는 {@code interval}만큼 쉰다. 재발행 메시지에는 재시도 횟수 헤더를 붙이지 않으므로 재시도 예산이 처음부터
+ * 다시 적용되며, 한 번 재발행한 메시지는 다시 선택되지 않는다.
+ *
+ * <p>주문 서비스에 처리 실패 이벤트({@code OrderProcessFailedEvent})를 이미 발행한 메시지는 주문이 취소되었을 수 있어 다시 발행하면 재고가
+ * 이중으로 감소할 수 있으므로 기본적으로 제외한다. 주문 측 상태를 확인한 뒤 {@code includeFailureReported}를 명시한 경우에만 함께 다시
+ * 발행한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeadLetterReplayer {
+
+  /** 재발행 메시지에 원본 보관 ID를 남기는 헤더 이름. */
+  public static final String REPLAYED_FROM_HEADER = "x-replayed-from";
+
+  private static final String TYPE_ID_HEADER = AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME;
+
+  private final DeadLetterMessageRepository repository;
+  private final RabbitTemplate rabbitTemplate;
+  private final RabbitStockProperties props;
+  private final Jackson2JsonMessageConverter messageConverter;
+
+  /**
+   * 조건에 맞는 보관 메시지를 다시 발행한다.
+   *
+   * @param filter 재발행 조건
+   * @param limit 최대 재발행 건수, {@code max-per-request}를 넘을 수 없다
+   * @param includeFailureReported 주문 서비스에 처리 실패를 보고한 메시지도 다시 발행할지 여부
+   * @return 재발행 결과
+   */
+  public ReplayResult replay(DeadLetterFilter filter, int limit, boolean includeFailureReported) {
+    RabbitStockProperties.Replay replay = props.getDecreaseDead().getReplay();
+    int remaining = Math.min(Math.max(limit, 0), replay.getMaxPerRequest());
+    int replayed = 0;
+    int batches = 0;
+    long lastId = 0L;
+
+    while (remaining > 0) {
+      List<DeadLetterMessage> batch =
+          repository.findReplayable(
+              filter.errorType(),
+              filter.from(),
+              filter.to(),
+              includeFailureReported,
+              lastId,
+              PageRequest.of(0, Math.min(replay.getBatchSize(), remaining)));
+      if (batch.isEmpty()) {
+        break;
+      }
+
+      List<Long> confirmed = awaitConfirms(send(batch), replay.getConfirmTimeout());
+      if (!confirmed.isEmpty()) {
+        repository.markReplayed(confirmed, LocalDateTime.now());
+      }
+
+      replayed += confirmed.size();
+      remaining -= batch.size();
+      lastId = batch.get(batch.size() - 1).getId();
+      batches++;
+      log.info(
+          "[DLQ_REPLAY] batch={}, size={}, confirmed={}, lastId={}",
+          batches,
+          batch.size(),
+          confirmed.size(),
+          lastId);
+
+      int unconfirmed = batch.size() - confirmed.size();
+      if (unconfirmed > 0) {
+        log.warn("[DLQ_REPLAY] stopped batch={}, unconfirmed={}", batches, unconfirmed);
+        return new ReplayResult(replayed, batches, unconfirmed);
+      }
+      if (remaining > 0 && !pause(replay)) {
+        break;
+      }
+    }
+    return new ReplayResult(replayed, batches, 0);
+  }
+
+  /**
+   * 보관 메시지를 ID 순서대로 발행한다. 발행 예외가 발생하면 이후 메시지는 발행하지 않는다.
+   *
+   * @param batch 발행할 보관 메시지 목록
+   * @return 발행 요청에 성공한 메시지와 Confirm 추적 정보
+   */
+  private List<Sent> send(List<DeadLetterMessage> batch) {
+    List<Sent> sent = new ArrayList<>(batch.size());
+    for (DeadLetterMessage deadLetter : batch) {
+      CorrelationData correlation = new CorrelationData(UUID.randomUUID().toString());
+      try {
+        rabbitTemplate.send(
+            props.getExchange(),
+            props.getDecrease().getRoutingKey(),
+            toMessage(deadLetter),
+            correlation);
+        sent.add(new Sent(deadLetter.getId(), correlation));
+      } catch (AmqpException ex) {
+        log.warn(
+            "[DLQ_REPLAY] id={}, status=send_failed, cause={}",
+            deadLetter.getId(),
+            ex.getMessage());
+        break;
+      }
+    }
+    return sent;
+  }
+
+  /**
+   * 발행한 메시지의 Confirm을 {@code timeout}까지 기다린다.
+   *
+   * @param sent 발행한 메시지와 Confirm 추적 정보
+   * @param timeout 배치 전체의 Confirm 대기 시간
+   * @return Broker가 ACK했고 Return되지 않은 보관 메시지 ID 목록
+   */
+  private static List<Long> awaitConfirms(List<Sent> sent, Duration timeout) {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    List<Long> confirmed = new ArrayList<>(sent.size());
+
+    for (Sent message : sent) {
+      CorrelationData correlation = message.correlation();
+      String failure = null;
+      try {
+        long remaining = Math.max(0, deadline - System.nanoTime());
+        CorrelationData.Confirm confirm =
+            correlation.getFuture().get(remaining, TimeUnit.NANOSECONDS);
+        if (!confirm.isAck()) {
+          failure = "nack: " + confirm.getReason();
+        } else if (correlation.getReturned() != null) {
+          failure = "returned: " + correlation.getReturned().getReplyText();
+        }
+      } catch (TimeoutException ex) {
+        failure = "confirm timeout";
+      } catch (ExecutionException ex) {
+        failure = ex.getCause() != null ? ex.getCause().getMessage() : ex.getMessage();
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        failure = "interrupted";
+      }
+
+      if (failure == null) {
+        confirmed.add(message.id());
+      } else {
+        log.warn("[DLQ_REPLAY] id={}, status=unconfirmed, reason={}", message.id(), failure);
+      }
+    }
+    return confirmed;
+  }
+
+  /**
+   * 보관된 메시지로 원본과 같은 Payload, Content-Type, 타입 식별자를 가진 메시지를 만든다.
+   *
+   * <p>파티션 라우팅이 활성화된 경우에도 원래 파티션으로 가도록 파티션 키 헤더를 다시 계산한다.
+   */
+  private Message toMessage(DeadLetterMessage deadLetter) {
+    Message message =
+        MessageBuilder.withBody(
+                DeadLetterArchive.decodeBody(deadLetter.getContentType(), deadLetter.getPayload()))
+            .setContentType(
+                deadLetter.getContentType() != null
+                    ? deadLetter.getContentType()
+                    : MessageProperties.CONTENT_TYPE_JSON)
+            .setHeader(REPLAYED_FROM_HEADER, deadLetter.getId())
+            .build();
+    MessageProperties properties = message.getMessageProperties();
+    if (deadLetter.getPayloadType() != null) {
+      properties.setHeader(TYPE_ID_HEADER, deadLetter.getPayloadType());
+    }
+
+    try {
+      properties.setInferredArgumentType(StockDecreaseBatchEvent.class);
+      if (messageConverter.fromMessage(message) instanceof StockDecreaseBatchEvent event) {
+        StockDecreasePartitionKey.apply(message, event);
+      }
+    } catch (MessageConversionException ex) {
+      log.warn(
+          "[DLQ_REPLAY] id={}, status=malformed, cause={}", deadLetter.getId(), ex.getMessage());
+    }
+    return message;
+  }
+
+  private static boolean pause(RabbitStockProperties.Replay replay) {
+    try {
+      Thread.sleep(replay.getInterval().toMillis());
+      return true;
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  /** 발행 요청에 성공한 보관 메시지와 Confirm 추적 정보. */
+  private record Sent(Long id, CorrelationData correlation) {}
+
+  /**
+   * 재발행 결과.
+   *
+   * @param replayed Broker가 확인하여 재발행으로 기록한 메시지 수
+   * @param batches 발행한 배치 수
+   * @param unconfirmed 확인되지 않아 재발행하지 않은 상태로 남긴 메시지 수
+   */
+  public record ReplayResult(int replayed, int batches, int unconfirmed) {}
+}
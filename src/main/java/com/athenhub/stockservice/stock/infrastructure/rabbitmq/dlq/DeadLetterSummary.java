@@ -0,0 +1,47 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 보관된 DLQ 메시지의 조회 결과이다.
+ *
+ * @param id 보관 ID
+ * @param orderId 주문 ID
+ * @param errorType 오류 유형
+ * @param retryCount DLQ로 이동하기 전까지의 재시도 횟수
+ * @param deadLetteredAt 보관 시각
+ * @param replayedAt 마지막으로 다시 발행한 시각
+ * @param replayCount 다시 발행한 횟수
+ * @param payload 원본 메시지 Payload
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record DeadLetterSummary(
+    Long id,
+    UUID orderId,
+    String errorType,
+    int retryCount,
+    LocalDateTime deadLetteredAt,
+    LocalDateTime replayedAt,
+    int replayCount,
+    String payload) {
+
+  /**
+   * 보관 엔티티로부터 조회 결과를 생성한다.
+   *
+   * @param message 보관된 DLQ 메시지
+   * @return 조회 결과
+   */
+  public static DeadLetterSummary from(DeadLetterMessage message) {
+    return new DeadLetterSummary(
+        message.getId(),
+        message.getOrderId(),
+        message.getErrorType(),
+        message.getRetryCount(),
+        message.getDeadLetteredAt(),
+        message.getReplayedAt(),
+        message.getReplayCount(),
+        message.getPayload());
+  }
+}
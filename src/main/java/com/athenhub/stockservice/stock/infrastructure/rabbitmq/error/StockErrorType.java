@@ -5,8 +5,13 @@ package com.athenhub.stockservice.stock.infrastructure.rabbitmq.error;
  *
  * <p>RabbitMQ Retry/DLQ 전략에서 메시지 헤더에 오류 유형을 기록하여, 이후 보상 트랜잭션 처리(주문 취소, 결제 취소 등) 또는 장애 분석 시 사용된다.
  *
- * <p>오류의 성격에 따라 비즈니스 실패(OUT_OF_STOCK), Retry 정책 소진(RETRY_EXCEEDED), 예상치 못한 시스템 오류(UNKNOWN_ERROR)로
- * 구분한다.
+ * <p>오류의 성격에 따라 비즈니스 실패(OUT_OF_STOCK), 동시 수정 충돌(CONFLICT), 일시적 인프라 장애(TRANSIENT_FAILURE), Retry
+ * 정책 소진(RETRY_EXCEEDED), 잘못된 메시지(MALFORMED_MESSAGE, INVALID_REQUEST, MISSING_STOCK), 예상치 못한 시스템
+ * 오류(UNKNOWN_ERROR)로 구분한다.
+ *
+ * <p>{@link #isRetryable()}이 {@code true}인 유형만 Retry Queue로 재시도하며, {@code
+ * rabbit.stock.decrease-retry.max-retries}로 유형별 최대 재시도 횟수를 지정할 수 있다. 다시 처리해도 같은 결과가 나오는 잘못된 메시지는
+ * 재시도 없이 곧바로 격리(Quarantine) Queue로 보낸다.
  *
  * <p>메시지 발행 시 {@code x-error-type} 헤더에 본 Enum의 이름을 기록하고, Consumer 측에서는 이를 기반으로 도메인 이벤트 생성 또는 보상 로직을
  * 수행한다.
@@ -28,7 +33,42 @@ public enum StockErrorType {
    *
    * <p>재시도를 통해 해결될 수 없는 실패로, 즉시 실패 이벤트를 발행해야 한다.
    */
-  OUT_OF_STOCK,
+  OUT_OF_STOCK(false),
+
+  /**
+   * 같은 재고를 동시에 수정하여 낙관적/비관적 락 충돌이 발생한 경우.
+   *
+   * <p>짧은 대기 후 재시도하면 대부분 성공하므로, 일반 오류보다 많은 재시도 횟수를 허용할 수 있다.
+   */
+  CONFLICT(true),
+
+  /**
+   * DB 연결 실패, 쿼리 타임아웃 등 일시적인 인프라 장애.
+   *
+   * <p>메시지 자체에는 문제가 없으므로 지연 후 재시도한다.
+   */
+  TRANSIENT_FAILURE(true),
+
+  /**
+   * 메시지를 재고 감소 이벤트로 역직렬화할 수 없는 경우.
+   *
+   * <p>다시 전달해도 같은 결과이므로 재시도하지 않고 격리한다.
+   */
+  MALFORMED_MESSAGE(false),
+
+  /**
+   * 필수 값 누락, 0 이하 수량 등 요청 값 검증에 실패한 경우.
+   *
+   * <p>다시 처리해도 같은 결과이므로 재시도하지 않고 격리한다.
+   */
+  INVALID_REQUEST(false),
+
+  /**
+   * 요청한 상품 옵션의 재고가 존재하지 않는 경우.
+   *
+   * <p>재고 등록 전 주문 등 데이터 정합성 문제로, 재시도하지 않고 격리한다.
+   */
+  MISSING_STOCK(false),
 
   /**
    * RabbitMQ Retry 횟수를 초과하여 더 이상 재시도가 불가능한 경우.
@@ -42,7 +82,7 @@ public enum StockErrorType {
    *
    * <p>DLQ로 이동하여 보상 트랜잭션 처리가 필요하다.
    */
-  RETRY_EXCEEDED,
+  RETRY_EXCEEDED(false),
 
   /**
    * 예상치 못한 모든 시스템 오류.
@@ -51,11 +91,26 @@ public enum StockErrorType {
    *
    * <ul>
    *   <li>서버 내부 NullPointerException
-   *   <li>메시지 역직렬화 실패
-   *   <li>인프라 연결 오류
+   *   <li>분류되지 않은 런타임 예외
    * </ul>
    *
-   * <p>정확한 원인을 파악하기 위해 오류 로그 분석이 필요하며, DLQ 이동 후 보상/모니터링 처리 대상이 된다.
+   * <p>원인을 알 수 없으므로 재시도하며, 재시도를 모두 소진하면 DLQ로 이동하여 보상/모니터링 처리 대상이 된다.
+   */
+  UNKNOWN_ERROR(true);
+
+  /** 재시도로 해결될 가능성이 있는 오류인지 여부. */
+  private final boolean retryable;
+
+  StockErrorType(boolean retryable) {
+    this.retryable = retryable;
+  }
+
+  /**
+   * 재시도로 해결될 가능성이 있는 오류인지 여부를 반환한다.
+   *
+   * @return 재시도 대상이면 {@code true}
    */
-  UNKNOWN_ERROR
+  public boolean isRetryable() {
+    return retryable;
+  }
 }
@@ -0,0 +1,45 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 창고 시스템에서 발행하는 입고 전표 이벤트이다.
+ *
+ * <p>재고 서비스가 이를 수신하여 전표에 포함된 상품 옵션(Variant)별 재고를 증가시킨다. 같은 전표가 여러 번 전달되더라도 전표 ID 기준으로 한 번만
+ * 반영된다.
+ *
+ * @param receiptId 입고 전표 ID
+ * @param lines 입고 라인 목록
+ * @param receivedAt 입고 시각
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record InboundReceiptEvent(
+
+    /* 입고 전표 ID. */
+    UUID receiptId,
+
+    /* 입고 라인 목록. */
+    List<Line> lines,
+
+    /* 입고 시각. */
+    LocalDateTime receivedAt) {
+
+  /**
+   * 입고 전표의 개별 라인을 나타낸다.
+   *
+   * @param variantId 상품 옵션(Variant) ID
+   * @param quantity 입고 수량
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public record Line(
+
+      /* 상품 옵션(Variant) ID. */
+      UUID variantId,
+
+      /* 입고 수량. */
+      int quantity) {}
+}
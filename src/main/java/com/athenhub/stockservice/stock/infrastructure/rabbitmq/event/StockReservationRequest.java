@@ -0,0 +1,24 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.event;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 주문 서비스가 동기 재고 예약을 위해 발행하는 요청 메시지이다.
+ *
+ * <p>AMQP Direct Reply-to({@code amq.rabbitmq.reply-to})로 {@code replyTo}를 지정하여 발행하면, 재고 서비스가 처리
+ * 결과를 같은 채널로 즉시 응답한다. 응답 기한은 {@code x-deadline} 헤더(epoch millis)로 전달한다.
+ *
+ * @param orderId 주문 ID
+ * @param stockDecreaseRequests 재고 감소 요청 목록
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record StockReservationRequest(
+
+    /* 주문 ID. */
+    UUID orderId,
+
+    /* 재고 감소 요청 목록. */
+    List<StockDecreaseRequest> stockDecreaseRequests) {}
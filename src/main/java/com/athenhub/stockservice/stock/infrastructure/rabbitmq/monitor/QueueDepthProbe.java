@@ -0,0 +1,136 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션이 선언한 Queue의 적체 메시지 수와 Consumer 수를 passive declare로 조회하고 캐시한다.
+ *
+ * <p>{@code Queue} Bean과 {@code Declarables} Bean에 포함된 Queue({@code RabbitStockConfig}, {@code
+ * RabbitOrderConfig} 등)가 대상이다. 조회 결과는 {@code rabbit.stock.monitor.queue-depth-ttl} 동안 재사용하며, 조회에
+ * 실패하면 마지막으로 성공한 값을 그대로 반환한다.
+ *
+ * <p>Queue마다 {@code rabbit.queue.depth} 게이지를 등록한다. 게이지 값도 캐시를 거치므로 수집 주기와 관계없이 Broker 조회 빈도는 캐시
+ * 시간으로 제한된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class QueueDepthProbe {
+
+  private final AmqpAdmin amqpAdmin;
+  private final Duration ttl;
+  private final Clock clock = Clock.systemUTC();
+  private final List<String> queueNames;
+  private final Map<String, QueueDepth> cache = new ConcurrentHashMap<>();
+
+  /**
+   * Queue 적체량 조회기를 생성한다.
+   *
+   * @param amqpAdmin Queue 정보 조회용 AmqpAdmin
+   * @param props 재고 RabbitMQ 설정
+   * @param queues 선언된 Queue Bean
+   * @param declarables 선언된 Declarables Bean
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  public QueueDepthProbe(
+      AmqpAdmin amqpAdmin,
+      RabbitStockProperties props,
+      ObjectProvider<Queue> queues,
+      ObjectProvider<Declarables> declarables,
+      MeterRegistry meterRegistry) {
+    this.amqpAdmin = amqpAdmin;
+    this.ttl = props.getMonitor().getQueueDepthTtl();
+
+    Set<String> names = new LinkedHashSet<>();
+    queues.orderedStream().map(Queue::getName).forEach(names::add);
+    declarables
+        .orderedStream()
+        .flatMap(group -> group.getDeclarablesByType(Queue.class).stream())
+        .map(Queue::getName)
+        .forEach(names::add);
+    this.queueNames = List.copyOf(names);
+
+    queueNames.forEach(
+        queue ->
+            Gauge.builder("rabbit.queue.depth", () -> messageCountOrNaN(queue))
+                .tag("queue", queue)
+                .register(meterRegistry));
+  }
+
+  /**
+   * Queue의 적체 정보를 반환한다. 캐시 시간이 지났으면 Broker에 다시 조회한다.
+   *
+   * @param queue Queue 이름
+   * @return 적체 정보, 한 번도 조회에 성공하지 못했으면 {@code messages}가 {@code null}
+   */
+  public QueueDepth depth(String queue) {
+    Instant now = clock.instant();
+    QueueDepth cached = cache.get(queue);
+    if (cached != null && cached.fetchedAt() != null && cached.fetchedAt().plus(ttl).isAfter(now)) {
+      return cached;
+    }
+    return cache.compute(queue, (name, previous) -> fetch(name, previous, now));
+  }
+
+  /**
+   * 선언된 모든 Queue의 적체 정보를 반환한다.
+   *
+   * @return Queue별 적체 정보 (선언 순서)
+   */
+  public List<QueueDepth> depths() {
+    return queueNames.stream().map(this::depth).toList();
+  }
+
+  private QueueDepth fetch(String queue, QueueDepth previous, Instant now) {
+    if (previous != null
+        && previous.fetchedAt() != null
+        && previous.fetchedAt().plus(ttl).isAfter(now)) {
+      return previous;
+    }
+    try {
+      QueueInformation info = amqpAdmin.getQueueInfo(queue);
+      if (info != null) {
+        return new QueueDepth(
+            queue, (long) info.getMessageCount(), info.getConsumerCount(), now);
+      }
+    } catch (AmqpException e) {
+      log.debug("[QUEUE_DEPTH] queue={} unavailable: {}", queue, e.getMessage());
+    }
+    return previous != null ? previous : new QueueDepth(queue, null, null, null);
+  }
+
+  private double messageCountOrNaN(String queue) {
+    Long messages = depth(queue).messages();
+    return messages == null ? Double.NaN : messages;
+  }
+
+  /**
+   * Queue 적체 정보.
+   *
+   * @param queue Queue 이름
+   * @param messages 적체 메시지 수
+   * @param consumers Consumer 수
+   * @param fetchedAt 조회 시각
+   */
+  public record QueueDepth(String queue, Long messages, Integer consumers, Instant fetchedAt) {}
+}
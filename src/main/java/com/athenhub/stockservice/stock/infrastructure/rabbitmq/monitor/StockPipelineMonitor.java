@@ -0,0 +1,188 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 감소 파이프라인의 현재 상태를 메모리에 집계한다.
+ *
+ * <p>다음 값을 기록하며, {@code /actuator/stockpipeline}에서 Queue 적체량과 함께 조회한다. 값은 인스턴스마다 따로 유지되고 재기동하면
+ * 초기화된다.
+ *
+ * <ul>
+ *   <li>Listener별 처리 중인 메시지 수와 마지막 처리 성공 시각
+ *   <li>처리 중인 메시지가 있는데 {@code rabbit.stock.monitor.stall-threshold} 동안 진행(처리 시작, 완료, 성공)이 없는
+ *       Listener 목록
+ *   <li>Retry Queue로 재발행한 메시지의 retryCount 분포
+ *   <li>오류 유형별 DLQ / Quarantine Queue 전달 수
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+public class StockPipelineMonitor {
+
+  /** 단건 재고 감소 Listener 이름. */
+  public static final String DECREASE_LISTENER = "stock-decrease";
+
+  /** 배치 재고 감소 Listener 이름. */
+  public static final String DECREASE_BATCH_LISTENER = "stock-decrease-batch";
+
+  /** 파티션 재고 감소 Listener 이름. */
+  public static final String DECREASE_PARTITION_LISTENER = "stock-decrease-partition";
+
+  /** 주문 생성 이벤트 Fast Path 재고 감소 처리 이름. */
+  public static final String ORDER_CREATED_FAST_PATH = "order-created-fast-path";
+
+  /** 동기 재고 예약 RPC Listener 이름. */
+  public static final String RESERVATION_RPC_LISTENER = "stock-reservation-rpc";
+
+  private final Clock clock;
+  private final Duration stallThreshold;
+  private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+  private final Map<String, Instant> lastSuccess = new ConcurrentHashMap<>();
+  private final Map<String, Instant> lastProgress = new ConcurrentHashMap<>();
+  private final Map<Integer, LongAdder> retries = new ConcurrentHashMap<>();
+  private final Map<StockErrorType, LongAdder> deadLetters = new ConcurrentHashMap<>();
+  private final Map<StockErrorType, LongAdder> quarantined = new ConcurrentHashMap<>();
+
+  /**
+   * 파이프라인 집계기를 생성한다.
+   *
+   * @param props 재고 RabbitMQ 설정
+   */
+  public StockPipelineMonitor(RabbitStockProperties props) {
+    this(props, Clock.systemUTC());
+  }
+
+  StockPipelineMonitor(RabbitStockProperties props, Clock clock) {
+    this.clock = clock;
+    this.stallThreshold = props.getMonitor().getStallThreshold();
+  }
+
+  /**
+   * Listener가 메시지 처리를 시작했음을 기록한다.
+   *
+   * @param listener Listener 이름
+   * @param messages 처리를 시작한 메시지 수
+   */
+  public void enter(String listener, int messages) {
+    inFlight.computeIfAbsent(listener, key -> new AtomicInteger()).addAndGet(messages);
+    lastProgress.put(listener, clock.instant());
+  }
+
+  /**
+   * Listener가 메시지 처리를 마쳤음을 기록한다.
+   *
+   * @param listener Listener 이름
+   * @param messages 처리를 마친 메시지 수
+   */
+  public void exit(String listener, int messages) {
+    inFlight.computeIfAbsent(listener, key -> new AtomicInteger()).addAndGet(-messages);
+    lastProgress.put(listener, clock.instant());
+  }
+
+  /**
+   * Listener가 재고 감소에 성공했음을 기록한다.
+   *
+   * @param listener Listener 이름
+   */
+  public void succeeded(String listener) {
+    Instant now = clock.instant();
+    lastSuccess.put(listener, now);
+    lastProgress.put(listener, now);
+  }
+
+  /**
+   * Retry Queue 재발행을 기록한다.
+   *
+   * @param retryCount 재발행한 메시지의 retryCount
+   */
+  public void retryPublished(int retryCount) {
+    retries.computeIfAbsent(retryCount, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * DLQ 전달을 기록한다.
+   *
+   * @param errorType 오류 유형
+   */
+  public void deadLettered(StockErrorType errorType) {
+    deadLetters.computeIfAbsent(errorType, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * Quarantine Queue 전달을 기록한다.
+   *
+   * @param errorType 오류 유형
+   */
+  public void quarantined(StockErrorType errorType) {
+    quarantined.computeIfAbsent(errorType, key -> new LongAdder()).increment();
+  }
+
+  /**
+   * 현재 집계 값을 반환한다.
+   *
+   * @return 집계 값
+   */
+  public Snapshot snapshot() {
+    Map<String, Integer> inFlightSnapshot = new TreeMap<>();
+    inFlight.forEach((listener, count) -> inFlightSnapshot.put(listener, count.get()));
+    return new Snapshot(
+        inFlightSnapshot,
+        new TreeMap<>(lastSuccess),
+        stalled(inFlightSnapshot),
+        sum(retries),
+        sum(deadLetters),
+        sum(quarantined));
+  }
+
+  /** 처리 중인 메시지가 있는데 정체 판단 시간 동안 진행이 없는 Listener를 이름순으로 반환한다. */
+  private List<String> stalled(Map<String, Integer> inFlightSnapshot) {
+    Instant stalledBefore = clock.instant().minus(stallThreshold);
+    return inFlightSnapshot.entrySet().stream()
+        .filter(entry -> entry.getValue() > 0)
+        .map(Map.Entry::getKey)
+        .filter(
+            listener -> {
+              Instant progress = lastProgress.get(listener);
+              return progress != null && progress.isBefore(stalledBefore);
+            })
+        .toList();
+  }
+
+  private static <K> Map<K, Long> sum(Map<K, LongAdder> counters) {
+    Map<K, Long> result = new TreeMap<>();
+    counters.forEach((key, counter) -> result.put(key, counter.sum()));
+    return result;
+  }
+
+  /**
+   * 파이프라인 집계 값.
+   *
+   * @param inFlight Listener별 처리 중인 메시지 수
+   * @param lastSuccess Listener별 마지막 처리 성공 시각
+   * @param stalled 처리 중인 메시지가 있는데 정체 판단 시간 동안 진행이 없는 Listener 목록
+   * @param retryCounts retryCount별 Retry Queue 재발행 수
+   * @param deadLetters 오류 유형별 DLQ 전달 수
+   * @param quarantined 오류 유형별 Quarantine Queue 전달 수
+   */
+  public record Snapshot(
+      Map<String, Integer> inFlight,
+      Map<String, Instant> lastSuccess,
+      List<String> stalled,
+      Map<Integer, Long> retryCounts,
+      Map<StockErrorType, Long> deadLetters,
+      Map<StockErrorType, Long> quarantined) {}
+}
@@ -2,9 +2,10 @@ package com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish;
 
 import com.athenhub.stockservice.stock.application.event.external.StockDecreaseSuccessEvent;
 import com.athenhub.stockservice.stock.application.service.StockDecreaseSuccessEventPublisher;
+import com.athenhub.stockservice.stock.infrastructure.outbox.OutboxAppender;
+import com.athenhub.stockservice.stock.infrastructure.outbox.OutboxRelay;
 import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Component;
 
 /**
@@ -24,6 +25,11 @@ import org.springframework.stereotype.Component;
  *   <li>메시지 발행 시 설정된 Exchange/Routing Key 사용
  * </ul>
  *
+ * <p>이벤트는 바로 발행되지 않고 {@link OutboxAppender}를 통해 재고 감소와 같은 트랜잭션으로 Outbox에 저장된다. 커밋 이후 {@link
+ * OutboxRelay}가 {@code RabbitTemplate}과 {@code CorrelationData}로 발행하고 Broker가 ACK한 메시지만 발행 완료로
+ * 표시하므로, 롤백된 재고 감소의 성공 이벤트가 나가지 않고 트랜잭션이 Broker를 기다리지 않는다. 주문 ID를 Aggregate로 하여 같은 주문의
+ * 이벤트는 저장 순서대로 발행된다.
+ *
  * @author 김지원
  * @since 1.0.0
  */
@@ -32,11 +38,14 @@ import org.springframework.stereotype.Component;
 public class RabbitStockDecreaseSuccessEventPublisher
     implements StockDecreaseSuccessEventPublisher {
 
-  private final RabbitTemplate rabbitTemplate;
+  /** Outbox Aggregate 종류. */
+  private static final String AGGREGATE_TYPE = "ORDER";
+
+  private final OutboxAppender outboxAppender;
   private final RabbitStockProperties stockProperties;
 
   /**
-   * 재고 감소 성공 이벤트를 RabbitMQ로 발행한다.
+   * 재고 감소 성공 이벤트를 RabbitMQ 발행 대상으로 Outbox에 저장한다.
    *
    * <p>해당 이벤트는 재고 감소가 정상적으로 완료된 이후 호출되며, 메시지는 stockProperties에 정의된 exchange 및 decreaseSuccess
    * routing key를 통해 발송된다.
@@ -45,7 +54,11 @@ public class RabbitStockDecreaseSuccessEventPublisher
    */
   @Override
   public void publish(StockDecreaseSuccessEvent event) {
-    rabbitTemplate.convertAndSend(
-        stockProperties.getExchange(), stockProperties.getDecreaseSuccess().getRoutingKey(), event);
+    outboxAppender.append(
+        AGGREGATE_TYPE,
+        event.orderId(),
+        stockProperties.getExchange(),
+        stockProperties.getDecreaseSuccess().getRoutingKey(),
+        event);
   }
 }
@@ -2,9 +2,11 @@ package com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish;
 
 import com.athenhub.stockservice.stock.application.event.external.StockRegisteredEvent;
 import com.athenhub.stockservice.stock.application.service.StockRegisteredEventPublisher;
+import com.athenhub.stockservice.stock.infrastructure.outbox.OutboxAppender;
+import com.athenhub.stockservice.stock.infrastructure.outbox.OutboxRelay;
 import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 
@@ -15,6 +17,10 @@ import org.springframework.stereotype.Component;
  *
  * <p>Exchange 및 Routing Key 정보는 {@link RabbitStockProperties}를 통해 주입받는다.
  *
+ * <p>이벤트는 바로 발행되지 않고 {@link OutboxAppender}를 통해 재고 등록과 같은 트랜잭션으로 Outbox에 저장되며, 커밋 이후 {@link
+ * OutboxRelay}가 {@code RabbitTemplate}과 {@code CorrelationData}로 발행한다. 상품 ID를 Aggregate로 하여 같은 상품의
+ * 이벤트는 저장 순서대로 발행된다.
+ *
  * @author 김지원
  * @since 1.0.0
  */
@@ -23,7 +29,10 @@ import org.springframework.stereotype.Component;
 @EnableConfigurationProperties(RabbitStockProperties.class)
 public class RabbitStockRegisteredEventPublisher implements StockRegisteredEventPublisher {
 
-  private final RabbitTemplate rabbitTemplate;
+  /** Outbox Aggregate 종류. */
+  private static final String AGGREGATE_TYPE = "PRODUCT";
+
+  private final OutboxAppender outboxAppender;
   private final RabbitStockProperties stockProperties;
 
   /**
@@ -37,7 +46,30 @@ public class RabbitStockRegisteredEventPublisher implements StockRegisteredEvent
    */
   @Override
   public void publish(StockRegisteredEvent event) {
-    rabbitTemplate.convertAndSend(
-        stockProperties.getExchange(), stockProperties.getRegistered().getRoutingKey(), event);
+    outboxAppender.append(
+        AGGREGATE_TYPE,
+        event.productId(),
+        stockProperties.getExchange(),
+        stockProperties.getRegistered().getRoutingKey(),
+        event);
+  }
+
+  /**
+   * 여러 재고 등록 완료 이벤트를 RabbitMQ로 발행한다.
+   *
+   * <p>모든 이벤트를 한 번의 배치 INSERT로 Outbox에 저장하므로, 대량 등록 시에도 이벤트마다 DB 왕복이 발생하지 않는다.
+   *
+   * @param events 재고 등록 완료 이벤트 목록
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @Override
+  public void publishAll(List<StockRegisteredEvent> events) {
+    outboxAppender.appendAll(
+        AGGREGATE_TYPE,
+        StockRegisteredEvent::productId,
+        stockProperties.getExchange(),
+        stockProperties.getRegistered().getRoutingKey(),
+        events);
   }
 }
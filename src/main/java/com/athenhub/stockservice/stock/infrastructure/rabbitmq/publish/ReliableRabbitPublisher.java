@@ -0,0 +1,299 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.RabbitPublisherProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publisher Confirm/Return을 비동기로 추적하며 메시지를 발행하는 RabbitMQ Publisher이다.
+ *
+ * <p>모든 메시지는 {@link CorrelationData}와 함께 발행되고, Broker의 ACK를 받을 때까지 로컬 버퍼에 보관된다. 발행 측은 Confirm을
+ * 기다리지 않고 바로 반환하므로 동기 Confirm({@code waitForConfirms}) 대비 처리량이 떨어지지 않는다.
+ *
+ * <ul>
+ *   <li><b>ACK</b>: 버퍼에서 제거한다.
+ *   <li><b>NACK / Return(라우팅 불가) / 채널 종료</b>: 버퍼에 보관된 메시지를 backoff 후 다시 발행한다.
+ *   <li><b>최대 시도 초과</b>: 버퍼에서 제거하고 오류 로그와 실패 메트릭을 남긴다.
+ * </ul>
+ *
+ * <p>Confirm 대기 중인 메시지 수는 {@link RabbitPublisherProperties#getMaxInFlight()}로 제한되며, 한도에 도달하면 발행 측은
+ * {@link RabbitPublisherProperties#getAcquireTimeout()}까지 기다린 뒤 {@link AmqpTimeoutException}을 던진다.
+ *
+ * <p>메트릭:
+ *
+ * <ul>
+ *   <li>{@code rabbit.publisher.confirm.latency} — 발행부터 Confirm까지 걸린 시간
+ *       (outcome=ack|nack|returned)
+ *   <li>{@code rabbit.publisher.confirms.outstanding} — Confirm 대기 중인 메시지 수
+ *   <li>{@code rabbit.publisher.resends} — 재전송 횟수
+ *   <li>{@code rabbit.publisher.failures} — 최대 시도를 초과하여 포기한 메시지 수
+ * </ul>
+ *
+ * <p>로컬 버퍼는 메모리에만 존재하므로 종료 시에는 {@link RabbitPublisherProperties#getShutdownTimeout()}까지 Confirm 대기
+ * 중인 메시지가 처리되기를 기다린다. 그 후에도 남은 메시지는 유실되므로, 유실되면 안 되는 메시지는 Outbox를 통해 발행해야 한다.
+ *
+ * <p>Confirm/Return을 받으려면 다음 설정이 필요하다: {@code spring.rabbitmq.publisher-confirm-type=correlated},
+ * {@code spring.rabbitmq.publisher-returns=true}, {@code spring.rabbitmq.template.mandatory=true}.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@EnableConfigurationProperties(RabbitPublisherProperties.class)
+public class ReliableRabbitPublisher {
+
+  private final RabbitTemplate rabbitTemplate;
+  private final RabbitPublisherProperties props;
+
+  /** Confirm 대기 중인 메시지 버퍼. key는 CorrelationData ID이다. */
+  private final Map<String, PendingMessage> outstanding = new ConcurrentHashMap<>();
+
+  private final Semaphore inFlight;
+  private final ScheduledExecutorService resendScheduler;
+
+  private final Timer ackTimer;
+  private final Timer nackTimer;
+  private final Timer returnedTimer;
+  private final Counter resendCounter;
+  private final Counter failureCounter;
+
+  /**
+   * ReliableRabbitPublisher를 생성한다.
+   *
+   * @param rabbitTemplate 메시지 발행에 사용할 RabbitTemplate
+   * @param props Confirm 추적 설정
+   * @param meterRegistry 메트릭 등록 대상
+   */
+  public ReliableRabbitPublisher(
+      RabbitTemplate rabbitTemplate, RabbitPublisherProperties props, MeterRegistry meterRegistry) {
+    this.rabbitTemplate = rabbitTemplate;
+    this.props = props;
+    this.inFlight = new Semaphore(props.getMaxInFlight());
+    this.resendScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "rabbit-publisher-resend");
+              thread.setDaemon(true);
+              return thread;
+            });
+
+    this.ackTimer = confirmTimer(meterRegistry, "ack");
+    this.nackTimer = confirmTimer(meterRegistry, "nack");
+    this.returnedTimer = confirmTimer(meterRegistry, "returned");
+    this.resendCounter = meterRegistry.counter("rabbit.publisher.resends");
+    this.failureCounter = meterRegistry.counter("rabbit.publisher.failures");
+    Gauge.builder("rabbit.publisher.confirms.outstanding", outstanding, Map::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 객체를 메시지로 변환하여 발행한다.
+   *
+   * @param exchange 발행할 Exchange
+   * @param routingKey Routing Key
+   * @param payload 메시지 Payload
+   */
+  public void publish(String exchange, String routingKey, Object payload) {
+    publish(exchange, routingKey, payload, message -> message);
+  }
+
+  /**
+   * 객체를 메시지로 변환하고 후처리(헤더 설정 등)를 적용한 뒤 발행한다.
+   *
+   * @param exchange 발행할 Exchange
+   * @param routingKey Routing Key
+   * @param payload 메시지 Payload
+   * @param postProcessor 변환된 메시지에 적용할 후처리기
+   */
+  public void publish(
+      String exchange, String routingKey, Object payload, MessagePostProcessor postProcessor) {
+    send(exchange, routingKey, toMessage(payload, postProcessor));
+  }
+
+  /**
+   * 이미 만들어진 메시지를 그대로 발행한다.
+   *
+   * @param exchange 발행할 Exchange
+   * @param routingKey Routing Key
+   * @param message 발행할 메시지
+   */
+  public void send(String exchange, String routingKey, Message message) {
+    acquire();
+    doSend(new PendingMessage(exchange, routingKey, message, 1));
+  }
+
+  /**
+   * Confirm 대기 중인 메시지 수를 반환한다.
+   *
+   * @return Confirm 대기 중인 메시지 수
+   */
+  public int outstandingCount() {
+    return outstanding.size();
+  }
+
+  /**
+   * 종료 시 Confirm 대기 중인 메시지가 ACK되거나 재전송을 마칠 때까지 {@code shutdown-timeout}만큼 기다린 뒤 재전송 스케줄러를
+   * 정리한다. 그때까지 Confirm을 받지 못한 메시지가 있으면 오류 로그를 남긴다.
+   */
+  @PreDestroy
+  public void shutdown() {
+    long deadline = System.nanoTime() + props.getShutdownTimeout().toNanos();
+    while (!outstanding.isEmpty() && System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(10);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+    }
+
+    resendScheduler.shutdownNow();
+    if (!outstanding.isEmpty()) {
+      log.error("[PUBLISH] shutdown with unconfirmed messages count={}", outstanding.size());
+    }
+  }
+
+  private Message toMessage(Object payload, MessagePostProcessor postProcessor) {
+    Message message =
+        rabbitTemplate.getMessageConverter().toMessage(payload, new MessageProperties());
+    return postProcessor.postProcessMessage(message);
+  }
+
+  private void acquire() {
+    try {
+      long timeoutMillis = props.getAcquireTimeout().toMillis();
+      if (!inFlight.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+        throw new AmqpTimeoutException(
+            "unconfirmed messages exceeded max-in-flight=" + props.getMaxInFlight());
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new AmqpTimeoutException("interrupted while waiting for publish permit", ex);
+    }
+  }
+
+  private void doSend(PendingMessage pending) {
+    CorrelationData correlation = track(pending);
+    try {
+      rabbitTemplate.send(pending.exchange(), pending.routingKey(), pending.message(), correlation);
+    } catch (AmqpException ex) {
+      if (pending.attempt() == 1) {
+        untrack(correlation.getId());
+        throw ex;
+      }
+      outstanding.remove(correlation.getId());
+      retryOrGiveUp(pending, "send failed: " + ex.getMessage());
+    }
+  }
+
+  /** 메시지를 버퍼에 등록하고 Confirm 결과를 비동기로 처리하도록 CorrelationData를 만든다. */
+  private CorrelationData track(PendingMessage pending) {
+    CorrelationData correlation = new CorrelationData(UUID.randomUUID().toString());
+    long startNanos = System.nanoTime();
+    outstanding.put(correlation.getId(), pending);
+    correlation
+        .getFuture()
+        .whenComplete((confirm, ex) -> onConfirm(correlation, startNanos, confirm, ex));
+    return correlation;
+  }
+
+  private void untrack(String correlationId) {
+    if (outstanding.remove(correlationId) != null) {
+      inFlight.release();
+    }
+  }
+
+  private void onConfirm(
+      CorrelationData correlation,
+      long startNanos,
+      CorrelationData.Confirm confirm,
+      Throwable ex) {
+    PendingMessage pending = outstanding.remove(correlation.getId());
+    if (pending == null) {
+      return;
+    }
+
+    long elapsed = System.nanoTime() - startNanos;
+    if (ex == null && confirm.isAck() && correlation.getReturned() == null) {
+      ackTimer.record(elapsed, TimeUnit.NANOSECONDS);
+      inFlight.release();
+      return;
+    }
+
+    String reason;
+    if (correlation.getReturned() != null) {
+      returnedTimer.record(elapsed, TimeUnit.NANOSECONDS);
+      reason = "returned: " + correlation.getReturned().getReplyText();
+    } else {
+      nackTimer.record(elapsed, TimeUnit.NANOSECONDS);
+      reason = ex != null ? ex.getMessage() : "nack: " + confirm.getReason();
+    }
+    retryOrGiveUp(pending, reason);
+  }
+
+  /**
+   * 최대 시도 횟수 이내이면 backoff 후 재전송을 예약하고, 초과하면 메시지를 포기한다.
+   *
+   * <p>Confirm 콜백은 커넥션 스레드에서 호출되므로 재전송은 항상 별도 스케줄러 스레드에서 수행한다.
+   */
+  private void retryOrGiveUp(PendingMessage pending, String reason) {
+    if (pending.attempt() >= props.getMaxAttempts()) {
+      failureCounter.increment();
+      inFlight.release();
+      log.error(
+          "[PUBLISH] give up exchange={}, routingKey={}, attempts={}, reason={}",
+          pending.exchange(),
+          pending.routingKey(),
+          pending.attempt(),
+          reason);
+      return;
+    }
+
+    resendCounter.increment();
+    log.warn(
+        "[PUBLISH] resend exchange={}, routingKey={}, attempt={}, reason={}",
+        pending.exchange(),
+        pending.routingKey(),
+        pending.attempt() + 1,
+        reason);
+
+    long delayMillis = props.getResendBackoff().toMillis() * pending.attempt();
+    resendScheduler.schedule(
+        () -> doSend(pending.nextAttempt()), delayMillis, TimeUnit.MILLISECONDS);
+  }
+
+  private static Timer confirmTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder("rabbit.publisher.confirm.latency")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  /** Confirm 대기 중인 메시지와 재전송에 필요한 정보. */
+  private record PendingMessage(String exchange, String routingKey, Message message, int attempt) {
+
+    PendingMessage nextAttempt() {
+      return new PendingMessage(exchange, routingKey, message, attempt + 1);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import java.util.UUID;
+import org.springframework.amqp.core.Message;
+
+/**
+ * 재고 감소 메시지의 messageId를 주문 ID로부터 만들어 기록하는 유틸리티이다.
+ *
+ * <p>같은 주문의 재고 감소 메시지는 최초 발행, Retry Queue 재발행, DLQ/Quarantine 전달 모두 같은 messageId({@code
+ * stock-decrease-<orderId>})를 갖는다. 소비 측은 이 값으로 이미 처리한 메시지의 재전달을 DB 조회 없이 걸러낸다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public final class StockDecreaseMessageId {
+
+  /** messageId 접두사. */
+  public static final String PREFIX = "stock-decrease-";
+
+  private StockDecreaseMessageId() {}
+
+  /**
+   * 주문 ID로 messageId를 만든다.
+   *
+   * @param orderId 주문 ID
+   * @return messageId
+   */
+  public static String of(UUID orderId) {
+    return PREFIX + orderId;
+  }
+
+  /**
+   * 메시지에 재고 감소 이벤트의 messageId를 기록한다.
+   *
+   * @param message 발행할 메시지
+   * @param event 재고 감소 이벤트
+   * @return messageId가 기록된 메시지
+   */
+  public static Message apply(Message message, StockDecreaseBatchEvent event) {
+    message.getMessageProperties().setMessageId(of(event.orderId()));
+    return message;
+  }
+}
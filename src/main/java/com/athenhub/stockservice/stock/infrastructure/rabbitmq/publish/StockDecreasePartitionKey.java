@@ -0,0 +1,52 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import java.util.Comparator;
+import org.springframework.amqp.core.Message;
+
+/**
+ * 재고 감소 메시지의 파티션 키를 계산하여 메시지 헤더에 기록하는 유틸리티이다.
+ *
+ * <p>파티션 라우팅이 활성화되면 Consistent-Hash Exchange는 {@value #HEADER} 헤더 값의 해시로 파티션 Queue를 선택한다. 파티션 키는
+ * 주문의 대표 상품 옵션(Variant) ID이며, 주문에 포함된 옵션 ID 중 가장 작은 값으로 정한다. 주문 내 상품 순서와 관계없이 같은 옵션 조합은 항상 같은
+ * 파티션으로 라우팅되므로, 단일 옵션 주문끼리는 서로 다른 Consumer에서 같은 재고 행을 두고 경합하지 않는다.
+ *
+ * <p>파티션 라우팅이 비활성화된 경우 헤더는 무시된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public final class StockDecreasePartitionKey {
+
+  /** 파티션 키 헤더 이름. */
+  public static final String HEADER = "x-partition-key";
+
+  private StockDecreasePartitionKey() {}
+
+  /**
+   * 재고 감소 이벤트의 파티션 키를 계산한다.
+   *
+   * @param event 재고 감소 이벤트
+   * @return 대표 상품 옵션 ID, 요청 항목이 없으면 주문 ID
+   */
+  public static String of(StockDecreaseBatchEvent event) {
+    return event.stockDecreaseRequests().stream()
+        .map(StockDecreaseRequest::variantId)
+        .min(Comparator.naturalOrder())
+        .orElse(event.orderId())
+        .toString();
+  }
+
+  /**
+   * 메시지 헤더에 파티션 키를 기록한다.
+   *
+   * @param message 발행할 메시지
+   * @param event 재고 감소 이벤트
+   * @return 헤더가 기록된 메시지
+   */
+  public static Message apply(Message message, StockDecreaseBatchEvent event) {
+    message.getMessageProperties().setHeader(HEADER, of(event));
+    return message;
+  }
+}
@@ -0,0 +1,37 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 인스턴스의 Stream Consumer가 Single Active Consumer 중 활성 Consumer인지 나타낸다.
+ *
+ * <p>Broker가 활성 Consumer를 바꿀 때 호출하는 Consumer Update Listener가 상태를 갱신한다. Offset 되감기처럼 활성 Consumer만
+ * 수행해야 하는 작업은 이 상태를 확인한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+public class StreamConsumerStatus {
+
+  private final AtomicBoolean active = new AtomicBoolean();
+
+  /**
+   * 활성 여부를 갱신한다.
+   *
+   * @param active 활성 Consumer이면 {@code true}
+   */
+  public void update(boolean active) {
+    this.active.set(active);
+  }
+
+  /**
+   * 활성 Consumer인지 확인한다.
+   *
+   * @return 활성 Consumer이면 {@code true}
+   */
+  public boolean isActive() {
+    return active.get();
+  }
+}
@@ -0,0 +1,90 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * RabbitMQ Stream Consumer가 마지막으로 처리한 위치(Offset)를 나타내는 엔티티.
+ *
+ * <p>Offset을 Broker가 아니라 재고 이력(멱등성 데이터)과 같은 DB에 두어, 장애 복구 시 DB 상태를 기준으로 다시 읽을 위치를 정하거나 운영자가
+ * 특정 위치로 되감을 수 있게 한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Entity
+@Table(name = "p_stock_stream_offset")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class StreamOffset {
+
+  /** Stream 이름과 Consumer 이름으로 구성된 식별자. */
+  @EmbeddedId private Key key;
+
+  /** 마지막으로 처리한 메시지의 Offset. */
+  @Column(name = "stream_offset", nullable = false)
+  private long offset;
+
+  /** Offset을 마지막으로 기록한 시각. */
+  @Column(nullable = false)
+  private LocalDateTime updatedAt;
+
+  private StreamOffset(Key key, long offset) {
+    this.key = key;
+    moveTo(offset);
+  }
+
+  /**
+   * 처리한 Offset 기록을 생성한다.
+   *
+   * @param streamName Stream 이름
+   * @param consumerName Consumer 이름
+   * @param offset 마지막으로 처리한 메시지의 Offset
+   * @return Offset 기록
+   */
+  public static StreamOffset of(String streamName, String consumerName, long offset) {
+    return new StreamOffset(new Key(streamName, consumerName), offset);
+  }
+
+  /**
+   * 기록된 Offset을 바꾼다.
+   *
+   * @param offset 마지막으로 처리한 메시지의 Offset
+   */
+  public void moveTo(long offset) {
+    this.offset = offset;
+    this.updatedAt = LocalDateTime.now();
+  }
+
+  /**
+   * Stream Offset 식별자.
+   *
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @Embeddable
+  @Getter
+  @EqualsAndHashCode
+  @NoArgsConstructor(access = AccessLevel.PROTECTED)
+  @AllArgsConstructor
+  public static class Key implements Serializable {
+
+    /** Stream 이름. */
+    @Column(length = 100)
+    private String streamName;
+
+    /** Consumer 이름. */
+    @Column(length = 100)
+    private String consumerName;
+  }
+}
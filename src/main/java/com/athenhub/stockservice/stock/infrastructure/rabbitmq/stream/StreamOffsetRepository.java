@@ -0,0 +1,36 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream;
+
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+ * Stream Consumer Offset({@link StreamOffset})에 대한 영속성 처리를 담당하는 Repository이다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+public interface StreamOffsetRepository extends JpaRepository<StreamOffset, StreamOffset.Key> {
+
+  /**
+   * 기록된 Offset이 주어진 Offset보다 작은 경우에만 Offset을 앞으로 옮긴다.
+   *
+   * @param streamName Stream 이름
+   * @param consumerName Consumer 이름
+   * @param offset 마지막으로 처리한 메시지의 Offset
+   * @param updatedAt 기록 시각
+   * @return 갱신된 행 수, 기록이 없거나 이미 같거나 더 앞선 Offset이 기록되어 있으면 0
+   */
+  @Modifying(flushAutomatically = true, clearAutomatically = true)
+  @Query(
+      "update StreamOffset o set o.offset = :offset, o.updatedAt = :updatedAt"
+          + " where o.key.streamName = :streamName and o.key.consumerName = :consumerName"
+          + " and o.offset < :offset")
+  int advance(
+      @Param("streamName") String streamName,
+      @Param("consumerName") String consumerName,
+      @Param("offset") long offset,
+      @Param("updatedAt") LocalDateTime updatedAt);
+}
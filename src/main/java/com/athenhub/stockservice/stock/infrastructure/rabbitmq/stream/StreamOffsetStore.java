@@ -0,0 +1,69 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream;
+
+import java.time.LocalDateTime;
+import java.util.OptionalLong;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stream Consumer Offset을 DB에서 읽고 기록하는 컴포넌트이다.
+ *
+ * <p>처리 중 기록({@link #save})은 Offset을 앞으로만 옮기므로, 활성 Consumer가 바뀌는 동안 이전 Consumer가 늦게 기록한 Offset이
+ * 새 Consumer의 기록을 되돌리지 않는다. Offset을 뒤로 되감는 것은 운영자 요청에 의한 {@link #reset}만 가능하다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class StreamOffsetStore {
+
+  private final StreamOffsetRepository repository;
+
+  /**
+   * 마지막으로 처리한 Offset을 조회한다.
+   *
+   * @param streamName Stream 이름
+   * @param consumerName Consumer 이름
+   * @return 마지막으로 처리한 Offset, 기록이 없으면 빈 값
+   */
+  @Transactional(readOnly = true)
+  public OptionalLong find(String streamName, String consumerName) {
+    return repository
+        .findById(new StreamOffset.Key(streamName, consumerName))
+        .map(offset -> OptionalLong.of(offset.getOffset()))
+        .orElseGet(OptionalLong::empty);
+  }
+
+  /**
+   * 마지막으로 처리한 Offset을 기록한다. 이미 같거나 더 앞선 Offset이 기록되어 있으면 무시한다.
+   *
+   * @param streamName Stream 이름
+   * @param consumerName Consumer 이름
+   * @param offset 마지막으로 처리한 메시지의 Offset
+   */
+  @Transactional
+  public void save(String streamName, String consumerName, long offset) {
+    if (repository.advance(streamName, consumerName, offset, LocalDateTime.now()) == 0
+        && !repository.existsById(new StreamOffset.Key(streamName, consumerName))) {
+      repository.save(StreamOffset.of(streamName, consumerName, offset));
+    }
+  }
+
+  /**
+   * 기록된 Offset을 주어진 위치로 바꾼다. 기록된 Offset보다 작은 값으로도 되감을 수 있다.
+   *
+   * @param streamName Stream 이름
+   * @param consumerName Consumer 이름
+   * @param offset 마지막으로 처리한 것으로 기록할 Offset
+   */
+  @Transactional
+  public void reset(String streamName, String consumerName, long offset) {
+    repository
+        .findById(new StreamOffset.Key(streamName, consumerName))
+        .ifPresentOrElse(
+            stored -> stored.moveTo(offset),
+            () -> repository.save(StreamOffset.of(streamName, consumerName, offset)));
+  }
+}
@@ -0,0 +1,154 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.order;
+
+import com.athenhub.commoncore.message.MessageResolver;
+import com.athenhub.stockservice.global.infrastructure.logging.HotPathLogSampler;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import com.athenhub.stockservice.stock.application.metrics.StockDecreaseStageMetrics;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order.RabbitOrderProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.OrderCreatedEvent;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.OrderProcessFailedEvent;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.ReliableRabbitPublisher;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.StockDecreaseMessageId;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.StockDecreasePartitionKey;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock.StockDecreaseMessageProcessor;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.stereotype.Component;
+
+/**
+ * 주문 생성 이벤트({@code OrderCreatedEvent})를 재고 감소 요청({@link StockDecreaseBatchEvent})으로 변환하여 처리하는
+ * 컴포넌트이다.
+ *
+ * <p>Classic Queue Listener({@link OrderCreatedRabbitListener})와 Stream Listener({@link
+ * OrderCreatedStreamListener})가 같은 변환/발행 로직을 사용하도록 분리하였다. ACK/NACK, Offset 기록 등 수신 방식에 따른 처리는
+ * 각 Listener가 담당한다.
+ *
+ * <p>{@code rabbit.order.created.fast-path=true}이면 stock.decrease 큐를 거치지 않고 {@link
+ * StockDecreaseMessageProcessor}로 바로 재고를 감소시킨다(Fast Path). 첫 시도가 실패하면 처리기가 일반 흐름과 같은 retryCount로
+ * Retry Queue 또는 DLQ에 발행하므로 재시도 규칙은 동일하다. 처리기가 Retry/DLQ 발행까지 실패하면 stock.decrease 큐로 재발행하는 기존
+ * 흐름으로 대체한다. 재고 감소 파티션 라우팅이 활성화된 경우에는 Fast Path를 사용하지 않는다. Fast Path 처리 현황은 {@link
+ * StockPipelineMonitor}에 {@link StockPipelineMonitor#ORDER_CREATED_FAST_PATH}로 기록한다.
+ *
+ * <p>성공 경로의 {@code [PROCESS]}, {@code [FAST_PATH]}, {@code [SEND]} 로그는 {@link HotPathLogSampler}
+ * 설정에 따라 샘플링 또는 요약된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCreatedEventHandler {
+
+  private final ReliableRabbitPublisher publisher;
+  private final RabbitOrderProperties orderProperties;
+  private final RabbitStockProperties stockProperties;
+
+  private final MessageResolver messageResolver;
+  private final StockDecreaseMessageProcessor decreaseProcessor;
+  private final StockDecreaseStageMetrics stageMetrics;
+  private final HotPathLogSampler hotPathLog;
+  private final StockPipelineMonitor pipelineMonitor;
+
+  /**
+   * 주문 생성 이벤트를 재고 감소 요청으로 변환하여 발행하거나(Fast Path인 경우) 바로 처리한다.
+   *
+   * @param event 주문 생성 이벤트
+   * @param rawMessage 수신한 원본 메시지
+   * @throws RuntimeException 변환 또는 발행에 실패한 경우
+   */
+  public void handle(OrderCreatedEvent event, Message rawMessage) {
+    StockDecreaseBatchEvent batch = createBatchEvent(event);
+    if (isFastPathEnabled()) {
+      decreaseInProcess(batch, rawMessage);
+    } else {
+      publishBatchEvent(batch, event.orderId());
+    }
+  }
+
+  /**
+   * 주문 생성 이벤트 처리 실패 시 OrderProcessFailedEvent를 발행한다.
+   *
+   * @param event 처리에 실패한 주문 생성 이벤트
+   */
+  public void publishProcessFailedEvent(OrderCreatedEvent event) {
+    String errorCode = "ORDER_CREATED_EVENT_PROCESS_FAILED";
+    OrderProcessFailedEvent failed =
+        new OrderProcessFailedEvent(event.orderId(), errorCode, messageResolver.resolve(errorCode));
+
+    publisher.publish(
+        orderProperties.getExchange(), orderProperties.getProcessFailed().getRoutingKey(), failed);
+
+    log.warn("[SEND] OrderProcessFailedEvent 발행 orderId={}", event.orderId());
+  }
+
+  /** 주문 생성 이벤트 → 재고 감소 Batch 이벤트 변환 */
+  private StockDecreaseBatchEvent createBatchEvent(OrderCreatedEvent event) {
+    List<StockDecreaseRequest> requests =
+        event.products().stream()
+            .map(
+                p ->
+                    new StockDecreaseRequest(
+                        p.productId(), p.variantId(), p.quantity(), event.orderedAt()))
+            .toList();
+
+    if (hotPathLog.shouldLog("order.created.process")) {
+      log.info("[PROCESS] BatchEvent 생성 orderId={}, items={}", event.orderId(), requests.size());
+    }
+
+    return new StockDecreaseBatchEvent(event.orderId(), event.orderedAt(), requests);
+  }
+
+  /** 파티션 라우팅이 꺼져 있고 Fast Path가 설정된 경우에만 Fast Path를 사용한다. */
+  private boolean isFastPathEnabled() {
+    return orderProperties.getCreated().isFastPath()
+        && !stockProperties.getDecrease().getPartition().isEnabled();
+  }
+
+  /**
+   * stock.decrease 큐를 거치지 않고 재고 감소를 바로 처리한다.
+   *
+   * <p>처리기가 Retry/DLQ 발행까지 실패하면 stock.decrease 큐로 재발행하여 일반 흐름에서 다시 처리되도록 한다.
+   */
+  private void decreaseInProcess(StockDecreaseBatchEvent batch, Message rawMessage) {
+    pipelineMonitor.enter(StockPipelineMonitor.ORDER_CREATED_FAST_PATH, 1);
+    try {
+      StockDecreaseMessageProcessor.Outcome outcome = decreaseProcessor.process(batch, rawMessage);
+      if (outcome.isSucceeded()) {
+        pipelineMonitor.succeeded(StockPipelineMonitor.ORDER_CREATED_FAST_PATH);
+      }
+      if (!outcome.isSucceeded() || hotPathLog.shouldLog("order.created.fast-path")) {
+        log.info("[FAST_PATH] status={}, orderId={}", outcome.getStatus(), batch.orderId());
+      }
+
+    } catch (RuntimeException ex) {
+      log.warn(
+          "[FAST_PATH] fallback to stock.decrease orderId={}, cause={}",
+          batch.orderId(),
+          ex.getMessage());
+      publishBatchEvent(batch, batch.orderId());
+    } finally {
+      pipelineMonitor.exit(StockPipelineMonitor.ORDER_CREATED_FAST_PATH, 1);
+      stageMetrics.finish();
+    }
+  }
+
+  /** 재고 감소 Batch 이벤트를 stock.decrease 큐로 발행 (파티션 라우팅용 파티션 키, 중복 제거용 messageId 포함) */
+  private void publishBatchEvent(StockDecreaseBatchEvent batch, Object orderId) {
+    publisher.publish(
+        stockProperties.getExchange(),
+        stockProperties.getDecrease().getRoutingKey(),
+        batch,
+        message ->
+            StockDecreasePartitionKey.apply(StockDecreaseMessageId.apply(message, batch), batch));
+
+    if (hotPathLog.shouldLog("order.created.send")) {
+      log.info("[SEND] stock.decrease 발행 성공 orderId={}", orderId);
+    }
+  }
+}
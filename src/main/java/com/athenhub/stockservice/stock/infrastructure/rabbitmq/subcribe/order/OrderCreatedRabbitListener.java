@@ -1,20 +1,17 @@
 package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.order;
 
-import com.athenhub.commoncore.message.MessageResolver;
+import com.athenhub.stockservice.global.infrastructure.logging.HotPathLogSampler;
 import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
-import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
-import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order.RabbitOrderProperties;
 import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.OrderCreatedEvent;
 import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.OrderProcessFailedEvent;
 import com.rabbitmq.client.Channel;
 import java.io.IOException;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
@@ -23,7 +20,14 @@ import org.springframework.stereotype.Component;
  * 변환하는 Listener이다.
  *
  * <p>정상 처리 시 stock.decrease 큐로 이벤트를 발행하고 ACK 처리한다. 변환 또는 발행 과정에서 예외가 발생하면 Order 도메인의 실패 이벤트({@link
- * OrderProcessFailedEvent})를 발행하고 원본 메시지는 NACK(requeue=false) 처리한다.
+ * OrderProcessFailedEvent})를 발행하고 원본 메시지는 NACK(requeue=false) 처리한다. 변환/발행 로직과 Fast Path는 {@link
+ * OrderCreatedEventHandler}가 담당한다.
+ *
+ * <p>{@code rabbit.order.created.stream.enabled=true}이면 이 Listener 대신 Stream에서 주문 생성 이벤트를 소비하는
+ * {@link OrderCreatedStreamListener}가 등록된다.
+ *
+ * <p>성공 경로의 {@code [RECEIVED]}, {@code [ACK]} 로그는 {@link HotPathLogSampler} 설정에 따라 샘플링 또는 요약되며, 실패
+ * 경로의 {@code [ERROR]}, {@code [NACK]} 로그는 항상 출력한다.
  *
  * <p>이 Listener는 "주문 생성 성공 이후 재고 감소 요청"의 Saga Step 1을 담당한다.
  *
@@ -33,14 +37,19 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.order.created.stream",
+    name = "enabled",
+    havingValue = "false",
+    matchIfMissing = true)
 public class OrderCreatedRabbitListener {
 
-  private final RabbitTemplate rabbitTemplate;
-  private final RabbitOrderProperties orderProperties;
+  private final OrderCreatedEventHandler handler;
+  private final HotPathLogSampler hotPathLog;
 
-  private final MessageResolver messageResolver;
-
-  @RabbitListener(queues = "${rabbit.order.created.queue}", containerFactory = "manualAckFactory")
+  @RabbitListener(
+      queues = "${rabbit.order.created.queue}",
+      containerFactory = "orderCreatedListenerFactory")
   public void listen(
       OrderCreatedEvent event,
       Message rawMessage,
@@ -50,59 +59,27 @@ public class OrderCreatedRabbitListener {
 
     final var orderId = event.orderId();
 
-    log.info("[RECEIVED] orderId={}, products={}", orderId, event.products().size());
+    if (hotPathLog.shouldLog("order.created.received")) {
+      log.info("[RECEIVED] orderId={}, products={}", orderId, event.products().size());
+    }
 
     try {
-      StockDecreaseBatchEvent batch = createBatchEvent(event);
-      publishBatchEvent(batch, orderId);
+      handler.handle(event, rawMessage);
       ack(channel, tag, orderId);
 
     } catch (Exception ex) {
       log.error("[ERROR] 주문 생성 이벤트 처리 실패 orderId={}, cause={}", orderId, ex.getMessage(), ex);
 
-      publishProcessFailedEvent(event);
+      handler.publishProcessFailedEvent(event);
       nack(channel, tag, orderId);
     }
   }
 
-  /** 주문 생성 이벤트 → 재고 감소 Batch 이벤트 변환 */
-  private StockDecreaseBatchEvent createBatchEvent(OrderCreatedEvent event) {
-    List<StockDecreaseRequest> requests =
-        event.products().stream()
-            .map(
-                p ->
-                    new StockDecreaseRequest(
-                        p.productId(), p.variantId(), p.quantity(), event.orderedAt()))
-            .toList();
-
-    log.info("[PROCESS] BatchEvent 생성 orderId={}, items={}", event.orderId(), requests.size());
-
-    return new StockDecreaseBatchEvent(event.orderId(), event.orderedAt(), requests);
-  }
-
-  /** 재고 감소 Batch 이벤트를 stock.decrease 큐로 발행 */
-  private void publishBatchEvent(StockDecreaseBatchEvent batch, Object orderId) {
-    rabbitTemplate.convertAndSend(
-        orderProperties.getExchange(), orderProperties.getCreated().getRoutingKey(), batch);
-
-    log.info("[SEND] stock.decrease 발행 성공 orderId={}", orderId);
-  }
-
-  /** 주문 생성 이벤트 처리 실패 시 OrderProcessFailedEvent 발행 */
-  private void publishProcessFailedEvent(OrderCreatedEvent event) {
-    String errorCode = "ORDER_CREATED_EVENT_PROCESS_FAILED";
-    OrderProcessFailedEvent failed =
-        new OrderProcessFailedEvent(event.orderId(), errorCode, messageResolver.resolve(errorCode));
-
-    rabbitTemplate.convertAndSend(
-        orderProperties.getExchange(), orderProperties.getProcessFailed().getRoutingKey(), failed);
-
-    log.warn("[SEND] OrderProcessFailedEvent 발행 orderId={}", event.orderId());
-  }
-
   private void ack(Channel channel, long tag, Object orderId) throws IOException {
     channel.basicAck(tag, false);
-    log.info("[ACK] orderId={}", orderId);
+    if (hotPathLog.shouldLog("order.created.ack")) {
+      log.info("[ACK] orderId={}", orderId);
+    }
   }
 
   private void nack(Channel channel, long tag, Object orderId) throws IOException {
@@ -0,0 +1,195 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.order;
+
+import com.athenhub.stockservice.global.infrastructure.logging.HotPathLogSampler;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order.RabbitOrderProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.OrderCreatedEvent;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream.StreamOffsetStore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.rabbit.stream.support.StreamMessageProperties;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * RabbitMQ Stream에 저장된 {@code OrderCreatedEvent}를 순차적으로 소비하는 Listener이다.
+ *
+ * <p>{@code rabbit.order.created.stream.enabled=true}이면 {@link OrderCreatedRabbitListener} 대신 등록되며,
+ * 변환/발행 로직은 같은 {@link OrderCreatedEventHandler}를 사용한다. Stream에는 ACK/NACK이 없으므로 처리에 실패한 이벤트는 Order
+ * 도메인의 실패 이벤트만 발행하고 다음 메시지로 넘어간다.
+ *
+ * <p>처리한 위치(Offset)는 {@code commit-every}건마다, 또는 {@code commit-interval} 주기로 {@link
+ * StreamOffsetStore}에 기록한다. 재기동 시 마지막 기록 이후의 메시지는 다시 처리될 수 있으나, 재고 감소는 주문 ID 기준 멱등성 검사로 중복
+ * 반영되지 않는다. Offset 기록은 JDBC I/O를 포함하므로, 가상 스레드에서 호출되어도 캐리어 스레드를 고정(pinning)하지 않도록 {@code
+ * synchronized} 대신 {@link ReentrantLock}으로 직렬화한다.
+ *
+ * <p>메시지마다 남기는 {@code [RECEIVED]} 로그는 {@link HotPathLogSampler} 설정에 따라 샘플링 또는 요약된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.order.created.stream",
+    name = "enabled",
+    havingValue = "true")
+public class OrderCreatedStreamListener {
+
+  /** Listener Container ID. Offset을 되감을 때 컨테이너를 재시작하기 위해 사용한다. */
+  public static final String LISTENER_ID = "orderCreatedStream";
+
+  private final OrderCreatedEventHandler handler;
+  private final StreamOffsetStore offsetStore;
+  private final RabbitOrderProperties orderProperties;
+  private final Jackson2JsonMessageConverter messageConverter;
+  private final HotPathLogSampler hotPathLog;
+
+  /** Offset 기록, 되감기, 재개를 직렬화한다. */
+  private final ReentrantLock offsetLock = new ReentrantLock();
+
+  /** 마지막으로 처리한 Offset. */
+  private final AtomicLong lastProcessed = new AtomicLong(-1);
+
+  /** 마지막으로 DB에 기록한 Offset. */
+  private final AtomicLong lastCommitted = new AtomicLong(-1);
+
+  /** 마지막 기록 이후 처리한 메시지 수. */
+  private final AtomicInteger uncommitted = new AtomicInteger();
+
+  /** Offset을 되감는 동안 처리한 Offset을 기록하지 않도록 막는다. */
+  private volatile boolean commitsSuspended;
+
+  /**
+   * Stream 메시지를 수신하여 재고 감소 요청으로 변환한다.
+   *
+   * @param message Stream 메시지 (Offset 정보 포함)
+   */
+  @RabbitListener(
+      id = LISTENER_ID,
+      queues = "${rabbit.order.created.stream.name}",
+      containerFactory = "orderCreatedStreamListenerFactory")
+  public void listen(Message message) {
+    long offset = ((StreamMessageProperties) message.getMessageProperties()).getContext().offset();
+    OrderCreatedEvent event = convert(message, offset);
+
+    if (event != null) {
+      if (hotPathLog.shouldLog("order.created.stream.received")) {
+        log.info(
+            "[RECEIVED] orderId={}, products={}, offset={}",
+            event.orderId(),
+            event.products().size(),
+            offset);
+      }
+      try {
+        handler.handle(event, message);
+      } catch (RuntimeException ex) {
+        log.error(
+            "[ERROR] 주문 생성 이벤트 처리 실패 orderId={}, offset={}, cause={}",
+            event.orderId(),
+            offset,
+            ex.getMessage(),
+            ex);
+        handler.publishProcessFailedEvent(event);
+      }
+    }
+
+    lastProcessed.set(offset);
+    if (uncommitted.incrementAndGet() >= stream().getCommitEvery()) {
+      commit();
+    }
+  }
+
+  /** 마지막 기록 이후 처리한 Offset이 있으면 DB에 기록한다. */
+  @Scheduled(fixedDelayString = "${rabbit.order.created.stream.commit-interval:1s}")
+  public void commit() {
+    offsetLock.lock();
+    try {
+      long offset = lastProcessed.get();
+      if (commitsSuspended || offset <= lastCommitted.get()) {
+        return;
+      }
+      offsetStore.save(stream().getName(), stream().getConsumerName(), offset);
+      lastCommitted.set(offset);
+      uncommitted.set(0);
+    } finally {
+      offsetLock.unlock();
+    }
+  }
+
+  /**
+   * 기록된 Offset을 주어진 위치로 되감고, {@link #resumeFrom}을 호출할 때까지 Offset 기록을 멈춘다.
+   *
+   * <p>Listener Container를 정지하기 전에 호출한다. 정지하면 다른 인스턴스가 활성 Consumer가 되어 DB의 Offset부터 읽으므로, 정지 전에
+   * 되감아 두어야 되감은 위치부터 읽는다. 정지할 때까지 처리한 메시지의 Offset은 기록하지 않는다.
+   *
+   * @param offset 마지막으로 처리한 것으로 기록할 Offset
+   */
+  public void rewindTo(long offset) {
+    offsetLock.lock();
+    try {
+      commitsSuspended = true;
+      offsetStore.reset(stream().getName(), stream().getConsumerName(), offset);
+      log.warn("[STREAM] offset reset stream={}, offset={}", stream().getName(), offset);
+    } finally {
+      offsetLock.unlock();
+    }
+  }
+
+  /**
+   * 되감은 Offset을 기준으로 처리 상태를 초기화하고 Offset 기록을 재개한다.
+   *
+   * <p>Listener Container가 정지된 상태에서 호출해야 한다.
+   *
+   * @param offset 되감은 Offset
+   */
+  public void resumeFrom(long offset) {
+    offsetLock.lock();
+    try {
+      lastProcessed.set(offset);
+      lastCommitted.set(offset);
+      uncommitted.set(0);
+      commitsSuspended = false;
+    } finally {
+      offsetLock.unlock();
+    }
+  }
+
+  /**
+   * 마지막으로 처리한 Offset을 반환한다.
+   *
+   * @return 이번 기동 이후 마지막으로 처리한 Offset, 없으면 -1
+   */
+  public long lastProcessedOffset() {
+    return lastProcessed.get();
+  }
+
+  private RabbitOrderProperties.Stream stream() {
+    return orderProperties.getCreated().getStream();
+  }
+
+  /**
+   * Stream 메시지를 주문 생성 이벤트로 역직렬화한다.
+   *
+   * @return 주문 생성 이벤트, 역직렬화할 수 없으면 {@code null}
+   */
+  private OrderCreatedEvent convert(Message message, long offset) {
+    message.getMessageProperties().setInferredArgumentType(OrderCreatedEvent.class);
+    try {
+      return messageConverter.fromMessage(message) instanceof OrderCreatedEvent event
+          ? event
+          : null;
+    } catch (MessageConversionException ex) {
+      log.error("[MALFORMED] offset={}, cause={}", offset, ex.getMessage());
+      return null;
+    }
+  }
+}
@@ -0,0 +1,153 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.springframework.amqp.core.Message;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 처리에 성공한 재고 감소 메시지의 messageId를 일정 시간 기억하는 중복 제거 캐시이다.
+ *
+ * <p>Broker 재전달이나 Retry Queue를 거친 재발행으로 이미 처리한 주문이 다시 전달되면, 트랜잭션을 열어 {@code existsByOrderId}를
+ * 확인하기 전에 이 캐시로 걸러내고 바로 ACK한다. 실패한 메시지는 기억하지 않으므로 Retry Queue나 DLQ 재처리로 다시 들어온 메시지는 그대로
+ * 처리된다.
+ *
+ * <p>저장 순서대로 최대 {@code max-size}개를 유지하며, 가득 차면 가장 오래된 항목부터 제거한다. {@code ttl}이 지난 항목은 조회
+ * 또는 저장 시 제거된다. messageId가 없는 메시지는 중복 여부를 판단하지 않는다.
+ *
+ * <ul>
+ *   <li>{@code rabbit.consumer.dedup} ({@code result=hit|miss}) — 조회 결과
+ *   <li>{@code rabbit.consumer.dedup.size} — 기억하고 있는 messageId 수
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Component
+public class ConsumedMessageCache {
+
+  private final boolean enabled;
+  private final int maxSize;
+  private final Duration ttl;
+  private final Clock clock;
+  private final Counter hits;
+  private final Counter misses;
+  private final LinkedHashMap<String, Instant> entries = new LinkedHashMap<>();
+
+  /**
+   * 중복 제거 캐시를 생성한다.
+   *
+   * @param props 재고 RabbitMQ 설정
+   * @param meterRegistry 메트릭 레지스트리
+   */
+  @Autowired
+  public ConsumedMessageCache(RabbitStockProperties props, MeterRegistry meterRegistry) {
+    this(props.getDecrease().getDedup(), meterRegistry, Clock.systemUTC());
+  }
+
+  ConsumedMessageCache(
+      RabbitStockProperties.Dedup properties, MeterRegistry meterRegistry, Clock clock) {
+    this.enabled = properties.isEnabled();
+    this.maxSize = Math.max(properties.getMaxSize(), 1);
+    this.ttl = properties.getTtl();
+    this.clock = clock;
+    this.hits = meterRegistry.counter("rabbit.consumer.dedup", "result", "hit");
+    this.misses = meterRegistry.counter("rabbit.consumer.dedup", "result", "miss");
+    Gauge.builder("rabbit.consumer.dedup.size", this, ConsumedMessageCache::size)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 이미 처리에 성공한 메시지인지 확인한다.
+   *
+   * @param message 수신한 메시지
+   * @return TTL 이내에 같은 messageId를 처리한 적이 있으면 {@code true}
+   */
+  public boolean isDuplicate(Message message) {
+    String messageId = messageId(message);
+    if (messageId == null) {
+      return false;
+    }
+
+    boolean duplicate;
+    synchronized (entries) {
+      Instant storedAt = entries.get(messageId);
+      duplicate = storedAt != null && !isExpired(storedAt, clock.instant());
+      if (storedAt != null && !duplicate) {
+        entries.remove(messageId);
+      }
+    }
+    (duplicate ? hits : misses).increment();
+    return duplicate;
+  }
+
+  /**
+   * 처리에 성공한 메시지의 messageId를 기억한다.
+   *
+   * @param message 처리에 성공한 메시지
+   */
+  public void remember(Message message) {
+    String messageId = messageId(message);
+    if (messageId == null) {
+      return;
+    }
+
+    Instant now = clock.instant();
+    synchronized (entries) {
+      evictExpired(now);
+      entries.remove(messageId);
+      entries.put(messageId, now);
+      while (entries.size() > maxSize) {
+        evictEldest();
+      }
+    }
+  }
+
+  /**
+   * 기억하고 있는 messageId 수를 반환한다.
+   *
+   * @return messageId 수
+   */
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  private String messageId(Message message) {
+    if (!enabled || message == null) {
+      return null;
+    }
+    String messageId = message.getMessageProperties().getMessageId();
+    return messageId == null || messageId.isBlank() ? null : messageId;
+  }
+
+  /** 저장 순서가 오래된 항목부터 만료된 항목을 제거한다. */
+  private void evictExpired(Instant now) {
+    Iterator<Map.Entry<String, Instant>> iterator = entries.entrySet().iterator();
+    while (iterator.hasNext() && isExpired(iterator.next().getValue(), now)) {
+      iterator.remove();
+    }
+  }
+
+  private void evictEldest() {
+    Iterator<String> iterator = entries.keySet().iterator();
+    if (iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+    }
+  }
+
+  private boolean isExpired(Instant storedAt, Instant now) {
+    return storedAt.plus(ttl).isBefore(now);
+  }
+}
@@ -0,0 +1,232 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.metrics.DecreaseOutcome;
+import com.athenhub.stockservice.stock.application.metrics.DecreaseStage;
+import com.athenhub.stockservice.stock.application.metrics.StockDecreaseStageMetrics;
+import com.athenhub.stockservice.stock.application.service.StockDecreaseHandler;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 감소 이벤트를 여러 건씩 묶어서 처리하는 배치 소비자(Consumer)이다.
+ *
+ * <p>{@code rabbit.stock.decrease.batch.enabled=true}인 경우 {@link RabbitStockDecreaseEventListener}
+ * 대신 등록된다. 컨테이너의 Consumer Batching으로 최대 {@code batch.size}건 또는 다음 메시지를 {@code
+ * batch.receive-timeout} 동안 기다려도 오지 않을 때까지 모인 메시지를 한 번에 전달받는다.
+ *
+ * <p>처리 흐름:
+ *
+ * <ol>
+ *   <li>역직렬화할 수 없는 메시지는 원본 그대로 Quarantine Queue로 전달한다
+ *   <li>이미 처리한 메시지의 재전달({@link ConsumedMessageCache})은 배치에서 제외하고 ACK한다
+ *   <li>나머지 메시지를 {@link StockDecreaseHandler#decreaseAllInBatch(List)}로 하나의 트랜잭션에서 처리한다
+ *   <li>배치 전체가 성공하면 마지막 delivery tag로 multiple=true ACK를 한 번만 보낸다
+ *   <li>배치 처리 중 하나라도 실패하면 전체가 롤백되므로, 메시지마다 {@link StockDecreaseMessageProcessor}로 다시 처리하여 실패한
+ *       메시지만 retry/DLQ로 분기한다
+ * </ol>
+ *
+ * <p>retry/DLQ 발행 자체가 실패한 메시지는 NACK(requeue=false)하여 Main Queue의 DLX(Retry Queue)로 이동시킨다.
+ *
+ * <p>배치 전체가 성공한 경우 단계별 지표({@link StockDecreaseStageMetrics})는 배치 하나를 한 건으로 기록하며, {@code
+ * order_size} 태그는 배치에 포함된 전체 항목 수로 정한다. 메시지별 처리로 전환된 경우에는 메시지마다 기록한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.stock.decrease.batch",
+    name = "enabled",
+    havingValue = "true")
+public class RabbitStockDecreaseBatchListener {
+
+  private final StockDecreaseHandler handler;
+  private final StockDecreaseMessageProcessor processor;
+  private final RetryManager retryManager;
+  private final ConsumedMessageCache consumedMessageCache;
+  private final StockDecreaseStageMetrics stageMetrics;
+  private final StockPipelineMonitor pipelineMonitor;
+
+  /** 역직렬화된 이벤트와 원본 메시지의 쌍. */
+  private record Delivery(StockDecreaseBatchEvent event, Message message) {
+
+    long tag() {
+      return message.getMessageProperties().getDeliveryTag();
+    }
+  }
+
+  /**
+   * 묶음으로 전달된 재고 감소 메시지를 처리한다.
+   *
+   * @param messages Consumer Batching으로 모인 원본 메시지 목록 (delivery tag 오름차순)
+   * @param channel 수동 ACK 처리를 위한 채널
+   * @throws IOException ACK 처리 중 오류가 발생할 수 있다.
+   */
+  @RabbitListener(
+      queues = "${rabbit.stock.decrease.queue}",
+      containerFactory = "stockDecreaseBatchListenerFactory")
+  public void listen(List<Message> messages, Channel channel) throws IOException {
+    pipelineMonitor.enter(StockPipelineMonitor.DECREASE_BATCH_LISTENER, messages.size());
+    try {
+      receive(messages, channel);
+    } finally {
+      pipelineMonitor.exit(StockPipelineMonitor.DECREASE_BATCH_LISTENER, messages.size());
+    }
+  }
+
+  private void receive(List<Message> messages, Channel channel) throws IOException {
+    Set<Long> failedTags = new HashSet<>();
+    List<Delivery> deliveries = new ArrayList<>(messages.size());
+
+    int duplicates = 0;
+    long receiveStart = System.nanoTime();
+    for (Message message : messages) {
+      StockDecreaseBatchEvent event = processor.convert(message);
+      if (event == null) {
+        if (!sendMalformedToQuarantine(message)) {
+          failedTags.add(message.getMessageProperties().getDeliveryTag());
+        }
+      } else if (consumedMessageCache.isDuplicate(message)) {
+        duplicates++;
+      } else {
+        deliveries.add(new Delivery(event, message));
+      }
+    }
+
+    long receiveNanos = System.nanoTime() - receiveStart;
+
+    log.info(
+        "[BATCH_RECEIVED] size={}, valid={}, duplicates={}",
+        messages.size(),
+        deliveries.size(),
+        duplicates);
+
+    try {
+      if (!deliveries.isEmpty()) {
+        failedTags.addAll(process(deliveries, receiveNanos));
+      }
+
+      long ackStart = System.nanoTime();
+      acknowledge(channel, messages, failedTags);
+      stageMetrics.record(DecreaseStage.ACK, System.nanoTime() - ackStart);
+    } finally {
+      stageMetrics.finish();
+    }
+  }
+
+  /**
+   * 배치 전체를 한 트랜잭션으로 처리하고, 실패 시 메시지별 처리로 전환한다.
+   *
+   * @param deliveries 처리할 메시지 목록
+   * @param receiveNanos 배치 역직렬화에 걸린 시간(나노초)
+   * @return ACK하면 안 되는(retry/DLQ 발행에 실패한) 메시지의 delivery tag
+   */
+  private Set<Long> process(List<Delivery> deliveries, long receiveNanos) {
+    stageMetrics.begin(
+        deliveries.stream().mapToInt(d -> d.event().stockDecreaseRequests().size()).sum());
+    stageMetrics.record(DecreaseStage.RECEIVE, receiveNanos);
+    try {
+      List<UUID> applied =
+          handler.decreaseAllInBatch(deliveries.stream().map(Delivery::event).toList());
+      log.info("[BATCH_SUCCESS] orders={}, applied={}", deliveries.size(), applied.size());
+      deliveries.forEach(delivery -> consumedMessageCache.remember(delivery.message()));
+      processor.recordSuccess(deliveries.size());
+      pipelineMonitor.succeeded(StockPipelineMonitor.DECREASE_BATCH_LISTENER);
+      stageMetrics.outcome(DecreaseOutcome.SUCCESS);
+      return Set.of();
+
+    } catch (Exception ex) {
+      log.warn("[BATCH_FALLBACK] orders={}, cause={}", deliveries.size(), ex.getMessage(), ex);
+      return processIndividually(deliveries);
+    }
+  }
+
+  private Set<Long> processIndividually(List<Delivery> deliveries) {
+    Set<Long> failedTags = new HashSet<>();
+    for (Delivery delivery : deliveries) {
+      try {
+        StockDecreaseMessageProcessor.Outcome outcome =
+            processor.process(delivery.event(), delivery.message());
+        stageMetrics.finish();
+        if (outcome == StockDecreaseMessageProcessor.Outcome.SUCCESS) {
+          pipelineMonitor.succeeded(StockPipelineMonitor.DECREASE_BATCH_LISTENER);
+        }
+        log.info(
+            "[PROCESSED] status={}, orderId={}, tag={}",
+            outcome.getStatus(),
+            delivery.event().orderId(),
+            delivery.tag());
+      } catch (RuntimeException ex) {
+        log.error(
+            "[PUBLISH_FAILED] orderId={}, tag={}, cause={}",
+            delivery.event().orderId(),
+            delivery.tag(),
+            ex.getMessage(),
+            ex);
+        failedTags.add(delivery.tag());
+      }
+    }
+    return failedTags;
+  }
+
+  /**
+   * 배치의 ACK를 수행한다.
+   *
+   * <p>모든 메시지가 처리되었으면 마지막 delivery tag로 multiple=true ACK를 한 번 보내고, 그렇지 않으면 메시지마다 ACK/NACK한다.
+   *
+   * @param channel 채널
+   * @param messages 배치의 원본 메시지 목록
+   * @param failedTags NACK할 delivery tag
+   * @throws IOException ACK 중 오류
+   */
+  private void acknowledge(Channel channel, List<Message> messages, Set<Long> failedTags)
+      throws IOException {
+
+    if (failedTags.isEmpty()) {
+      long lastTag = messages.get(messages.size() - 1).getMessageProperties().getDeliveryTag();
+      channel.basicAck(lastTag, true);
+      log.info("[ACK] status=batch, size={}, lastTag={}", messages.size(), lastTag);
+      return;
+    }
+
+    for (Message message : messages) {
+      long tag = message.getMessageProperties().getDeliveryTag();
+      if (failedTags.contains(tag)) {
+        channel.basicNack(tag, false, false);
+        log.warn("[NACK] status=publish_failed, tag={}", tag);
+      } else {
+        channel.basicAck(tag, false);
+      }
+    }
+  }
+
+  private boolean sendMalformedToQuarantine(Message message) {
+    try {
+      retryManager.sendRawToQuarantine(message, StockErrorType.MALFORMED_MESSAGE);
+      return true;
+    } catch (RuntimeException ex) {
+      log.error(
+          "[PUBLISH_FAILED] tag={}, cause={}",
+          message.getMessageProperties().getDeliveryTag(),
+          ex.getMessage(),
+          ex);
+      return false;
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import com.athenhub.stockservice.stock.application.metrics.DecreaseStage;
+import com.athenhub.stockservice.stock.application.metrics.StockDecreaseStageMetrics;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * 파티션 Queue로 라우팅된 재고 감소 이벤트를 처리하는 소비자(Consumer)이다.
+ *
+ * <p>{@code rabbit.stock.decrease.partition.enabled=true}인 경우에만 등록된다. 같은 상품 옵션을 대상으로 하는 주문은 항상 같은
+ * 파티션으로 모이고, 파티션마다 하나의 Consumer만 활성화되므로 같은 재고 행을 두고 여러 Consumer가 경합하지 않는다.
+ *
+ * <p>처리와 retry/DLQ 분기는 {@link RabbitStockDecreaseEventListener}와 동일하게 {@link
+ * StockDecreaseMessageProcessor}가 담당하며, 처리 결과와 관계없이 ACK한다. 처리기가 Retry/DLQ 발행까지
+ * 실패하면 {@link RabbitStockDecreaseBatchListener}처럼 requeue 없이 NACK한다. 파티션 Queue는 Single Active
+ * Consumer이므로 ACK하지 않은 메시지가 파티션 전체를 막지 않도록, NACK된 메시지는 Queue의 Dead Letter 설정에 따라 Retry Queue로
+ * 이동한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "rabbit.stock.decrease.partition",
+    name = "enabled",
+    havingValue = "true")
+public class RabbitStockDecreasePartitionListener {
+
+  private final StockDecreaseMessageProcessor processor;
+  private final StockDecreaseStageMetrics stageMetrics;
+  private final StockPipelineMonitor pipelineMonitor;
+
+  /**
+   * 파티션 Queue의 재고 감소 이벤트 메시지를 수신하여 처리한다.
+   *
+   * @param rawMessage RabbitMQ 원본 메시지.
+   * @param channel 수동 ACK 처리를 위한 채널.
+   * @param tag 메시지의 delivery tag.
+   * @throws IOException ACK 처리 중 오류가 발생할 수 있다.
+   */
+  @RabbitListener(
+      queues = "#{@rabbitStockPartitionConfig.partitionQueueNames()}",
+      containerFactory = "stockDecreasePartitionListenerFactory")
+  public void listen(
+      Message rawMessage, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag)
+      throws IOException {
+
+    pipelineMonitor.enter(StockPipelineMonitor.DECREASE_PARTITION_LISTENER, 1);
+    try {
+      StockDecreaseMessageProcessor.Outcome outcome;
+      try {
+        outcome = processor.process(rawMessage);
+      } catch (RuntimeException ex) {
+        channel.basicNack(tag, false, false);
+        log.warn(
+            "[NACK] status=publish_failed, queue={}, tag={}, cause={}",
+            rawMessage.getMessageProperties().getConsumerQueue(),
+            tag,
+            ex.getMessage());
+        return;
+      }
+      if (outcome == StockDecreaseMessageProcessor.Outcome.SUCCESS) {
+        pipelineMonitor.succeeded(StockPipelineMonitor.DECREASE_PARTITION_LISTENER);
+      }
+
+      long ackStart = System.nanoTime();
+      channel.basicAck(tag, false);
+      stageMetrics.record(DecreaseStage.ACK, System.nanoTime() - ackStart);
+      log.info(
+          "[ACK] status={}, queue={}, tag={}",
+          outcome.getStatus(),
+          rawMessage.getMessageProperties().getConsumerQueue(),
+          tag);
+    } finally {
+      stageMetrics.finish();
+      pipelineMonitor.exit(StockPipelineMonitor.DECREASE_PARTITION_LISTENER, 1);
+    }
+  }
+}
@@ -3,67 +3,120 @@ package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
 import com.athenhub.commoncore.message.MessageResolver;
 import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
 import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order.RabbitOrderProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq.DeadLetterArchive;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq.DeadLetterMessage;
 import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.OrderProcessFailedEvent;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.ReliableRabbitPublisher;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
 /**
- * 재고 감소 처리 실패로 인해 DLQ(Dead Letter Queue)에 적재된 메시지를 수신하여 주문 서비스에 처리 실패 이벤트를 전달하는 Listener이다.
+ * 재고 감소 처리 실패로 인해 DLQ(Dead Letter Queue)에 적재된 메시지를 수신하여 보관하고, 주문 서비스에 처리 실패 이벤트를 전달하는
+ * Listener이다.
  *
- * <p>이 Listener는 DLQ의 메시지를 소비하지만 ACK/NACK을 호출하지 않으므로 DLQ의 원본 메시지는 그대로 보존된다.
+ * <p>DLQ 메시지는 Broker에 남겨두지 않고 {@link DeadLetterArchive}를 통해 DB 테이블로 옮긴 뒤 ACK한다. 보관된 메시지는 관리용
+ * actuator 엔드포인트({@code /actuator/stockdlq}, {@code /actuator/stockdlqreplay})에서 오류 유형과 시각 범위로
+ * 조회하고 다시 발행할 수 있다. 보관이나 실패 이벤트 발행에 실패하면 메시지를 유실하지 않도록 NACK(requeue=true)한다. 보관은 메시지 ID
+ * 기준으로 멱등하므로, 실패 이벤트 발행 실패로 재전달된 메시지는 다시 보관되지 않고 실패 이벤트 발행만 다시 시도한다.
+ *
+ * <p>재시도 없이 격리된 메시지(Quarantine Queue)도 같은 방식으로 보관하고 실패 이벤트를 전달한다. 보관된 메시지의 오류 유형으로 두 경로를
+ * 구분할 수 있다.
  *
  * <p>실패 유형은 메시지 헤더(x-error-type)에서 추출하며, MessageResolver를 사용하여 사람이 읽을 수 있는 설명 메시지로 변환한다.
  *
  * @author 김지원
  * @since 1.0.0
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class RabbitStockDecreasedDeadEventListener {
 
   private final RabbitOrderProperties orderProperties;
-  private final RabbitTemplate rabbitTemplate;
-
-  /** DLQ 메시지 헤더에서 실패 유형을 가져오기 위한 헤더 이름. */
-  private static final String ERROR_TYPE_HEADER_NAME = "x-error-type";
+  private final ReliableRabbitPublisher publisher;
+  private final DeadLetterArchive deadLetterArchive;
+  private final Jackson2JsonMessageConverter messageConverter;
 
   private final MessageResolver messageResolver;
 
   /**
-   * 재고 감소 처리 중 오류가 발생하여 DLQ에 적재된 이벤트를 수신한다.
+   * 재고 감소 처리 중 오류가 발생하여 DLQ에 적재된 메시지를 수신한다.
    *
-   * <p>DLQ의 메시지를 기반으로 {@link OrderProcessFailedEvent}를 생성하여 주문 서비스가 후속 보상 로직(주문 취소, 결제 취소 등)을 수행할 수
-   * 있도록 이벤트를 발행한다.
+   * <p>메시지를 보관한 뒤 {@link OrderProcessFailedEvent}를 생성하여 주문 서비스가 후속 보상 로직(주문 취소, 결제 취소 등)을 수행할 수
+   * 있도록 이벤트를 발행하고 ACK한다. 실패 이벤트를 발행한 보관 메시지는 그 사실을 기록하여, 재발행 시 이미 보상 중인 주문의 재고를 다시
+   * 감소시키지 않도록 한다. 역직렬화할 수 없는 메시지는 주문 ID를 알 수 없으므로 보관만 하고 ACK한다.
    *
-   * <p>DLQ의 데이터를 보존해야 하므로 ACK/NACK을 호출하지 않는다.
-   *
-   * @param event DLQ에 저장된 원본 재고 감소 요청 이벤트
    * @param message Raw RabbitMQ 메시지(헤더 포함)
+   * @param channel 수동 ACK 처리를 위한 채널
+   * @param tag 메시지의 delivery tag
+   * @throws IOException ACK/NACK 처리 중 오류가 발생할 수 있다.
    * @author 김지원
    * @since 1.0.0
    */
   @RabbitListener(
-      queues = "${rabbit.stock.decrease-dead.queue}",
-      containerFactory = "manualAckFactory")
-  public void listen(StockDecreaseBatchEvent event, Message message) {
-    // 1) 실패 유형을 DLQ 메시지 헤더에서 추출
-    String errorType = message.getMessageProperties().getHeader(ERROR_TYPE_HEADER_NAME);
+      queues = {
+        "${rabbit.stock.decrease-dead.queue}",
+        "${rabbit.stock.decrease-quarantine.queue}"
+      },
+      containerFactory = "stockDecreaseDeadListenerFactory")
+  public void listen(Message message, Channel channel, @Header(AmqpHeaders.DELIVERY_TAG) long tag)
+      throws IOException {
+    StockDecreaseBatchEvent event = convert(message);
+
+    try {
+      // 1) DLQ 메시지 보관
+      DeadLetterMessage archived =
+          deadLetterArchive.archive(message, event == null ? null : event.orderId());
 
-    // 2) 실패 이벤트 생성 (e.g., 재고 부족, 낙관적 락 충돌 등)
-    OrderProcessFailedEvent failedEvent =
-        new OrderProcessFailedEvent(
-            event.orderId(), errorType, messageResolver.resolve(errorType) // 사람이 읽을 수 있는 에러 메시지로 변환
-            );
+      // 2) 주문 서비스로 "주문 처리 실패" 이벤트 발행 (e.g., 재고 부족, 낙관적 락 충돌 등)
+      if (event != null) {
+        String errorType = archived.getErrorType();
+        publisher.publish(
+            orderProperties.getExchange(),
+            orderProperties.getProcessFailed().getRoutingKey(),
+            new OrderProcessFailedEvent(
+                event.orderId(), errorType, messageResolver.resolve(errorType)));
+        deadLetterArchive.markFailureReported(archived);
+      }
+    } catch (RuntimeException ex) {
+      // 3) 보관/발행 실패 → 메시지를 유실하지 않도록 DLQ로 되돌림
+      channel.basicNack(tag, false, true);
+      log.error("[DLQ_NACK] tag={}, cause={}", tag, ex.getMessage());
+      return;
+    }
 
-    // 3) 주문 서비스로 "주문 처리 실패" 이벤트 발행
-    rabbitTemplate.convertAndSend(
-        orderProperties.getExchange(),
-        orderProperties.getProcessFailed().getRoutingKey(),
-        failedEvent);
+    // 4) 보관이 끝났으므로 DLQ에서 제거
+    channel.basicAck(tag, false);
+    log.info("[DLQ_ACK] orderId={}, tag={}", event == null ? null : event.orderId(), tag);
+  }
 
-    // 4) ACK/NACK을 호출하지 않음 → DLQ 메시지 보존 목적
+  /**
+   * 원본 메시지를 재고 감소 이벤트로 역직렬화한다.
+   *
+   * @param message 원본 메시지
+   * @return 재고 감소 이벤트, 역직렬화할 수 없으면 {@code null}
+   */
+  private StockDecreaseBatchEvent convert(Message message) {
+    message.getMessageProperties().setInferredArgumentType(StockDecreaseBatchEvent.class);
+    try {
+      return messageConverter.fromMessage(message) instanceof StockDecreaseBatchEvent event
+          ? event
+          : null;
+    } catch (MessageConversionException ex) {
+      log.warn(
+          "[MALFORMED] tag={}, cause={}",
+          message.getMessageProperties().getDeliveryTag(),
+          ex.getMessage());
+      return null;
+    }
   }
 }
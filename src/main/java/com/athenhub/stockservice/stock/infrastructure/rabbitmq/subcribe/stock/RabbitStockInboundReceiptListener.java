@@ -0,0 +1,88 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import com.athenhub.stockservice.stock.application.dto.RestockCommand;
+import com.athenhub.stockservice.stock.application.dto.RestockResponse;
+import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
+import com.athenhub.stockservice.stock.application.service.StockRestockService;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.InboundReceiptEvent;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * 창고 시스템이 발행한 입고 전표({@link InboundReceiptEvent})를 수신하여 재고를 증가시키는 소비자(Consumer)이다.
+ *
+ * <p>처리 흐름은 아래와 같다:
+ *
+ * <ul>
+ *   <li><b>정상 처리 / 중복 전표</b>: ACK. 중복 전표는 {@link StockRestockService}에서 재고 변경 없이 무시된다.
+ *   <li><b>처리 불가 전표</b>(존재하지 않는 재고, 잘못된 수량): 재시도가 의미 없으므로 NACK(requeue=false)하여 DLQ로 격리한다.
+ *   <li><b>기타 예외</b>: 첫 전달이면 한 번 재전달(requeue)하고, 재전달된 메시지도 실패하면 DLQ로 격리한다.
+ * </ul>
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RabbitStockInboundReceiptListener {
+
+  private final StockRestockService stockRestockService;
+
+  /**
+   * 입고 전표 메시지를 수신하여 처리한다.
+   *
+   * @param event 입고 전표 이벤트.
+   * @param rawMessage RabbitMQ 원본 메시지.
+   * @param channel 수동 ACK 처리를 위한 채널.
+   * @param tag 메시지의 delivery tag.
+   * @throws IOException ACK 처리 중 오류가 발생할 수 있다.
+   */
+  @RabbitListener(
+      queues = "${rabbit.stock.inbound.queue}",
+      containerFactory = "stockInboundListenerFactory")
+  public void listen(
+      InboundReceiptEvent event,
+      Message rawMessage,
+      Channel channel,
+      @Header(AmqpHeaders.DELIVERY_TAG) long tag)
+      throws IOException {
+
+    log.info("[RECEIVED] receiptId={}, lines={}", event.receiptId(), event.lines().size());
+
+    try {
+      RestockResponse response = stockRestockService.restock(toRestockCommand(event));
+      channel.basicAck(tag, false);
+      log.info("[ACK] receiptId={}, applied={}", event.receiptId(), response.applied());
+
+    } catch (StockApplicationException | IllegalArgumentException ex) {
+      log.error("[INBOUND_REJECTED] receiptId={}, reason={}", event.receiptId(), ex.getMessage());
+      channel.basicNack(tag, false, false);
+
+    } catch (Exception ex) {
+      boolean requeue = !Boolean.TRUE.equals(rawMessage.getMessageProperties().getRedelivered());
+      log.error(
+          "[ERROR] receiptId={}, requeue={}, cause={}",
+          event.receiptId(),
+          requeue,
+          ex.getMessage(),
+          ex);
+      channel.basicNack(tag, false, requeue);
+    }
+  }
+
+  private static RestockCommand toRestockCommand(InboundReceiptEvent event) {
+    return new RestockCommand(
+        event.receiptId(),
+        event.lines().stream()
+            .map(line -> new RestockCommand.Line(line.variantId(), line.quantity()))
+            .toList());
+  }
+}
@@ -1,50 +1,215 @@
 package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
 
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.domain.exception.InsufficientStockException;
 import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
 import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.ReliableRabbitPublisher;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.StockDecreaseMessageId;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.StockDecreasePartitionKey;
+import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.PessimisticLockException;
+import jakarta.validation.ConstraintViolationException;
+import java.sql.SQLTransientException;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import org.springframework.amqp.core.Message;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
 
-/** Retry / DLQ 메시지 발행 관리자. - retryCount 헤더는 오직 재발행 시에만 반영됨. */
+/**
+ * Retry / DLQ / Quarantine 메시지 발행 관리자. - retryCount 헤더는 오직 재발행 시에만 반영됨.
+ *
+ * <p>재시도는 retryCount에 따라 지연 시간이 늘어나는 단계별 Retry Queue로 보내고, 최대 재시도 횟수는 오류 유형별로 설정한다.
+ *
+ * <p>예외는 {@link #classify(Throwable)}로 {@link StockErrorType}으로 분류한다. 재시도해도 결과가 바뀌지 않는 유형(역직렬화 실패,
+ * 요청 값 검증 실패, 존재하지 않는 재고)은 Retry Queue를 거치지 않고 격리(Quarantine) Queue로 바로 보낸다.
+ *
+ * <p>발행한 retryCount와 오류 유형별 DLQ/Quarantine 전달 수는 {@link StockPipelineMonitor}에 기록한다.
+ */
 @Component
 @RequiredArgsConstructor
 public class RetryManager {
 
   private static final String RETRY_COUNT_HEADER_NAME = "x-retry-count";
   private static final String ERROR_TYPE_HEADER_NAME = "x-error-type";
+  private static final String RETRY_REASON_HEADER_NAME = "x-retry-reason";
 
-  private final RabbitTemplate rabbitTemplate;
+  private final ReliableRabbitPublisher publisher;
   private final RabbitStockProperties props;
+  private final StockPipelineMonitor pipelineMonitor;
 
   public int getRetryCount(Message msg) {
     Object retry = msg.getMessageProperties().getHeader(RETRY_COUNT_HEADER_NAME);
     return retry instanceof Number n ? n.intValue() : 0;
   }
 
-  /** 재시도 재발행 (retryCount 포함) */
-  public void sendToRetry(Object payload, int retryCount) {
-    rabbitTemplate.convertAndSend(
+  /**
+   * 오류 유형의 최대 재시도 횟수를 반환한다.
+   *
+   * @param errorType 오류 유형
+   * @return 최대 재시도 횟수
+   */
+  public int maxRetries(StockErrorType errorType) {
+    return props.getDecreaseRetry().maxRetriesFor(errorType);
+  }
+
+  /**
+   * 재시도 재발행. retryCount에 해당하는 단계의 Retry Queue로 보내며, 단계 지연 시간에 jitter를 적용한 만료 시간을 설정한다.
+   *
+   * <p>재유입 시 같은 파티션으로 가도록 파티션 키를 유지하고, 소비 측 중복 제거를 위해 같은 messageId를 유지한다.
+   */
+  public void sendToRetry(Object payload, int retryCount, StockErrorType errorType) {
+    RabbitStockProperties.DecreaseRetry retry = props.getDecreaseRetry();
+    int tier = retry.tierIndex(retryCount);
+
+    publisher.publish(
         props.getExchange(),
-        props.getDecreaseRetry().getRoutingKey(),
+        retry.tierRoutingKey(tier),
         payload,
         msg -> {
           msg.getMessageProperties().setHeader(RETRY_COUNT_HEADER_NAME, retryCount);
+          msg.getMessageProperties().setHeader(RETRY_REASON_HEADER_NAME, errorType);
+          msg.getMessageProperties()
+              .setExpiration(String.valueOf(jitteredDelayMillis(retry, tier)));
+          if (payload instanceof StockDecreaseBatchEvent event) {
+            StockDecreaseMessageId.apply(msg, event);
+            StockDecreasePartitionKey.apply(msg, event);
+          }
           return msg;
         });
+    pipelineMonitor.retryPublished(retryCount);
   }
 
   /** DLQ 재발행 */
   public void sendToDlq(Object payload, int retryCount, StockErrorType StockErrorType) {
-    rabbitTemplate.convertAndSend(
+    publisher.publish(
         props.getDlqExchange(),
         props.getDecreaseDead().getRoutingKey(),
         payload,
         msg -> {
           msg.getMessageProperties().setHeader(RETRY_COUNT_HEADER_NAME, retryCount);
           msg.getMessageProperties().setHeader(ERROR_TYPE_HEADER_NAME, StockErrorType);
+          if (payload instanceof StockDecreaseBatchEvent event) {
+            StockDecreaseMessageId.apply(msg, event);
+          }
           return msg;
         });
+    pipelineMonitor.deadLettered(StockErrorType);
+  }
+
+  /** 역직렬화할 수 없는 원본 메시지를 그대로 DLQ로 전달 */
+  public void sendRawToDlq(Message message, StockErrorType stockErrorType) {
+    message.getMessageProperties().setHeader(ERROR_TYPE_HEADER_NAME, stockErrorType);
+    publisher.send(props.getDlqExchange(), props.getDecreaseDead().getRoutingKey(), message);
+    pipelineMonitor.deadLettered(stockErrorType);
+  }
+
+  /**
+   * 재시도 대상이 아닌 메시지를 격리 Queue로 발행한다.
+   *
+   * @param payload 재고 감소 이벤트
+   * @param retryCount 현재 retryCount
+   * @param errorType 오류 유형
+   */
+  public void sendToQuarantine(Object payload, int retryCount, StockErrorType errorType) {
+    publisher.publish(
+        props.getDlqExchange(),
+        props.getDecreaseQuarantine().getRoutingKey(),
+        payload,
+        msg -> {
+          msg.getMessageProperties().setHeader(RETRY_COUNT_HEADER_NAME, retryCount);
+          msg.getMessageProperties().setHeader(ERROR_TYPE_HEADER_NAME, errorType);
+          if (payload instanceof StockDecreaseBatchEvent event) {
+            StockDecreaseMessageId.apply(msg, event);
+          }
+          return msg;
+        });
+    pipelineMonitor.quarantined(errorType);
+  }
+
+  /**
+   * 역직렬화할 수 없는 원본 메시지를 그대로 격리 Queue로 전달한다.
+   *
+   * @param message 원본 메시지
+   * @param errorType 오류 유형
+   */
+  public void sendRawToQuarantine(Message message, StockErrorType errorType) {
+    message.getMessageProperties().setHeader(ERROR_TYPE_HEADER_NAME, errorType);
+    publisher.send(
+        props.getDlqExchange(), props.getDecreaseQuarantine().getRoutingKey(), message);
+    pipelineMonitor.quarantined(errorType);
+  }
+
+  /**
+   * 재고 감소 처리 중 발생한 예외를 오류 유형으로 분류한다.
+   *
+   * <p>Listener 컨테이너나 트랜잭션 계층이 감싼 예외도 분류할 수 있도록 원인(cause) 체인을 바깥쪽부터 차례로 확인한다.
+   *
+   * <ul>
+   *   <li>{@link InsufficientStockException} → {@link StockErrorType#OUT_OF_STOCK}
+   *   <li>{@link MessageConversionException} → {@link StockErrorType#MALFORMED_MESSAGE}
+   *   <li>{@link ConstraintViolationException}, {@link IllegalArgumentException} → {@link
+   *       StockErrorType#INVALID_REQUEST}
+   *   <li>{@link NoSuchElementException} → {@link StockErrorType#MISSING_STOCK}
+   *   <li>{@link ConcurrencyFailureException}, {@link OptimisticLockException}, {@link
+   *       PessimisticLockException} → {@link StockErrorType#CONFLICT}
+   *   <li>일시적 DB/트랜잭션 장애 → {@link StockErrorType#TRANSIENT_FAILURE}
+   *   <li>그 밖의 예외 → {@link StockErrorType#UNKNOWN_ERROR}
+   * </ul>
+   *
+   * @param ex 발생한 예외
+   * @return 오류 유형
+   */
+  public static StockErrorType classify(Throwable ex) {
+    for (Throwable t = ex; t != null; t = t.getCause() == t ? null : t.getCause()) {
+      StockErrorType errorType = classifySingle(t);
+      if (errorType != null) {
+        return errorType;
+      }
+    }
+    return StockErrorType.UNKNOWN_ERROR;
+  }
+
+  private static StockErrorType classifySingle(Throwable t) {
+    if (t instanceof InsufficientStockException) {
+      return StockErrorType.OUT_OF_STOCK;
+    }
+    if (t instanceof MessageConversionException) {
+      return StockErrorType.MALFORMED_MESSAGE;
+    }
+    if (t instanceof ConstraintViolationException || t instanceof IllegalArgumentException) {
+      return StockErrorType.INVALID_REQUEST;
+    }
+    if (t instanceof NoSuchElementException) {
+      return StockErrorType.MISSING_STOCK;
+    }
+    if (t instanceof ConcurrencyFailureException
+        || t instanceof OptimisticLockException
+        || t instanceof PessimisticLockException) {
+      return StockErrorType.CONFLICT;
+    }
+    if (t instanceof TransientDataAccessException
+        || t instanceof RecoverableDataAccessException
+        || t instanceof DataAccessResourceFailureException
+        || t instanceof CannotCreateTransactionException
+        || t instanceof SQLTransientException) {
+      return StockErrorType.TRANSIENT_FAILURE;
+    }
+    return null;
+  }
+
+  /** 단계 지연 시간을 {@code [지연 × (1 - jitter), 지연]} 범위에서 무작위로 줄인 값을 반환한다. */
+  private static long jitteredDelayMillis(RabbitStockProperties.DecreaseRetry retry, int tier) {
+    long delay = retry.getTiers().get(tier).toMillis();
+    double jitter = Math.min(Math.max(retry.getJitter(), 0.0), 1.0);
+    return delay - (long) (delay * jitter * ThreadLocalRandom.current().nextDouble());
   }
 }
@@ -0,0 +1,326 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import com.athenhub.stockservice.global.infrastructure.logging.HotPathLogSampler;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import com.athenhub.stockservice.stock.application.hotspot.HotVariantSignal;
+import com.athenhub.stockservice.stock.application.hotspot.HotVariantTracker;
+import com.athenhub.stockservice.stock.application.metrics.DecreaseOutcome;
+import com.athenhub.stockservice.stock.application.metrics.DecreaseStage;
+import com.athenhub.stockservice.stock.application.metrics.StockDecreaseStageMetrics;
+import com.athenhub.stockservice.stock.application.service.StockDecreaseHandler;
+import com.athenhub.stockservice.stock.domain.exception.InsufficientStockException;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 감소 메시지 한 건을 처리하고, 실패 시 재시도 Queue 또는 DLQ로 분기하는 처리기이다.
+ *
+ * <p>단건 Listener({@link RabbitStockDecreaseEventListener})와 배치 Listener({@link
+ * RabbitStockDecreaseBatchListener})가 공통으로 사용한다. 처리기는 ACK를 수행하지 않으며, 처리 결과({@link Outcome})를 반환하면
+ * 호출한 Listener가 ACK 방식(단건/다건)을 결정한다.
+ *
+ * <ul>
+ *   <li><b>이미 처리한 메시지의 재전달</b>: {@link ConsumedMessageCache}에서 확인되면 DB를 조회하지 않고 {@link
+ *       Outcome#DUPLICATE}
+ *   <li><b>정상 처리 성공</b>: {@link Outcome#SUCCESS}
+ *   <li><b>재고 부족 예외</b>: 재시도가 의미 없으므로 즉시 DLQ로 전달
+ *   <li><b>재시도 불가 오류</b>(역직렬화 실패, 요청 값 검증 실패, 존재하지 않는 재고): 즉시 Quarantine Queue로 전달
+ *   <li><b>재시도 가능 오류</b>(락 충돌, 일시적 장애, 분류되지 않은 예외): retryCount가 오류 유형별 최대 재시도 횟수 이하일 경우 retry
+ *       queue로 재발행
+ *   <li><b>재시도 초과</b>: DLQ로 전달
+ * </ul>
+ *
+ * <p>오류 유형 분류는 {@link RetryManager#classify(Throwable)}가 담당한다. 처리 결과는 {@value #MESSAGES_METRIC}
+ * 카운터에 {@code result} 태그(성공 시 {@code SUCCESS}, 실패 시 오류 유형)로 기록되며, 적응형 동시성 조정이 락 충돌 비율을 계산할 때
+ * 사용한다.
+ *
+ * <p>처리기는 메시지마다 {@link StockDecreaseStageMetrics} 추적을 시작하고 처리 결과를 지정한다. ACK는 호출한 Listener가 수행하므로
+ * 추적 종료({@link StockDecreaseStageMetrics#finish()})도 Listener가 담당한다.
+ *
+ * <p>낙관적 락 충돌은 커밋 시점에 발생하여 {@link StockDecreaseHandler} 밖으로 전파되므로, 충돌한 주문의 상품 옵션은 처리기가
+ * {@link HotVariantTracker}에 기록한다.
+ *
+ * <p>메시지마다 남기는 {@code [RECEIVED]}, {@code [DUPLICATE]}, {@code [PROCESS]}, {@code [SUCCESS]} 로그는
+ * {@link HotPathLogSampler} 설정에 따라 샘플링 또는 요약되며, 실패 경로의 로그는 항상 출력한다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockDecreaseMessageProcessor {
+
+  /** 처리한 재고 감소 메시지 수 카운터 이름. */
+  public static final String MESSAGES_METRIC = "stock.decrease.messages";
+
+  /** 처리 성공을 나타내는 {@code result} 태그 값. */
+  public static final String SUCCESS_RESULT = "SUCCESS";
+
+  private final RetryManager retryManager;
+  private final StockDecreaseHandler handler;
+  private final Jackson2JsonMessageConverter messageConverter;
+  private final MeterRegistry meterRegistry;
+  private final ConsumedMessageCache consumedMessageCache;
+  private final StockDecreaseStageMetrics stageMetrics;
+  private final HotVariantTracker hotVariantTracker;
+  private final HotPathLogSampler hotPathLog;
+
+  /** 메시지 처리 결과. */
+  @Getter
+  @RequiredArgsConstructor
+  public enum Outcome {
+
+    /** 재고 감소 성공. */
+    SUCCESS("success"),
+
+    /** 이미 처리한 메시지의 재전달로 판단하여 건너뜀. */
+    DUPLICATE("duplicate_skipped"),
+
+    /** 재시도 Queue로 재발행. */
+    RETRY("retry_published"),
+
+    /** 재고 부족으로 DLQ 전달. */
+    DLQ_OUT_OF_STOCK("dlq_out_of_stock"),
+
+    /** 재시도 불가 오류로 Quarantine Queue 전달. */
+    QUARANTINED("quarantined"),
+
+    /** 재시도 초과로 DLQ 전달. */
+    DLQ_RETRY_EXCEEDED("dlq_retry_exceeded");
+
+    /** ACK 로그에 남기는 상태 값. */
+    private final String status;
+
+    /**
+     * 재고 감소가 반영되었거나 이미 반영된 메시지인지 여부를 반환한다.
+     *
+     * @return {@link #SUCCESS} 또는 {@link #DUPLICATE}이면 {@code true}
+     */
+    public boolean isSucceeded() {
+      return this == SUCCESS || this == DUPLICATE;
+    }
+  }
+
+  /**
+   * 원본 메시지를 역직렬화한 뒤 재고 감소 메시지 한 건을 처리한다.
+   *
+   * <p>역직렬화할 수 없는 메시지는 몇 번을 다시 받아도 실패하므로 원본 그대로 Quarantine Queue로 보낸다. 컨테이너가 역직렬화에 실패하여
+   * Reject하면 메인 Queue의 DLX를 통해 Retry Queue와 메인 Queue를 끝없이 오가게 되므로, Listener는 원본 메시지를 받아 이 메서드로
+   * 처리한다.
+   *
+   * @param rawMessage RabbitMQ 원본 메시지
+   * @return 처리 결과
+   */
+  public Outcome process(Message rawMessage) {
+    long receiveStart = System.nanoTime();
+    StockDecreaseBatchEvent event = convert(rawMessage);
+    long receiveNanos = System.nanoTime() - receiveStart;
+    if (event == null) {
+      recordFailure(StockErrorType.MALFORMED_MESSAGE);
+      retryManager.sendRawToQuarantine(rawMessage, StockErrorType.MALFORMED_MESSAGE);
+      return Outcome.QUARANTINED;
+    }
+    return process(event, rawMessage, receiveNanos);
+  }
+
+  /**
+   * 원본 메시지를 재고 감소 이벤트로 역직렬화한다.
+   *
+   * @param message 원본 메시지
+   * @return 재고 감소 이벤트, 역직렬화할 수 없으면 {@code null}
+   */
+  public StockDecreaseBatchEvent convert(Message message) {
+    message.getMessageProperties().setInferredArgumentType(StockDecreaseBatchEvent.class);
+    try {
+      return messageConverter.fromMessage(message) instanceof StockDecreaseBatchEvent event
+          ? event
+          : null;
+    } catch (MessageConversionException ex) {
+      log.error(
+          "[MALFORMED] queue={}, tag={}, cause={}",
+          message.getMessageProperties().getConsumerQueue(),
+          message.getMessageProperties().getDeliveryTag(),
+          ex.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * 재고 감소 메시지 한 건을 처리한다.
+   *
+   * <p>재시도/DLQ 발행 자체가 실패한 경우에는 예외가 전파되며, 이때 원본 메시지는 ACK하면 안 된다.
+   *
+   * @param event 재고 감소 요청 이벤트
+   * @param rawMessage RabbitMQ 원본 메시지 (retryCount 헤더 조회용)
+   * @return 처리 결과
+   */
+  public Outcome process(StockDecreaseBatchEvent event, Message rawMessage) {
+    return process(event, rawMessage, 0L);
+  }
+
+  private Outcome process(StockDecreaseBatchEvent event, Message rawMessage, long receiveNanos) {
+    stageMetrics.begin(event.stockDecreaseRequests().size());
+    stageMetrics.record(DecreaseStage.RECEIVE, receiveNanos);
+
+    final int retry = retryManager.getRetryCount(rawMessage);
+    final String queueName = rawMessage.getMessageProperties().getConsumerQueue();
+
+    if (hotPathLog.shouldLog("stock.decrease.received")) {
+      log.info("[RECEIVED] queue={}, retry={}, orderId={}", queueName, retry, event.orderId());
+    }
+
+    if (stageMetrics.time(
+        DecreaseStage.IDEMPOTENCY_CHECK, () -> consumedMessageCache.isDuplicate(rawMessage))) {
+      if (hotPathLog.shouldLog("stock.decrease.duplicate")) {
+        log.info("[DUPLICATE] orderId={}", event.orderId());
+      }
+      stageMetrics.outcome(DecreaseOutcome.DUPLICATE);
+      return Outcome.DUPLICATE;
+    }
+
+    try {
+      processDecrease(event);
+      consumedMessageCache.remember(rawMessage);
+      recordSuccess(1);
+      stageMetrics.outcome(DecreaseOutcome.SUCCESS);
+      return Outcome.SUCCESS;
+
+    } catch (InsufficientStockException ex) {
+      return handleOutOfStock(event, retry, ex);
+
+    } catch (Exception ex) {
+      return handleRetryOrDlq(event, retry, ex);
+    }
+  }
+
+  /**
+   * 처리에 성공한 메시지 수를 기록한다.
+   *
+   * <p>배치 Listener가 여러 메시지를 한 트랜잭션으로 처리한 경우에도 호출한다.
+   *
+   * @param count 성공한 메시지 수
+   */
+  public void recordSuccess(int count) {
+    meterRegistry.counter(MESSAGES_METRIC, "result", SUCCESS_RESULT).increment(count);
+  }
+
+  private void recordFailure(StockErrorType errorType) {
+    meterRegistry.counter(MESSAGES_METRIC, "result", errorType.name()).increment();
+  }
+
+  /**
+   * 재고 감소 비즈니스 로직을 처리한다.
+   *
+   * <p>handler.decreaseAll() 실행 과정에서 예외 발생 시 상위에서 retry 또는 DLQ 전략을 수행한다.
+   *
+   * @param event 재고 감소 요청 이벤트.
+   */
+  private void processDecrease(StockDecreaseBatchEvent event) {
+    if (hotPathLog.shouldLog("stock.decrease.process")) {
+      log.info(
+          "[PROCESS] orderId={}, items={}", event.orderId(), event.stockDecreaseRequests().size());
+    }
+
+    handler.decreaseAll(event.orderId(), event.stockDecreaseRequests());
+
+    if (hotPathLog.shouldLog("stock.decrease.success")) {
+      log.info("[SUCCESS] orderId={}", event.orderId());
+    }
+  }
+
+  /**
+   * 재고 부족 예외가 발생한 경우 수행되는 처리이다.
+   *
+   * <p>재고 부족은 재시도가 의미 없으므로 즉시 DLQ로 전달한다.
+   *
+   * @param event 처리 중인 이벤트.
+   * @param retry 현재 retryCount.
+   * @param ex 예외 정보.
+   * @return 처리 결과
+   */
+  private Outcome handleOutOfStock(
+      StockDecreaseBatchEvent event, int retry, InsufficientStockException ex) {
+
+    log.error("[OUT_OF_STOCK] orderId={}, reason={}", event.orderId(), ex.getMessage());
+
+    recordFailure(StockErrorType.OUT_OF_STOCK);
+    retryManager.sendToDlq(event, retry, StockErrorType.OUT_OF_STOCK);
+    stageMetrics.outcome(DecreaseOutcome.OUT_OF_STOCK);
+    return Outcome.DLQ_OUT_OF_STOCK;
+  }
+
+  /**
+   * 일반 예외 발생 시 Quarantine, retry 또는 DLQ로 처리 방향을 결정한다.
+   *
+   * <p>재시도 대상이 아닌 오류는 즉시 Quarantine Queue로 보낸다. 재시도 대상이면 retryCount가 오류 유형의 최대 재시도 횟수 이하일 때
+   * retry queue로 재발행하고, 초과 시 DLQ로 이동한다.
+   *
+   * @param event 이벤트 페이로드.
+   * @param retry 현재 retryCount.
+   * @param ex 발생한 예외.
+   * @return 처리 결과
+   */
+  private Outcome handleRetryOrDlq(StockDecreaseBatchEvent event, int retry, Exception ex) {
+
+    StockErrorType errorType = RetryManager.classify(ex);
+    recordFailure(errorType);
+    if (errorType == StockErrorType.CONFLICT) {
+      event.stockDecreaseRequests().stream()
+          .map(StockDecreaseRequest::variantId)
+          .distinct()
+          .forEach(variantId -> hotVariantTracker.record(HotVariantSignal.CONFLICT, variantId));
+    }
+
+    if (errorType == StockErrorType.OUT_OF_STOCK) {
+      log.error("[OUT_OF_STOCK] orderId={}, reason={}", event.orderId(), ex.getMessage());
+      retryManager.sendToDlq(event, retry, StockErrorType.OUT_OF_STOCK);
+      stageMetrics.outcome(DecreaseOutcome.OUT_OF_STOCK);
+      return Outcome.DLQ_OUT_OF_STOCK;
+    }
+
+    if (!errorType.isRetryable()) {
+      log.error(
+          "[QUARANTINE] orderId={}, errorType={}, retry={}, cause={}",
+          event.orderId(),
+          errorType,
+          retry,
+          ex.getMessage());
+      retryManager.sendToQuarantine(event, retry, errorType);
+      stageMetrics.outcome(DecreaseOutcome.QUARANTINED);
+      return Outcome.QUARANTINED;
+    }
+
+    log.error(
+        "[ERROR] orderId={}, retry={}, cause={}", event.orderId(), retry, ex.getMessage(), ex);
+
+    int retryMax = retryManager.maxRetries(errorType);
+    int nextRetry = retry + 1;
+
+    if (nextRetry > retryMax) {
+      log.warn(
+          "[DLQ] reason=retry_exceeded, errorType={}, retryMax={}, orderId={}",
+          errorType,
+          retryMax,
+          event.orderId());
+      retryManager.sendToDlq(event, retry, StockErrorType.RETRY_EXCEEDED);
+      stageMetrics.outcome(DecreaseOutcome.DLQ);
+      return Outcome.DLQ_RETRY_EXCEEDED;
+    }
+
+    log.warn(
+        "[RETRY] orderId={}, errorType={}, nextRetry={}", event.orderId(), errorType, nextRetry);
+    retryManager.sendToRetry(event, nextRetry, errorType);
+    stageMetrics.outcome(
+        errorType == StockErrorType.CONFLICT ? DecreaseOutcome.CONFLICT : DecreaseOutcome.RETRY);
+    return Outcome.RETRY;
+  }
+}
@@ -0,0 +1,153 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import com.athenhub.stockservice.stock.application.dto.StockReservationResult;
+import com.athenhub.stockservice.stock.application.dto.StockReservationResult.Status;
+import com.athenhub.stockservice.stock.application.service.StockReservationService;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.StockReservationRequest;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import com.rabbitmq.client.Channel;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.AmqpHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+
+/**
+ * 동기 재고 예약 요청({@link StockReservationRequest})을 처리하고 결과를 요청자에게 응답하는 RPC 소비자(Consumer)이다.
+ *
+ * <p>요청자는 {@code replyTo}를 AMQP Direct Reply-to({@code amq.rabbitmq.reply-to})로 지정하여
+ * 발행한다. Listener가 반환한 {@link StockReservationResult}는 Spring AMQP가 {@code replyTo}와 {@code
+ * correlationId}를 사용해 요청자에게 바로 전송하므로, 응답용 Queue를 선언하거나 성공 이벤트를 기다릴 필요가 없다.
+ *
+ * <p>응답 기한은 {@code x-deadline} 헤더(epoch millis)로 받으며, 없으면 메시지 발행 시각({@code timestamp} 속성)부터
+ * {@code rabbit.stock.reserve.default-timeout}을 적용하여 Queue에서 기다린 시간도 기한에 포함한다. 발행 시각이 없으면 수신 시각을
+ * 기준으로 하며, 어느 경우든 {@code rabbit.stock.reserve.max-timeout}을 넘지 않도록 제한한다.
+ *
+ * <p>재시도/DLQ 분기는 두지 않는다. 어떤 결과든 응답 후 ACK하며, 예외도 {@link Status#FAILED} 응답으로 변환한다. 응답을
+ * 받지 못한 요청자는 같은 주문 ID로 다시 요청하면 되고, 이미 처리된 주문은 {@link Status#ALREADY_RESERVED}로 응답된다.
+ *
+ * <p>처리 현황은 {@link StockPipelineMonitor}에 {@link StockPipelineMonitor#RESERVATION_RPC_LISTENER}로
+ * 기록하며, 이번 요청으로 재고를 차감한 경우({@link Status#RESERVED})만 처리 성공으로 본다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationRpcListener {
+
+  /** 응답 기한(epoch millis)을 전달하는 헤더 이름. */
+  public static final String DEADLINE_HEADER = "x-deadline";
+
+  private final StockReservationService stockReservationService;
+  private final RabbitStockProperties stockProperties;
+  private final MeterRegistry meterRegistry;
+  private final StockPipelineMonitor pipelineMonitor;
+
+  /**
+   * 재고 예약 요청을 처리하고 결과를 응답한다.
+   *
+   * @param request 재고 예약 요청
+   * @param rawMessage RabbitMQ 원본 메시지
+   * @param channel 수동 ACK 처리를 위한 채널
+   * @param tag 메시지의 delivery tag
+   * @return 요청자에게 응답할 예약 결과
+   * @throws IOException ACK 처리 중 오류가 발생할 수 있다.
+   */
+  @RabbitListener(
+      queues = "${rabbit.stock.reserve.queue}",
+      containerFactory = "stockReserveListenerFactory")
+  public StockReservationResult reserve(
+      StockReservationRequest request,
+      Message rawMessage,
+      Channel channel,
+      @Header(AmqpHeaders.DELIVERY_TAG) long tag)
+      throws IOException {
+
+    long startedAt = System.nanoTime();
+    Instant deadline = deadlineOf(rawMessage.getMessageProperties());
+
+    StockReservationResult result;
+    pipelineMonitor.enter(StockPipelineMonitor.RESERVATION_RPC_LISTENER, 1);
+    try {
+      result =
+          stockReservationService.reserve(
+              request.orderId(), request.stockDecreaseRequests(), deadline);
+      if (result.status() == Status.RESERVED) {
+        pipelineMonitor.succeeded(StockPipelineMonitor.RESERVATION_RPC_LISTENER);
+      }
+    } catch (RuntimeException e) {
+      log.error("[RESERVE_ERROR] orderId={} cause={}", request.orderId(), e.getMessage(), e);
+      result = StockReservationResult.failed(request.orderId(), Status.FAILED, e.getMessage());
+    } finally {
+      pipelineMonitor.exit(StockPipelineMonitor.RESERVATION_RPC_LISTENER, 1);
+    }
+
+    channel.basicAck(tag, false);
+
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+    Timer.builder("stock.reservation.latency")
+        .tag("status", result.status().name())
+        .register(meterRegistry)
+        .record(elapsed);
+    if (Instant.now().isAfter(deadline)) {
+      meterRegistry.counter("stock.reservation.deadline.missed").increment();
+      log.warn(
+          "[RESERVE_LATE] orderId={} status={} elapsedMs={}",
+          request.orderId(),
+          result.status(),
+          elapsed.toMillis());
+    }
+    return result;
+  }
+
+  /**
+   * 요청의 응답 기한을 계산한다.
+   *
+   * @param properties 메시지 속성
+   * @return 응답 기한
+   */
+  private Instant deadlineOf(MessageProperties properties) {
+    RabbitStockProperties.Reserve reserve = stockProperties.getReserve();
+    Instant now = Instant.now();
+    Instant max = now.plus(reserve.getMaxTimeout());
+
+    Object header = properties.getHeader(DEADLINE_HEADER);
+    Instant requested;
+    try {
+      requested =
+          header == null
+              ? sentAt(properties, now).plus(reserve.getDefaultTimeout())
+              : Instant.ofEpochMilli(Long.parseLong(header.toString()));
+    } catch (NumberFormatException e) {
+      requested = sentAt(properties, now).plus(reserve.getDefaultTimeout());
+    }
+    return requested.isAfter(max) ? max : requested;
+  }
+
+  /**
+   * 요청이 발행된 시각을 반환한다. 발행 시각이 없거나 수신 시각보다 늦으면(시계 차이) 수신 시각을 사용한다.
+   *
+   * @param properties 메시지 속성
+   * @param receivedAt 수신 시각
+   * @return 요청 발행 시각
+   */
+  private static Instant sentAt(MessageProperties properties, Instant receivedAt) {
+    Date timestamp = properties.getTimestamp();
+    if (timestamp == null || timestamp.toInstant().isAfter(receivedAt)) {
+      return receivedAt;
+    }
+    return timestamp.toInstant();
+  }
+}
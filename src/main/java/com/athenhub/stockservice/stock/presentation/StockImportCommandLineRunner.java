@@ -0,0 +1,93 @@
+package com.athenhub.stockservice.stock.presentation;
+
+import com.athenhub.stockservice.global.infrastructure.web.ForwardedHeaders;
+import com.athenhub.stockservice.stock.application.dto.StockImportResult;
+import com.athenhub.stockservice.stock.application.importer.StockImportProperties;
+import com.athenhub.stockservice.stock.application.service.StockImportService;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * 애플리케이션 기동 시 지정된 재고 파일을 가져오는 CLI 실행기이다.
+ *
+ * <p>{@code stock.import.cli.file}이 지정된 경우에만 활성화된다. 예:
+ *
+ * <pre>
+ * java -jar stock-service.jar --stock.import.cli.file=/data/stock.csv \
+ *     --stock.import.cli.job-id=initial-load --stock.import.cli.exit-on-complete=true \
+ *     --stock.import.cli.member-id=... --stock.import.cli.vendor-id=... \
+ *     --stock.import.cli.authorization="Bearer ..."
+ * </pre>
+ *
+ * <p>CLI 가져오기도 API와 같은 소속·상품 접근 권한·옵션 일관성 검증을 거치므로, 가져오기를 수행할 사용자와 소속을 설정해야 한다. CLI 실행에는
+ * HTTP 요청이 없으므로 회원/상품 서비스 호출에 전달할 자격 증명({@code stock.import.cli.authorization})과 사용자 ID를 {@link
+ * ForwardedHeaders}로 명시해 전달한다.
+ *
+ * <p>같은 작업 식별자로 다시 실행하면 마지막으로 커밋된 청크 이후부터 재개된다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "stock.import.cli", name = "file")
+public class StockImportCommandLineRunner implements ApplicationRunner {
+
+  private final StockImportService stockImportService;
+  private final StockImportProperties importProperties;
+  private final ApplicationContext applicationContext;
+
+  /**
+   * 설정된 재고 파일을 가져온다.
+   *
+   * @param args 애플리케이션 기동 인자
+   */
+  @Override
+  public void run(ApplicationArguments args) {
+    StockImportProperties.Cli cli = importProperties.getCli();
+    Path file = cli.getFile();
+    String jobId = cli.getJobId() != null ? cli.getJobId() : file.getFileName().toString();
+
+    int exitCode = 0;
+    try {
+      if (cli.getMemberId() == null) {
+        throw new IllegalStateException("stock.import.cli.member-id must be set");
+      }
+      AccessContext accessContext =
+          new AccessContext(cli.getMemberId(), cli.getHubId(), cli.getVendorId());
+      ForwardedHeaders headers =
+          ForwardedHeaders.of(
+              Map.of(
+                  ForwardedHeaders.AUTHORIZATION,
+                  Objects.requireNonNullElse(cli.getAuthorization(), ""),
+                  ForwardedHeaders.USER_ID,
+                  cli.getMemberId().toString()));
+      headers.run(
+          () -> {
+            stockImportService.claim(accessContext, jobId, file, file, cli.getFormat());
+            StockImportResult result =
+                stockImportService.importFile(accessContext, jobId, file, cli.getFormat());
+            log.info("[STOCK_IMPORT_CLI_FINISHED] result={}", result);
+          });
+    } catch (RuntimeException e) {
+      log.error("[STOCK_IMPORT_CLI_FAILED] jobId={} file={}", jobId, file, e);
+      exitCode = 1;
+    }
+
+    if (cli.isExitOnComplete()) {
+      int code = exitCode;
+      System.exit(SpringApplication.exit(applicationContext, () -> code));
+    }
+  }
+}
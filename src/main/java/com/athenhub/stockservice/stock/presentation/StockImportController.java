@@ -0,0 +1,95 @@
+package com.athenhub.stockservice.stock.presentation;
+
+import com.athenhub.commonmvc.security.AuthenticatedUser;
+import com.athenhub.stockservice.stock.application.dto.StockImportAcceptedResponse;
+import com.athenhub.stockservice.stock.application.importer.StockImportFormat;
+import com.athenhub.stockservice.stock.application.importer.StockImportProperties;
+import com.athenhub.stockservice.stock.application.service.StockImportLauncher;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import jakarta.validation.constraints.Pattern;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * 재고 파일 가져오기(Import) 요청을 처리하는 컨트롤러이다.
+ *
+ * <p>업로드된 파일을 디스크에 스트리밍으로 저장한 뒤 {@link StockImportLauncher}를 통해 백그라운드에서 가져오기를 시작하고, 즉시 작업 식별자를
+ * 반환한다. 가져오기는 단건/대량 재고 등록과 같은 소속·상품 접근 권한·옵션 일관성 검증을 거친다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@Slf4j
+@RequestMapping("/api/v1/stocks/import")
+@RestController
+@RequiredArgsConstructor
+public class StockImportController {
+
+  private final StockImportLauncher stockImportLauncher;
+  private final StockImportProperties importProperties;
+
+  /**
+   * 재고 파일을 업로드하고 가져오기를 시작한다.
+   *
+   * <p>같은 작업 식별자로 다시 업로드하면 마지막으로 커밋된 위치부터 재개된다. 업로드 파일은 임시 파일로 먼저 저장되며, 작업 선점(소속, 소유자,
+   * 파일 지문, 실행 중 여부 확인)에 성공한 경우에만 작업 파일 위치로 옮겨진다. 다른 사용자의 작업, 이전과 다른 파일, 실행 중인 작업이면 거부된다.
+   *
+   * @param authenticatedUser 인증된 사용자 정보
+   * @param hubId 재고를 등록할 허브 ID
+   * @param vendorId 재고를 등록할 벤더 ID
+   * @param file 재고 파일 (CSV 또는 NDJSON)
+   * @param format 파일 형식
+   * @param jobId 작업 식별자 (미지정 시 새로 발급)
+   * @return 접수된 작업 식별자
+   * @throws IOException 업로드 파일 저장에 실패한 경우
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+  @ResponseStatus(HttpStatus.ACCEPTED)
+  public StockImportAcceptedResponse importFile(
+      @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+      @RequestPart("file") MultipartFile file,
+      @RequestParam(required = false) UUID hubId,
+      @RequestParam(required = false) UUID vendorId,
+      @RequestParam(defaultValue = "CSV") StockImportFormat format,
+      @RequestParam(required = false) @Pattern(regexp = "[A-Za-z0-9._-]{1,64}") String jobId)
+      throws IOException {
+
+    String resolvedJobId = jobId != null ? jobId : UUID.randomUUID().toString();
+
+    Path uploadDir = Files.createDirectories(importProperties.getUploadDir());
+    Path target = uploadDir.resolve(resolvedJobId + "." + format.name().toLowerCase());
+    Path upload = Files.createTempFile(uploadDir, resolvedJobId + "-", ".upload");
+    try {
+      file.transferTo(upload);
+    } catch (IOException | RuntimeException e) {
+      Files.deleteIfExists(upload);
+      throw e;
+    }
+
+    AccessContext context = new AccessContext(authenticatedUser.id(), hubId, vendorId);
+    stockImportLauncher.launch(context, resolvedJobId, upload, target, format);
+
+    log.info(
+        "[STOCK_IMPORT_ACCEPTED] jobId={} memberId={} size={}",
+        resolvedJobId,
+        authenticatedUser.id(),
+        file.getSize());
+    return new StockImportAcceptedResponse(resolvedJobId);
+  }
+}
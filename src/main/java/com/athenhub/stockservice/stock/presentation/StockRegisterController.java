@@ -1,12 +1,15 @@
 package com.athenhub.stockservice.stock.presentation;
 
 import com.athenhub.commonmvc.security.AuthenticatedUser;
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterResponse;
 import com.athenhub.stockservice.stock.application.dto.RegisterResponse;
 import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
 import com.athenhub.stockservice.stock.application.service.StockRegistrationFacade;
 import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.presentation.dto.BulkRegisterStockRequest;
 import com.athenhub.stockservice.stock.presentation.dto.RegisterStockRequest;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -54,6 +57,31 @@ public class StockRegisterController {
     return stockRegistrationFacade.register(context, command);
   }
 
+  /**
+   * 여러 상품의 재고를 한 번에 등록한다.
+   *
+   * <p>요청에 포함된 상품별로 {@link StockInitializeCommand}를 생성하여 대량 등록을 수행하며, 상품별 성공/실패 결과를 응답으로 반환한다.
+   *
+   * @param authenticatedUser 인증된 사용자 정보
+   * @param request 대량 재고 등록 요청 DTO
+   * @return 상품별 처리 결과를 포함한 대량 등록 응답
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @PostMapping("/bulk")
+  public BulkRegisterResponse registerAll(
+      @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+      @RequestBody @Valid BulkRegisterStockRequest request) {
+
+    AccessContext context =
+        new AccessContext(authenticatedUser.id(), request.hubId(), request.vendorId());
+
+    List<StockInitializeCommand> commands =
+        request.products().stream().map(StockRegisterController::toStockInitializeCommand).toList();
+
+    return stockRegistrationFacade.registerAll(context, commands);
+  }
+
   /**
    * {@link RegisterStockRequest}를 {@link StockInitializeCommand}로 변환한다.
    *
@@ -72,4 +100,22 @@ public class StockRegisterController {
             .map(it -> new StockInitializeCommand.ProductVariant(it.id(), it.quantity()))
             .toList());
   }
+
+  /**
+   * {@link BulkRegisterStockRequest.Product}를 {@link StockInitializeCommand}로 변환한다.
+   *
+   * @param product 대량 재고 등록 요청의 개별 상품
+   * @return 재고 초기화 커맨드
+   * @author 김지원
+   * @since 1.0.0
+   */
+  private static StockInitializeCommand toStockInitializeCommand(
+      BulkRegisterStockRequest.Product product) {
+
+    return new StockInitializeCommand(
+        product.productId(),
+        product.productVariants().stream()
+            .map(it -> new StockInitializeCommand.ProductVariant(it.id(), it.quantity()))
+            .toList());
+  }
 }
@@ -0,0 +1,59 @@
+package com.athenhub.stockservice.stock.presentation;
+
+import com.athenhub.commonmvc.security.AuthenticatedUser;
+import com.athenhub.stockservice.stock.application.dto.RestockCommand;
+import com.athenhub.stockservice.stock.application.dto.RestockResponse;
+import com.athenhub.stockservice.stock.application.service.StockRestockFacade;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.presentation.dto.RestockRequest;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 재입고(입고 전표) 요청을 처리하는 컨트롤러이다.
+ *
+ * <p>같은 전표 ID로 다시 요청하면 재고를 변경하지 않고 {@code applied=false} 응답을 반환하므로, 클라이언트는 안전하게 재시도할 수 있다.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@RequestMapping("/api/v1/stocks/restock")
+@RestController
+@RequiredArgsConstructor
+public class StockRestockController {
+
+  private final StockRestockFacade stockRestockFacade;
+
+  /**
+   * 입고 전표를 재고에 반영한다.
+   *
+   * @param authenticatedUser 인증된 사용자 정보
+   * @param request 재입고 요청 DTO
+   * @return 재입고 처리 결과
+   * @author 김지원
+   * @since 1.0.0
+   */
+  @PostMapping
+  public RestockResponse restock(
+      @AuthenticationPrincipal AuthenticatedUser authenticatedUser,
+      @RequestBody @Valid RestockRequest request) {
+
+    AccessContext context =
+        new AccessContext(authenticatedUser.id(), request.hubId(), request.vendorId());
+
+    return stockRestockFacade.restock(context, toRestockCommand(request));
+  }
+
+  private static RestockCommand toRestockCommand(RestockRequest request) {
+    return new RestockCommand(
+        request.receiptId(),
+        request.lines().stream()
+            .map(line -> new RestockCommand.Line(line.variantId(), line.quantity()))
+            .toList());
+  }
+}
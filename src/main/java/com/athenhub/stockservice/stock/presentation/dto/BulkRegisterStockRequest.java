@@ -0,0 +1,51 @@
+package com.athenhub.stockservice.stock.presentation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 상품의 재고를 한 번에 등록하기 위한 대량 등록 요청 DTO이다.
+ *
+ * <p>업체가 카탈로그 단위로 수천 개의 상품을 온보딩할 때 사용되며, 상품별 요청 구조는 단건 등록 요청({@link
+ * RegisterStockRequest})과 동일하다.
+ *
+ * @param hubId 재고를 등록할 허브 ID
+ * @param vendorId 재고를 등록할 벤더 ID
+ * @param products 재고를 등록할 상품 목록 (최대 {@value #MAX_PRODUCTS}개)
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record BulkRegisterStockRequest(
+
+    /* 재고를 등록할 허브 ID. */
+    UUID hubId,
+
+    /* 재고를 등록할 벤더 ID. */
+    UUID vendorId,
+
+    /* 재고를 등록할 상품 목록. */
+    @NotEmpty @Size(max = MAX_PRODUCTS) List<@Valid Product> products) {
+
+  /** 한 번의 요청으로 등록할 수 있는 최대 상품 수. */
+  public static final int MAX_PRODUCTS = 2000;
+
+  /**
+   * 재고를 등록할 개별 상품 정보를 나타낸다.
+   *
+   * @param productId 재고를 등록할 상품 ID
+   * @param productVariants 상품 옵션(Variant) 목록과 초기 재고 수량
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public record Product(
+
+      /* 재고를 등록할 상품 ID. */
+      @NotNull UUID productId,
+
+      /* 상품 옵션(Variant) 및 초기 재고 수량 목록. */
+      @NotEmpty List<RegisterStockRequest.@Valid ProductVariant> productVariants) {}
+}
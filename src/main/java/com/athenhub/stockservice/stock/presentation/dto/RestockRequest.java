@@ -0,0 +1,50 @@
+package com.athenhub.stockservice.stock.presentation.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 재입고(입고 전표) 요청을 위한 DTO이다.
+ *
+ * @param hubId 입고 대상 허브 ID
+ * @param vendorId 입고 대상 벤더 ID
+ * @param receiptId 입고 전표 ID (멱등성 키)
+ * @param lines 입고 라인 목록
+ * @author 김지원
+ * @since 1.0.0
+ */
+public record RestockRequest(
+
+    /* 입고 대상 허브 ID. */
+    UUID hubId,
+
+    /* 입고 대상 벤더 ID. */
+    UUID vendorId,
+
+    /* 입고 전표 ID. */
+    @NotNull UUID receiptId,
+
+    /* 입고 라인 목록. */
+    @NotEmpty @Size(max = 5000) List<@Valid Line> lines) {
+
+  /**
+   * 입고 전표의 개별 라인을 나타낸다.
+   *
+   * @param variantId 상품 옵션(Variant) ID
+   * @param quantity 입고 수량 (1 이상)
+   * @author 김지원
+   * @since 1.0.0
+   */
+  public record Line(
+
+      /* 상품 옵션(Variant) ID. */
+      @NotNull UUID variantId,
+
+      /* 입고 수량 (1 이상). */
+      @Min(1) int quantity) {}
+}
@@ -0,0 +1,66 @@
+package com.athenhub.stockservice.global.infrastructure.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HotPathLogSamplerTest {
+
+  private static final String EVENT = "stock.decrease.ack";
+
+  private final HotPathLogProperties properties = new HotPathLogProperties();
+
+  @Test
+  @DisplayName("FULL 모드에서는 모든 성공 로그를 출력하고 건수를 누적하지 않는다.")
+  void fullModeLogsEverything() {
+    // given
+    properties.setMode(HotPathLogProperties.Mode.FULL);
+    HotPathLogSampler sampler = new HotPathLogSampler(properties);
+
+    // when
+    long logged = countLogged(sampler, 10);
+
+    // then
+    assertThat(logged).isEqualTo(10);
+    assertThat(sampler.drain()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("SAMPLED 모드에서는 sample-rate건마다 1건만 출력하고 전체 건수를 요약한다.")
+  void sampledModeLogsEveryNth() {
+    // given
+    properties.setMode(HotPathLogProperties.Mode.SAMPLED);
+    properties.setSampleRate(10);
+    HotPathLogSampler sampler = new HotPathLogSampler(properties);
+
+    // when
+    long logged = countLogged(sampler, 25);
+
+    // then
+    assertThat(logged).isEqualTo(3);
+    assertThat(sampler.drain()).containsEntry(EVENT, 25L);
+  }
+
+  @Test
+  @DisplayName("SUMMARY 모드에서는 성공 로그를 출력하지 않고, 요약한 건수는 꺼낸 뒤 초기화된다.")
+  void summaryModeOnlyAggregates() {
+    // given
+    properties.setMode(HotPathLogProperties.Mode.SUMMARY);
+    HotPathLogSampler sampler = new HotPathLogSampler(properties);
+
+    // when
+    long logged = countLogged(sampler, 5);
+    sampler.shouldLog("order.created.ack");
+
+    // then
+    assertThat(logged).isZero();
+    assertThat(sampler.drain()).containsEntry(EVENT, 5L).containsEntry("order.created.ack", 1L);
+    assertThat(sampler.drain()).isEmpty();
+  }
+
+  private static long countLogged(HotPathLogSampler sampler, int events) {
+    return IntStream.range(0, events).filter(i -> sampler.shouldLog(EVENT)).count();
+  }
+}
@@ -0,0 +1,57 @@
+package com.athenhub.stockservice.global.infrastructure.thread;
+
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadPinningMonitorTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private VirtualThreadPinningMonitor monitor;
+
+  @AfterEach
+  void tearDown() {
+    if (monitor != null) {
+      monitor.stop();
+    }
+  }
+
+  @Test
+  @DisplayName("synchronized 블록 안에서 블로킹된 가상 스레드는 Pinning으로 기록된다.")
+  void recordsPinnedVirtualThread() throws InterruptedException {
+    // given
+    VirtualThreadProperties.Pinning properties = new VirtualThreadProperties.Pinning();
+    properties.setThreshold(Duration.ofMillis(10));
+    monitor = new VirtualThreadPinningMonitor(properties, meterRegistry);
+    monitor.start();
+    Object lock = new Object();
+
+    // when
+    Thread.ofVirtual()
+        .start(
+            () -> {
+              synchronized (lock) {
+                sleep(Duration.ofMillis(50));
+              }
+            })
+        .join();
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(10))
+        .until(() -> meterRegistry.counter("jvm.threads.virtual.pinned").count() >= 1);
+  }
+
+  private static void sleep(Duration duration) {
+    try {
+      Thread.sleep(duration);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
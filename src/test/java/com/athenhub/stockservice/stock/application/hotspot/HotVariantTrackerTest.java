@@ -0,0 +1,144 @@
+package com.athenhub.stockservice.stock.application.hotspot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.application.hotspot.HotVariantTracker.HotVariant;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HotVariantTrackerTest {
+
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+  @Test
+  @DisplayName("Space-Saving 스케치는 용량을 넘는 키가 들어와도 자주 등장한 키를 놓치지 않는다.")
+  void sketchKeepsHeavyHitters() {
+    // given
+    SpaceSavingSketch<String> sketch = new SpaceSavingSketch<>(3);
+
+    // when
+    for (int i = 0; i < 100; i++) {
+      sketch.offer("hot", 1);
+      sketch.offer("cold-" + i, 1);
+    }
+
+    // then
+    assertThat(sketch.size()).isEqualTo(3);
+    SpaceSavingSketch.Estimate<String> top = sketch.top(1).get(0);
+    assertThat(top.key()).isEqualTo("hot");
+    assertThat(top.count()).isGreaterThanOrEqualTo(100);
+    assertThat(top.count() - top.error()).isLessThanOrEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("신호별로 감소 횟수가 많은 상품 옵션 순서대로 반환한다.")
+  void topBySignal() {
+    // given
+    HotVariantTracker tracker = new HotVariantTracker(properties(8), clock);
+    UUID hot = UUID.randomUUID();
+    UUID warm = UUID.randomUUID();
+    record(tracker, HotVariantSignal.DECREMENT, hot, 5);
+    record(tracker, HotVariantSignal.DECREMENT, warm, 2);
+    record(tracker, HotVariantSignal.CONFLICT, warm, 3);
+
+    // when
+    List<HotVariant> decrements =
+        tracker.top(HotVariantSignal.DECREMENT, Duration.ofMinutes(5), 10);
+    List<HotVariant> conflicts = tracker.top(HotVariantSignal.CONFLICT, Duration.ofMinutes(5), 10);
+
+    // then
+    assertThat(decrements).extracting(HotVariant::variantId).containsExactly(hot, warm);
+    assertThat(decrements.get(0).count()).isEqualTo(5);
+    assertThat(conflicts).extracting(HotVariant::variantId).containsExactly(warm);
+    assertThat(tracker.estimate(HotVariantSignal.CONFLICT, warm, Duration.ofMinutes(5)))
+        .isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("조회 구간을 벗어난 버킷의 값은 합산하지 않는다.")
+  void slidingWindow() {
+    // given
+    HotVariantTracker tracker = new HotVariantTracker(properties(8), clock);
+    UUID variant = UUID.randomUUID();
+    record(tracker, HotVariantSignal.DECREMENT, variant, 4);
+    clock.advance(Duration.ofMinutes(3));
+    record(tracker, HotVariantSignal.DECREMENT, variant, 1);
+
+    // when
+    long recent = tracker.estimate(HotVariantSignal.DECREMENT, variant, Duration.ofMinutes(1));
+    long wide = tracker.estimate(HotVariantSignal.DECREMENT, variant, Duration.ofMinutes(5));
+
+    // then
+    assertThat(recent).isEqualTo(1);
+    assertThat(wide).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("링을 한 바퀴 돈 버킷은 이전 값을 비우고 다시 사용한다.")
+  void ringBucketIsReused() {
+    // given
+    HotVariantTracker tracker = new HotVariantTracker(properties(8), clock);
+    UUID variant = UUID.randomUUID();
+    record(tracker, HotVariantSignal.DECREMENT, variant, 4);
+
+    // when
+    clock.advance(Duration.ofMinutes(10));
+    record(tracker, HotVariantSignal.DECREMENT, variant, 1);
+
+    // then
+    assertThat(tracker.top(HotVariantSignal.DECREMENT, tracker.maxWindow(), 10))
+        .singleElement()
+        .extracting(HotVariant::count)
+        .isEqualTo(1L);
+  }
+
+  private static HotVariantProperties properties(int capacity) {
+    HotVariantProperties props = new HotVariantProperties();
+    props.setCapacity(capacity);
+    props.setBucket(Duration.ofMinutes(1));
+    props.setBuckets(10);
+    return props;
+  }
+
+  private static void record(
+      HotVariantTracker tracker, HotVariantSignal signal, UUID variantId, int times) {
+    for (int i = 0; i < times; i++) {
+      tracker.record(signal, variantId);
+    }
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
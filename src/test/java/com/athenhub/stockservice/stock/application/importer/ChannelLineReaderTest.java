@@ -0,0 +1,66 @@
+package com.athenhub.stockservice.stock.application.importer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ChannelLineReaderTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  @DisplayName("CRLF, 마지막 줄 개행 누락, 버퍼보다 긴 줄을 모두 올바르게 읽는다.")
+  void readLine_variousLineEndings() throws IOException {
+    // given
+    String longLine = "가".repeat(70_000);
+    Path file = write("first\r\n" + longLine + "\nlast");
+
+    // when
+    List<String> lines = readAll(file, 0);
+
+    // then
+    assertThat(lines).containsExactly("first", longLine, "last");
+  }
+
+  @Test
+  @DisplayName("저장된 위치부터 다시 열면 이후 라인부터 이어서 읽는다.")
+  void open_resumeFromPosition() throws IOException {
+    // given
+    Path file = write("a,1\nb,2\nc,3\n");
+    long checkpoint;
+    try (ChannelLineReader reader = ChannelLineReader.open(file, 0)) {
+      reader.readLine();
+      checkpoint = reader.position();
+    }
+
+    // when
+    List<String> lines = readAll(file, checkpoint);
+
+    // then
+    assertThat(checkpoint).isEqualTo(4);
+    assertThat(lines).containsExactly("b,2", "c,3");
+  }
+
+  private Path write(String content) throws IOException {
+    return Files.writeString(tempDir.resolve("stock.csv"), content, StandardCharsets.UTF_8);
+  }
+
+  private static List<String> readAll(Path file, long offset) throws IOException {
+    List<String> lines = new ArrayList<>();
+    try (ChannelLineReader reader = ChannelLineReader.open(file, offset)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        lines.add(line);
+      }
+    }
+    return lines;
+  }
+}
@@ -0,0 +1,105 @@
+package com.athenhub.stockservice.stock.application.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StockDecreaseStageMetricsTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final StockDecreaseMetricsProperties props = new StockDecreaseMetricsProperties();
+  private final StockDecreaseStageMetrics metrics =
+      new StockDecreaseStageMetrics(meterRegistry, props);
+
+  @AfterEach
+  void tearDown() {
+    metrics.finish();
+  }
+
+  @Test
+  @DisplayName("추적을 종료하면 단계별 소요 시간이 결과와 주문 크기 구간 태그로 기록된다.")
+  void recordsStagesWithOutcomeAndSizeBucket() {
+    // given
+    metrics.begin(3);
+    metrics.run(DecreaseStage.STOCK_LOOKUP, () -> {});
+    metrics.run(DecreaseStage.STOCK_LOOKUP, () -> {});
+    metrics.record(DecreaseStage.ACK, 1_000_000);
+    metrics.outcome(DecreaseOutcome.SUCCESS);
+
+    // when
+    metrics.finish();
+
+    // then
+    assertThat(stageTimer("stock_lookup", "success", "2-5").count()).isEqualTo(1);
+    assertThat(stageTimer("ack", "success", "2-5").totalTime(TimeUnit.MILLISECONDS))
+        .isEqualTo(1.0);
+    assertThat(
+            meterRegistry
+                .get(StockDecreaseStageMetrics.PIPELINE_METRIC)
+                .tags("outcome", "success", "order_size", "2-5")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("단계에서 예외가 발생해도 소요 시간은 누적된다.")
+  void recordsStageOnException() {
+    // given
+    metrics.begin(1);
+
+    // when
+    assertThatThrownBy(
+            () ->
+                metrics.run(
+                    DecreaseStage.STOCK_DECREASE,
+                    () -> {
+                      throw new IllegalStateException("boom");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    metrics.outcome(DecreaseOutcome.OUT_OF_STOCK);
+    metrics.finish();
+
+    // then
+    assertThat(stageTimer("stock_decrease", "out_of_stock", "1").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("결과가 정해지지 않았거나 추적이 시작되지 않았으면 기록하지 않는다.")
+  void skipsWithoutOutcomeOrTrace() {
+    // given
+    metrics.begin(1);
+    metrics.run(DecreaseStage.HISTORY_SAVE, () -> {});
+    metrics.finish();
+
+    // when
+    Integer result = metrics.time(DecreaseStage.STOCK_LOOKUP, () -> 42);
+    metrics.finish();
+
+    // then
+    assertThat(result).isEqualTo(42);
+    assertThat(meterRegistry.find(StockDecreaseStageMetrics.STAGE_METRIC).timers()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("주문 항목 수는 고정된 구간으로 변환된다.")
+  void sizeBuckets() {
+    assertThat(StockDecreaseStageMetrics.sizeBucket(1)).isEqualTo("1");
+    assertThat(StockDecreaseStageMetrics.sizeBucket(5)).isEqualTo("2-5");
+    assertThat(StockDecreaseStageMetrics.sizeBucket(20)).isEqualTo("6-20");
+    assertThat(StockDecreaseStageMetrics.sizeBucket(500)).isEqualTo("21+");
+  }
+
+  private Timer stageTimer(String stage, String outcome, String orderSize) {
+    return meterRegistry
+        .get(StockDecreaseStageMetrics.STAGE_METRIC)
+        .tags("stage", stage, "outcome", outcome, "order_size", orderSize)
+        .timer();
+  }
+}
@@ -2,10 +2,13 @@ package com.athenhub.stockservice.stock.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterResponse.ProductResult;
 import com.athenhub.stockservice.stock.application.dto.RegisterResponse;
 import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
 import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand.ProductVariant;
@@ -95,4 +98,65 @@ class RegisterStockServiceIntegrationTest {
     // 이벤트가 발행되지 않았는지 확인
     verify(stockRegisteredEventPublisher, times(0)).publish(any());
   }
+
+  @Test
+  @DisplayName("대량 등록 시 등록 가능한 상품만 저장되고 상품별 결과가 요청 순서대로 반환된다.")
+  void registerAll_partialFailure() {
+    // given
+    StockInitializeCommand existing = StockInitializeCommandFixture.create();
+    registerStockService.register(existing);
+
+    UUID duplicatedVariantId = UUID.randomUUID();
+    StockInitializeCommand valid = StockInitializeCommandFixture.create();
+    StockInitializeCommand duplicated =
+        new StockInitializeCommand(
+            UUID.randomUUID(),
+            List.of(
+                new ProductVariant(duplicatedVariantId, 1),
+                new ProductVariant(duplicatedVariantId, 2)));
+    StockInitializeCommand alreadyRegistered =
+        new StockInitializeCommand(UUID.randomUUID(), existing.productVariants());
+
+    // when
+    List<ProductResult> results =
+        registerStockService.registerAll(List.of(valid, duplicated, alreadyRegistered));
+
+    // then
+    assertThat(results)
+        .extracting(ProductResult::productId, ProductResult::success)
+        .containsExactly(
+            tuple(valid.productId(), true),
+            tuple(duplicated.productId(), false),
+            tuple(alreadyRegistered.productId(), false));
+
+    assertThat(stockRepository.findAll()).hasSize(4);
+    assertThat(stockHistoryRepository.findAll()).hasSize(4);
+    verify(stockRegisteredEventPublisher, times(1))
+        .publishAll(argThat(events -> events.size() == 1));
+  }
+
+  @Test
+  @DisplayName("대량 등록 시 ID가 누락되었거나 초기 수량이 올바르지 않은 상품만 실패로 처리된다.")
+  void registerAll_invalidProducts() {
+    // given
+    StockInitializeCommand valid = StockInitializeCommandFixture.create();
+    StockInitializeCommand missingVariantId =
+        new StockInitializeCommand(UUID.randomUUID(), List.of(new ProductVariant(null, 1)));
+    StockInitializeCommand missingProductId =
+        new StockInitializeCommand(null, List.of(new ProductVariant(UUID.randomUUID(), 1)));
+    StockInitializeCommand zeroQuantity =
+        new StockInitializeCommand(
+            UUID.randomUUID(), List.of(new ProductVariant(UUID.randomUUID(), 0)));
+
+    // when
+    List<ProductResult> results =
+        registerStockService.registerAll(
+            List.of(valid, missingVariantId, missingProductId, zeroQuantity));
+
+    // then
+    assertThat(results)
+        .extracting(ProductResult::success)
+        .containsExactly(true, false, false, false);
+    assertThat(stockRepository.findAll()).hasSize(2);
+  }
 }
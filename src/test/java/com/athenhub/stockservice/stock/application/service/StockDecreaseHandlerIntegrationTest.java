@@ -0,0 +1,102 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
+import com.athenhub.stockservice.stock.domain.exception.InsufficientStockException;
+import com.athenhub.stockservice.stock.domain.repository.StockRepository;
+import com.athenhub.stockservice.stock.domain.vo.ProductVariantId;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * StockDecreaseHandler 배치 처리 통합 테스트.
+ *
+ * @author 김지원
+ * @since 1.0.0.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class StockDecreaseHandlerIntegrationTest {
+
+  @Autowired private StockDecreaseHandler stockDecreaseHandler;
+
+  @Autowired private RegisterStockService registerStockService;
+
+  @Autowired private StockRepository stockRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  /** 이벤트 발행자만 Mock */
+  @MockitoBean private StockRegisteredEventPublisher stockRegisteredEventPublisher;
+
+  @MockitoBean private StockDecreaseSuccessEventPublisher stockDecreaseSuccessEventPublisher;
+
+  @Test
+  @DisplayName("여러 주문을 한 번에 감소시키고, 중복 주문과 이미 처리된 주문은 건너뛴다.")
+  void decreaseAllInBatch_skipsDuplicatedAndProcessedOrders() {
+    // given
+    StockInitializeCommand initial = StockInitializeCommandFixture.create();
+    registerStockService.register(initial);
+    UUID variantId = initial.productVariants().get(1).id();
+
+    StockDecreaseBatchEvent processed = event(variantId, 1);
+    stockDecreaseHandler.decreaseAll(processed.orderId(), processed.stockDecreaseRequests());
+
+    StockDecreaseBatchEvent first = event(variantId, 2);
+    StockDecreaseBatchEvent second = event(variantId, 3);
+
+    // when
+    List<UUID> applied =
+        stockDecreaseHandler.decreaseAllInBatch(List.of(first, second, first, processed));
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    assertThat(applied).containsExactly(first.orderId(), second.orderId());
+    assertThat(stockRepository.findByVariantId(ProductVariantId.of(variantId)).orElseThrow())
+        .extracting("quantity")
+        .isEqualTo(10 - 1 - 2 - 3);
+    verify(stockDecreaseSuccessEventPublisher, times(3)).publish(any());
+  }
+
+  @Test
+  @DisplayName("배치 중 하나라도 재고가 부족하면 예외를 던져 호출자가 주문별 처리로 전환할 수 있게 한다.")
+  void decreaseAllInBatch_insufficientStock() {
+    // given
+    StockInitializeCommand initial = StockInitializeCommandFixture.create();
+    registerStockService.register(initial);
+    UUID variantId = initial.productVariants().get(0).id();
+
+    // when & then
+    assertThatThrownBy(
+            () ->
+                stockDecreaseHandler.decreaseAllInBatch(
+                    List.of(event(variantId, 3), event(variantId, 3))))
+        .isInstanceOf(InsufficientStockException.class);
+  }
+
+  private static StockDecreaseBatchEvent event(UUID variantId, int quantity) {
+    LocalDateTime now = LocalDateTime.now();
+    return new StockDecreaseBatchEvent(
+        UUID.randomUUID(),
+        now,
+        List.of(new StockDecreaseRequest(UUID.randomUUID(), variantId, quantity, now)));
+  }
+}
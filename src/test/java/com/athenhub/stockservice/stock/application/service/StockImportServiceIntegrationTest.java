@@ -0,0 +1,223 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.times;
+
+import com.athenhub.stockservice.stock.application.dto.StockImportResult;
+import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
+import com.athenhub.stockservice.stock.application.importer.StockImportFormat;
+import com.athenhub.stockservice.stock.application.importer.StockImportProperties;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.domain.dto.ProductValidationResult;
+import com.athenhub.stockservice.stock.domain.dto.ProductVariantMatchCommand;
+import com.athenhub.stockservice.stock.domain.repository.StockRepository;
+import com.athenhub.stockservice.stock.domain.service.BelongsToValidator;
+import com.athenhub.stockservice.stock.domain.service.ProductBatchValidator;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * StockImportService 통합 테스트.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class StockImportServiceIntegrationTest {
+
+  @TempDir Path tempDir;
+
+  @Autowired private StockImportService stockImportService;
+
+  @Autowired private StockImportProperties importProperties;
+
+  @Autowired private StockRepository stockRepository;
+
+  @MockitoBean private BelongsToValidator belongsToValidator;
+
+  @MockitoBean private ProductBatchValidator productBatchValidator;
+
+  @MockitoBean private StockRegisteredEventPublisher stockRegisteredEventPublisher;
+
+  private final AccessContext accessContext =
+      new AccessContext(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+  /** 검증기에 전달된 상품별 옵션 수. */
+  private final List<Map<UUID, Integer>> validatedVariantCounts = new ArrayList<>();
+
+  private int originalChunkSize;
+
+  @BeforeEach
+  void setUp() {
+    originalChunkSize = importProperties.getChunkSize();
+    importProperties.setChunkSize(2);
+    given(belongsToValidator.belongsTo(any())).willReturn(true);
+    validateAllAs(ProductValidationResult.VALID);
+  }
+
+  @AfterEach
+  void tearDown() {
+    importProperties.setChunkSize(originalChunkSize);
+  }
+
+  @Test
+  @DisplayName("청크 크기를 넘더라도 한 상품의 라인은 같은 청크에서 하나의 커맨드로 등록된다.")
+  void importFile_keepsProductLinesInOneChunk() throws IOException {
+    // given
+    UUID productA = UUID.randomUUID();
+    UUID productB = UUID.randomUUID();
+    Path file =
+        write(
+            "a.csv",
+            line(productA, 1),
+            line(productA, 2),
+            line(productA, 3),
+            line(productB, 4));
+
+    // when
+    StockImportResult result =
+        importFile("job-chunk", file);
+
+    // then
+    assertThat(result.succeededProducts()).isEqualTo(2);
+    assertThat(result.failedProducts()).isZero();
+    assertThat(stockRepository.findAll()).hasSize(4);
+    assertThat(validatedVariantCounts)
+        .containsExactly(Map.of(productA, 3), Map.of(productB, 1));
+  }
+
+  @Test
+  @DisplayName("상품 접근 권한 검증에 실패한 상품은 재고가 등록되지 않는다.")
+  void importFile_accessDenied() throws IOException {
+    // given
+    validateAllAs(ProductValidationResult.ACCESS_DENIED);
+    Path file = write("denied.csv", line(UUID.randomUUID(), 1));
+
+    // when
+    StockImportResult result =
+        importFile("job-denied", file);
+
+    // then
+    assertThat(result.succeededProducts()).isZero();
+    assertThat(result.failedProducts()).isEqualTo(1);
+    assertThat(stockRepository.findAll()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("같은 작업 식별자로 다른 파일을 가져오면 거부된다.")
+  void importFile_rejectsDifferentSource() throws IOException {
+    // given
+    Path first = write("first.csv", line(UUID.randomUUID(), 1));
+    Path second = write("second.csv", line(UUID.randomUUID(), 1));
+    importFile("job-reused", first);
+
+    // when & then
+    assertThatThrownBy(() -> claim(accessContext, "job-reused", second))
+        .isInstanceOf(StockApplicationException.class);
+    assertThat(stockRepository.findAll()).hasSize(1);
+  }
+
+  @Test
+  @DisplayName("다른 사용자가 시작한 작업은 재개할 수 없다.")
+  void claim_rejectsOtherMember() throws IOException {
+    // given
+    Path file = write("owned.csv", line(UUID.randomUUID(), 1));
+    claim(accessContext, "job-owned", file);
+    AccessContext otherMember =
+        new AccessContext(UUID.randomUUID(), accessContext.hubId(), accessContext.vendorId());
+
+    // when & then
+    assertThatThrownBy(() -> claim(otherMember, "job-owned", file))
+        .isInstanceOf(StockApplicationException.class);
+  }
+
+  @Test
+  @DisplayName("실행 중인 작업은 다시 시작할 수 없다.")
+  void claim_rejectsRunningJob() throws IOException {
+    // given
+    Path file = write("running.csv", line(UUID.randomUUID(), 1));
+    claim(accessContext, "job-running", file);
+
+    // when & then
+    assertThatThrownBy(() -> claim(accessContext, "job-running", file))
+        .isInstanceOf(StockApplicationException.class);
+  }
+
+  @Test
+  @DisplayName("소속 검증은 작업 선점 시 한 번만 수행되고 청크 처리 중에는 다시 호출되지 않는다.")
+  void importFile_verifiesMembershipOnlyOnClaim() throws IOException {
+    // given
+    Path file =
+        write(
+            "members.csv",
+            line(UUID.randomUUID(), 1),
+            line(UUID.randomUUID(), 1),
+            line(UUID.randomUUID(), 1));
+
+    // when
+    importFile("job-members", file);
+
+    // then
+    then(belongsToValidator).should(times(1)).belongsTo(any());
+    assertThat(validatedVariantCounts).hasSize(2);
+  }
+
+  private StockImportResult importFile(String jobId, Path file) {
+    claim(accessContext, jobId, file);
+    return stockImportService.importFile(accessContext, jobId, file, StockImportFormat.CSV);
+  }
+
+  private void claim(AccessContext context, String jobId, Path file) {
+    stockImportService.claim(context, jobId, file, file, StockImportFormat.CSV);
+  }
+
+  private void validateAllAs(ProductValidationResult validation) {
+    given(productBatchValidator.validateAll(any(), any()))
+        .willAnswer(
+            invocation -> {
+              List<ProductVariantMatchCommand> commands = invocation.getArgument(1);
+              validatedVariantCounts.add(
+                  commands.stream()
+                      .collect(
+                          Collectors.toMap(
+                              ProductVariantMatchCommand::productId,
+                              command -> command.productVariantIds().size())));
+              return commands.stream()
+                  .collect(
+                      Collectors.toMap(
+                          ProductVariantMatchCommand::productId, command -> validation));
+            });
+  }
+
+  private static String line(UUID productId, int quantity) {
+    return productId + "," + UUID.randomUUID() + "," + quantity;
+  }
+
+  private Path write(String name, String... lines) throws IOException {
+    return Files.writeString(
+        tempDir.resolve(name), String.join("\n", lines) + "\n", StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,89 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterResponse;
+import com.athenhub.stockservice.stock.application.dto.BulkRegisterResponse.ProductResult;
+import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.domain.dto.ProductValidationResult;
+import com.athenhub.stockservice.stock.domain.service.BelongsToValidator;
+import com.athenhub.stockservice.stock.domain.service.ProductAccessPermissionValidator;
+import com.athenhub.stockservice.stock.domain.service.ProductBatchValidator;
+import com.athenhub.stockservice.stock.domain.service.ProductVariantConsistencyValidator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class StockRegistrationFacadeTest {
+
+  private final BelongsToValidator belongsToValidator = mock(BelongsToValidator.class);
+  private final ProductBatchValidator productBatchValidator = mock(ProductBatchValidator.class);
+  private final RegisterStockService registerStockService = mock(RegisterStockService.class);
+
+  private final StockRegistrationFacade facade =
+      new StockRegistrationFacade(
+          mock(ProductAccessPermissionValidator.class),
+          belongsToValidator,
+          mock(ProductVariantConsistencyValidator.class),
+          productBatchValidator,
+          registerStockService);
+
+  private final AccessContext accessContext =
+      new AccessContext(UUID.randomUUID(), UUID.randomUUID(), null);
+  private final StockInitializeCommand first = StockInitializeCommandFixture.create();
+  private final StockInitializeCommand second = StockInitializeCommandFixture.create();
+
+  @BeforeEach
+  void setUp() {
+    given(belongsToValidator.belongsTo(accessContext)).willReturn(true);
+    given(productBatchValidator.validateAll(any(), anyList()))
+        .willReturn(
+            Map.of(
+                first.productId(), ProductValidationResult.VALID,
+                second.productId(), ProductValidationResult.VALID));
+  }
+
+  @Test
+  @DisplayName("다른 요청이 같은 옵션을 동시에 등록해 무결성 위반이 발생하면 다시 등록하여 충돌한 상품만 실패로 응답한다.")
+  void registerAll_concurrentRegistration() {
+    // given
+    ProductResult conflict = ProductResult.failed(second.productId(), "이미 재고가 등록된 옵션이 포함되어 있습니다.");
+    given(registerStockService.registerAll(List.of(first, second)))
+        .willThrow(new DataIntegrityViolationException("uk_stock_variant"))
+        .willReturn(List.of(ProductResult.succeeded(first.productId()), conflict));
+
+    // when
+    BulkRegisterResponse response = facade.registerAll(accessContext, List.of(first, second));
+
+    // then
+    assertThat(response.succeededCount()).isEqualTo(1);
+    assertThat(response.results().get(1)).isEqualTo(conflict);
+    then(productBatchValidator).should(times(1)).validateAll(any(), anyList());
+    then(registerStockService).should(times(2)).registerAll(List.of(first, second));
+  }
+
+  @Test
+  @DisplayName("재시도에서도 무결성 위반이 발생하면 그대로 전파한다.")
+  void registerAll_repeatedIntegrityViolation() {
+    // given
+    given(registerStockService.registerAll(List.of(first, second)))
+        .willThrow(new DataIntegrityViolationException("uk_stock_variant"));
+
+    // when & then
+    assertThatThrownBy(() -> facade.registerAll(accessContext, List.of(first, second)))
+        .isInstanceOf(DataIntegrityViolationException.class);
+    then(registerStockService).should(times(2)).registerAll(List.of(first, second));
+  }
+}
@@ -0,0 +1,139 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
+import com.athenhub.stockservice.stock.application.dto.StockReservationResult;
+import com.athenhub.stockservice.stock.application.dto.StockReservationResult.Status;
+import com.athenhub.stockservice.stock.domain.repository.StockHistoryRepository;
+import com.athenhub.stockservice.stock.domain.vo.OrderId;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * StockReservationService 통합 테스트.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class StockReservationServiceIntegrationTest {
+
+  @Autowired private StockReservationService stockReservationService;
+
+  @Autowired private RegisterStockService registerStockService;
+
+  @Autowired private StockHistoryRepository stockHistoryRepository;
+
+  @MockitoBean private StockRegisteredEventPublisher stockRegisteredEventPublisher;
+
+  @MockitoBean private StockDecreaseSuccessEventPublisher stockDecreaseSuccessEventPublisher;
+
+  @MockitoSpyBean private StockDecreaseHandler stockDecreaseHandler;
+
+  @Test
+  @DisplayName("재고를 예약하고, 같은 주문 ID로 다시 요청하면 재고를 다시 차감하지 않는다.")
+  void reserve_idempotentByOrderId() {
+    // given
+    StockInitializeCommand initial = StockInitializeCommandFixture.create();
+    registerStockService.register(initial);
+    UUID orderId = UUID.randomUUID();
+    List<StockDecreaseRequest> requests = requests(initial, 3);
+
+    // when
+    StockReservationResult first = stockReservationService.reserve(orderId, requests, deadline());
+    StockReservationResult second = stockReservationService.reserve(orderId, requests, deadline());
+
+    // then
+    assertThat(first.status()).isEqualTo(Status.RESERVED);
+    assertThat(second.status()).isEqualTo(Status.ALREADY_RESERVED);
+    assertThat(second.isReserved()).isTrue();
+  }
+
+  @Test
+  @DisplayName("재고가 부족하면 예외 대신 INSUFFICIENT_STOCK 결과를 반환한다.")
+  void reserve_insufficientStock() {
+    // given
+    StockInitializeCommand initial = StockInitializeCommandFixture.create();
+    registerStockService.register(initial);
+
+    // when
+    StockReservationResult result =
+        stockReservationService.reserve(UUID.randomUUID(), requests(initial, 100), deadline());
+
+    // then
+    assertThat(result.status()).isEqualTo(Status.INSUFFICIENT_STOCK);
+    assertThat(result.isReserved()).isFalse();
+  }
+
+  @Test
+  @DisplayName("응답 기한이 지난 요청은 재고를 차감하지 않고 EXPIRED를 반환한다.")
+  void reserve_expiredDeadline() {
+    // given
+    StockInitializeCommand initial = StockInitializeCommandFixture.create();
+    registerStockService.register(initial);
+    UUID orderId = UUID.randomUUID();
+
+    // when
+    StockReservationResult result =
+        stockReservationService.reserve(
+            orderId, requests(initial, 1), Instant.now().minusMillis(1));
+
+    // then
+    assertThat(result.status()).isEqualTo(Status.EXPIRED);
+    assertThat(stockHistoryRepository.existsByOrderId(OrderId.of(orderId))).isFalse();
+  }
+
+  @Test
+  @DisplayName("재고 차감 중 응답 기한이 지나면 커밋하지 않고 EXPIRED를 반환한다.")
+  void reserve_deadlinePassedBeforeCommit() {
+    // given
+    StockInitializeCommand initial = StockInitializeCommandFixture.create();
+    registerStockService.register(initial);
+    doAnswer(
+            invocation -> {
+              Thread.sleep(100);
+              return invocation.callRealMethod();
+            })
+        .when(stockDecreaseHandler)
+        .decreaseAll(any(UUID.class), anyList());
+
+    // when
+    StockReservationResult result =
+        stockReservationService.reserve(
+            UUID.randomUUID(), requests(initial, 1), Instant.now().plusMillis(50));
+
+    // then
+    assertThat(result.status()).isEqualTo(Status.EXPIRED);
+  }
+
+  private static List<StockDecreaseRequest> requests(StockInitializeCommand initial, int quantity) {
+    return List.of(
+        new StockDecreaseRequest(
+            initial.productId(),
+            initial.productVariants().get(0).id(),
+            quantity,
+            LocalDateTime.now()));
+  }
+
+  private static Instant deadline() {
+    return Instant.now().plus(Duration.ofSeconds(5));
+  }
+}
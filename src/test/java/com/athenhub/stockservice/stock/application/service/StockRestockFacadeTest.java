@@ -0,0 +1,102 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.athenhub.stockservice.stock.application.dto.RestockCommand;
+import com.athenhub.stockservice.stock.application.dto.RestockCommand.Line;
+import com.athenhub.stockservice.stock.application.dto.RestockResponse;
+import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
+import com.athenhub.stockservice.stock.domain.Stock;
+import com.athenhub.stockservice.stock.domain.dto.AccessContext;
+import com.athenhub.stockservice.stock.domain.dto.InitialStock;
+import com.athenhub.stockservice.stock.domain.repository.StockReceiptRepository;
+import com.athenhub.stockservice.stock.domain.repository.StockRepository;
+import com.athenhub.stockservice.stock.domain.service.BelongsToValidator;
+import com.athenhub.stockservice.stock.domain.service.ProductAccessPermissionValidator;
+import com.athenhub.stockservice.stock.domain.vo.ReceiptId;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+
+class StockRestockFacadeTest {
+
+  private final BelongsToValidator belongsToValidator = mock(BelongsToValidator.class);
+  private final ProductAccessPermissionValidator permissionValidator =
+      mock(ProductAccessPermissionValidator.class);
+  private final StockRepository stockRepository = mock(StockRepository.class);
+  private final StockReceiptRepository stockReceiptRepository = mock(StockReceiptRepository.class);
+  private final StockRestockService stockRestockService = mock(StockRestockService.class);
+
+  private final StockRestockFacade facade =
+      new StockRestockFacade(
+          belongsToValidator,
+          permissionValidator,
+          stockRepository,
+          stockReceiptRepository,
+          stockRestockService);
+
+  private final AccessContext accessContext =
+      new AccessContext(UUID.randomUUID(), UUID.randomUUID(), null);
+  private final UUID productId = UUID.randomUUID();
+  private final UUID variantId = UUID.randomUUID();
+  private final RestockCommand command =
+      new RestockCommand(UUID.randomUUID(), List.of(new Line(variantId, 3)));
+
+  @BeforeEach
+  void setUp() {
+    given(belongsToValidator.belongsTo(accessContext)).willReturn(true);
+    given(stockRepository.findAllByVariantIds(List.of(variantId)))
+        .willReturn(List.of(Stock.create(new InitialStock(productId, variantId, 10))));
+  }
+
+  @Test
+  @DisplayName("재입고 대상 상품에 접근 권한이 없으면 재고를 반영하지 않고 거부한다.")
+  void restock_productAccessDenied() {
+    // given
+    given(permissionValidator.canAccess(accessContext, productId)).willReturn(false);
+
+    // when & then
+    assertThatThrownBy(() -> facade.restock(accessContext, command))
+        .isInstanceOf(StockApplicationException.class);
+    then(stockRestockService).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("같은 전표가 동시에 처리되어 전표 저장이 충돌하면 이미 처리된 전표로 응답한다.")
+  void restock_concurrentDuplicateReceipt() {
+    // given
+    given(permissionValidator.canAccess(accessContext, productId)).willReturn(true);
+    given(stockRestockService.restock(command))
+        .willThrow(new DataIntegrityViolationException("duplicate receipt"));
+    given(stockReceiptRepository.existsById(ReceiptId.of(command.receiptId()))).willReturn(true);
+
+    // when
+    RestockResponse response = facade.restock(accessContext, command);
+
+    // then
+    assertThat(response.applied()).isFalse();
+    assertThat(response.receiptId()).isEqualTo(command.receiptId());
+  }
+
+  @Test
+  @DisplayName("전표가 저장되지 않은 무결성 위반은 그대로 전파한다.")
+  void restock_otherIntegrityViolation() {
+    // given
+    given(permissionValidator.canAccess(accessContext, productId)).willReturn(true);
+    given(stockRestockService.restock(command))
+        .willThrow(new DataIntegrityViolationException("history"));
+    given(stockReceiptRepository.existsById(any())).willReturn(false);
+
+    // when & then
+    assertThatThrownBy(() -> facade.restock(accessContext, command))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+}
@@ -0,0 +1,116 @@
+package com.athenhub.stockservice.stock.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.stockservice.stock.application.dto.RestockCommand;
+import com.athenhub.stockservice.stock.application.dto.RestockCommand.Line;
+import com.athenhub.stockservice.stock.application.dto.RestockResponse;
+import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
+import com.athenhub.stockservice.stock.application.exception.StockApplicationException;
+import com.athenhub.stockservice.stock.domain.StockEventType;
+import com.athenhub.stockservice.stock.domain.repository.StockHistoryRepository;
+import com.athenhub.stockservice.stock.domain.repository.StockRepository;
+import com.athenhub.stockservice.stock.domain.vo.ProductVariantId;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * StockRestockService 통합 테스트.
+ *
+ * @author 김지원
+ * @since 1.0.0.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class StockRestockServiceIntegrationTest {
+
+  @Autowired private StockRestockService stockRestockService;
+
+  @Autowired private RegisterStockService registerStockService;
+
+  @Autowired private StockRepository stockRepository;
+
+  @Autowired private StockHistoryRepository stockHistoryRepository;
+
+  @Autowired private EntityManager entityManager;
+
+  /** 이벤트 발행자만 Mock */
+  @MockitoBean private StockRegisteredEventPublisher stockRegisteredEventPublisher;
+
+  @Test
+  @DisplayName("같은 옵션의 라인은 병합되어 재고가 증가하고, 옵션별 입고 이력이 하나씩 저장된다.")
+  void restock_coalescesLines() {
+    // given
+    StockInitializeCommand initial = StockInitializeCommandFixture.create();
+    registerStockService.register(initial);
+    UUID variantId = initial.productVariants().get(0).id();
+    int initialQuantity = initial.productVariants().get(0).quantity();
+
+    RestockCommand command =
+        new RestockCommand(
+            UUID.randomUUID(), List.of(new Line(variantId, 3), new Line(variantId, 4)));
+
+    // when
+    RestockResponse response = stockRestockService.restock(command);
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    assertThat(response.applied()).isTrue();
+    assertThat(response.variantCount()).isEqualTo(1);
+    assertThat(response.totalQuantity()).isEqualTo(7);
+    assertThat(stockRepository.findByVariantId(ProductVariantId.of(variantId)).orElseThrow())
+        .extracting("quantity")
+        .isEqualTo(initialQuantity + 7);
+    assertThat(stockHistoryRepository.findAll())
+        .filteredOn(history -> history.getVariantId().toUuid().equals(variantId))
+        .extracting("eventType")
+        .containsExactly(StockEventType.INBOUND, StockEventType.INBOUND);
+  }
+
+  @Test
+  @DisplayName("이미 처리된 전표는 재고를 다시 증가시키지 않는다.")
+  void restock_duplicatedReceipt() {
+    // given
+    StockInitializeCommand initial = StockInitializeCommandFixture.create();
+    registerStockService.register(initial);
+    UUID variantId = initial.productVariants().get(0).id();
+    int initialQuantity = initial.productVariants().get(0).quantity();
+
+    RestockCommand command = new RestockCommand(UUID.randomUUID(), List.of(new Line(variantId, 5)));
+    stockRestockService.restock(command);
+
+    // when
+    RestockResponse response = stockRestockService.restock(command);
+    entityManager.flush();
+    entityManager.clear();
+
+    // then
+    assertThat(response.applied()).isFalse();
+    assertThat(stockRepository.findByVariantId(ProductVariantId.of(variantId)).orElseThrow())
+        .extracting("quantity")
+        .isEqualTo(initialQuantity + 5);
+  }
+
+  @Test
+  @DisplayName("재고가 없는 옵션이 포함되면 예외가 발생한다.")
+  void restock_unknownVariant_fail() {
+    // given
+    RestockCommand command =
+        new RestockCommand(UUID.randomUUID(), List.of(new Line(UUID.randomUUID(), 1)));
+
+    // when & then
+    assertThatThrownBy(() -> stockRestockService.restock(command))
+        .isInstanceOf(StockApplicationException.class);
+  }
+}
@@ -0,0 +1,44 @@
+package com.athenhub.stockservice.stock.infrastructure.actuator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.QueueDepthProbe;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.QueueDepthProbe.QueueDepth;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StockPipelineEndpointTest {
+
+  private final StockPipelineMonitor monitor =
+      new StockPipelineMonitor(new RabbitStockProperties());
+  private final QueueDepthProbe queueDepthProbe = mock(QueueDepthProbe.class);
+  private final StockPipelineEndpoint endpoint =
+      new StockPipelineEndpoint(monitor, queueDepthProbe);
+
+  @Test
+  @DisplayName("Listener 처리 현황과 Queue 적체량을 함께 반환한다.")
+  void state() {
+    // given
+    QueueDepth depth = new QueueDepth("stock.decrease", 42L, 3, Instant.now());
+    given(queueDepthProbe.depths()).willReturn(List.of(depth));
+    monitor.enter(StockPipelineMonitor.DECREASE_LISTENER, 1);
+    monitor.deadLettered(StockErrorType.RETRY_EXCEEDED);
+
+    // when
+    StockPipelineEndpoint.PipelineState state = endpoint.state();
+
+    // then
+    assertThat(state.queues()).containsExactly(depth);
+    assertThat(state.listeners().inFlight())
+        .containsEntry(StockPipelineMonitor.DECREASE_LISTENER, 1);
+    assertThat(state.listeners().deadLetters()).containsEntry(StockErrorType.RETRY_EXCEEDED, 1L);
+    assertThat(state.listeners().stalled()).isEmpty();
+  }
+}
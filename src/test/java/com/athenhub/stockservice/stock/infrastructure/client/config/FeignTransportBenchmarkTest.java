@@ -0,0 +1,166 @@
+package com.athenhub.stockservice.stock.infrastructure.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Client;
+import feign.Feign;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 기본 {@code HttpURLConnection} 전송 계층과 커넥션 풀 전송 계층의 지연 시간을 로컬 스텁 서버로 비교한다.
+ *
+ * <p>{@code ./gradlew benchmark}로 실행하며, 일반 테스트 실행에서는 제외된다.
+ */
+@Tag("benchmark")
+class FeignTransportBenchmarkTest {
+
+  private static final int THREADS = 16;
+  private static final int WARMUP_CALLS_PER_THREAD = 200;
+  private static final int CALLS_PER_THREAD = 1_000;
+
+  /** 스텁 서버에 연결된 클라이언트 소켓 주소(= 새로 맺은 TCP 커넥션). */
+  private final Set<InetSocketAddress> connections = ConcurrentHashMap.newKeySet();
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private String url;
+
+  interface StubApi {
+
+    @RequestLine("GET /products/p")
+    String getProduct();
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 256);
+    server.createContext(
+        "/products",
+        exchange -> {
+          connections.add(exchange.getRemoteAddress());
+          byte[] body = "{\"productId\":\"p\"}".getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    serverExecutor = Executors.newFixedThreadPool(THREADS * 2);
+    server.setExecutor(serverExecutor);
+    server.start();
+    url = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("커넥션 풀 전송 계층은 동시 호출 수 이상의 커넥션을 새로 맺지 않으며, 두 전송 계층의 지연 시간을 출력한다.")
+  void compareTransports() throws Exception {
+    // given
+    FeignTransportProperties properties = new FeignTransportProperties();
+    TimedHttpClientConnectionManager connectionManager =
+        new TimedHttpClientConnectionManager(
+            FeignTransportConfig.connectionPool(properties),
+            properties.getConnectionRequestTimeout(),
+            new SimpleMeterRegistry());
+
+    try (CloseableHttpClient httpClient =
+        FeignTransportConfig.httpClient(connectionManager, properties)) {
+
+      // when
+      Result defaultResult = run("HttpURLConnection", new Client.Default(null, null));
+      Result pooledResult = run("HttpClient5 pool", new ApacheHttp5Client(httpClient));
+
+      // then
+      System.out.println(defaultResult);
+      System.out.println(pooledResult);
+      assertThat(pooledResult.connections()).isLessThanOrEqualTo(THREADS);
+    }
+  }
+
+  private Result run(String name, Client client) throws Exception {
+    StubApi api = Feign.builder().client(client).target(StubApi.class, url);
+    call(api, WARMUP_CALLS_PER_THREAD);
+    connections.clear();
+
+    long startedAt = System.nanoTime();
+    List<Long> latencies = call(api, CALLS_PER_THREAD);
+    long elapsedNanos = System.nanoTime() - startedAt;
+
+    Collections.sort(latencies);
+    return new Result(
+        name,
+        percentile(latencies, 0.50),
+        percentile(latencies, 0.99),
+        latencies.size() * 1_000_000_000L / elapsedNanos,
+        connections.size());
+  }
+
+  private List<Long> call(StubApi api, int callsPerThread) throws Exception {
+    ExecutorService callers = Executors.newFixedThreadPool(THREADS);
+    try {
+      List<Future<List<Long>>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        futures.add(
+            callers.submit(
+                () -> {
+                  List<Long> latencies = new ArrayList<>(callsPerThread);
+                  for (int i = 0; i < callsPerThread; i++) {
+                    long startedAt = System.nanoTime();
+                    api.getProduct();
+                    latencies.add(System.nanoTime() - startedAt);
+                  }
+                  return latencies;
+                }));
+      }
+      List<Long> latencies = new ArrayList<>();
+      for (Future<List<Long>> future : futures) {
+        latencies.addAll(future.get(1, TimeUnit.MINUTES));
+      }
+      return latencies;
+    } finally {
+      callers.shutdownNow();
+    }
+  }
+
+  private static long percentile(List<Long> sortedNanos, double percentile) {
+    int index = (int) Math.ceil(percentile * sortedNanos.size()) - 1;
+    return TimeUnit.NANOSECONDS.toMicros(sortedNanos.get(Math.max(index, 0)));
+  }
+
+  private record Result(
+      String name, long p50Micros, long p99Micros, long throughput, int connections) {
+
+    @Override
+    public String toString() {
+      return String.format(
+          "[BENCHMARK] transport=%s p50=%dus p99=%dus throughput=%d/s newConnections=%d",
+          name, p50Micros, p99Micros, throughput, connections);
+    }
+  }
+}
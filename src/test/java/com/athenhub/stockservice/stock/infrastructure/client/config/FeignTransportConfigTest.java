@@ -0,0 +1,173 @@
+package com.athenhub.stockservice.stock.infrastructure.client.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.RequestLine;
+import feign.hc5.ApacheHttp5Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class FeignTransportConfigTest {
+
+  /** 스텁 서버에 요청을 보낸 클라이언트 소켓 주소(요청 순서). */
+  private final List<InetSocketAddress> remoteAddresses = new CopyOnWriteArrayList<>();
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final FeignTransportProperties properties = new FeignTransportProperties();
+
+  private HttpServer server;
+  private String url;
+
+  interface StubApi {
+
+    @RequestLine("GET /products/p")
+    String getProduct();
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/products",
+        exchange -> {
+          remoteAddresses.add(exchange.getRemoteAddress());
+          byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Keep-Alive", "timeout=600");
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+    url = "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  @DisplayName("커넥션 풀의 전체/Route별 최대 커넥션 수는 설정 값으로 제한된다.")
+  void connectionPool_sizing() {
+    // given
+    properties.setMaxConnections(12);
+    properties.setMaxConnectionsPerRoute(4);
+
+    // when
+    TimedHttpClientConnectionManager connectionManager = connectionManager();
+
+    // then
+    assertThat(connectionManager.getMaxTotal()).isEqualTo(12);
+    assertThat(connectionManager.getDefaultMaxPerRoute()).isEqualTo(4);
+    connectionManager.close(CloseMode.IMMEDIATE);
+  }
+
+  @Test
+  @DisplayName("커넥션 대여 대기 시간은 호출 측이 더 긴 시간을 지정해도 connection-request-timeout으로 제한된다.")
+  void lease_cappedByConnectionRequestTimeout() throws Exception {
+    // given
+    properties.setMaxConnectionsPerRoute(1);
+    properties.setConnectionRequestTimeout(Duration.ofMillis(100));
+    TimedHttpClientConnectionManager connectionManager = connectionManager();
+    HttpRoute route = new HttpRoute(HttpHost.create(url));
+    ConnectionEndpoint leased =
+        connectionManager
+            .lease("first", route, Timeout.ofSeconds(10), null)
+            .get(Timeout.ofSeconds(10));
+
+    // when
+    long startedAt = System.nanoTime();
+    assertThatThrownBy(
+            () ->
+                connectionManager
+                    .lease("second", route, Timeout.ofSeconds(10), null)
+                    .get(Timeout.ofSeconds(10)))
+        .isInstanceOf(TimeoutException.class);
+    Duration waited = Duration.ofNanos(System.nanoTime() - startedAt);
+
+    // then
+    assertThat(waited).isLessThan(Duration.ofSeconds(5));
+    assertThat(
+            meterRegistry.get("feign.client.pool.lease").tag("outcome", "timeout").timer().count())
+        .isEqualTo(1);
+    leased.close(CloseMode.IMMEDIATE);
+    connectionManager.close(CloseMode.IMMEDIATE);
+  }
+
+  @Test
+  @DisplayName("연속된 요청은 새 TCP 커넥션을 맺지 않고 풀에 반환된 커넥션을 재사용한다.")
+  void httpClient_reusesConnection() throws IOException {
+    // given
+    TimedHttpClientConnectionManager connectionManager = connectionManager();
+
+    try (CloseableHttpClient httpClient =
+        FeignTransportConfig.httpClient(connectionManager, properties)) {
+      StubApi api = api(httpClient);
+
+      // when
+      for (int i = 0; i < 5; i++) {
+        api.getProduct();
+      }
+
+      // then
+      assertThat(remoteAddresses).hasSize(5);
+      assertThat(remoteAddresses).containsOnly(remoteAddresses.get(0));
+      assertThat(connectionManager.getTotalStats().getLeased()).isZero();
+      assertThat(connectionManager.getTotalStats().getAvailable()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  @DisplayName("서버가 알려준 Keep-Alive 시간이 설정보다 길면 설정된 시간이 지난 커넥션은 재사용하지 않는다.")
+  void httpClient_keepAliveCappedByProperties() throws Exception {
+    // given
+    properties.setKeepAlive(Duration.ofMillis(100));
+    TimedHttpClientConnectionManager connectionManager = connectionManager();
+
+    try (CloseableHttpClient httpClient =
+        FeignTransportConfig.httpClient(connectionManager, properties)) {
+      StubApi api = api(httpClient);
+      api.getProduct();
+
+      // when
+      Thread.sleep(300);
+      api.getProduct();
+
+      // then
+      assertThat(remoteAddresses).hasSize(2);
+      assertThat(remoteAddresses.get(1)).isNotEqualTo(remoteAddresses.get(0));
+    }
+  }
+
+  private TimedHttpClientConnectionManager connectionManager() {
+    PoolingHttpClientConnectionManager pool = FeignTransportConfig.connectionPool(properties);
+    return new TimedHttpClientConnectionManager(
+        pool, properties.getConnectionRequestTimeout(), meterRegistry);
+  }
+
+  private StubApi api(CloseableHttpClient httpClient) {
+    return Feign.builder().client(new ApacheHttp5Client(httpClient)).target(StubApi.class, url);
+  }
+}
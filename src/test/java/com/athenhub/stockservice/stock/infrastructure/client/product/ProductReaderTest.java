@@ -0,0 +1,94 @@
+package com.athenhub.stockservice.stock.infrastructure.client.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.athenhub.commoncore.error.GlobalErrorCode;
+import com.athenhub.stockservice.stock.infrastructure.client.product.config.ProductLookupProperties;
+import com.athenhub.stockservice.stock.infrastructure.client.product.dto.ProductDetail;
+import com.athenhub.stockservice.stock.infrastructure.client.resilience.ClientResilienceProperties;
+import com.athenhub.stockservice.stock.infrastructure.client.resilience.ResilientClientExecutor;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ProductReaderTest {
+
+  private final ProductClient productClient = mock(ProductClient.class);
+
+  private final UUID first = UUID.randomUUID();
+  private final UUID second = UUID.randomUUID();
+
+  @Test
+  @DisplayName("다건 조회 API가 비활성화되어 있으면 단건 조회 API로 상품마다 조회하고, 존재하지 않는 상품은 제외한다.")
+  void getProducts_batchLookupDisabled() {
+    // given
+    ProductReader reader = reader(false);
+    given(productClient.getProduct(first)).willReturn(product(first));
+    given(productClient.getProduct(second))
+        .willThrow(new ProductFeignException(GlobalErrorCode.NOT_FOUND, "not found"));
+
+    // when
+    List<ProductDetail> products = reader.getProducts(List.of(first, second));
+
+    // then
+    assertThat(products).extracting(ProductDetail::productId).containsExactly(first);
+    then(productClient).should().getProduct(first);
+    then(productClient).should().getProduct(second);
+    then(productClient).shouldHaveNoMoreInteractions();
+  }
+
+  @Test
+  @DisplayName("단건 조회로 대체할 때 상품 서비스 오류는 그대로 전파한다.")
+  void getProducts_batchLookupDisabled_serverError() {
+    // given
+    ProductReader reader = reader(false);
+    given(productClient.getProduct(first))
+        .willThrow(new ProductFeignException(GlobalErrorCode.INTERNAL_SERVER_ERROR, "error"));
+
+    // when & then
+    assertThatThrownBy(() -> reader.getProducts(List.of(first, second)))
+        .isInstanceOf(ProductFeignException.class);
+  }
+
+  @Test
+  @DisplayName("다건 조회 API가 활성화되어 있으면 한 번의 다건 조회로 상품을 조회한다.")
+  void getProducts_batchLookupEnabled() {
+    // given
+    ProductReader reader = reader(true);
+    given(productClient.getProducts(List.of(first, second)))
+        .willReturn(List.of(product(first), product(second)));
+
+    // when
+    List<ProductDetail> products = reader.getProducts(List.of(first, second));
+
+    // then
+    assertThat(products).extracting(ProductDetail::productId).containsExactly(first, second);
+    then(productClient).should().getProducts(List.of(first, second));
+    then(productClient).shouldHaveNoMoreInteractions();
+  }
+
+  private ProductReader reader(boolean batchLookupEnabled) {
+    ProductLookupProperties lookupProperties = new ProductLookupProperties();
+    lookupProperties.getBatchLookup().setEnabled(batchLookupEnabled);
+    return new ProductReader(
+        productClient,
+        new ResilientClientExecutor(
+            CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults()),
+        new ClientResilienceProperties(),
+        lookupProperties,
+        new SimpleMeterRegistry());
+  }
+
+  private static ProductDetail product(UUID productId) {
+    return new ProductDetail(
+        productId, "상품", null, 1000L, null, null, null, null, List.of(), null, null, null);
+  }
+}
@@ -0,0 +1,234 @@
+package com.athenhub.stockservice.stock.infrastructure.client.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.stockservice.stock.infrastructure.client.product.ProductFeignException;
+import com.athenhub.stockservice.stock.infrastructure.client.product.config.ProductFeignErrorDecoder;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.RetryableException;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ResilientClientExecutorTest {
+
+  private static final String CLIENT = "product-service";
+
+  /** 스텁 서버가 응답 전에 대기할 시간(ms). */
+  private final AtomicLong latencyMillis = new AtomicLong();
+
+  /** 스텁 서버가 반환할 HTTP 상태 코드. */
+  private final AtomicInteger status = new AtomicInteger(200);
+
+  /** 스텁 서버가 실제로 받은 요청 수. */
+  private final AtomicInteger received = new AtomicInteger();
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private StubApi api;
+
+  interface StubApi {
+
+    @RequestLine("GET /products/{id}")
+    String getProduct(@Param("id") String id);
+  }
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext(
+        "/products",
+        exchange -> {
+          received.incrementAndGet();
+          sleep(latencyMillis.get());
+          byte[] body = "ok".getBytes(StandardCharsets.UTF_8);
+          exchange.sendResponseHeaders(status.get(), body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    serverExecutor = Executors.newCachedThreadPool();
+    server.setExecutor(serverExecutor);
+    server.start();
+
+    api =
+        Feign.builder()
+            .options(
+                new Request.Options(200, TimeUnit.MILLISECONDS, 300, TimeUnit.MILLISECONDS, true))
+            .errorDecoder(new ProductFeignErrorDecoder())
+            .target(StubApi.class, "http://127.0.0.1:" + server.getAddress().getPort());
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  @DisplayName("읽기 타임아웃보다 느린 응답은 타임아웃으로 실패하고, 실패가 누적되면 서킷이 열려 외부 호출 없이 즉시 거절한다.")
+  void execute_slowServer_opensCircuit() {
+    // given
+    ResilientClientExecutor executor = executor(circuitBreaker(), bulkhead(10));
+    latencyMillis.set(1_000);
+
+    // when
+    for (int i = 0; i < 4; i++) {
+      assertThatThrownBy(() -> executor.execute(CLIENT, () -> api.getProduct("p")))
+          .isInstanceOf(RetryableException.class);
+    }
+    int receivedBeforeOpen = received.get();
+
+    // then
+    long startedAt = System.nanoTime();
+    assertThatThrownBy(() -> executor.execute(CLIENT, () -> api.getProduct("p")))
+        .isInstanceOf(CallNotPermittedException.class);
+    assertThat(Duration.ofNanos(System.nanoTime() - startedAt)).isLessThan(Duration.ofMillis(100));
+    assertThat(received.get()).isEqualTo(receivedBeforeOpen);
+  }
+
+  @Test
+  @DisplayName("4xx 응답은 비즈니스 응답이므로 서킷 브레이커의 실패로 기록하지 않는다.")
+  void execute_clientError_notRecorded() {
+    // given
+    CircuitBreakerRegistry circuitBreakerRegistry = circuitBreaker();
+    ResilientClientExecutor executor = executor(circuitBreakerRegistry, bulkhead(10));
+    status.set(404);
+
+    // when
+    for (int i = 0; i < 10; i++) {
+      assertThatThrownBy(() -> executor.execute(CLIENT, () -> api.getProduct("p")))
+          .isInstanceOf(ProductFeignException.class);
+    }
+
+    // then
+    CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(CLIENT);
+    assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    assertThat(circuitBreaker.getMetrics().getNumberOfFailedCalls()).isZero();
+  }
+
+  @Test
+  @DisplayName("동시 호출 수가 Bulkhead 한도를 넘으면 느린 외부 호출을 기다리지 않고 즉시 거절한다.")
+  void execute_bulkheadFull_rejectsImmediately() throws Exception {
+    // given
+    ResilientClientExecutor executor = executor(circuitBreaker(), bulkhead(1));
+    latencyMillis.set(250);
+    CountDownLatch started = new CountDownLatch(1);
+    ExecutorService caller = Executors.newSingleThreadExecutor();
+
+    try {
+      Future<String> inFlight =
+          caller.submit(
+              () ->
+                  executor.execute(
+                      CLIENT,
+                      () -> {
+                        started.countDown();
+                        return api.getProduct("p");
+                      }));
+      started.await();
+
+      // when & then
+      assertThatThrownBy(() -> executor.execute(CLIENT, () -> api.getProduct("p")))
+          .isInstanceOf(BulkheadFullException.class);
+      assertThat(inFlight.get()).isEqualTo("ok");
+    } finally {
+      caller.shutdownNow();
+    }
+  }
+
+  @Test
+  @DisplayName("Stale 캐시가 활성화되어 있으면 외부 장애 시 마지막 성공 응답을 반환하고 Fallback 횟수를 기록한다.")
+  void staleCache_fallbackOnRemoteFailure() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ResilientClientExecutor executor = executor(circuitBreaker(), bulkhead(10));
+    StaleCache<String, String> cache = staleCache(meterRegistry);
+    cache.load("p", () -> executor.execute(CLIENT, () -> api.getProduct("p")));
+    latencyMillis.set(1_000);
+
+    // when
+    String value = cache.load("p", () -> executor.execute(CLIENT, () -> api.getProduct("p")));
+
+    // then
+    assertThat(value).isEqualTo("ok");
+    assertThat(meterRegistry.get("client.stale.fallbacks").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("4xx 응답이거나 캐시에 없는 키는 Fallback하지 않고 원래 예외를 그대로 던진다.")
+  void staleCache_noFallbackForClientErrorOrMissingKey() {
+    // given
+    ResilientClientExecutor executor = executor(circuitBreaker(), bulkhead(10));
+    StaleCache<String, String> cache = staleCache(new SimpleMeterRegistry());
+    cache.load("p", () -> executor.execute(CLIENT, () -> api.getProduct("p")));
+    status.set(404);
+
+    // when & then
+    assertThatThrownBy(
+            () -> cache.load("p", () -> executor.execute(CLIENT, () -> api.getProduct("p"))))
+        .isInstanceOf(ProductFeignException.class);
+    assertThatThrownBy(() -> cache.fallback(List.of("p", "q"), new IllegalStateException()))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private ResilientClientExecutor executor(
+      CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+    return new ResilientClientExecutor(circuitBreakerRegistry, bulkheadRegistry);
+  }
+
+  private CircuitBreakerRegistry circuitBreaker() {
+    ClientResilienceProperties.CircuitBreaker properties =
+        new ClientResilienceProperties.CircuitBreaker();
+    properties.setSlidingWindowSize(4);
+    properties.setMinimumNumberOfCalls(4);
+    properties.setWaitDurationInOpenState(Duration.ofMinutes(1));
+    return CircuitBreakerRegistry.of(ClientResilienceConfig.toConfig(properties));
+  }
+
+  private BulkheadRegistry bulkhead(int maxConcurrentCalls) {
+    ClientResilienceProperties.Bulkhead properties = new ClientResilienceProperties.Bulkhead();
+    properties.setMaxConcurrentCalls(maxConcurrentCalls);
+    return BulkheadRegistry.of(ClientResilienceConfig.toConfig(properties));
+  }
+
+  private StaleCache<String, String> staleCache(SimpleMeterRegistry meterRegistry) {
+    ClientResilienceProperties.StaleCache properties = new ClientResilienceProperties.StaleCache();
+    properties.setEnabled(true);
+    return new StaleCache<>(CLIENT, properties, meterRegistry, Clock.systemUTC());
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import com.athenhub.stockservice.stock.application.dto.StockInitializeCommand;
+import com.athenhub.stockservice.stock.application.event.external.StockDecreaseSuccessEvent;
+import com.athenhub.stockservice.stock.application.event.external.StockRegisteredEvent;
+import com.athenhub.stockservice.stock.application.service.RegisterStockService;
+import com.athenhub.stockservice.stock.application.service.StockDecreaseHandler;
+import com.athenhub.stockservice.stock.application.service.StockInitializeCommandFixture;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재고 이벤트가 비즈니스 트랜잭션과 함께 Outbox에 저장되는지 검증하는 통합 테스트.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class OutboxAppenderIntegrationTest {
+
+  @Autowired private RegisterStockService registerStockService;
+
+  @Autowired private StockDecreaseHandler stockDecreaseHandler;
+
+  @Autowired private OutboxAppender outboxAppender;
+
+  @Autowired private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @DisplayName("재고 등록과 재고 감소 성공 이벤트가 같은 트랜잭션에서 Outbox에 저장된다.")
+  void eventsAreAppendedToOutbox() {
+    // given
+    StockInitializeCommand command = StockInitializeCommandFixture.create();
+    UUID variantId = command.productVariants().get(0).id();
+    UUID orderId = UUID.randomUUID();
+
+    // when
+    registerStockService.register(command);
+    stockDecreaseHandler.decreaseAll(
+        orderId,
+        List.of(
+            new StockDecreaseRequest(command.productId(), variantId, 1, LocalDateTime.now())));
+
+    // then
+    Map<String, Object> registered = findByAggregateId(command.productId());
+    assertThat(registered.get("aggregate_type")).isEqualTo("PRODUCT");
+    assertThat(registered.get("routing_key")).isEqualTo("stock.registered");
+    assertThat(registered.get("payload_type")).isEqualTo(StockRegisteredEvent.class.getName());
+    assertThat((String) registered.get("payload")).contains(command.productId().toString());
+    assertThat(registered.get("published_at")).isNull();
+
+    Map<String, Object> decreased = findByAggregateId(orderId);
+    assertThat(decreased.get("aggregate_type")).isEqualTo("ORDER");
+    assertThat(decreased.get("payload_type"))
+        .isEqualTo(StockDecreaseSuccessEvent.class.getName());
+    assertThat((String) decreased.get("payload")).contains(orderId.toString());
+  }
+
+  @Test
+  @Transactional(propagation = Propagation.NOT_SUPPORTED)
+  @DisplayName("트랜잭션 밖에서 Outbox에 저장하면 예외가 발생한다.")
+  void appendRequiresTransaction() {
+    // given
+    UUID orderId = UUID.randomUUID();
+    StockDecreaseSuccessEvent event = StockDecreaseSuccessEvent.of(orderId);
+
+    // when & then
+    assertThatThrownBy(
+            () -> outboxAppender.append("ORDER", orderId, "stock.exchange", "stock.test", event))
+        .isInstanceOf(IllegalTransactionStateException.class);
+  }
+
+  private Map<String, Object> findByAggregateId(UUID aggregateId) {
+    return jdbcTemplate.queryForMap(
+        "select aggregate_type, routing_key, payload_type, payload, published_at"
+            + " from p_stock_outbox where aggregate_id = ?",
+        aggregateId);
+  }
+}
@@ -0,0 +1,46 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.stockservice.stock.application.event.external.StockDecreaseSuccessEvent;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.MessageConverterConfig;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter.PayloadCompressor;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter.StockMessageConverter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class OutboxAppenderTest {
+
+  private final JdbcOutboxRepository outboxRepository = mock(JdbcOutboxRepository.class);
+
+  @Test
+  @DisplayName("발행 컨버터가 압축을 사용해도 Outbox에는 압축하지 않은 JSON으로 저장된다.")
+  void storesUncompressedJson() {
+    // given
+    StockMessageConverter compressingConverter =
+        new StockMessageConverter(
+            new MessageConverterConfig().rabbitObjectMapper(),
+            false,
+            new PayloadCompressor(PayloadCompressor.Algorithm.GZIP, 1, new SimpleMeterRegistry()));
+    OutboxAppender appender = new OutboxAppender(outboxRepository, compressingConverter);
+    UUID orderId = UUID.randomUUID();
+
+    // when
+    appender.append(
+        "ORDER", orderId, "stock.exchange", "stock.test", StockDecreaseSuccessEvent.of(orderId));
+
+    // then
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<OutboxEntry>> captor = ArgumentCaptor.forClass(List.class);
+    verify(outboxRepository).insertAll(captor.capture());
+    OutboxEntry entry = captor.getValue().get(0);
+    assertThat(entry.payload()).startsWith("{").contains(orderId.toString());
+    assertThat(entry.payloadType()).isEqualTo(StockDecreaseSuccessEvent.class.getName());
+  }
+}
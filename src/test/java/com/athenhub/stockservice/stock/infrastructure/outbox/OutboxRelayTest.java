@@ -0,0 +1,182 @@
+package com.athenhub.stockservice.stock.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+class OutboxRelayTest {
+
+  private static final int BATCH_SIZE = 10;
+
+  private final JdbcOutboxRepository outboxRepository = mock(JdbcOutboxRepository.class);
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final PlatformTransactionManager transactionManager =
+      mock(PlatformTransactionManager.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final OutboxProperties props = new OutboxProperties();
+
+  /** 발행 호출마다 순서대로 적용할 Broker 응답. 비어 있으면 Confirm을 보내지 않는다. */
+  private final Deque<Consumer<CorrelationData>> brokerResponses = new ArrayDeque<>();
+
+  private OutboxRelay relay;
+
+  @BeforeEach
+  void setUp() {
+    props.getRelay().setConfirmTimeout(Duration.ofMillis(50));
+    given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    doAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(3);
+              Consumer<CorrelationData> response = brokerResponses.poll();
+              if (response != null) {
+                response.accept(correlation);
+              }
+              return null;
+            })
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+    relay =
+        new OutboxRelay(
+            outboxRepository, rabbitTemplate, transactionManager, props, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("Broker가 ACK한 메시지만 발행 완료로 표시하고, NACK된 메시지는 미발행으로 남긴다.")
+  void marksOnlyAckedMessages() {
+    // given
+    givenClaimed(List.of(entry(1L), entry(2L)));
+    brokerResponses.add(ack());
+    brokerResponses.add(nack());
+
+    // when
+    int relayed = relay.relayBatch(BATCH_SIZE);
+
+    // then
+    verify(outboxRepository).markPublished(List.of(1L));
+    verify(outboxRepository).releaseClaims(List.of(2L));
+    assertThat(relayed).isZero();
+    assertThat(meterRegistry.counter("outbox.relay.published").count()).isEqualTo(1);
+    assertThat(meterRegistry.counter("outbox.relay.unconfirmed").count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("라우팅되지 않고 반환된 메시지는 ACK를 받아도 발행 완료로 표시하지 않는다.")
+  void returnedMessageIsNotMarked() {
+    // given
+    givenClaimed(List.of(entry(1L)));
+    brokerResponses.add(returned());
+
+    // when
+    relay.relayBatch(BATCH_SIZE);
+
+    // then
+    verify(outboxRepository, never()).markPublished(anyList());
+  }
+
+  @Test
+  @DisplayName("Confirm 대기 시간 안에 ACK를 받지 못하면 발행 완료로 표시하지 않는다.")
+  void unconfirmedMessageIsNotMarked() {
+    // given
+    givenClaimed(List.of(entry(1L)));
+
+    // when
+    int relayed = relay.relayBatch(BATCH_SIZE);
+
+    // then
+    assertThat(relayed).isZero();
+    verify(outboxRepository, never()).markPublished(anyList());
+  }
+
+  @Test
+  @DisplayName("선점 트랜잭션을 커밋한 뒤 발행하고, Confirm을 받은 후 별도 트랜잭션으로 발행 완료를 표시한다.")
+  void publishesOutsideClaimTransaction() {
+    // given
+    givenClaimed(List.of(entry(1L)));
+    brokerResponses.add(ack());
+
+    // when
+    int relayed = relay.relayBatch(BATCH_SIZE);
+
+    // then
+    InOrder inOrder = inOrder(outboxRepository, transactionManager, rabbitTemplate);
+    inOrder.verify(outboxRepository).claimNextBatch(eq(BATCH_SIZE), any(Duration.class));
+    inOrder.verify(transactionManager).commit(any());
+    inOrder
+        .verify(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+    inOrder.verify(transactionManager).getTransaction(any());
+    inOrder.verify(outboxRepository).markPublished(List.of(1L));
+    inOrder.verify(transactionManager).commit(any());
+    assertThat(relayed).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("선점한 메시지가 없으면 발행하지 않는다.")
+  void nothingClaimed() {
+    // given
+    givenClaimed(List.of());
+
+    // when
+    int relayed = relay.relayBatch(BATCH_SIZE);
+
+    // then
+    assertThat(relayed).isZero();
+    verify(rabbitTemplate, never())
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
+
+  private void givenClaimed(List<OutboxEntry> entries) {
+    given(outboxRepository.claimNextBatch(eq(BATCH_SIZE), any(Duration.class)))
+        .willReturn(entries);
+  }
+
+  private static OutboxEntry entry(long id) {
+    return new OutboxEntry(
+        id, "ORDER", UUID.randomUUID(), "stock.exchange", "stock.test", "type", "{}");
+  }
+
+  private static Consumer<CorrelationData> ack() {
+    return correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+  }
+
+  private static Consumer<CorrelationData> nack() {
+    return correlation ->
+        correlation.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+  }
+
+  private static Consumer<CorrelationData> returned() {
+    return correlation -> {
+      correlation.setReturned(
+          new ReturnedMessage(
+              new Message(new byte[0]), 312, "NO_ROUTE", "stock.exchange", "stock.test"));
+      correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+    };
+  }
+}
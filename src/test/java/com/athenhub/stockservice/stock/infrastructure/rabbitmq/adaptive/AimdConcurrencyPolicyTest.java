@@ -0,0 +1,94 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.adaptive.ConcurrencyDecision.Action;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class AimdConcurrencyPolicyTest {
+
+  private final RabbitStockProperties.Adaptive props = new RabbitStockProperties.Adaptive();
+  private final AimdConcurrencyPolicy policy = new AimdConcurrencyPolicy(props);
+
+  @Test
+  @DisplayName("Queue가 적체되면 Consumer를 1개, Prefetch를 step만큼 늘린다.")
+  void increasesOnQueueDepth() {
+    // given
+    ConcurrencySignals signals = new ConcurrencySignals(1_000, 1, 0, 0);
+
+    // when
+    ConcurrencyDecision decision = policy.decide(signals, 4, 10);
+
+    // then
+    assertThat(decision.action()).isEqualTo(Action.INCREASE);
+    assertThat(decision.reason()).isEqualTo("queue_depth");
+    assertThat(decision.consumers()).isEqualTo(5);
+    assertThat(decision.prefetch()).isEqualTo(15);
+  }
+
+  @Test
+  @DisplayName("커넥션 획득 대기가 한도를 넘으면 Queue가 적체되어 있어도 절반으로 줄인다.")
+  void decreasesOnAcquireWaitEvenWhenBacklogged() {
+    // given
+    ConcurrencySignals signals = new ConcurrencySignals(1_000, 50, 0, 0);
+
+    // when
+    ConcurrencyDecision decision = policy.decide(signals, 8, 20);
+
+    // then
+    assertThat(decision.action()).isEqualTo(Action.DECREASE);
+    assertThat(decision.reason()).isEqualTo("acquire_wait");
+    assertThat(decision.consumers()).isEqualTo(4);
+    assertThat(decision.prefetch()).isEqualTo(10);
+  }
+
+  @Test
+  @DisplayName("락 충돌 비율이 한도를 넘으면 줄이되 최소값 아래로는 내려가지 않는다.")
+  void decreaseIsClampedToMinimum() {
+    // given
+    ConcurrencySignals signals = new ConcurrencySignals(100, 0, 0, 0.3);
+
+    // when
+    ConcurrencyDecision decision = policy.decide(signals, 1, 1);
+
+    // then
+    assertThat(decision.action()).isEqualTo(Action.HOLD);
+    assertThat(decision.reason()).isEqualTo("conflict_rate");
+    assertThat(decision.consumers()).isEqualTo(props.getMinConsumers());
+    assertThat(decision.prefetch()).isEqualTo(props.getMinPrefetch());
+  }
+
+  @Test
+  @DisplayName("최대값에 도달하면 Queue가 적체되어 있어도 더 늘리지 않는다.")
+  void increaseIsClampedToMaximum() {
+    // given
+    ConcurrencySignals signals = new ConcurrencySignals(1_000, 0, 0, 0);
+
+    // when
+    ConcurrencyDecision decision =
+        policy.decide(signals, props.getMaxConsumers(), props.getMaxPrefetch());
+
+    // then
+    assertThat(decision.action()).isEqualTo(Action.HOLD);
+    assertThat(decision.consumers()).isEqualTo(props.getMaxConsumers());
+    assertThat(decision.prefetch()).isEqualTo(props.getMaxPrefetch());
+  }
+
+  @Test
+  @DisplayName("Queue가 거의 비어 있으면 Consumer를 1개 줄이고 Prefetch는 유지한다.")
+  void shrinksConsumersWhenIdle() {
+    // given
+    ConcurrencySignals signals = new ConcurrencySignals(0, 0, 0, 0);
+
+    // when
+    ConcurrencyDecision decision = policy.decide(signals, 4, 10);
+
+    // then
+    assertThat(decision.action()).isEqualTo(Action.DECREASE);
+    assertThat(decision.reason()).isEqualTo("idle");
+    assertThat(decision.consumers()).isEqualTo(3);
+    assertThat(decision.prefetch()).isEqualTo(10);
+  }
+}
@@ -0,0 +1,119 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.CachingConnectionFactory;
+import org.springframework.amqp.rabbit.core.ChannelAwareMessageListener;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+/**
+ * Listener Container의 동시 Consumer 수와 Prefetch 설정에 따른 처리량을 비교한다.
+ *
+ * <p>로컬 RabbitMQ({@code RABBITMQ_HOST}, 기본 localhost:5672)가 필요하며, 연결할 수 없으면 건너뛴다. {@code ./gradlew
+ * benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+class ListenerConcurrencyBenchmarkTest {
+
+  private static final int MESSAGES = 5_000;
+
+  /** 메시지 하나를 처리하는 데 걸리는 시간(DB 갱신 등)을 흉내 낸 지연(ms). */
+  private static final long WORK_MILLIS = 1;
+
+  private CachingConnectionFactory connectionFactory;
+  private RabbitAdmin admin;
+  private String queue;
+
+  @BeforeEach
+  void setUp() {
+    connectionFactory =
+        new CachingConnectionFactory(
+            System.getenv().getOrDefault("RABBITMQ_HOST", "localhost"), 5672);
+    admin = new RabbitAdmin(connectionFactory);
+    try {
+      queue = admin.declareQueue(new AnonymousQueue());
+    } catch (RuntimeException e) {
+      connectionFactory.destroy();
+      assumeTrue(false, "RabbitMQ에 연결할 수 없어 벤치마크를 건너뜁니다: " + e.getMessage());
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (queue != null) {
+      admin.deleteQueue(queue);
+    }
+    connectionFactory.destroy();
+  }
+
+  @ParameterizedTest(name = "consumers={0}, prefetch={1}")
+  @CsvSource({"1, 1", "1, 50", "4, 1", "4, 50", "8, 250"})
+  @DisplayName("동시 Consumer 수와 Prefetch를 늘리면 MANUAL ACK 처리량이 증가한다.")
+  void throughput(int consumers, int prefetch) throws Exception {
+    // given
+    publish(MESSAGES);
+    ListenerProperties listener = new ListenerProperties();
+    listener.setConcurrentConsumers(consumers);
+    listener.setMaxConcurrentConsumers(consumers);
+    listener.setPrefetch(prefetch);
+    SimpleRabbitListenerContainerFactory factory =
+        RabbitListenerConfig.manualAckFactory(
+            connectionFactory, new SimpleMessageConverter(), listener);
+
+    CountDownLatch done = new CountDownLatch(MESSAGES);
+    SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+    endpoint.setId("benchmark-" + consumers + "-" + prefetch);
+    endpoint.setQueueNames(queue);
+    endpoint.setMessageListener(
+        (ChannelAwareMessageListener)
+            (message, channel) -> {
+              Thread.sleep(WORK_MILLIS);
+              channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+              done.countDown();
+            });
+    SimpleMessageListenerContainer container = factory.createListenerContainer(endpoint);
+
+    // when
+    long startedAt = System.nanoTime();
+    container.start();
+    boolean completed = done.await(5, TimeUnit.MINUTES);
+    long elapsedNanos = System.nanoTime() - startedAt;
+    container.stop();
+
+    // then
+    assertThat(completed).isTrue();
+    System.out.printf(
+        "[BENCHMARK] consumers=%d prefetch=%d messages=%d elapsedMs=%d throughput=%d/s%n",
+        consumers,
+        prefetch,
+        MESSAGES,
+        TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        MESSAGES * 1_000_000_000L / elapsedNanos);
+  }
+
+  private void publish(int count) {
+    RabbitTemplate template = new RabbitTemplate(connectionFactory);
+    byte[] body = "{\"orderId\":\"benchmark\"}".getBytes(StandardCharsets.UTF_8);
+    for (int i = 0; i < count; i++) {
+      template.send("", queue, new Message(body, new MessageProperties()));
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order.RabbitOrderProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class RabbitListenerConfigTest {
+
+  private final ConnectionFactory connectionFactory = mock(ConnectionFactory.class);
+  private final Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+  private final MockEnvironment environment = new MockEnvironment();
+
+  /** {@code application.yml}에 정의하는 형태의 설정 값. */
+  private final Map<String, String> properties = new HashMap<>();
+
+  @BeforeEach
+  void setUp() {
+    listener("rabbit.order.created.listener", 2, 6, 20);
+    listener("rabbit.stock.decrease.listener", 4, 8, 30);
+    listener("rabbit.stock.decrease-dead.listener", 1, 1, 5);
+    listener("rabbit.stock.inbound.listener", 3, 5, 15);
+    listener("rabbit.stock.reserve.listener", 6, 12, 1);
+    properties.put("rabbit.stock.decrease.batch.size", "100");
+    properties.put("rabbit.stock.decrease.batch.receive-timeout", "250");
+  }
+
+  @Test
+  @DisplayName("Listener별 컨테이너 팩토리는 Queue별 동시 Consumer 수, 최대 Consumer 수, Prefetch 설정을 적용한다.")
+  void factoriesBindListenerProperties() {
+    // given
+    RabbitListenerConfig config = config();
+
+    // when & then
+    assertContainer(
+        config.orderCreatedListenerFactory(connectionFactory, converter), 2, 6, 20);
+    assertContainer(
+        config.stockDecreaseListenerFactory(connectionFactory, converter), 4, 8, 30);
+    assertContainer(
+        config.stockDecreaseDeadListenerFactory(connectionFactory, converter), 1, 1, 5);
+    assertContainer(
+        config.stockInboundListenerFactory(connectionFactory, converter), 3, 5, 15);
+    assertContainer(
+        config.stockReserveListenerFactory(connectionFactory, converter), 6, 12, 1);
+  }
+
+  @Test
+  @DisplayName("최대 Consumer 수가 동시 Consumer 수보다 작으면 동시 Consumer 수로 맞춘다.")
+  void maxConcurrencyNotBelowConcurrency() {
+    // given
+    listener("rabbit.stock.inbound.listener", 4, 2, 10);
+
+    // when
+    SimpleRabbitListenerContainerFactory factory =
+        config().stockInboundListenerFactory(connectionFactory, converter);
+
+    // then
+    assertContainer(factory, 4, 4, 10);
+  }
+
+  @Test
+  @DisplayName("배치 컨테이너 팩토리는 배치 크기를 적용하고, Prefetch를 배치 크기 이상으로 맞춘다.")
+  void batchFactoryPrefetchCoversBatchSize() {
+    // when
+    SimpleMessageListenerContainer container =
+        container(config().stockDecreaseBatchListenerFactory(connectionFactory, converter));
+
+    // then
+    assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers")).isEqualTo(4);
+    assertThat(ReflectionTestUtils.getField(container, "prefetchCount")).isEqualTo(100);
+    assertThat(ReflectionTestUtils.getField(container, "batchSize")).isEqualTo(100);
+    assertThat(ReflectionTestUtils.getField(container, "receiveTimeout")).isEqualTo(250L);
+  }
+
+  @Test
+  @DisplayName("가상 스레드가 활성화되면 Consumer 스레드를 가상 스레드 실행기로 실행한다.")
+  void virtualThreadExecutor() {
+    // given
+    environment.setProperty("spring.threads.virtual.enabled", "true");
+
+    // when
+    SimpleRabbitListenerContainerFactory factory =
+        config().stockDecreaseListenerFactory(connectionFactory, converter);
+
+    // then
+    assertThat(ReflectionTestUtils.getField(factory, "taskExecutor"))
+        .isInstanceOf(VirtualThreadTaskExecutor.class);
+  }
+
+  private RabbitListenerConfig config() {
+    Binder binder = new Binder(new MapConfigurationPropertySource(properties));
+    return new RabbitListenerConfig(
+        binder.bind("rabbit.stock", RabbitStockProperties.class).get(),
+        binder.bind("rabbit.order", RabbitOrderProperties.class).get(),
+        environment);
+  }
+
+  private void listener(String prefix, int concurrent, int maxConcurrent, int prefetch) {
+    properties.put(prefix + ".concurrent-consumers", String.valueOf(concurrent));
+    properties.put(prefix + ".max-concurrent-consumers", String.valueOf(maxConcurrent));
+    properties.put(prefix + ".prefetch", String.valueOf(prefetch));
+  }
+
+  private static void assertContainer(
+      SimpleRabbitListenerContainerFactory factory,
+      int concurrent,
+      int maxConcurrent,
+      int prefetch) {
+    SimpleMessageListenerContainer container = container(factory);
+    assertThat(ReflectionTestUtils.getField(container, "concurrentConsumers"))
+        .isEqualTo(concurrent);
+    assertThat(ReflectionTestUtils.getField(container, "maxConcurrentConsumers"))
+        .isEqualTo(maxConcurrent);
+    assertThat(ReflectionTestUtils.getField(container, "prefetchCount")).isEqualTo(prefetch);
+  }
+
+  private static SimpleMessageListenerContainer container(
+      SimpleRabbitListenerContainerFactory factory) {
+    SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+    endpoint.setId("test");
+    endpoint.setQueueNames("test.queue");
+    endpoint.setMessageListener(message -> {});
+    return factory.createListenerContainer(endpoint);
+  }
+}
@@ -0,0 +1,53 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DecreaseRetryPropertiesTest {
+
+  private final RabbitStockProperties.DecreaseRetry retry =
+      new RabbitStockProperties.DecreaseRetry();
+
+  @Test
+  @DisplayName("retryCount에 따라 단계를 고르고, 단계 수를 넘으면 마지막 단계를 사용한다.")
+  void tierIndex() {
+    // given
+    retry.setTiers(List.of(Duration.ofMillis(50), Duration.ofMillis(200), Duration.ofSeconds(1)));
+
+    // when & then
+    assertThat(retry.tierIndex(1)).isZero();
+    assertThat(retry.tierIndex(2)).isEqualTo(1);
+    assertThat(retry.tierIndex(3)).isEqualTo(2);
+    assertThat(retry.tierIndex(10)).isEqualTo(2);
+  }
+
+  @Test
+  @DisplayName("단계의 Queue 이름과 라우팅키에는 지연 시간이 포함된다.")
+  void tierNames() {
+    // given
+    retry.setQueue("stock.decrease.retry.queue");
+    retry.setRoutingKey("stock.decrease.retry");
+    retry.setTiers(List.of(Duration.ofMillis(50), Duration.ofSeconds(5)));
+
+    // when & then
+    assertThat(retry.tierQueue(0)).isEqualTo("stock.decrease.retry.queue.50ms");
+    assertThat(retry.tierRoutingKey(1)).isEqualTo("stock.decrease.retry.5000ms");
+  }
+
+  @Test
+  @DisplayName("오류 유형별 최대 재시도 횟수가 없으면 기본값을 사용한다.")
+  void maxRetriesFor() {
+    // given
+    retry.setDefaultMaxRetries(5);
+    retry.getMaxRetries().put(StockErrorType.CONFLICT, 10);
+
+    // when & then
+    assertThat(retry.maxRetriesFor(StockErrorType.CONFLICT)).isEqualTo(10);
+    assertThat(retry.maxRetriesFor(StockErrorType.UNKNOWN_ERROR)).isEqualTo(5);
+  }
+}
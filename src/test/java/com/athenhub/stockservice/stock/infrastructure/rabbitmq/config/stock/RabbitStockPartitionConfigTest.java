@@ -0,0 +1,99 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.StockDecreasePartitionKey;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.CustomExchange;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+
+class RabbitStockPartitionConfigTest {
+
+  private static final String PARTITION_EXCHANGE = "stock.decrease.partition.exchange";
+
+  private final RabbitStockProperties props = new RabbitStockProperties();
+  private final RabbitStockPartitionConfig config = new RabbitStockPartitionConfig(props);
+
+  @BeforeEach
+  void setUp() {
+    props.setExchange("stock.exchange");
+    props.setDecrease(new RabbitStockProperties.Decrease());
+    props.getDecrease().setRoutingKey("stock.decrease");
+    props.getDecrease().getPartition().setExchange(PARTITION_EXCHANGE);
+    props.getDecrease().getPartition().setQueuePrefix("stock.decrease.partition.");
+    props.getDecrease().getPartition().setCount(3);
+    props.setDecreaseRetry(new RabbitStockProperties.DecreaseRetry());
+    props.getDecreaseRetry().setRoutingKey("stock.decrease.retry");
+  }
+
+  @Test
+  @DisplayName("파티션 키 헤더의 해시로 라우팅하는 Consistent-Hash Exchange를 선언한다.")
+  void consistentHashExchange() {
+    // when
+    CustomExchange exchange = config.stockDecreasePartitionExchange();
+
+    // then
+    assertThat(exchange.getName()).isEqualTo(PARTITION_EXCHANGE);
+    assertThat(exchange.getType()).isEqualTo("x-consistent-hash");
+    assertThat(exchange.isDurable()).isTrue();
+    assertThat(exchange.getArguments())
+        .containsEntry("hash-header", StockDecreasePartitionKey.HEADER);
+  }
+
+  @Test
+  @DisplayName("재고 감소 Routing Key로 발행된 메시지를 파티션 Exchange로 전달한다.")
+  void exchangeBinding() {
+    // when
+    Binding binding =
+        config.stockDecreasePartitionExchangeBinding(new TopicExchange("stock.exchange"));
+
+    // then
+    assertThat(binding.getExchange()).isEqualTo("stock.exchange");
+    assertThat(binding.getDestination()).isEqualTo(PARTITION_EXCHANGE);
+    assertThat(binding.getDestinationType()).isEqualTo(Binding.DestinationType.EXCHANGE);
+    assertThat(binding.getRoutingKey()).isEqualTo("stock.decrease");
+  }
+
+  @Test
+  @DisplayName("파티션 수만큼 Single Active Consumer Queue를 선언하고 같은 가중치로 바인딩한다.")
+  void partitionQueues() {
+    // when
+    Declarables declarables = config.stockDecreasePartitionQueues();
+
+    // then
+    List<Queue> queues = declarables.getDeclarablesByType(Queue.class);
+    assertThat(queues)
+        .extracting(Queue::getName)
+        .containsExactly(
+            "stock.decrease.partition.0",
+            "stock.decrease.partition.1",
+            "stock.decrease.partition.2");
+    assertThat(queues)
+        .allSatisfy(
+            queue -> {
+              assertThat(queue.isDurable()).isTrue();
+              assertThat(queue.getArguments())
+                  .containsEntry("x-single-active-consumer", true)
+                  .containsEntry("x-dead-letter-exchange", "stock.exchange")
+                  .containsEntry("x-dead-letter-routing-key", "stock.decrease.retry");
+            });
+
+    List<Binding> bindings = declarables.getDeclarablesByType(Binding.class);
+    assertThat(bindings)
+        .extracting(Binding::getDestination)
+        .containsExactly(config.partitionQueueNames());
+    assertThat(bindings)
+        .allSatisfy(
+            binding -> {
+              assertThat(binding.getExchange()).isEqualTo(PARTITION_EXCHANGE);
+              assertThat(binding.getDestinationType()).isEqualTo(Binding.DestinationType.QUEUE);
+              assertThat(binding.getRoutingKey()).isEqualTo("1");
+            });
+  }
+}
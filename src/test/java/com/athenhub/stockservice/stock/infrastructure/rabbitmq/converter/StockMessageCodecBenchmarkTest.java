@@ -0,0 +1,83 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.MessageConverterConfig;
+import java.util.function.Function;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * 재고 감소 이벤트의 JSON 포맷과 바이너리 포맷의 크기 및 인코딩/디코딩 시간을 비교한다.
+ *
+ * <p>JIT 워밍업 후 같은 메시지를 반복 변환하여 평균 시간을 출력한다. {@code ./gradlew benchmark}로 실행한다.
+ */
+@Tag("benchmark")
+class StockMessageCodecBenchmarkTest {
+
+  private static final int WARMUP = 20_000;
+  private static final int ITERATIONS = 100_000;
+
+  private final StockMessageConverter jsonConverter =
+      new StockMessageConverter(new MessageConverterConfig().rabbitObjectMapper(), false);
+
+  private final StockMessageConverter compactConverter =
+      new StockMessageConverter(new MessageConverterConfig().rabbitObjectMapper(), true);
+
+  @ParameterizedTest(name = "lines={0}")
+  @ValueSource(ints = {1, 10, 200})
+  @DisplayName("바이너리 포맷은 JSON보다 작고 빠르게 인코딩/디코딩된다.")
+  void compareFormats(int lines) {
+    // given
+    StockDecreaseBatchEvent event = StockMessageConverterTest.event(lines);
+    int iterations = Math.max(ITERATIONS / lines, 1_000);
+
+    // when
+    Message json = jsonConverter.toMessage(event, new MessageProperties());
+    Message compact = compactConverter.toMessage(event, new MessageProperties());
+    double jsonEncode =
+        measure(iterations, e -> jsonConverter.toMessage(e, new MessageProperties()), event);
+    double compactEncode =
+        measure(iterations, e -> compactConverter.toMessage(e, new MessageProperties()), event);
+    double jsonDecode = measure(iterations, this::decodeJson, json);
+    double compactDecode = measure(iterations, compactConverter::fromMessage, compact);
+
+    // then
+    assertThat(compact.getBody().length).isLessThan(json.getBody().length);
+    System.out.printf(
+        "[BENCHMARK] lines=%d jsonBytes=%d compactBytes=%d"
+            + " encodeNs(json/compact)=%.0f/%.0f decodeNs(json/compact)=%.0f/%.0f%n",
+        lines,
+        json.getBody().length,
+        compact.getBody().length,
+        jsonEncode,
+        compactEncode,
+        jsonDecode,
+        compactDecode);
+  }
+
+  private Object decodeJson(Message message) {
+    message.getMessageProperties().setInferredArgumentType(StockDecreaseBatchEvent.class);
+    return jsonConverter.fromMessage(message);
+  }
+
+  /** 워밍업 후 {@code iterations}회 실행한 평균 시간(ns/op)을 반환한다. */
+  private static <T> double measure(int iterations, Function<T, Object> operation, T input) {
+    Object sink = null;
+    for (int i = 0; i < WARMUP; i++) {
+      sink = operation.apply(input);
+    }
+    long startedAt = System.nanoTime();
+    for (int i = 0; i < iterations; i++) {
+      sink = operation.apply(input);
+    }
+    long elapsedNanos = System.nanoTime() - startedAt;
+    assertThat(sink).isNotNull();
+    return (double) elapsedNanos / iterations;
+  }
+}
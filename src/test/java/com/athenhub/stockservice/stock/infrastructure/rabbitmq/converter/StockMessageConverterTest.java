@@ -0,0 +1,219 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.MessageConverterConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConversionException;
+
+class StockMessageConverterTest {
+
+  private final StockMessageConverter compactConverter =
+      new StockMessageConverter(new MessageConverterConfig().rabbitObjectMapper(), true);
+
+  private final StockMessageConverter jsonConverter =
+      new StockMessageConverter(new MessageConverterConfig().rabbitObjectMapper(), false);
+
+  @Test
+  @DisplayName("compact 포맷으로 발행한 재고 감소 이벤트는 바이너리로 인코딩되고 같은 값으로 복원된다.")
+  void compactRoundTrip() {
+    // given
+    StockDecreaseBatchEvent event = event(3);
+
+    // when
+    Message message = compactConverter.toMessage(event, new MessageProperties());
+    Object decoded = jsonConverter.fromMessage(message);
+
+    // then
+    assertThat(message.getMessageProperties().getContentType())
+        .isEqualTo(StockMessageConverter.CONTENT_TYPE);
+    assertThat(decoded).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("비어 있는 값과 서로 다른 요청 시각도 그대로 복원된다.")
+  void compactRoundTripWithNullsAndDistinctTimes() {
+    // given
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_456_789);
+    StockDecreaseBatchEvent event =
+        new StockDecreaseBatchEvent(
+            UUID.randomUUID(),
+            null,
+            List.of(
+                new StockDecreaseRequest(UUID.randomUUID(), UUID.randomUUID(), 1, now),
+                new StockDecreaseRequest(UUID.randomUUID(), null, 70_000, now.plusNanos(1)),
+                new StockDecreaseRequest(null, UUID.randomUUID(), 2, null)));
+
+    // when
+    byte[] body = StockDecreaseBatchCodec.encode(event);
+
+    // then
+    assertThat(StockDecreaseBatchCodec.decode(body)).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("기존 Producer가 보낸 JSON 메시지도 그대로 읽는다.")
+  void legacyJsonIsStillReadable() {
+    // given
+    StockDecreaseBatchEvent event = event(2);
+    Message message = jsonConverter.toMessage(event, new MessageProperties());
+    message.getMessageProperties().setInferredArgumentType(StockDecreaseBatchEvent.class);
+
+    // when
+    Object decoded = compactConverter.fromMessage(message);
+
+    // then
+    assertThat(message.getMessageProperties().getContentType())
+        .isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    assertThat(decoded).isEqualTo(event);
+  }
+
+  @Test
+  @DisplayName("재고 감소 이벤트가 아닌 메시지는 compact 설정이어도 JSON으로 발행한다.")
+  void otherPayloadsStayJson() {
+    // when
+    Message message = compactConverter.toMessage(List.of("a", "b"), new MessageProperties());
+
+    // then
+    assertThat(message.getMessageProperties().getContentType())
+        .isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+  }
+
+  @Test
+  @DisplayName("잘린 바이너리 메시지는 변환 예외로 처리된다.")
+  void truncatedPayloadFails() {
+    // given
+    byte[] body = StockDecreaseBatchCodec.encode(event(2));
+    byte[] truncated = Arrays.copyOf(body, body.length - 5);
+
+    // when & then
+    assertThatThrownBy(() -> StockDecreaseBatchCodec.decode(truncated))
+        .isInstanceOf(MessageConversionException.class);
+  }
+
+  @Test
+  @DisplayName("범위를 벗어난 시각이 담긴 바이너리 메시지는 변환 예외로 처리된다.")
+  void invalidTimePayloadFails() {
+    // given
+    byte[] outOfRangeSeconds = orderedAtPayload(Long.MAX_VALUE, 0);
+    byte[] outOfRangeNanos = orderedAtPayload(0, 1_000_000_000);
+
+    // when & then
+    assertThatThrownBy(() -> StockDecreaseBatchCodec.decode(outOfRangeSeconds))
+        .isInstanceOf(MessageConversionException.class);
+    assertThatThrownBy(() -> StockDecreaseBatchCodec.decode(outOfRangeNanos))
+        .isInstanceOf(MessageConversionException.class);
+  }
+
+  @Test
+  @DisplayName("빈 바이너리 메시지는 변환 예외로 처리된다.")
+  void emptyPayloadFails() {
+    // when & then
+    assertThatThrownBy(() -> StockDecreaseBatchCodec.decode(new byte[0]))
+        .isInstanceOf(MessageConversionException.class);
+  }
+
+  @Test
+  @DisplayName("임계값 이상의 메시지는 압축되고, 압축을 끈 컨버터도 content_encoding을 보고 해제한다.")
+  void largeMessageIsCompressed() {
+    // given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    StockMessageConverter gzipConverter =
+        new StockMessageConverter(
+            new MessageConverterConfig().rabbitObjectMapper(),
+            false,
+            new PayloadCompressor(PayloadCompressor.Algorithm.GZIP, 1024, meterRegistry));
+    StockDecreaseBatchEvent event = event(200);
+
+    // when
+    Message message = gzipConverter.toMessage(event, new MessageProperties());
+    message.getMessageProperties().setInferredArgumentType(StockDecreaseBatchEvent.class);
+    Object decoded = jsonConverter.fromMessage(message);
+
+    // then
+    assertThat(message.getMessageProperties().getContentEncoding()).isEqualTo("gzip:UTF-8");
+    assertThat(decoded).isEqualTo(event);
+    assertThat(
+            meterRegistry.summary("rabbit.message.compression.ratio", "algorithm", "gzip").mean())
+        .isLessThan(1.0);
+    assertThat(message.getMessageProperties().getContentEncoding())
+        .as("원본 메시지 속성은 해제 과정에서 바뀌지 않는다")
+        .startsWith("gzip");
+  }
+
+  @Test
+  @DisplayName("임계값보다 작은 메시지는 압축하지 않는다.")
+  void smallMessageIsNotCompressed() {
+    // given
+    StockMessageConverter deflateConverter =
+        new StockMessageConverter(
+            new MessageConverterConfig().rabbitObjectMapper(),
+            true,
+            new PayloadCompressor(
+                PayloadCompressor.Algorithm.DEFLATE, 4096, new SimpleMeterRegistry()));
+
+    // when
+    Message message = deflateConverter.toMessage(event(1), new MessageProperties());
+
+    // then
+    assertThat(message.getMessageProperties().getContentEncoding()).isNull();
+    assertThat(message.getMessageProperties().getContentType())
+        .isEqualTo(StockMessageConverter.CONTENT_TYPE);
+  }
+
+  @Test
+  @DisplayName("압축 해제한 본문이 최대 크기를 넘으면 더 읽지 않고 변환 예외로 처리한다.")
+  void oversizedInflatedPayloadFails() {
+    // given
+    PayloadCompressor compressor =
+        new PayloadCompressor(PayloadCompressor.Algorithm.GZIP, 1, 1024, new SimpleMeterRegistry());
+    MessageProperties properties = new MessageProperties();
+    properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+    Message bomb = compressor.compress(new Message(new byte[64 * 1024], properties));
+    StockMessageConverter limitedConverter =
+        new StockMessageConverter(
+            new MessageConverterConfig().rabbitObjectMapper(), false, null, 1024);
+
+    // when & then
+    assertThat(bomb.getBody().length).isLessThan(1024);
+    assertThatThrownBy(() -> compressor.decompress(bomb))
+        .isInstanceOf(MessageConversionException.class);
+    assertThatThrownBy(() -> limitedConverter.fromMessage(bomb))
+        .isInstanceOf(MessageConversionException.class);
+  }
+
+  /** orderedAt만 있고 요청 항목이 없는 바이너리 본문을 만든다. */
+  private static byte[] orderedAtPayload(long epochSecond, int nanos) {
+    ByteBuffer out = ByteBuffer.allocate(16);
+    out.put(StockDecreaseBatchCodec.VERSION).put((byte) 0b10).putLong(epochSecond);
+    while ((nanos & ~0x7F) != 0) {
+      out.put((byte) ((nanos & 0x7F) | 0x80));
+      nanos >>>= 7;
+    }
+    out.put((byte) nanos).put((byte) 0);
+    return Arrays.copyOf(out.array(), out.position());
+  }
+
+  static StockDecreaseBatchEvent event(int lines) {
+    LocalDateTime now = LocalDateTime.of(2025, 3, 1, 12, 30, 15, 123_000_000);
+    List<StockDecreaseRequest> requests =
+        IntStream.range(0, lines)
+            .mapToObj(
+                i -> new StockDecreaseRequest(UUID.randomUUID(), UUID.randomUUID(), i + 1, now))
+            .toList();
+    return new StockDecreaseBatchEvent(UUID.randomUUID(), now, requests);
+  }
+}
@@ -0,0 +1,142 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 재고 감소 DLQ 메시지의 보관과 재발행 대상 조회를 검증하는 통합 테스트.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class DeadLetterArchiveIntegrationTest {
+
+  @Autowired private DeadLetterArchive deadLetterArchive;
+
+  @Autowired private DeadLetterMessageRepository repository;
+
+  @Test
+  @DisplayName("DLQ 메시지의 Payload와 오류 유형, 재시도 횟수, 헤더가 보관된다.")
+  void archiveStoresPayloadAndHeaders() {
+    // given
+    UUID orderId = UUID.randomUUID();
+    Message message = deadMessage(orderId, StockErrorType.CONFLICT, 10);
+
+    // when
+    DeadLetterMessage archived = deadLetterArchive.archive(message, orderId);
+
+    // then
+    DeadLetterMessage found = repository.findById(archived.getId()).orElseThrow();
+    assertThat(found.getOrderId()).isEqualTo(orderId);
+    assertThat(found.getErrorType()).isEqualTo("CONFLICT");
+    assertThat(found.getRetryCount()).isEqualTo(10);
+    assertThat(found.getPayload()).contains(orderId.toString());
+    assertThat(found.getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    assertThat(found.getHeaders()).contains("x-error-type");
+    assertThat(found.getReplayedAt()).isNull();
+  }
+
+  @Test
+  @DisplayName("같은 메시지가 재전달되면 다시 보관하지 않고, 재발행 후 다시 적재되면 새로 보관한다.")
+  void archiveIsIdempotentUntilReplayed() {
+    // given
+    UUID orderId = UUID.randomUUID();
+    DeadLetterMessage first =
+        deadLetterArchive.archive(deadMessage(orderId, StockErrorType.CONFLICT, 10), orderId);
+
+    // when
+    DeadLetterMessage redelivered =
+        deadLetterArchive.archive(deadMessage(orderId, StockErrorType.CONFLICT, 10), orderId);
+    repository.markReplayed(List.of(first.getId()), LocalDateTime.now());
+    DeadLetterMessage deadAgain =
+        deadLetterArchive.archive(deadMessage(orderId, StockErrorType.CONFLICT, 10), orderId);
+
+    // then
+    assertThat(redelivered.getId()).isEqualTo(first.getId());
+    assertThat(deadAgain.getId()).isNotEqualTo(first.getId());
+    assertThat(first.getMessageId()).isEqualTo("stock-decrease-" + orderId);
+  }
+
+  @Test
+  @DisplayName("오류 유형과 시각 범위로 보관 메시지를 조회하고, 재발행한 메시지는 다시 선택되지 않는다.")
+  void filterAndMarkReplayed() {
+    // given
+    LocalDateTime from = LocalDateTime.now().minusSeconds(1);
+    UUID conflictOrderId = UUID.randomUUID();
+    DeadLetterMessage conflict =
+        deadLetterArchive.archive(
+            deadMessage(conflictOrderId, StockErrorType.CONFLICT, 10), conflictOrderId);
+    UUID unknownOrderId = UUID.randomUUID();
+    deadLetterArchive.archive(
+        deadMessage(unknownOrderId, StockErrorType.UNKNOWN_ERROR, 5), unknownOrderId);
+    LocalDateTime to = LocalDateTime.now().plusSeconds(1);
+
+    // when
+    List<DeadLetterMessage> replayable =
+        repository.findReplayable("CONFLICT", from, to, true, 0L, PageRequest.of(0, 10));
+    repository.markReplayed(List.of(conflict.getId()), LocalDateTime.now());
+
+    // then
+    assertThat(replayable)
+        .extracting(DeadLetterMessage::getOrderId)
+        .containsExactly(conflictOrderId);
+    assertThat(repository.search(null, from, to, PageRequest.of(0, 10)).getTotalElements())
+        .isEqualTo(2);
+    assertThat(repository.findReplayable("CONFLICT", from, to, true, 0L, PageRequest.of(0, 10)))
+        .isEmpty();
+    assertThat(repository.findById(conflict.getId()).orElseThrow().getReplayCount()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("처리 실패를 보고한 메시지는 명시적으로 포함하지 않으면 재발행 대상에서 제외된다.")
+  void failureReportedExcludedByDefault() {
+    // given
+    LocalDateTime from = LocalDateTime.now().minusSeconds(1);
+    UUID reportedOrderId = UUID.randomUUID();
+    DeadLetterMessage reported =
+        deadLetterArchive.archive(
+            deadMessage(reportedOrderId, StockErrorType.CONFLICT, 10), reportedOrderId);
+    UUID pendingOrderId = UUID.randomUUID();
+    deadLetterArchive.archive(
+        deadMessage(pendingOrderId, StockErrorType.CONFLICT, 10), pendingOrderId);
+    LocalDateTime to = LocalDateTime.now().plusSeconds(1);
+
+    // when
+    deadLetterArchive.markFailureReported(reported);
+
+    // then
+    assertThat(repository.findReplayable("CONFLICT", from, to, false, 0L, PageRequest.of(0, 10)))
+        .extracting(DeadLetterMessage::getOrderId)
+        .containsExactly(pendingOrderId);
+    assertThat(repository.findReplayable("CONFLICT", from, to, true, 0L, PageRequest.of(0, 10)))
+        .extracting(DeadLetterMessage::getOrderId)
+        .containsExactly(reportedOrderId, pendingOrderId);
+  }
+
+  private static Message deadMessage(UUID orderId, StockErrorType errorType, int retryCount) {
+    String body = "{\"orderId\":\"" + orderId + "\",\"stockDecreaseRequests\":[]}";
+    return MessageBuilder.withBody(body.getBytes(StandardCharsets.UTF_8))
+        .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+        .setHeader("x-error-type", errorType)
+        .setHeader("x-retry-count", retryCount)
+        .build();
+  }
+}
@@ -0,0 +1,148 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.dlq;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class DeadLetterReplayerTest {
+
+  private final DeadLetterMessageRepository repository = mock(DeadLetterMessageRepository.class);
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final RabbitStockProperties props = new RabbitStockProperties();
+
+  /** 발행 호출마다 순서대로 적용할 Broker 응답. 비어 있으면 Confirm을 보내지 않는다. */
+  private final Deque<Consumer<CorrelationData>> brokerResponses = new ArrayDeque<>();
+
+  private DeadLetterReplayer replayer;
+
+  @BeforeEach
+  void setUp() {
+    props.setExchange("stock.exchange");
+    props.setDecrease(new RabbitStockProperties.Decrease());
+    props.getDecrease().setRoutingKey("stock.decrease");
+    props.setDecreaseDead(new RabbitStockProperties.DecreaseDead());
+    props.getDecreaseDead().getReplay().setInterval(Duration.ZERO);
+    props.getDecreaseDead().getReplay().setConfirmTimeout(Duration.ofMillis(50));
+    doAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(3);
+              Consumer<CorrelationData> response = brokerResponses.poll();
+              if (response != null) {
+                response.accept(correlation);
+              }
+              return null;
+            })
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+    replayer =
+        new DeadLetterReplayer(
+            repository, rabbitTemplate, props, new Jackson2JsonMessageConverter());
+  }
+
+  @Test
+  @DisplayName("Broker가 ACK한 메시지만 재발행으로 기록하고, NACK된 메시지는 남긴 채 재발행을 멈춘다.")
+  void marksOnlyAckedMessages() {
+    // given
+    givenReplayable(List.of(deadLetter(1L), deadLetter(2L)));
+    brokerResponses.add(ack());
+    brokerResponses.add(nack());
+
+    // when
+    DeadLetterReplayer.ReplayResult result = replayer.replay(filter(), 10, false);
+
+    // then
+    verify(repository).markReplayed(eq(List.of(1L)), any(LocalDateTime.class));
+    assertThat(result.replayed()).isEqualTo(1);
+    assertThat(result.unconfirmed()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("Confirm 대기 시간 안에 ACK를 받지 못하면 재발행으로 기록하지 않는다.")
+  void unconfirmedMessageIsNotMarked() {
+    // given
+    givenReplayable(List.of(deadLetter(1L)));
+
+    // when
+    DeadLetterReplayer.ReplayResult result = replayer.replay(filter(), 10, false);
+
+    // then
+    verify(repository, never()).markReplayed(anyList(), any());
+    assertThat(result.replayed()).isZero();
+    assertThat(result.unconfirmed()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("처리 실패를 보고한 메시지 포함 여부를 조회 조건으로 전달한다.")
+  void passesFailureReportedOverride() {
+    // given
+    givenReplayable(List.of());
+
+    // when
+    replayer.replay(filter(), 10, true);
+
+    // then
+    verify(repository).findReplayable(any(), any(), any(), eq(true), anyLong(), any());
+  }
+
+  private void givenReplayable(List<DeadLetterMessage> batch) {
+    given(repository.findReplayable(any(), any(), any(), anyBoolean(), eq(0L), any()))
+        .willReturn(batch);
+  }
+
+  private static DeadLetterFilter filter() {
+    return DeadLetterFilter.of(null, null, null);
+  }
+
+  private static DeadLetterMessage deadLetter(long id) {
+    UUID orderId = UUID.randomUUID();
+    DeadLetterMessage deadLetter =
+        DeadLetterMessage.of(
+            "stock-decrease-" + orderId,
+            orderId,
+            "CONFLICT",
+            10,
+            MessageProperties.CONTENT_TYPE_JSON,
+            null,
+            "{\"orderId\":\"" + orderId + "\",\"stockDecreaseRequests\":[]}",
+            null);
+    ReflectionTestUtils.setField(deadLetter, "id", id);
+    return deadLetter;
+  }
+
+  private static Consumer<CorrelationData> ack() {
+    return correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+  }
+
+  private static Consumer<CorrelationData> nack() {
+    return correlation ->
+        correlation.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+  }
+}
@@ -0,0 +1,106 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class StockPipelineMonitorTest {
+
+  private static final Instant START = Instant.parse("2026-01-01T00:00:00Z");
+
+  private final Clock clock = mock(Clock.class);
+  private final RabbitStockProperties props = new RabbitStockProperties();
+
+  private StockPipelineMonitor monitor;
+
+  @BeforeEach
+  void setUp() {
+    props.getMonitor().setStallThreshold(Duration.ofMinutes(1));
+    given(clock.instant()).willReturn(START);
+    monitor = new StockPipelineMonitor(props, clock);
+  }
+
+  @Test
+  @DisplayName("Listener별 처리 중인 메시지 수와 마지막 성공 시각을 집계한다.")
+  void countsInFlightAndLastSuccess() {
+    // given
+    monitor.enter(StockPipelineMonitor.DECREASE_BATCH_LISTENER, 10);
+    monitor.enter(StockPipelineMonitor.DECREASE_LISTENER, 1);
+    monitor.succeeded(StockPipelineMonitor.DECREASE_LISTENER);
+    monitor.exit(StockPipelineMonitor.DECREASE_LISTENER, 1);
+
+    // when
+    StockPipelineMonitor.Snapshot snapshot = monitor.snapshot();
+
+    // then
+    assertThat(snapshot.inFlight())
+        .containsEntry(StockPipelineMonitor.DECREASE_BATCH_LISTENER, 10)
+        .containsEntry(StockPipelineMonitor.DECREASE_LISTENER, 0);
+    assertThat(snapshot.lastSuccess())
+        .containsOnlyKeys(StockPipelineMonitor.DECREASE_LISTENER)
+        .containsEntry(StockPipelineMonitor.DECREASE_LISTENER, START);
+  }
+
+  @Test
+  @DisplayName("retryCount별 재발행 수와 오류 유형별 DLQ/Quarantine 전달 수를 집계한다.")
+  void countsRetriesAndDeadLetters() {
+    // given
+    monitor.retryPublished(1);
+    monitor.retryPublished(1);
+    monitor.retryPublished(2);
+    monitor.deadLettered(StockErrorType.OUT_OF_STOCK);
+    monitor.quarantined(StockErrorType.MALFORMED_MESSAGE);
+    monitor.quarantined(StockErrorType.MALFORMED_MESSAGE);
+
+    // when
+    StockPipelineMonitor.Snapshot snapshot = monitor.snapshot();
+
+    // then
+    assertThat(snapshot.retryCounts()).isEqualTo(Map.of(1, 2L, 2, 1L));
+    assertThat(snapshot.deadLetters()).isEqualTo(Map.of(StockErrorType.OUT_OF_STOCK, 1L));
+    assertThat(snapshot.quarantined()).isEqualTo(Map.of(StockErrorType.MALFORMED_MESSAGE, 2L));
+  }
+
+  @Test
+  @DisplayName("처리 중인 메시지가 있는데 정체 판단 시간 동안 진행이 없으면 정체된 Listener로 표시한다.")
+  void detectsStalledListener() {
+    // given
+    monitor.enter(StockPipelineMonitor.DECREASE_LISTENER, 1);
+    monitor.enter(StockPipelineMonitor.RESERVATION_RPC_LISTENER, 1);
+    monitor.exit(StockPipelineMonitor.RESERVATION_RPC_LISTENER, 1);
+    given(clock.instant()).willReturn(START.plus(Duration.ofMinutes(2)));
+
+    // when
+    StockPipelineMonitor.Snapshot snapshot = monitor.snapshot();
+
+    // then
+    assertThat(snapshot.stalled()).containsExactly(StockPipelineMonitor.DECREASE_LISTENER);
+  }
+
+  @Test
+  @DisplayName("정체 판단 시간 안에 처리를 마치거나 성공하면 정체로 보지 않는다.")
+  void progressClearsStall() {
+    // given
+    monitor.enter(StockPipelineMonitor.DECREASE_LISTENER, 2);
+    given(clock.instant()).willReturn(START.plus(Duration.ofSeconds(50)));
+    monitor.exit(StockPipelineMonitor.DECREASE_LISTENER, 1);
+    given(clock.instant()).willReturn(START.plus(Duration.ofSeconds(90)));
+
+    // when
+    StockPipelineMonitor.Snapshot snapshot = monitor.snapshot();
+
+    // then
+    assertThat(snapshot.inFlight()).containsEntry(StockPipelineMonitor.DECREASE_LISTENER, 1);
+    assertThat(snapshot.stalled()).isEmpty();
+  }
+}
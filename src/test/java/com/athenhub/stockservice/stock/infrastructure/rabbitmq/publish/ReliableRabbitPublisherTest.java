@@ -0,0 +1,170 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.RabbitPublisherProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpTimeoutException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.ReturnedMessage;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.SimpleMessageConverter;
+
+class ReliableRabbitPublisherTest {
+
+  private static final String EXCHANGE = "stock.exchange";
+  private static final String ROUTING_KEY = "stock.decrease.success";
+
+  private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RabbitPublisherProperties props = new RabbitPublisherProperties();
+
+  /** 발행 호출마다 순서대로 적용할 Broker 응답. 비어 있으면 Confirm을 보내지 않는다. */
+  private final Deque<Consumer<CorrelationData>> brokerResponses = new ArrayDeque<>();
+
+  private ReliableRabbitPublisher publisher;
+
+  @BeforeEach
+  void setUp() {
+    props.setMaxAttempts(3);
+    props.setResendBackoff(Duration.ZERO);
+    props.setAcquireTimeout(Duration.ofMillis(50));
+    props.setShutdownTimeout(Duration.ZERO);
+
+    given(rabbitTemplate.getMessageConverter()).willReturn(new SimpleMessageConverter());
+    doAnswer(
+            invocation -> {
+              CorrelationData correlation = invocation.getArgument(3);
+              Consumer<CorrelationData> response;
+              synchronized (brokerResponses) {
+                response = brokerResponses.poll();
+              }
+              if (response != null) {
+                response.accept(correlation);
+              }
+              return null;
+            })
+        .when(rabbitTemplate)
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (publisher != null) {
+      publisher.shutdown();
+    }
+  }
+
+  @Test
+  @DisplayName("Broker가 ACK하면 버퍼에서 제거되고 ack 지연 시간이 기록된다.")
+  void ackRemovesFromBuffer() {
+    // given
+    publisher = new ReliableRabbitPublisher(rabbitTemplate, props, meterRegistry);
+    brokerResponses.add(ack());
+
+    // when
+    publisher.publish(EXCHANGE, ROUTING_KEY, "payload");
+
+    // then
+    assertThat(publisher.outstandingCount()).isZero();
+    assertThat(confirmCount("ack")).isEqualTo(1);
+    verify(rabbitTemplate, times(1))
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
+
+  @Test
+  @DisplayName("Broker가 NACK하면 같은 메시지를 다시 발행한다.")
+  void nackResendsMessage() {
+    // given
+    publisher = new ReliableRabbitPublisher(rabbitTemplate, props, meterRegistry);
+    brokerResponses.add(nack());
+    brokerResponses.add(ack());
+
+    // when
+    publisher.publish(EXCHANGE, ROUTING_KEY, "payload");
+
+    // then
+    await().atMost(Duration.ofSeconds(2)).until(() -> confirmCount("ack") == 1);
+    assertThat(publisher.outstandingCount()).isZero();
+    assertThat(confirmCount("nack")).isEqualTo(1);
+    assertThat(meterRegistry.counter("rabbit.publisher.resends").count()).isEqualTo(1);
+    verify(rabbitTemplate, times(2))
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
+
+  @Test
+  @DisplayName("라우팅되지 않고 반환된 메시지는 최대 시도 횟수까지 재발행한 뒤 포기한다.")
+  void returnedMessageGivesUpAfterMaxAttempts() {
+    // given
+    publisher = new ReliableRabbitPublisher(rabbitTemplate, props, meterRegistry);
+    for (int i = 0; i < props.getMaxAttempts(); i++) {
+      brokerResponses.add(returned());
+    }
+
+    // when
+    publisher.publish(EXCHANGE, ROUTING_KEY, "payload");
+
+    // then
+    await()
+        .atMost(Duration.ofSeconds(2))
+        .until(() -> meterRegistry.counter("rabbit.publisher.failures").count() == 1);
+    assertThat(publisher.outstandingCount()).isZero();
+    assertThat(confirmCount("returned")).isEqualTo(props.getMaxAttempts());
+    verify(rabbitTemplate, times(props.getMaxAttempts()))
+        .send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+  }
+
+  @Test
+  @DisplayName("Confirm 대기 메시지가 한도에 도달하면 발행 측은 제한 시간 후 예외를 받는다.")
+  void boundedInFlight() {
+    // given
+    props.setMaxInFlight(1);
+    publisher = new ReliableRabbitPublisher(rabbitTemplate, props, meterRegistry);
+    publisher.publish(EXCHANGE, ROUTING_KEY, "unconfirmed");
+
+    // when & then
+    assertThat(publisher.outstandingCount()).isEqualTo(1);
+    assertThatThrownBy(() -> publisher.publish(EXCHANGE, ROUTING_KEY, "blocked"))
+        .isInstanceOf(AmqpTimeoutException.class);
+  }
+
+  private long confirmCount(String outcome) {
+    return meterRegistry.timer("rabbit.publisher.confirm.latency", "outcome", outcome).count();
+  }
+
+  private static Consumer<CorrelationData> ack() {
+    return correlation -> correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+  }
+
+  private static Consumer<CorrelationData> nack() {
+    return correlation ->
+        correlation.getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+  }
+
+  private static Consumer<CorrelationData> returned() {
+    return correlation -> {
+      correlation.setReturned(
+          new ReturnedMessage(
+              new Message(new byte[0]), 312, "NO_ROUTE", EXCHANGE, ROUTING_KEY));
+      correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+    };
+  }
+}
@@ -0,0 +1,72 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseRequest;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+
+class StockDecreasePartitionKeyTest {
+
+  private static final UUID SMALL_VARIANT =
+      UUID.fromString("00000000-0000-0000-0000-000000000001");
+  private static final UUID LARGE_VARIANT =
+      UUID.fromString("00000000-0000-0000-0000-000000000002");
+
+  @Test
+  @DisplayName("주문 내 상품 순서와 관계없이 가장 작은 옵션 ID를 파티션 키로 사용한다.")
+  void smallestVariantId() {
+    // given
+    StockDecreaseBatchEvent ordered = event(UUID.randomUUID(), SMALL_VARIANT, LARGE_VARIANT);
+    StockDecreaseBatchEvent reversed = event(UUID.randomUUID(), LARGE_VARIANT, SMALL_VARIANT);
+
+    // when
+    String orderedKey = StockDecreasePartitionKey.of(ordered);
+    String reversedKey = StockDecreasePartitionKey.of(reversed);
+
+    // then
+    assertThat(orderedKey).isEqualTo(SMALL_VARIANT.toString());
+    assertThat(reversedKey).isEqualTo(orderedKey);
+  }
+
+  @Test
+  @DisplayName("요청 항목이 없으면 주문 ID를 파티션 키로 사용한다.")
+  void orderIdWithoutRequests() {
+    // given
+    UUID orderId = UUID.randomUUID();
+
+    // when
+    String key = StockDecreasePartitionKey.of(event(orderId));
+
+    // then
+    assertThat(key).isEqualTo(orderId.toString());
+  }
+
+  @Test
+  @DisplayName("파티션 키를 메시지 헤더에 기록한다.")
+  void applyHeader() {
+    // given
+    Message message = new Message(new byte[0]);
+
+    // when
+    StockDecreasePartitionKey.apply(message, event(UUID.randomUUID(), LARGE_VARIANT));
+
+    // then
+    assertThat((String) message.getMessageProperties().getHeader(StockDecreasePartitionKey.HEADER))
+        .isEqualTo(LARGE_VARIANT.toString());
+  }
+
+  private static StockDecreaseBatchEvent event(UUID orderId, UUID... variantIds) {
+    LocalDateTime orderedAt = LocalDateTime.now();
+    List<StockDecreaseRequest> requests =
+        List.of(variantIds).stream()
+            .map(variantId -> new StockDecreaseRequest(UUID.randomUUID(), variantId, 1, orderedAt))
+            .toList();
+    return new StockDecreaseBatchEvent(orderId, orderedAt, requests);
+  }
+}
@@ -0,0 +1,59 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Stream Consumer Offset이 DB에 기록되고 갱신되는지 검증하는 통합 테스트.
+ *
+ * @author 김지원
+ * @since 1.0.0
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class StreamOffsetStoreIntegrationTest {
+
+  @Autowired private StreamOffsetStore offsetStore;
+
+  @Test
+  @DisplayName("기록이 없으면 빈 값을 반환하고, 기록한 Offset은 Consumer별로 갱신된다.")
+  void saveAndFind() {
+    // given
+    String stream = "order.created.stream";
+
+    // when
+    boolean emptyBefore = offsetStore.find(stream, "consumer-a").isEmpty();
+    offsetStore.save(stream, "consumer-a", 10L);
+    offsetStore.save(stream, "consumer-a", 42L);
+    offsetStore.save(stream, "consumer-b", 7L);
+
+    // then
+    assertThat(emptyBefore).isTrue();
+    assertThat(offsetStore.find(stream, "consumer-a")).hasValue(42L);
+    assertThat(offsetStore.find(stream, "consumer-b")).hasValue(7L);
+  }
+
+  @Test
+  @DisplayName("처리 중 기록은 Offset을 뒤로 옮기지 않고, 되감기 요청만 Offset을 뒤로 옮긴다.")
+  void saveIsMonotonicExceptReset() {
+    // given
+    String stream = "order.created.stream";
+    offsetStore.save(stream, "consumer-c", 42L);
+
+    // when
+    offsetStore.save(stream, "consumer-c", 10L);
+    long afterStaleSave = offsetStore.find(stream, "consumer-c").orElseThrow();
+    offsetStore.reset(stream, "consumer-c", 5L);
+
+    // then
+    assertThat(afterStaleSave).isEqualTo(42L);
+    assertThat(offsetStore.find(stream, "consumer-c")).hasValue(5L);
+  }
+}
@@ -0,0 +1,132 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.order;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.commoncore.message.MessageResolver;
+import com.athenhub.stockservice.global.infrastructure.logging.HotPathLogProperties;
+import com.athenhub.stockservice.global.infrastructure.logging.HotPathLogSampler;
+import com.athenhub.stockservice.stock.application.dto.StockDecreaseBatchEvent;
+import com.athenhub.stockservice.stock.application.metrics.StockDecreaseStageMetrics;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.order.RabbitOrderProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.event.OrderCreatedEvent;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.publish.ReliableRabbitPublisher;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock.StockDecreaseMessageProcessor;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+
+class OrderCreatedEventHandlerTest {
+
+  private static final String EXCHANGE = "stock.exchange";
+  private static final String ROUTING_KEY = "stock.decrease";
+
+  private final ReliableRabbitPublisher publisher = mock(ReliableRabbitPublisher.class);
+  private final StockDecreaseMessageProcessor decreaseProcessor =
+      mock(StockDecreaseMessageProcessor.class);
+  private final StockDecreaseStageMetrics stageMetrics = mock(StockDecreaseStageMetrics.class);
+  private final StockPipelineMonitor pipelineMonitor = mock(StockPipelineMonitor.class);
+  private final RabbitOrderProperties orderProperties = new RabbitOrderProperties();
+  private final RabbitStockProperties stockProperties = new RabbitStockProperties();
+  private final Message rawMessage = new Message(new byte[0]);
+
+  private OrderCreatedEventHandler handler;
+
+  @BeforeEach
+  void setUp() {
+    orderProperties.setCreated(new RabbitOrderProperties.Created());
+    orderProperties.getCreated().setFastPath(true);
+    stockProperties.setExchange(EXCHANGE);
+    stockProperties.setDecrease(new RabbitStockProperties.Decrease());
+    stockProperties.getDecrease().setRoutingKey(ROUTING_KEY);
+
+    handler =
+        new OrderCreatedEventHandler(
+            publisher,
+            orderProperties,
+            stockProperties,
+            mock(MessageResolver.class),
+            decreaseProcessor,
+            stageMetrics,
+            new HotPathLogSampler(new HotPathLogProperties()),
+            pipelineMonitor);
+  }
+
+  @Test
+  @DisplayName("Fast Path에서 재고 감소에 성공하면 stock.decrease 큐로 발행하지 않는다.")
+  void fastPathSuccess() {
+    // given
+    given(decreaseProcessor.process(any(StockDecreaseBatchEvent.class), eq(rawMessage)))
+        .willReturn(StockDecreaseMessageProcessor.Outcome.SUCCESS);
+
+    // when
+    handler.handle(orderCreatedEvent(), rawMessage);
+
+    // then
+    verify(decreaseProcessor).process(any(StockDecreaseBatchEvent.class), eq(rawMessage));
+    verify(publisher, never()).publish(any(), any(), any(), any(MessagePostProcessor.class));
+    verify(stageMetrics).finish();
+    verify(pipelineMonitor).enter(StockPipelineMonitor.ORDER_CREATED_FAST_PATH, 1);
+    verify(pipelineMonitor).succeeded(StockPipelineMonitor.ORDER_CREATED_FAST_PATH);
+    verify(pipelineMonitor).exit(StockPipelineMonitor.ORDER_CREATED_FAST_PATH, 1);
+  }
+
+  @Test
+  @DisplayName("Fast Path 처리 중 예외가 발생하면 stock.decrease 큐로 재발행한다.")
+  void fastPathFallsBackToPublish() {
+    // given
+    given(decreaseProcessor.process(any(StockDecreaseBatchEvent.class), eq(rawMessage)))
+        .willThrow(new IllegalStateException("retry publish failed"));
+
+    // when
+    handler.handle(orderCreatedEvent(), rawMessage);
+
+    // then
+    verify(publisher)
+        .publish(
+            eq(EXCHANGE),
+            eq(ROUTING_KEY),
+            any(StockDecreaseBatchEvent.class),
+            any(MessagePostProcessor.class));
+    verify(stageMetrics).finish();
+    verify(pipelineMonitor, never()).succeeded(any());
+    verify(pipelineMonitor).exit(StockPipelineMonitor.ORDER_CREATED_FAST_PATH, 1);
+  }
+
+  @Test
+  @DisplayName("파티션 라우팅이 활성화되면 Fast Path를 사용하지 않고 stock.decrease 큐로 발행한다.")
+  void partitionEnabledBypassesFastPath() {
+    // given
+    stockProperties.getDecrease().getPartition().setEnabled(true);
+
+    // when
+    handler.handle(orderCreatedEvent(), rawMessage);
+
+    // then
+    verify(decreaseProcessor, never()).process(any(StockDecreaseBatchEvent.class), any());
+    verify(publisher)
+        .publish(
+            eq(EXCHANGE),
+            eq(ROUTING_KEY),
+            any(StockDecreaseBatchEvent.class),
+            any(MessagePostProcessor.class));
+  }
+
+  private static OrderCreatedEvent orderCreatedEvent() {
+    return new OrderCreatedEvent(
+        UUID.randomUUID(),
+        List.of(new OrderCreatedEvent.OrderedProduct(UUID.randomUUID(), UUID.randomUUID(), 1)),
+        LocalDateTime.now());
+  }
+}
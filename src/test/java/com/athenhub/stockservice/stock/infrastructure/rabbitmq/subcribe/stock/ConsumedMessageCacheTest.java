@@ -0,0 +1,134 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.config.stock.RabbitStockProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+class ConsumedMessageCacheTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RabbitStockProperties.Dedup props = new RabbitStockProperties.Dedup();
+  private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+  private ConsumedMessageCache cache;
+
+  @BeforeEach
+  void setUp() {
+    props.setMaxSize(2);
+    props.setTtl(Duration.ofMinutes(1));
+    cache = new ConsumedMessageCache(props, meterRegistry, clock);
+  }
+
+  @Test
+  @DisplayName("처리에 성공한 messageId로 다시 전달되면 중복으로 판단하고 hit를 기록한다.")
+  void rememberedMessageIsDuplicate() {
+    // given
+    cache.remember(message("stock-decrease-1"));
+
+    // when
+    boolean duplicate = cache.isDuplicate(message("stock-decrease-1"));
+    boolean other = cache.isDuplicate(message("stock-decrease-2"));
+
+    // then
+    assertThat(duplicate).isTrue();
+    assertThat(other).isFalse();
+    assertThat(dedupCount("hit")).isEqualTo(1);
+    assertThat(dedupCount("miss")).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("TTL이 지난 messageId는 중복으로 판단하지 않는다.")
+  void expiredMessageIsNotDuplicate() {
+    // given
+    cache.remember(message("stock-decrease-1"));
+
+    // when
+    clock.advance(Duration.ofMinutes(2));
+
+    // then
+    assertThat(cache.isDuplicate(message("stock-decrease-1"))).isFalse();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  @DisplayName("최대 크기를 넘으면 가장 오래된 messageId부터 제거한다.")
+  void evictsEldestWhenFull() {
+    // given
+    cache.remember(message("stock-decrease-1"));
+    cache.remember(message("stock-decrease-2"));
+
+    // when
+    cache.remember(message("stock-decrease-3"));
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.isDuplicate(message("stock-decrease-1"))).isFalse();
+    assertThat(cache.isDuplicate(message("stock-decrease-3"))).isTrue();
+  }
+
+  @Test
+  @DisplayName("messageId가 없거나 비활성화된 경우 중복 여부를 판단하지 않는다.")
+  void ignoresMessageWithoutIdOrWhenDisabled() {
+    // given
+    cache.remember(message(null));
+    props.setEnabled(false);
+    ConsumedMessageCache disabled =
+        new ConsumedMessageCache(props, new SimpleMeterRegistry(), clock);
+    disabled.remember(message("stock-decrease-1"));
+
+    // when & then
+    assertThat(cache.isDuplicate(message(null))).isFalse();
+    assertThat(cache.size()).isZero();
+    assertThat(disabled.isDuplicate(message("stock-decrease-1"))).isFalse();
+    assertThat(dedupCount("miss")).isZero();
+  }
+
+  private double dedupCount(String result) {
+    return meterRegistry.counter("rabbit.consumer.dedup", "result", result).count();
+  }
+
+  private static Message message(String messageId) {
+    MessageProperties properties = new MessageProperties();
+    properties.setMessageId(messageId);
+    return new Message(new byte[0], properties);
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
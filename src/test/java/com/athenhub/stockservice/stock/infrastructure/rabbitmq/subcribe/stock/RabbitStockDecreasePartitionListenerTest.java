@@ -0,0 +1,80 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.athenhub.stockservice.stock.application.metrics.StockDecreaseStageMetrics;
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.monitor.StockPipelineMonitor;
+import com.rabbitmq.client.Channel;
+import java.io.IOException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+class RabbitStockDecreasePartitionListenerTest {
+
+  private static final long TAG = 7L;
+
+  private final StockDecreaseMessageProcessor processor =
+      mock(StockDecreaseMessageProcessor.class);
+  private final StockDecreaseStageMetrics stageMetrics = mock(StockDecreaseStageMetrics.class);
+  private final StockPipelineMonitor pipelineMonitor = mock(StockPipelineMonitor.class);
+  private final Channel channel = mock(Channel.class);
+  private final Message rawMessage = new Message(new byte[0], new MessageProperties());
+
+  private final RabbitStockDecreasePartitionListener listener =
+      new RabbitStockDecreasePartitionListener(processor, stageMetrics, pipelineMonitor);
+
+  @Test
+  @DisplayName("처리기에 메시지를 위임하고 재고 감소에 성공하면 ACK한다.")
+  void successAcks() throws IOException {
+    // given
+    given(processor.process(rawMessage)).willReturn(StockDecreaseMessageProcessor.Outcome.SUCCESS);
+
+    // when
+    listener.listen(rawMessage, channel, TAG);
+
+    // then
+    verify(processor).process(rawMessage);
+    verify(channel).basicAck(TAG, false);
+    verify(pipelineMonitor).succeeded(StockPipelineMonitor.DECREASE_PARTITION_LISTENER);
+    verify(pipelineMonitor).exit(StockPipelineMonitor.DECREASE_PARTITION_LISTENER, 1);
+    verify(stageMetrics).finish();
+  }
+
+  @Test
+  @DisplayName("Retry Queue로 재발행한 메시지도 ACK하지만 처리 성공으로 기록하지 않는다.")
+  void retryAcks() throws IOException {
+    // given
+    given(processor.process(rawMessage)).willReturn(StockDecreaseMessageProcessor.Outcome.RETRY);
+
+    // when
+    listener.listen(rawMessage, channel, TAG);
+
+    // then
+    verify(channel).basicAck(TAG, false);
+    verify(pipelineMonitor, never()).succeeded(any());
+  }
+
+  @Test
+  @DisplayName("Retry/DLQ 발행까지 실패하면 requeue 없이 NACK하여 파티션을 막지 않는다.")
+  void publishFailureNacks() throws IOException {
+    // given
+    given(processor.process(rawMessage)).willThrow(new IllegalStateException("publish failed"));
+
+    // when
+    listener.listen(rawMessage, channel, TAG);
+
+    // then
+    verify(channel).basicNack(TAG, false, false);
+    verify(channel, never()).basicAck(anyLong(), anyBoolean());
+    verify(pipelineMonitor).exit(StockPipelineMonitor.DECREASE_PARTITION_LISTENER, 1);
+    verify(stageMetrics).finish();
+  }
+}
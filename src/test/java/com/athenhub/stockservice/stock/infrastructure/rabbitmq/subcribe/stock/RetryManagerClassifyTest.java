@@ -0,0 +1,61 @@
+package com.athenhub.stockservice.stock.infrastructure.rabbitmq.subcribe.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.athenhub.stockservice.stock.infrastructure.rabbitmq.error.StockErrorType;
+import jakarta.validation.ConstraintViolationException;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionSystemException;
+
+class RetryManagerClassifyTest {
+
+  @Test
+  @DisplayName("다시 처리해도 결과가 같은 오류는 재시도 불가 유형으로 분류된다.")
+  void nonRetryable() {
+    // when & then
+    assertThat(RetryManager.classify(new MessageConversionException("bad json")))
+        .isEqualTo(StockErrorType.MALFORMED_MESSAGE);
+    assertThat(RetryManager.classify(new ConstraintViolationException(Set.of())))
+        .isEqualTo(StockErrorType.INVALID_REQUEST);
+    assertThat(RetryManager.classify(new NoSuchElementException("No value present")))
+        .isEqualTo(StockErrorType.MISSING_STOCK);
+    assertThat(StockErrorType.MALFORMED_MESSAGE.isRetryable()).isFalse();
+    assertThat(StockErrorType.INVALID_REQUEST.isRetryable()).isFalse();
+    assertThat(StockErrorType.MISSING_STOCK.isRetryable()).isFalse();
+  }
+
+  @Test
+  @DisplayName("락 충돌과 일시적 장애는 재시도 가능 유형으로 분류된다.")
+  void retryable() {
+    // when & then
+    assertThat(RetryManager.classify(new ObjectOptimisticLockingFailureException("Stock", 1L)))
+        .isEqualTo(StockErrorType.CONFLICT);
+    assertThat(RetryManager.classify(new CannotAcquireLockException("lock")))
+        .isEqualTo(StockErrorType.CONFLICT);
+    assertThat(RetryManager.classify(new QueryTimeoutException("timeout")))
+        .isEqualTo(StockErrorType.TRANSIENT_FAILURE);
+    assertThat(RetryManager.classify(new IllegalStateException("unexpected")))
+        .isEqualTo(StockErrorType.UNKNOWN_ERROR);
+    assertThat(StockErrorType.CONFLICT.isRetryable()).isTrue();
+    assertThat(StockErrorType.TRANSIENT_FAILURE.isRetryable()).isTrue();
+    assertThat(StockErrorType.UNKNOWN_ERROR.isRetryable()).isTrue();
+  }
+
+  @Test
+  @DisplayName("감싸진 예외는 원인 체인을 따라가 분류된다.")
+  void classifiesCause() {
+    // given
+    Exception wrapped =
+        new TransactionSystemException("commit failed", new ConstraintViolationException(Set.of()));
+
+    // when & then
+    assertThat(RetryManager.classify(wrapped)).isEqualTo(StockErrorType.INVALID_REQUEST);
+  }
+}